@@ -0,0 +1,76 @@
+package uk.gov.moj.cpp.businessprocesses.command.handler;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+import static uk.gov.justice.services.core.annotation.Component.COMMAND_HANDLER;
+
+import uk.gov.justice.services.core.aggregate.AggregateService;
+import uk.gov.justice.services.core.annotation.Handles;
+import uk.gov.justice.services.core.annotation.ServiceComponent;
+import uk.gov.justice.services.eventsourcing.source.core.EventSource;
+import uk.gov.justice.services.eventsourcing.source.core.EventStream;
+import uk.gov.justice.services.eventsourcing.source.core.exception.EventStreamException;
+import uk.gov.justice.services.messaging.JsonEnvelope;
+import uk.gov.moj.cpp.businessprocesses.aggregate.PublicHolidaysAggregate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import javax.inject.Inject;
+import javax.json.JsonArray;
+import javax.json.JsonObject;
+import javax.json.JsonString;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+@ServiceComponent(COMMAND_HANDLER)
+public class PublicHolidaysCommandHandler extends AbstractCommandHandler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PublicHolidaysCommandHandler.class);
+
+    private static final String DIVISION_FIELD = "division";
+    private static final String YEAR_FIELD = "year";
+    private static final String PUBLIC_HOLIDAYS_FIELD = "publicHolidays";
+    private static final String CHANGED_DATES_FIELD = "changedDates";
+
+    @Inject
+    private EventSource eventSource;
+
+    @Inject
+    private AggregateService aggregateService;
+
+    /**
+     * Records the public holidays of a division and year that a node of the event processor has
+     * seen change in reference data. Each node reports the change it sees; the stream of the
+     * division and year makes sure it is only recorded, and so only acted on, once.
+     */
+    @Handles("businessprocesses.command.record-public-holidays")
+    public void handleRecordPublicHolidays(final JsonEnvelope envelope) throws EventStreamException {
+        LOGGER.debug("businessprocesses.command.record-public-holidays {}", envelope.payload());
+
+        final JsonObject payload = envelope.payloadAsJsonObject();
+        final String division = payload.getString(DIVISION_FIELD);
+        final int year = payload.getInt(YEAR_FIELD);
+        final List<LocalDate> publicHolidays = dates(payload.getJsonArray(PUBLIC_HOLIDAYS_FIELD)).collect(toList());
+        final Set<LocalDate> changedDates = dates(payload.getJsonArray(CHANGED_DATES_FIELD)).collect(toSet());
+
+        final EventStream eventStream = eventSource.getStreamById(streamId(division, year));
+        final PublicHolidaysAggregate publicHolidaysAggregate = aggregateService.get(eventStream, PublicHolidaysAggregate.class);
+        final Stream<Object> events = publicHolidaysAggregate.recordPublicHolidays(division, year, publicHolidays, changedDates);
+
+        appendEventsToStream(envelope, eventStream, events);
+    }
+
+    static UUID streamId(final String division, final int year) {
+        return UUID.nameUUIDFromBytes(("public-holidays/" + division + '/' + year).getBytes(UTF_8));
+    }
+
+    private static Stream<LocalDate> dates(final JsonArray dates) {
+        return dates.getValuesAs(JsonString.class).stream().map(date -> LocalDate.parse(date.getString()));
+    }
+}
@@ -4,20 +4,30 @@ import static java.util.Objects.nonNull;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static uk.gov.justice.services.core.annotation.Component.COMMAND_HANDLER;
 import static uk.gov.justice.services.core.enveloper.Enveloper.toEnvelopeWithMetadataFrom;
+import static uk.gov.justice.services.messaging.JsonEnvelope.envelopeFrom;
+import static uk.gov.justice.services.messaging.JsonEnvelope.metadataFrom;
 
 import uk.gov.justice.services.common.converter.ZonedDateTimes;
 import uk.gov.justice.services.core.aggregate.AggregateService;
 import uk.gov.justice.services.core.annotation.Handles;
 import uk.gov.justice.services.core.annotation.ServiceComponent;
+import uk.gov.justice.services.core.json.JsonSchemaValidator;
+import uk.gov.justice.services.core.mapping.MediaType;
 import uk.gov.justice.services.eventsourcing.source.core.EventSource;
 import uk.gov.justice.services.eventsourcing.source.core.EventStream;
 import uk.gov.justice.services.eventsourcing.source.core.exception.EventStreamException;
 import uk.gov.justice.services.messaging.JsonEnvelope;
+import uk.gov.justice.services.messaging.MetadataBuilder;
 import uk.gov.moj.cpp.businessprocesses.aggregate.TaskAggregate;
 
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Stream;
 
@@ -26,8 +36,8 @@ import javax.json.JsonObject;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import uk.gov.moj.cpp.businessprocesses.command.handler.service.ReferenceDataService;
-import uk.gov.moj.cpp.businessprocesses.pojo.WorkQueue;
+import uk.gov.moj.cpp.businessprocesses.command.handler.service.WorkQueueDirectory;
+import uk.gov.moj.cpp.businessprocesses.command.handler.service.WorkQueueNameBackfill;
 
 @ServiceComponent(COMMAND_HANDLER)
 public class TasksCommandHandler extends AbstractCommandHandler {
@@ -38,6 +48,7 @@ public class TasksCommandHandler extends AbstractCommandHandler {
     private static final String CHANGE_AUTHOR_FIELD = "changeAuthor";
     private static final String CHANGE_AUTHOR_ID_FIELD = "changeAuthorId";
     private static final String WORK_QUEUE_FIELD = "workQueue";
+    private static final String WORK_QUEUE_NAME_FIELD = "workQueueName";
     private static final String CREATED_DATE_FIELD = "createdDate";
     private static final String COURT_ID_FIELD = "courtId";
     private static final String REFERENCE_FIELD = "reference";
@@ -52,6 +63,17 @@ public class TasksCommandHandler extends AbstractCommandHandler {
     private static final String DELETION_REASON_FIELD = "deletionReason";
     private static final String TASK_TYPE_FIELD = "type";
     private static final String TASK_TYPE_ID = "taskTypeId";
+    private static final String TASKS_FIELD = "tasks";
+    private static final String COMMANDS_FIELD = "commands";
+    private static final String NAME_FIELD = "name";
+    private static final String USER_ID_FIELD = "userId";
+    private static final String PAYLOAD_FIELD = "payload";
+    private static final Set<String> RECORD_TASK_COMMANDS = Set.of(
+            "businessprocesses.command.record-task-created",
+            "businessprocesses.command.record-task-assigned",
+            "businessprocesses.command.record-task-completed",
+            "businessprocesses.command.record-task-deleted",
+            "businessprocesses.command.record-task-updated");
 
     @Inject
     private EventSource eventSource;
@@ -60,7 +82,13 @@ public class TasksCommandHandler extends AbstractCommandHandler {
     private AggregateService aggregateService;
 
     @Inject
-    private ReferenceDataService referenceDataService;
+    private WorkQueueDirectory workQueueDirectory;
+
+    @Inject
+    private WorkQueueNameBackfill workQueueNameBackfill;
+
+    @Inject
+    private JsonSchemaValidator jsonSchemaValidator;
 
     @Handles("businessprocesses.command.record-task-created")
     public void handleRecordTaskCreated(final JsonEnvelope envelope) throws EventStreamException {
@@ -68,6 +96,181 @@ public class TasksCommandHandler extends AbstractCommandHandler {
         LOGGER.debug("businessprocesses.command.record-task-created {}", envelope.payload());
         final JsonObject createTaskPayload = envelope.payloadAsJsonObject();
 
+        final EventStream eventStream = eventSource.getStreamById(extractId(createTaskPayload.getString(ID_FIELD)));
+        final TaskAggregate taskAggregate = aggregateService.get(eventStream, TaskAggregate.class);
+        final Stream<Object> events = recordTaskCreated(taskAggregate, envelope);
+
+        appendEventsToStream(envelope, eventStream, events);
+    }
+
+    @Handles("businessprocesses.command.record-task-assigned")
+    public void handleRecordTaskAssigned(final JsonEnvelope envelope) throws EventStreamException {
+
+        LOGGER.debug("businessprocesses.command.record-task-assigned {}", envelope.payload());
+        final JsonObject assignedTaskPayload = envelope.payloadAsJsonObject();
+
+        final EventStream eventStream = eventSource.getStreamById(extractId(assignedTaskPayload.getString(ID_FIELD)));
+        final TaskAggregate taskAggregate = aggregateService.get(eventStream, TaskAggregate.class);
+        final Stream<Object> events = recordTaskAssigned(taskAggregate, assignedTaskPayload);
+
+        eventStream.append(events.map(toEnvelopeWithMetadataFrom(envelope)));
+    }
+
+    @Handles("businessprocesses.command.record-task-completed")
+    public void handleRecordTaskCompleted(final JsonEnvelope envelope) throws EventStreamException {
+
+        LOGGER.debug("businessprocesses.command.record-task-completed {}", envelope.payload());
+        final JsonObject completedTaskPayload = envelope.payloadAsJsonObject();
+
+        final EventStream eventStream = eventSource.getStreamById(extractId(completedTaskPayload.getString(ID_FIELD)));
+        final TaskAggregate taskAggregate = aggregateService.get(eventStream, TaskAggregate.class);
+        final Stream<Object> events = recordTaskCompleted(taskAggregate, completedTaskPayload);
+
+        eventStream.append(events.map(toEnvelopeWithMetadataFrom(envelope)));
+    }
+
+    @Handles("businessprocesses.command.record-task-deleted")
+    public void handleRecordTaskDeleted(final JsonEnvelope envelope) throws EventStreamException {
+
+        LOGGER.debug("businessprocesses.command.record-task-deleted {}", envelope.payload());
+        final JsonObject deletedTaskPayload = envelope.payloadAsJsonObject();
+
+        final EventStream eventStream = eventSource.getStreamById(extractId(deletedTaskPayload.getString(ID_FIELD)));
+        final TaskAggregate taskAggregate = aggregateService.get(eventStream, TaskAggregate.class);
+        final Stream<Object> events = recordTaskDeleted(taskAggregate, deletedTaskPayload);
+
+        eventStream.append(events.map(toEnvelopeWithMetadataFrom(envelope)));
+    }
+
+    @Handles("businessprocesses.command.record-task-updated")
+    public void handleRecordTaskUpdated(final JsonEnvelope envelope) throws EventStreamException {
+        LOGGER.debug("businessprocesses.command.record-task-updated {}", envelope.payload());
+
+        final JsonObject updatedTaskPayload = envelope.payloadAsJsonObject();
+
+        final EventStream eventStream = eventSource.getStreamById(extractId(updatedTaskPayload.getString(ID_FIELD)));
+        final TaskAggregate taskAggregate = aggregateService.get(eventStream, TaskAggregate.class);
+        final Stream<Object> events = recordTaskUpdated(taskAggregate, envelope);
+
+        eventStream.append(events.map(toEnvelopeWithMetadataFrom(envelope)));
+    }
+
+    /**
+     * Names the work queue of a task that was recorded without its name, sent by
+     * {@link WorkQueueNameBackfill} once reference data has answered.
+     */
+    @Handles("businessprocesses.command.record-task-workqueue-name")
+    public void handleRecordTaskWorkQueueName(final JsonEnvelope envelope) throws EventStreamException {
+        LOGGER.debug("businessprocesses.command.record-task-workqueue-name {}", envelope.payload());
+
+        final JsonObject workQueueNamePayload = envelope.payloadAsJsonObject();
+        final UUID taskId = extractId(workQueueNamePayload.getString(ID_FIELD));
+        final UUID workQueue = extractId(workQueueNamePayload.getString(WORK_QUEUE_FIELD));
+        final String workQueueName = workQueueNamePayload.getString(WORK_QUEUE_NAME_FIELD);
+        final UUID changeAuthorId = extractId(workQueueNamePayload.getString(CHANGE_AUTHOR_ID_FIELD));
+        final String changeAuthor = workQueueNamePayload.getString(CHANGE_AUTHOR_FIELD);
+
+        final EventStream eventStream = eventSource.getStreamById(taskId);
+        final TaskAggregate taskAggregate = aggregateService.get(eventStream, TaskAggregate.class);
+        final Stream<Object> events = taskAggregate.recordTaskWorkQueueName(taskId, workQueue, workQueueName, changeAuthor, changeAuthorId);
+
+        appendEventsToStream(envelope, eventStream, events);
+    }
+
+    /**
+     * Records new due dates for a batch of tasks, e.g. after the public holidays they were
+     * calculated with have changed. Tasks whose due date is already the same are left alone.
+     */
+    @Handles("businessprocesses.command.record-task-due-dates-updated")
+    public void handleRecordTaskDueDatesUpdated(final JsonEnvelope envelope) throws EventStreamException {
+        LOGGER.debug("businessprocesses.command.record-task-due-dates-updated {}", envelope.payload());
+
+        final JsonObject dueDatesUpdatedPayload = envelope.payloadAsJsonObject();
+        final UUID changeAuthorId = extractId(dueDatesUpdatedPayload.getString(CHANGE_AUTHOR_ID_FIELD));
+        final String changeAuthor = dueDatesUpdatedPayload.getString(CHANGE_AUTHOR_FIELD);
+
+        for (final JsonObject task : dueDatesUpdatedPayload.getJsonArray(TASKS_FIELD).getValuesAs(JsonObject.class)) {
+            final UUID taskId = extractId(task.getString(ID_FIELD));
+            final ZonedDateTime dueDate = extractDate(task.getString(DUE_DATE_FIELD));
+
+            final EventStream eventStream = eventSource.getStreamById(taskId);
+            final TaskAggregate taskAggregate = aggregateService.get(eventStream, TaskAggregate.class);
+            final Stream<Object> events = taskAggregate.recordTaskDueDateUpdated(taskId, dueDate, changeAuthor, changeAuthorId);
+
+            appendEventsToStream(envelope, eventStream, events);
+        }
+    }
+
+    /**
+     * Records the tasks of a batch of {@code businessprocesses.command.record-task-*} commands, e.g.
+     * every task created in one engine transaction. Each command is handled as if it had been sent
+     * on its own: its payload is validated against the schema of its own name before any of the
+     * batch is recorded. The commands for the same task are then applied to one load of its
+     * aggregate, in the order they were raised, and their events are appended to its stream at
+     * once.
+     */
+    @Handles("businessprocesses.command.record-task-commands")
+    public void handleRecordTaskCommands(final JsonEnvelope envelope) throws EventStreamException {
+        LOGGER.debug("businessprocesses.command.record-task-commands {}", envelope.payload());
+
+        final Map<UUID, List<JsonEnvelope>> commandsByTask = new LinkedHashMap<>();
+        for (final JsonObject command : envelope.payloadAsJsonObject().getJsonArray(COMMANDS_FIELD).getValuesAs(JsonObject.class)) {
+            final String name = command.getString(NAME_FIELD);
+            if (!RECORD_TASK_COMMANDS.contains(name)) {
+                throw new IllegalArgumentException("Not a record task command: " + name);
+            }
+
+            final JsonObject payload = command.getJsonObject(PAYLOAD_FIELD);
+            jsonSchemaValidator.validate(payload.toString(), name, Optional.of(new MediaType("application/vnd." + name + "+json")));
+
+            final MetadataBuilder metadata = metadataFrom(envelope.metadata())
+                    .withId(extractId(command.getString(ID_FIELD)))
+                    .withName(name);
+            if (command.containsKey(USER_ID_FIELD)) {
+                metadata.withUserId(command.getString(USER_ID_FIELD));
+            }
+
+            commandsByTask.computeIfAbsent(extractId(payload.getString(ID_FIELD)), taskId -> new ArrayList<>())
+                    .add(envelopeFrom(metadata, payload));
+        }
+
+        for (final Map.Entry<UUID, List<JsonEnvelope>> taskCommands : commandsByTask.entrySet()) {
+            final EventStream eventStream = eventSource.getStreamById(taskCommands.getKey());
+            final TaskAggregate taskAggregate = aggregateService.get(eventStream, TaskAggregate.class);
+
+            // Each command's events are applied before the next command is looked at
+            final List<JsonEnvelope> events = new ArrayList<>();
+            for (final JsonEnvelope command : taskCommands.getValue()) {
+                recordTaskCommand(taskAggregate, command)
+                        .map(toEnvelopeWithMetadataFrom(command))
+                        .forEach(events::add);
+            }
+
+            eventStream.append(events.stream());
+        }
+    }
+
+    private Stream<Object> recordTaskCommand(final TaskAggregate taskAggregate, final JsonEnvelope command) {
+        final String name = command.metadata().name();
+        final JsonObject payload = command.payloadAsJsonObject();
+        switch (name) {
+            case "businessprocesses.command.record-task-created":
+                return recordTaskCreated(taskAggregate, command);
+            case "businessprocesses.command.record-task-assigned":
+                return recordTaskAssigned(taskAggregate, payload);
+            case "businessprocesses.command.record-task-completed":
+                return recordTaskCompleted(taskAggregate, payload);
+            case "businessprocesses.command.record-task-deleted":
+                return recordTaskDeleted(taskAggregate, payload);
+            case "businessprocesses.command.record-task-updated":
+                return recordTaskUpdated(taskAggregate, command);
+            default:
+                throw new IllegalArgumentException("Not a record task command: " + name);
+        }
+    }
+
+    private Stream<Object> recordTaskCreated(final TaskAggregate taskAggregate, final JsonEnvelope command) {
+        final JsonObject createTaskPayload = command.payloadAsJsonObject();
         final UUID taskId = extractId(createTaskPayload.getString(ID_FIELD));
         final UUID taskTypeId = extractId(createTaskPayload.getString(TASK_TYPE_ID));
         final UUID changeAuthorId = extractId(createTaskPayload.getString(CHANGE_AUTHOR_ID_FIELD));
@@ -77,7 +280,7 @@ public class TasksCommandHandler extends AbstractCommandHandler {
 
 
         final UUID workQueue = extractId(createTaskPayload.containsKey(WORK_QUEUE_FIELD) ? createTaskPayload.getString(WORK_QUEUE_FIELD) : null);
-        final String workQueueName = nonNull(workQueue) ? referenceDataService.getWorkQueueByWorkQueueId(workQueue).get().getQueueName() : null;
+        final String workQueueName = nonNull(workQueue) ? extractWorkQueueName(command, taskId, workQueue, changeAuthor, changeAuthorId) : null;
 
         final UUID courtId = extractId(createTaskPayload.containsKey(COURT_ID_FIELD) ? createTaskPayload.getString(COURT_ID_FIELD) : null);
 
@@ -88,19 +291,10 @@ public class TasksCommandHandler extends AbstractCommandHandler {
         final ZonedDateTime dueDate = extractDate(createTaskPayload.containsKey(DUE_DATE_FIELD) ? createTaskPayload.getString(DUE_DATE_FIELD) : null);
         final ZonedDateTime hearingDate = extractDate(createTaskPayload.containsKey(HEARING_DATE_FIELD) ? createTaskPayload.getString(HEARING_DATE_FIELD) : null);
 
-
-        final EventStream eventStream = eventSource.getStreamById(taskId);
-        final TaskAggregate taskAggregate = aggregateService.get(eventStream, TaskAggregate.class);
-        final Stream<Object> events = taskAggregate.recordTaskCreated(taskId, taskTypeId, taskType, reference, note, createdDate, dueDate, hearingDate, workQueue, workQueueName, courtId, jurisdiction, changeAuthor, changeAuthorId);
-
-        appendEventsToStream(envelope, eventStream, events);
+        return taskAggregate.recordTaskCreated(taskId, taskTypeId, taskType, reference, note, createdDate, dueDate, hearingDate, workQueue, workQueueName, courtId, jurisdiction, changeAuthor, changeAuthorId);
     }
 
-    @Handles("businessprocesses.command.record-task-assigned")
-    public void handleRecordTaskAssigned(final JsonEnvelope envelope) throws EventStreamException {
-
-        LOGGER.debug("businessprocesses.command.record-task-assigned {}", envelope.payload());
-        final JsonObject assignedTaskPayload = envelope.payloadAsJsonObject();
+    private Stream<Object> recordTaskAssigned(final TaskAggregate taskAggregate, final JsonObject assignedTaskPayload) {
         final String assignTo = assignedTaskPayload.containsKey(ASSIGN_TO_FIELD) ? assignedTaskPayload.getString(ASSIGN_TO_FIELD) : null;
         final UUID assignToId = assignedTaskPayload.containsKey(ASSIGN_TO_ID_FIELD) ? extractId(assignedTaskPayload.getString(ASSIGN_TO_ID_FIELD)) : null;
 
@@ -108,37 +302,19 @@ public class TasksCommandHandler extends AbstractCommandHandler {
         final UUID changeAuthorId = extractId(assignedTaskPayload.getString(CHANGE_AUTHOR_ID_FIELD));
         final String changeAuthor = assignedTaskPayload.getString(CHANGE_AUTHOR_FIELD);
 
-        final EventStream eventStream = eventSource.getStreamById(taskId);
-        final TaskAggregate taskAggregate = aggregateService.get(eventStream, TaskAggregate.class);
-        final Stream<Object> events = taskAggregate.recordTaskAssigned(taskId, assignToId, assignTo, changeAuthor, changeAuthorId);
-
-        eventStream.append(events.map(toEnvelopeWithMetadataFrom(envelope)));
+        return taskAggregate.recordTaskAssigned(taskId, assignToId, assignTo, changeAuthor, changeAuthorId);
     }
 
-    @Handles("businessprocesses.command.record-task-completed")
-    public void handleRecordTaskCompleted(final JsonEnvelope envelope) throws EventStreamException {
-
-        LOGGER.debug("businessprocesses.command.record-task-completed {}", envelope.payload());
-        final JsonObject completedTaskPayload = envelope.payloadAsJsonObject();
-
+    private Stream<Object> recordTaskCompleted(final TaskAggregate taskAggregate, final JsonObject completedTaskPayload) {
         final UUID taskId = extractId(completedTaskPayload.getString(ID_FIELD));
         final UUID changeAuthorId = extractId(completedTaskPayload.getString(CHANGE_AUTHOR_ID_FIELD));
         final String changeAuthor = completedTaskPayload.getString(CHANGE_AUTHOR_FIELD);
         final ZonedDateTime completedDate = extractDate(completedTaskPayload.getString(COMPLETED_DATE_FIELD));
 
-        final EventStream eventStream = eventSource.getStreamById(taskId);
-        final TaskAggregate taskAggregate = aggregateService.get(eventStream, TaskAggregate.class);
-        final Stream<Object> events = taskAggregate.recordTaskCompleted(taskId, completedDate, changeAuthor, changeAuthorId);
-
-        eventStream.append(events.map(toEnvelopeWithMetadataFrom(envelope)));
+        return taskAggregate.recordTaskCompleted(taskId, completedDate, changeAuthor, changeAuthorId);
     }
 
-    @Handles("businessprocesses.command.record-task-deleted")
-    public void handleRecordTaskDeleted(final JsonEnvelope envelope) throws EventStreamException {
-
-        LOGGER.debug("businessprocesses.command.record-task-deleted {}", envelope.payload());
-        final JsonObject deletedTaskPayload = envelope.payloadAsJsonObject();
-
+    private Stream<Object> recordTaskDeleted(final TaskAggregate taskAggregate, final JsonObject deletedTaskPayload) {
         final UUID taskId = extractId(deletedTaskPayload.getString(ID_FIELD));
         final UUID changeAuthorId = extractId(deletedTaskPayload.getString(CHANGE_AUTHOR_ID_FIELD));
         final String changeAuthor = deletedTaskPayload.getString(CHANGE_AUTHOR_FIELD);
@@ -146,30 +322,19 @@ public class TasksCommandHandler extends AbstractCommandHandler {
 
         final ZonedDateTime deletedDate = extractDate(deletedTaskPayload.getString(DELETED_DATE_FIELD));
 
-        final EventStream eventStream = eventSource.getStreamById(taskId);
-        final TaskAggregate taskAggregate = aggregateService.get(eventStream, TaskAggregate.class);
-        final Stream<Object> events = taskAggregate.recordTaskDeleted(taskId, deletionReason, deletedDate, changeAuthor, changeAuthorId);
-
-        eventStream.append(events.map(toEnvelopeWithMetadataFrom(envelope)));
+        return taskAggregate.recordTaskDeleted(taskId, deletionReason, deletedDate, changeAuthor, changeAuthorId);
     }
 
-    @Handles("businessprocesses.command.record-task-updated")
-    public void handleRecordTaskUpdated(final JsonEnvelope envelope) throws EventStreamException {
-        LOGGER.debug("businessprocesses.command.record-task-updated {}", envelope.payload());
-
-        final JsonObject updatedTaskPayload = envelope.payloadAsJsonObject();
+    private Stream<Object> recordTaskUpdated(final TaskAggregate taskAggregate, final JsonEnvelope command) {
+        final JsonObject updatedTaskPayload = command.payloadAsJsonObject();
         final UUID taskId = extractId(updatedTaskPayload.getString(ID_FIELD));
-        final UUID workQueue = extractId(updatedTaskPayload.containsKey(WORK_QUEUE_FIELD) ? updatedTaskPayload.getString(WORK_QUEUE_FIELD) : null);
-        final String workQueueName = nonNull(workQueue) ? extractWorkQueueName(workQueue) : null;
-        final ZonedDateTime dueDate = extractDate(updatedTaskPayload.containsKey(DUE_DATE_FIELD) ? updatedTaskPayload.getString(DUE_DATE_FIELD) : null);
         final UUID changeAuthorId = extractId(updatedTaskPayload.getString(CHANGE_AUTHOR_ID_FIELD));
         final String changeAuthor = updatedTaskPayload.getString(CHANGE_AUTHOR_FIELD);
+        final UUID workQueue = extractId(updatedTaskPayload.containsKey(WORK_QUEUE_FIELD) ? updatedTaskPayload.getString(WORK_QUEUE_FIELD) : null);
+        final String workQueueName = nonNull(workQueue) ? extractWorkQueueName(command, taskId, workQueue, changeAuthor, changeAuthorId) : null;
+        final ZonedDateTime dueDate = extractDate(updatedTaskPayload.containsKey(DUE_DATE_FIELD) ? updatedTaskPayload.getString(DUE_DATE_FIELD) : null);
 
-        final EventStream eventStream = eventSource.getStreamById(taskId);
-        final TaskAggregate taskAggregate = aggregateService.get(eventStream, TaskAggregate.class);
-        final Stream<Object> events = taskAggregate.recordTaskUpdated(taskId, dueDate, workQueue, workQueueName, changeAuthor, changeAuthorId);
-
-        eventStream.append(events.map(toEnvelopeWithMetadataFrom(envelope)));
+        return taskAggregate.recordTaskUpdated(taskId, dueDate, workQueue, workQueueName, changeAuthor, changeAuthorId);
     }
 
     private ZonedDateTime extractDate(final String date) {
@@ -178,10 +343,13 @@ public class TasksCommandHandler extends AbstractCommandHandler {
                 .orElse(null);
     }
 
-    private String extractWorkQueueName(final UUID workQueue) {
-        return referenceDataService.getWorkQueueByWorkQueueId(workQueue)
-                .map(WorkQueue::getQueueName)
-                .orElse(null);
+    private String extractWorkQueueName(final JsonEnvelope command, final UUID taskId, final UUID workQueue, final String changeAuthor, final UUID changeAuthorId) {
+        final Optional<String> workQueueName = workQueueDirectory.getWorkQueueName(workQueue);
+        if (workQueueName.isEmpty()) {
+            // Recorded without a name for now, named by a later event if reference data was just slow
+            workQueueNameBackfill.recordWorkQueueNameWhenResolved(command, taskId, workQueue, changeAuthor, changeAuthorId);
+        }
+        return workQueueName.orElse(null);
     }
 
     private UUID extractId(final String idFieldName) {
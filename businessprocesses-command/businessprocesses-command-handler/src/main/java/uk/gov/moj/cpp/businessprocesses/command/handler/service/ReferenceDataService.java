@@ -1,6 +1,8 @@
 package uk.gov.moj.cpp.businessprocesses.command.handler.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import org.slf4j.Logger;
 import uk.gov.justice.services.common.converter.jackson.ObjectMapperProducer;
 import uk.gov.justice.services.core.annotation.ServiceComponent;
@@ -14,6 +16,8 @@ import javax.json.JsonArray;
 import javax.json.JsonObject;
 import javax.json.JsonValue;
 import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Function;
@@ -34,6 +38,7 @@ public class ReferenceDataService {
     public static final String WORK_QUEUES = "workQueues";
 
     private static final ObjectMapper objectMapper = new ObjectMapperProducer().objectMapper();
+    private static final ObjectReader workQueueReader = objectMapper.readerFor(WorkQueue.class);
 
 
     @Inject
@@ -52,6 +57,22 @@ public class ReferenceDataService {
         return mapToWorkQueue(envelope);
     }
 
+    /**
+     * Asks the work queues query for every work queue by leaving out the work queue id it is
+     * otherwise filtered by.
+     */
+    public List<WorkQueue> getWorkQueues() {
+        final MetadataBuilder metadataBuilder = metadataBuilder()
+                .withId(randomUUID())
+                .withName(REFERENCE_DATA_QUERY_WORK_QUEUES);
+        final Envelope<JsonObject> envelope = requester.requestAsAdmin(envelopeFrom(metadataBuilder, createObjectBuilder().build()), JsonObject.class);
+
+        return envelope.payload().getJsonArray(WORK_QUEUES).stream()
+                .map(mapToWorkQueues())
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     public static Optional<WorkQueue> mapToWorkQueue(final Envelope<JsonObject> jsonObjectEnvelope) {
         final JsonArray jsonArray = jsonObjectEnvelope.payload().getJsonArray(WORK_QUEUES);
         return jsonArray.stream()
@@ -64,7 +85,10 @@ public class ReferenceDataService {
     private static Function<JsonValue, WorkQueue> mapToWorkQueues() {
         return jsonValue -> {
             try {
-                return objectMapper.readValue(jsonValue.toString(), WorkQueue.class);
+                // Bound from the value's tokens rather than written out as a string and parsed again
+                final TokenBuffer tokens = new TokenBuffer(objectMapper, false);
+                objectMapper.writeValue(tokens, jsonValue);
+                return workQueueReader.readValue(tokens.asParser());
             } catch (IOException ex) {
                 LOGGER.error("Unable to unmarshal WorkQueue. Payload :{}", jsonValue, ex);
                 return null;
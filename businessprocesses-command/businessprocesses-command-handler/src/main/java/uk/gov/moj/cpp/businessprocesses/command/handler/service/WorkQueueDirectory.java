@@ -0,0 +1,204 @@
+package uk.gov.moj.cpp.businessprocesses.command.handler.service;
+
+import static java.time.Duration.parse;
+import static java.util.Optional.empty;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import uk.gov.justice.services.common.configuration.Value;
+import uk.gov.moj.cpp.businessprocesses.pojo.WorkQueue;
+import uk.gov.moj.cpp.businessprocesses.snapshot.ReferenceDataSnapshotSection;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.Resource;
+import javax.enterprise.concurrent.ManagedExecutorService;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.slf4j.Logger;
+
+/**
+ * In-process directory of work queue names keyed by work queue id, so recording a task does not
+ * wait on reference data while its event stream is being appended.
+ *
+ * <p>Every work queue is loaded in one call the first time the directory is used and reloaded in
+ * the background once {@code workQueueDirectoryRefreshAfter} has passed. The bulk load only saves
+ * lookups: a queue that is not in the directory, because it was added since or the bulk load left
+ * it out, is looked up on its own, waiting at most {@code workQueueLookupTimeout}. When reference
+ * data does not answer in time no name is returned, so the command can still be recorded; the
+ * lookup carries on in the background, fills in the name for later commands and can be waited on
+ * through {@link #whenResolved} to record the name once it is known.
+ *
+ * <p>The names are kept in the node's reference data snapshot, so after a restart they are served
+ * from it while the first bulk load runs in the background.
+ */
+@ApplicationScoped
+public class WorkQueueDirectory implements ReferenceDataSnapshotSection {
+
+    private static final Logger LOGGER = getLogger(WorkQueueDirectory.class);
+    private static final String WORK_QUEUES = "workQueues";
+
+    @Inject
+    private ReferenceDataService referenceDataService;
+
+    @Resource
+    private ManagedExecutorService managedExecutorService;
+
+    @Inject
+    @Value(key = "workQueueDirectoryRefreshAfter", defaultValue = "PT1H")
+    private String refreshAfter;
+
+    @Inject
+    @Value(key = "workQueueDirectoryRetryAfter", defaultValue = "PT1M")
+    private String retryAfter;
+
+    @Inject
+    @Value(key = "workQueueLookupTimeout", defaultValue = "PT2S")
+    private String lookupTimeout;
+
+    private final Map<UUID, String> workQueueNames = new ConcurrentHashMap<>();
+    private final Map<UUID, CompletableFuture<Optional<String>>> pendingLookups = new ConcurrentHashMap<>();
+    private final AtomicBoolean reloading = new AtomicBoolean();
+
+    private Clock clock = Clock.systemUTC();
+    private Duration refreshAfterDuration;
+    private Duration retryAfterDuration;
+    private Duration lookupTimeoutDuration;
+    private volatile Instant nextReloadAt = Instant.MIN;
+
+    @PostConstruct
+    public void init() {
+        refreshAfterDuration = parse(refreshAfter);
+        retryAfterDuration = parse(retryAfter);
+        lookupTimeoutDuration = parse(lookupTimeout);
+    }
+
+    /**
+     * @return the name of the work queue, or empty when reference data does not know the queue or
+     * does not answer within the lookup timeout.
+     */
+    public Optional<String> getWorkQueueName(final UUID workQueueId) {
+        reloadIfDue();
+        final String workQueueName = workQueueNames.get(workQueueId);
+        if (workQueueName != null) {
+            return Optional.of(workQueueName);
+        }
+        return lookUp(workQueueId);
+    }
+
+    /**
+     * @return the lookup of a work queue that {@link #getWorkQueueName} gave up waiting for, or the
+     * name it has found since; empty when reference data does not know the queue or failed.
+     */
+    public CompletableFuture<Optional<String>> whenResolved(final UUID workQueueId) {
+        // A lookup adds the name before it stops being pending, so one of the two is seen
+        final CompletableFuture<Optional<String>> pending = pendingLookups.get(workQueueId);
+        if (pending != null) {
+            return pending.exceptionally(e -> empty());
+        }
+        return completedFuture(Optional.ofNullable(workQueueNames.get(workQueueId)));
+    }
+
+    public int size() {
+        return workQueueNames.size();
+    }
+
+    @Override
+    public String getSectionName() {
+        return WORK_QUEUES;
+    }
+
+    @Override
+    public Map<String, String> snapshot() {
+        final Map<String, String> names = new HashMap<>();
+        workQueueNames.forEach((workQueueId, workQueueName) -> names.put(workQueueId.toString(), workQueueName));
+        return names;
+    }
+
+    @Override
+    public void restore(final Map<String, String> names) {
+        names.forEach((workQueueId, workQueueName) -> workQueueNames.putIfAbsent(UUID.fromString(workQueueId), workQueueName));
+    }
+
+    private void reloadIfDue() {
+        if (clock.instant().isBefore(nextReloadAt) || !reloading.compareAndSet(false, true)) {
+            return;
+        }
+        executor().execute(this::reload);
+    }
+
+    private void reload() {
+        try {
+            final List<WorkQueue> workQueues = referenceDataService.getWorkQueues();
+            workQueues.forEach(this::add);
+            nextReloadAt = clock.instant().plus(refreshAfterDuration);
+            LOGGER.info("Loaded {} work queues from reference data", workQueues.size());
+        } catch (final RuntimeException e) {
+            nextReloadAt = clock.instant().plus(retryAfterDuration);
+            LOGGER.warn("Unable to load work queues from reference data, retrying after {}", retryAfterDuration, e);
+        } finally {
+            reloading.set(false);
+        }
+    }
+
+    private Optional<String> lookUp(final UUID workQueueId) {
+        final CompletableFuture<Optional<String>> started = new CompletableFuture<>();
+        final CompletableFuture<Optional<String>> pending = pendingLookups.putIfAbsent(workQueueId, started);
+        final CompletableFuture<Optional<String>> lookup = pending != null ? pending : started;
+        if (pending == null) {
+            executor().execute(() -> complete(workQueueId, started));
+        }
+
+        try {
+            return lookup.get(lookupTimeoutDuration.toMillis(), MILLISECONDS);
+        } catch (final TimeoutException e) {
+            LOGGER.warn("Work queue {} not resolved within {}, recording it without a name", workQueueId, lookupTimeoutDuration);
+            return empty();
+        } catch (final ExecutionException e) {
+            LOGGER.warn("Unable to resolve work queue {}, recording it without a name", workQueueId, e.getCause());
+            return empty();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return empty();
+        }
+    }
+
+    private void complete(final UUID workQueueId, final CompletableFuture<Optional<String>> lookup) {
+        try {
+            final Optional<String> workQueueName = referenceDataService.getWorkQueueByWorkQueueId(workQueueId)
+                    .map(WorkQueue::getQueueName);
+            workQueueName.ifPresent(name -> workQueueNames.put(workQueueId, name));
+            lookup.complete(workQueueName);
+        } catch (final RuntimeException e) {
+            lookup.completeExceptionally(e);
+        } finally {
+            pendingLookups.remove(workQueueId, lookup);
+        }
+    }
+
+    private void add(final WorkQueue workQueue) {
+        if (workQueue.getId() != null && workQueue.getQueueName() != null) {
+            workQueueNames.put(workQueue.getId(), workQueue.getQueueName());
+        }
+    }
+
+    private Executor executor() {
+        return managedExecutorService != null ? managedExecutorService : Runnable::run;
+    }
+}
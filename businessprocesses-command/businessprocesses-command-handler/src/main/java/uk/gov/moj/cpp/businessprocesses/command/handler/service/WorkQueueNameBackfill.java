@@ -0,0 +1,105 @@
+package uk.gov.moj.cpp.businessprocesses.command.handler.service;
+
+import static java.util.UUID.randomUUID;
+import static javax.transaction.Status.STATUS_ACTIVE;
+import static javax.transaction.Status.STATUS_COMMITTED;
+import static org.slf4j.LoggerFactory.getLogger;
+import static uk.gov.justice.services.core.annotation.Component.COMMAND_HANDLER;
+import static uk.gov.justice.services.messaging.JsonEnvelope.envelopeFrom;
+import static uk.gov.justice.services.messaging.JsonEnvelope.metadataFrom;
+import static uk.gov.justice.services.messaging.JsonObjects.createObjectBuilder;
+
+import uk.gov.justice.services.core.annotation.ServiceComponent;
+import uk.gov.justice.services.core.sender.Sender;
+import uk.gov.justice.services.messaging.JsonEnvelope;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import javax.annotation.Resource;
+import javax.enterprise.concurrent.ManagedExecutorService;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.transaction.Synchronization;
+import javax.transaction.TransactionSynchronizationRegistry;
+
+import org.slf4j.Logger;
+
+/**
+ * Records the name of a task's work queue once {@link WorkQueueDirectory} has it, for a task that
+ * was recorded without it because reference data did not answer in time.
+ *
+ * <p>The name is sent as a {@code businessprocesses.command.record-task-workqueue-name} command
+ * after the command that recorded the task has committed, so the task is there to be named. The
+ * command is handled like any other, in a transaction of its own, and is redelivered if recording
+ * the name fails. A command that rolls back sends nothing; the name is looked up again when it is
+ * redelivered.
+ */
+@ApplicationScoped
+public class WorkQueueNameBackfill {
+
+    private static final Logger LOGGER = getLogger(WorkQueueNameBackfill.class);
+    private static final String RECORD_TASK_WORKQUEUE_NAME = "businessprocesses.command.record-task-workqueue-name";
+
+    @Inject
+    private WorkQueueDirectory workQueueDirectory;
+
+    @Inject
+    @ServiceComponent(COMMAND_HANDLER)
+    private Sender sender;
+
+    @Resource
+    private TransactionSynchronizationRegistry transactionSynchronizationRegistry;
+
+    @Resource
+    private ManagedExecutorService managedExecutorService;
+
+    public void recordWorkQueueNameWhenResolved(final JsonEnvelope command, final UUID taskId, final UUID workQueue, final String changeAuthor, final UUID changeAuthorId) {
+        final CompletableFuture<Optional<String>> workQueueName = workQueueDirectory.whenResolved(workQueue);
+        afterCommit(() -> workQueueName.thenAcceptAsync(
+                resolved -> resolved.ifPresent(name -> recordWorkQueueName(command, taskId, workQueue, name, changeAuthor, changeAuthorId)),
+                executor()));
+    }
+
+    private void recordWorkQueueName(final JsonEnvelope command, final UUID taskId, final UUID workQueue, final String workQueueName, final String changeAuthor, final UUID changeAuthorId) {
+        try {
+            sender.sendAsAdmin(envelopeFrom(
+                    metadataFrom(command.metadata()).withId(randomUUID()).withName(RECORD_TASK_WORKQUEUE_NAME),
+                    createObjectBuilder()
+                            .add("id", taskId.toString())
+                            .add("workQueue", workQueue.toString())
+                            .add("workQueueName", workQueueName)
+                            .add("changeAuthor", changeAuthor)
+                            .add("changeAuthorId", changeAuthorId.toString())
+                            .build()));
+        } catch (final RuntimeException e) {
+            LOGGER.warn("Unable to send the name of work queue {} for task {}", workQueue, taskId, e);
+        }
+    }
+
+    private void afterCommit(final Runnable action) {
+        if (transactionSynchronizationRegistry == null || transactionSynchronizationRegistry.getTransactionStatus() != STATUS_ACTIVE) {
+            action.run();
+            return;
+        }
+        transactionSynchronizationRegistry.registerInterposedSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+                // the name is only recorded once the task has been committed
+            }
+
+            @Override
+            public void afterCompletion(final int status) {
+                if (status == STATUS_COMMITTED) {
+                    action.run();
+                }
+            }
+        });
+    }
+
+    private Executor executor() {
+        return managedExecutorService != null ? managedExecutorService : Runnable::run;
+    }
+}
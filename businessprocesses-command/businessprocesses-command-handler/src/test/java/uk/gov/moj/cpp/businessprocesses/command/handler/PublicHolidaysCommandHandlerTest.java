@@ -0,0 +1,106 @@
+package uk.gov.moj.cpp.businessprocesses.command.handler;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.when;
+import static uk.gov.justice.services.core.annotation.Component.COMMAND_HANDLER;
+import static uk.gov.justice.services.messaging.JsonObjects.createArrayBuilder;
+import static uk.gov.justice.services.messaging.JsonObjects.createObjectBuilder;
+import static uk.gov.justice.services.test.utils.core.helper.EventStreamMockHelper.verifyAppendAndGetArgumentFrom;
+import static uk.gov.justice.services.test.utils.core.matchers.HandlerMatcher.isHandler;
+import static uk.gov.justice.services.test.utils.core.matchers.HandlerMethodMatcher.method;
+import static uk.gov.justice.services.test.utils.core.messaging.MetadataBuilderFactory.metadataWithRandomUUID;
+
+import uk.gov.justice.json.schemas.businessprocesses.event.PublicHolidaysUpdated;
+import uk.gov.justice.services.core.aggregate.AggregateService;
+import uk.gov.justice.services.core.enveloper.Enveloper;
+import uk.gov.justice.services.eventsourcing.source.core.EventSource;
+import uk.gov.justice.services.eventsourcing.source.core.EventStream;
+import uk.gov.justice.services.messaging.JsonEnvelope;
+import uk.gov.justice.services.test.utils.core.enveloper.EnveloperFactory;
+import uk.gov.moj.cpp.businessprocesses.aggregate.PublicHolidaysAggregate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import javax.json.JsonObject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class PublicHolidaysCommandHandlerTest {
+
+    private static final String DIVISION = "england-and-wales";
+    private static final int YEAR = 2099;
+    private static final UUID STREAM_ID = PublicHolidaysCommandHandler.streamId(DIVISION, YEAR);
+
+    @Mock
+    private EventSource eventSource;
+
+    @Mock
+    private EventStream eventStream;
+
+    @Mock
+    private AggregateService aggregateService;
+
+    @Spy
+    private Enveloper enveloper = EnveloperFactory.createEnveloperWithEvents(PublicHolidaysUpdated.class);
+
+    @InjectMocks
+    private PublicHolidaysCommandHandler publicHolidaysCommandHandler;
+
+    @Test
+    public void shouldHandlePublicHolidays() {
+        assertThat(new PublicHolidaysCommandHandler(), isHandler(COMMAND_HANDLER)
+                .with(method("handleRecordPublicHolidays")
+                        .thatHandles("businessprocesses.command.record-public-holidays")
+                ));
+    }
+
+    @Test
+    public void shouldRecordChangedPublicHolidaysOnTheStreamOfTheirDivisionAndYear() throws Exception {
+        when(eventSource.getStreamById(STREAM_ID)).thenReturn(eventStream);
+        when(aggregateService.get(eventStream, PublicHolidaysAggregate.class)).thenReturn(new PublicHolidaysAggregate());
+
+        publicHolidaysCommandHandler.handleRecordPublicHolidays(recordPublicHolidays());
+
+        final List<JsonEnvelope> events = verifyAppendAndGetArgumentFrom(eventStream).collect(Collectors.toList());
+        assertThat(events.size(), is(1));
+        assertThat(events.get(0).metadata().name(), is("businessprocesses.event.public-holidays-updated"));
+        final JsonObject payload = events.get(0).payloadAsJsonObject();
+        assertThat(payload.getString("division"), is(DIVISION));
+        assertThat(payload.getInt("year"), is(YEAR));
+        assertThat(payload.getJsonArray("publicHolidays").size(), is(2));
+        assertThat(payload.getJsonArray("changedDates").getString(0), is("2099-05-04"));
+    }
+
+    @Test
+    public void shouldNotRecordPublicHolidaysAlreadyRecordedByAnotherNode() throws Exception {
+        final PublicHolidaysAggregate publicHolidaysAggregate = new PublicHolidaysAggregate();
+        publicHolidaysAggregate.recordPublicHolidays(DIVISION, YEAR, List.of(LocalDate.parse("2099-01-01"), LocalDate.parse("2099-05-04")),
+                Set.of(LocalDate.parse("2099-05-04")));
+        when(eventSource.getStreamById(STREAM_ID)).thenReturn(eventStream);
+        when(aggregateService.get(eventStream, PublicHolidaysAggregate.class)).thenReturn(publicHolidaysAggregate);
+
+        publicHolidaysCommandHandler.handleRecordPublicHolidays(recordPublicHolidays());
+
+        assertThat(verifyAppendAndGetArgumentFrom(eventStream).count(), is(0L));
+    }
+
+    private static JsonEnvelope recordPublicHolidays() {
+        return JsonEnvelope.envelopeFrom(metadataWithRandomUUID("businessprocesses.command.record-public-holidays"), createObjectBuilder()
+                .add("division", DIVISION)
+                .add("year", YEAR)
+                .add("publicHolidays", createArrayBuilder().add("2099-01-01").add("2099-05-04"))
+                .add("changedDates", createArrayBuilder().add("2099-05-04"))
+                .build());
+    }
+}
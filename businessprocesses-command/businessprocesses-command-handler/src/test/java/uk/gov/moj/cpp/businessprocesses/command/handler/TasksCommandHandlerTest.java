@@ -3,17 +3,23 @@ package uk.gov.moj.cpp.businessprocesses.command.handler;
 import static java.util.UUID.randomUUID;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.startsWith;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.justice.services.core.annotation.Component.COMMAND_HANDLER;
+import static uk.gov.justice.services.messaging.JsonObjects.createArrayBuilder;
 import static uk.gov.justice.services.messaging.JsonObjects.createObjectBuilder;
 import static uk.gov.justice.services.test.utils.core.helper.EventStreamMockHelper.verifyAppendAndGetArgumentFrom;
 import static uk.gov.justice.services.test.utils.core.matchers.HandlerMatcher.isHandler;
 import static uk.gov.justice.services.test.utils.core.matchers.HandlerMethodMatcher.method;
 import static uk.gov.justice.services.test.utils.core.messaging.MetadataBuilderFactory.metadataWithRandomUUID;
 
-import org.mockito.Mockito;
 import uk.gov.justice.domain.aggregate.Aggregate;
 import uk.gov.justice.json.schemas.businessprocesses.event.TaskAssigned;
 import uk.gov.justice.json.schemas.businessprocesses.event.TaskCompleted;
@@ -24,6 +30,8 @@ import uk.gov.justice.json.schemas.businessprocesses.event.TaskWorkqueueUpdated;
 import uk.gov.justice.services.common.util.UtcClock;
 import uk.gov.justice.services.core.aggregate.AggregateService;
 import uk.gov.justice.services.core.enveloper.Enveloper;
+import uk.gov.justice.services.core.json.JsonSchemaValidationException;
+import uk.gov.justice.services.core.json.JsonSchemaValidator;
 import uk.gov.justice.services.eventsourcing.source.core.EventSource;
 import uk.gov.justice.services.eventsourcing.source.core.EventStream;
 import uk.gov.justice.services.messaging.JsonEnvelope;
@@ -50,8 +58,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import uk.gov.moj.cpp.businessprocesses.command.handler.service.ReferenceDataService;
-import uk.gov.moj.cpp.businessprocesses.pojo.WorkQueue;
+import uk.gov.moj.cpp.businessprocesses.command.handler.service.WorkQueueDirectory;
+import uk.gov.moj.cpp.businessprocesses.command.handler.service.WorkQueueNameBackfill;
 
 @ExtendWith(MockitoExtension.class)
 public class TasksCommandHandlerTest {
@@ -105,6 +113,9 @@ public class TasksCommandHandlerTest {
     @Mock
     private EventStream eventStream;
 
+    @Mock
+    private EventStream otherEventStream;
+
     @Mock
     private AggregateService aggregateService;
 
@@ -115,7 +126,13 @@ public class TasksCommandHandlerTest {
     protected JsonEnvelope jsonEnvelope;
 
     @Mock
-    private ReferenceDataService referenceDataService;
+    private WorkQueueDirectory workQueueDirectory;
+
+    @Mock
+    private WorkQueueNameBackfill workQueueNameBackfill;
+
+    @Mock
+    private JsonSchemaValidator jsonSchemaValidator;
 
     @Spy
     private Enveloper enveloper = EnveloperFactory.createEnveloperWithEvents(TaskCreated.class, TaskAssigned.class, TaskCompleted.class, TaskDeleted.class, TaskDueDateUpdated.class, TaskWorkqueueUpdated.class);
@@ -139,6 +156,15 @@ public class TasksCommandHandlerTest {
                 )
                 .with(method("handleRecordTaskDeleted")
                         .thatHandles("businessprocesses.command.record-task-deleted")
+                )
+                .with(method("handleRecordTaskDueDatesUpdated")
+                        .thatHandles("businessprocesses.command.record-task-due-dates-updated")
+                )
+                .with(method("handleRecordTaskCommands")
+                        .thatHandles("businessprocesses.command.record-task-commands")
+                )
+                .with(method("handleRecordTaskWorkQueueName")
+                        .thatHandles("businessprocesses.command.record-task-workqueue-name")
                 ));
     }
 
@@ -149,9 +175,7 @@ public class TasksCommandHandlerTest {
         setupMockedEventStream(ID, this.eventStream, new TaskAggregate());
         when(this.eventSource.getStreamById(ID)).thenReturn(this.eventStream);
 
-        final WorkQueue workQueue = Mockito.mock(WorkQueue.class);
-        when (workQueue.getQueueName()).thenReturn("Queue Name");
-        when(referenceDataService.getWorkQueueByWorkQueueId(any())).thenReturn(Optional.of(workQueue));
+        when(workQueueDirectory.getWorkQueueName(WORK_QUEUE)).thenReturn(Optional.of("Queue Name"));
 
         final JsonObject commandPayload = createObjectBuilder()
                 .add(ID_FIELD, ID.toString())
@@ -300,9 +324,7 @@ public class TasksCommandHandlerTest {
         //Given
         setupMockedEventStream(ID, this.eventStream, new TaskAggregate());
         when(this.eventSource.getStreamById(ID)).thenReturn(this.eventStream);
-        final WorkQueue mockWorkQueue = Mockito.mock(WorkQueue.class);
-        when (mockWorkQueue.getQueueName()).thenReturn("Queue Name");
-        when(referenceDataService.getWorkQueueByWorkQueueId(any())).thenReturn(Optional.of(mockWorkQueue));
+        when(workQueueDirectory.getWorkQueueName(WORK_QUEUE)).thenReturn(Optional.of("Queue Name"));
 
 
         final JsonObject commandPayload = createObjectBuilder()
@@ -347,7 +369,7 @@ public class TasksCommandHandlerTest {
         //Given
         setupMockedEventStream(ID, this.eventStream, new TaskAggregate());
         when(this.eventSource.getStreamById(ID)).thenReturn(this.eventStream);
-        when(referenceDataService.getWorkQueueByWorkQueueId(any())).thenReturn(Optional.empty());
+        when(workQueueDirectory.getWorkQueueName(WORK_QUEUE)).thenReturn(Optional.empty());
 
 
         final JsonObject commandPayload = createObjectBuilder()
@@ -361,6 +383,7 @@ public class TasksCommandHandlerTest {
         final JsonEnvelope commandEnvelope = JsonEnvelope.envelopeFrom(metadataWithRandomUUID("businessprocesses.command.record-task-updated").withUserId(UUID.randomUUID().toString()), commandPayload);
         tasksCommandHandler.handleRecordTaskUpdated(commandEnvelope);
 
+        verify(workQueueNameBackfill).recordWorkQueueNameWhenResolved(commandEnvelope, ID, WORK_QUEUE, CHANGE_AUTHOR, CHANGE_AUTHOR_ID);
         final List<JsonEnvelope> events = verifyAppendAndGetArgumentFrom(eventStream).collect(Collectors.toList());
         assertThat(events.size(), is(2));
 
@@ -386,6 +409,229 @@ public class TasksCommandHandlerTest {
         assertThat(workqueueEventPayload.containsKey(WORK_QUEUE_NAME), is(false));
     }
 
+    @Test
+    public void shouldUpdateTheDueDatesOfABatchOfTasks() throws Exception {
+
+        //Given
+        final UUID otherId = randomUUID();
+        final ZonedDateTime otherDueDate = DUE_DATE.plusDays(1);
+        setupMockedEventStream(ID, this.eventStream, new TaskAggregate());
+        setupMockedEventStream(otherId, this.otherEventStream, new TaskAggregate());
+
+        final JsonObject commandPayload = createObjectBuilder()
+                .add("tasks", createArrayBuilder()
+                        .add(createObjectBuilder().add(ID_FIELD, ID.toString()).add(DUE_DATE_FIELD, DUE_DATE.toString()))
+                        .add(createObjectBuilder().add(ID_FIELD, otherId.toString()).add(DUE_DATE_FIELD, otherDueDate.toString())))
+                .add(CHANGE_AUTHOR_FIELD, CHANGE_AUTHOR)
+                .add(CHANGE_AUTHOR_ID_FIELD, CHANGE_AUTHOR_ID.toString())
+                .build();
+
+        final JsonEnvelope commandEnvelope = JsonEnvelope.envelopeFrom(metadataWithRandomUUID("businessprocesses.command.record-task-due-dates-updated").withUserId(UUID.randomUUID().toString()), commandPayload);
+        tasksCommandHandler.handleRecordTaskDueDatesUpdated(commandEnvelope);
+
+        final List<JsonEnvelope> events = verifyAppendAndGetArgumentFrom(eventStream).collect(Collectors.toList());
+        assertThat(events.size(), is(1));
+        assertThat(events.get(0).metadata().name(), is("businessprocesses.event.task-due-date-updated"));
+        assertThat(events.get(0).payloadAsJsonObject().getString(ID_FIELD), is(ID.toString()));
+        assertThat(events.get(0).payloadAsJsonObject().getString(DUE_DATE_FIELD), is(DUE_DATE.toString()));
+        assertThat(events.get(0).payloadAsJsonObject().getString(CHANGE_AUTHOR_FIELD), is(CHANGE_AUTHOR));
+
+        final List<JsonEnvelope> otherEvents = verifyAppendAndGetArgumentFrom(otherEventStream).collect(Collectors.toList());
+        assertThat(otherEvents.size(), is(1));
+        assertThat(otherEvents.get(0).payloadAsJsonObject().getString(ID_FIELD), is(otherId.toString()));
+        assertThat(otherEvents.get(0).payloadAsJsonObject().getString(DUE_DATE_FIELD), is(otherDueDate.toString()));
+    }
+
+    @Test
+    public void shouldRecordTheNameOfATasksWorkQueue() throws Exception {
+
+        //Given
+        final TaskAggregate aggregate = new TaskAggregate();
+        aggregate.recordTaskCreated(ID, TASK_TYPE_ID_VALUE, TYPE, REFERENCE, null, CREATED_DATE, DUE_DATE, HEARING_DATE, WORK_QUEUE, null, COURT_ID, JURISDICTION, CHANGE_AUTHOR, CHANGE_AUTHOR_ID)
+                .collect(Collectors.toList());
+        setupMockedEventStream(ID, this.eventStream, aggregate);
+
+        final JsonObject commandPayload = createObjectBuilder()
+                .add(ID_FIELD, ID.toString())
+                .add(WORK_QUEUE_FIELD, WORK_QUEUE.toString())
+                .add(WORK_QUEUE_NAME, "Welsh Unit")
+                .add(CHANGE_AUTHOR_FIELD, CHANGE_AUTHOR)
+                .add(CHANGE_AUTHOR_ID_FIELD, CHANGE_AUTHOR_ID.toString())
+                .build();
+
+        final JsonEnvelope commandEnvelope = JsonEnvelope.envelopeFrom(metadataWithRandomUUID("businessprocesses.command.record-task-workqueue-name").withUserId(UUID.randomUUID().toString()), commandPayload);
+        tasksCommandHandler.handleRecordTaskWorkQueueName(commandEnvelope);
+
+        final List<JsonEnvelope> events = verifyAppendAndGetArgumentFrom(eventStream).collect(Collectors.toList());
+        assertThat(events.size(), is(1));
+
+        final JsonEnvelope workqueueUpdatedEvent = events.get(0);
+        assertThat(workqueueUpdatedEvent.metadata().name(), is("businessprocesses.event.task-workqueue-updated"));
+
+        final JsonObject workqueueEventPayload = workqueueUpdatedEvent.payloadAsJsonObject();
+        assertThat(workqueueEventPayload.getString(ID_FIELD), is(ID.toString()));
+        assertThat(workqueueEventPayload.getString(WORK_QUEUE_FIELD), is(WORK_QUEUE.toString()));
+        assertThat(workqueueEventPayload.getString(WORK_QUEUE_NAME), is("Welsh Unit"));
+        assertThat(workqueueEventPayload.getString(CHANGE_AUTHOR_FIELD), is(CHANGE_AUTHOR));
+        assertThat(workqueueEventPayload.getString(CHANGE_AUTHOR_ID_FIELD), is(CHANGE_AUTHOR_ID.toString()));
+    }
+
+    @Test
+    public void shouldRecordEachTaskOfABatchOfRecordTaskCommands() throws Exception {
+
+        //Given
+        final UUID otherId = randomUUID();
+        setupMockedEventStream(ID, this.eventStream, new TaskAggregate());
+        setupMockedEventStream(otherId, this.otherEventStream, new TaskAggregate());
+
+        final JsonObject createdPayload = createObjectBuilder()
+                .add(ID_FIELD, ID.toString())
+                .add(TASK_TYPE_ID_FIELD, TASK_TYPE_ID_VALUE.toString())
+                .add(CREATED_DATE_FIELD, CREATED_DATE.toString())
+                .add(DUE_DATE_FIELD, DUE_DATE.toString())
+                .add(CHANGE_AUTHOR_FIELD, CHANGE_AUTHOR)
+                .add(CHANGE_AUTHOR_ID_FIELD, CHANGE_AUTHOR_ID.toString())
+                .add(TYPE_FIELD, TYPE)
+                .build();
+        final JsonObject completedPayload = createObjectBuilder()
+                .add(ID_FIELD, otherId.toString())
+                .add(COMPLETED_DATE_FIELD, COMPLETED_DATE.toString())
+                .add(CHANGE_AUTHOR_FIELD, CHANGE_AUTHOR)
+                .add(CHANGE_AUTHOR_ID_FIELD, CHANGE_AUTHOR_ID.toString())
+                .build();
+
+        final JsonObject commandPayload = createObjectBuilder()
+                .add("commands", createArrayBuilder()
+                        .add(createObjectBuilder()
+                                .add(ID_FIELD, randomUUID().toString())
+                                .add("name", "businessprocesses.command.record-task-created")
+                                .add("userId", CHANGE_AUTHOR_ID.toString())
+                                .add("payload", createdPayload))
+                        .add(createObjectBuilder()
+                                .add(ID_FIELD, randomUUID().toString())
+                                .add("name", "businessprocesses.command.record-task-completed")
+                                .add("userId", CHANGE_AUTHOR_ID.toString())
+                                .add("payload", completedPayload)))
+                .build();
+
+        final JsonEnvelope commandEnvelope = JsonEnvelope.envelopeFrom(metadataWithRandomUUID("businessprocesses.command.record-task-commands").withUserId(CHANGE_AUTHOR_ID.toString()), commandPayload);
+        tasksCommandHandler.handleRecordTaskCommands(commandEnvelope);
+
+        verify(jsonSchemaValidator).validate(eq(createdPayload.toString()), eq("businessprocesses.command.record-task-created"), any());
+        verify(jsonSchemaValidator).validate(eq(completedPayload.toString()), eq("businessprocesses.command.record-task-completed"), any());
+
+        final List<JsonEnvelope> events = verifyAppendAndGetArgumentFrom(eventStream).collect(Collectors.toList());
+        assertThat(events.size(), is(1));
+        assertThat(events.get(0).metadata().name(), is("businessprocesses.event.task-created"));
+        assertThat(events.get(0).payloadAsJsonObject().getString(ID_FIELD), is(ID.toString()));
+        assertThat(events.get(0).payloadAsJsonObject().getString(TYPE_FIELD), is(TYPE));
+
+        final List<JsonEnvelope> otherEvents = verifyAppendAndGetArgumentFrom(otherEventStream).collect(Collectors.toList());
+        assertThat(otherEvents.size(), is(1));
+        assertThat(otherEvents.get(0).metadata().name(), is("businessprocesses.event.task-completed"));
+        assertThat(otherEvents.get(0).payloadAsJsonObject().getString(ID_FIELD), is(otherId.toString()));
+    }
+
+    @Test
+    public void shouldRecordTheCommandsOfABatchForTheSameTaskWithOneLoadAndOneAppend() throws Exception {
+
+        //Given
+        setupMockedEventStream(ID, this.eventStream, new TaskAggregate());
+        final ZonedDateTime updatedDueDate = DUE_DATE.plusDays(2);
+
+        final JsonObject createdPayload = createObjectBuilder()
+                .add(ID_FIELD, ID.toString())
+                .add(TASK_TYPE_ID_FIELD, TASK_TYPE_ID_VALUE.toString())
+                .add(CREATED_DATE_FIELD, CREATED_DATE.toString())
+                .add(DUE_DATE_FIELD, DUE_DATE.toString())
+                .add(CHANGE_AUTHOR_FIELD, CHANGE_AUTHOR)
+                .add(CHANGE_AUTHOR_ID_FIELD, CHANGE_AUTHOR_ID.toString())
+                .add(TYPE_FIELD, TYPE)
+                .build();
+        final JsonObject updatedPayload = createObjectBuilder()
+                .add(ID_FIELD, ID.toString())
+                .add(DUE_DATE_FIELD, updatedDueDate.toString())
+                .add(CHANGE_AUTHOR_FIELD, CHANGE_AUTHOR)
+                .add(CHANGE_AUTHOR_ID_FIELD, CHANGE_AUTHOR_ID.toString())
+                .build();
+        final JsonObject assignedPayload = createObjectBuilder()
+                .add(ID_FIELD, ID.toString())
+                .add(ASSIGN_TO_FIELD, ASSIGN_TO)
+                .add(ASSIGN_TO_ID_FIELD, ASSIGN_TO_ID.toString())
+                .add(CHANGE_AUTHOR_FIELD, CHANGE_AUTHOR)
+                .add(CHANGE_AUTHOR_ID_FIELD, CHANGE_AUTHOR_ID.toString())
+                .build();
+
+        final JsonObject commandPayload = createObjectBuilder()
+                .add("commands", createArrayBuilder()
+                        .add(createObjectBuilder()
+                                .add(ID_FIELD, randomUUID().toString())
+                                .add("name", "businessprocesses.command.record-task-created")
+                                .add("payload", createdPayload))
+                        .add(createObjectBuilder()
+                                .add(ID_FIELD, randomUUID().toString())
+                                .add("name", "businessprocesses.command.record-task-updated")
+                                .add("payload", updatedPayload))
+                        .add(createObjectBuilder()
+                                .add(ID_FIELD, randomUUID().toString())
+                                .add("name", "businessprocesses.command.record-task-assigned")
+                                .add("payload", assignedPayload)))
+                .build();
+
+        final JsonEnvelope commandEnvelope = JsonEnvelope.envelopeFrom(metadataWithRandomUUID("businessprocesses.command.record-task-commands").withUserId(CHANGE_AUTHOR_ID.toString()), commandPayload);
+        tasksCommandHandler.handleRecordTaskCommands(commandEnvelope);
+
+        verify(eventSource).getStreamById(ID);
+        verify(aggregateService).get(eventStream, TaskAggregate.class);
+
+        final List<JsonEnvelope> events = verifyAppendAndGetArgumentFrom(eventStream).collect(Collectors.toList());
+        assertThat(events.size(), is(3));
+        assertThat(events.get(0).metadata().name(), is("businessprocesses.event.task-created"));
+        assertThat(events.get(1).metadata().name(), is("businessprocesses.event.task-due-date-updated"));
+        assertThat(events.get(1).payloadAsJsonObject().getString(DUE_DATE_FIELD), is(updatedDueDate.toString()));
+        assertThat(events.get(1).payloadAsJsonObject().getString(DETAILS_FIELD), startsWith("Changed DueDate from:"));
+        assertThat(events.get(2).metadata().name(), is("businessprocesses.event.task-assigned"));
+        assertThat(events.get(2).payloadAsJsonObject().getString(ASSIGNMENT_TYPE_FIELD), is(ASSIGNMENT_TYPE));
+    }
+
+    @Test
+    public void shouldRejectABatchWithACommandThatDoesNotRecordATask() {
+
+        final JsonObject commandPayload = createObjectBuilder()
+                .add("commands", createArrayBuilder()
+                        .add(createObjectBuilder()
+                                .add(ID_FIELD, randomUUID().toString())
+                                .add("name", "businessprocesses.command.record-task-commands")
+                                .add("payload", createObjectBuilder())))
+                .build();
+
+        final JsonEnvelope commandEnvelope = JsonEnvelope.envelopeFrom(metadataWithRandomUUID("businessprocesses.command.record-task-commands").withUserId(CHANGE_AUTHOR_ID.toString()), commandPayload);
+
+        assertThrows(IllegalArgumentException.class, () -> tasksCommandHandler.handleRecordTaskCommands(commandEnvelope));
+    }
+
+    @Test
+    public void shouldRejectABatchWithACommandThatDoesNotMatchItsSchema() {
+
+        final JsonObject invalidPayload = createObjectBuilder()
+                .add(ID_FIELD, ID.toString())
+                .build();
+        final JsonObject commandPayload = createObjectBuilder()
+                .add("commands", createArrayBuilder()
+                        .add(createObjectBuilder()
+                                .add(ID_FIELD, randomUUID().toString())
+                                .add("name", "businessprocesses.command.record-task-completed")
+                                .add("payload", invalidPayload)))
+                .build();
+        doThrow(JsonSchemaValidationException.class).when(jsonSchemaValidator)
+                .validate(eq(invalidPayload.toString()), eq("businessprocesses.command.record-task-completed"), any());
+
+        final JsonEnvelope commandEnvelope = JsonEnvelope.envelopeFrom(metadataWithRandomUUID("businessprocesses.command.record-task-commands").withUserId(CHANGE_AUTHOR_ID.toString()), commandPayload);
+
+        assertThrows(JsonSchemaValidationException.class, () -> tasksCommandHandler.handleRecordTaskCommands(commandEnvelope));
+        verifyNoInteractions(eventSource);
+    }
+
     @SuppressWarnings("unchecked")
     private <T extends Aggregate> void setupMockedEventStream(final UUID id, final EventStream eventStream, final T aggregate) {
         when(this.eventSource.getStreamById(id)).thenReturn(eventStream);
@@ -20,6 +20,7 @@ import uk.gov.moj.cpp.businessprocesses.pojo.WorkQueue;
 
 import javax.json.JsonArrayBuilder;
 import javax.json.JsonObject;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -45,6 +46,7 @@ public class ReferenceDataServiceTest {
     public static final String WORK_QUEUES = "workQueues";
 
     private static final UUID FIRST_WORK_QUEUE_ID = randomUUID();
+    private static final UUID SECOND_WORK_QUEUE_ID = randomUUID();
 
     @Captor
     private ArgumentCaptor<JsonEnvelope> envelopeArgumentCaptor;
@@ -97,6 +99,20 @@ public class ReferenceDataServiceTest {
         assertThat(optionalWorkQueue.isPresent(), is(false));
     }
 
+    @Test
+    public void shouldGetAllWorkQueuesByLeavingOutTheWorkQueueId() {
+        when(requester.requestAsAdmin(envelopeArgumentCaptor.capture(), eq(JsonObject.class))).thenReturn(getWorkQueueListWithTwoElements());
+        final List<WorkQueue> workQueues = target.getWorkQueues();
+
+        assertThat(envelopeArgumentCaptor.getValue().metadata().name(), is(REFERENCE_DATA_QUERY_WORK_QUEUES));
+        assertThat(envelopeArgumentCaptor.getValue().payloadAsJsonObject().isEmpty(), is(true));
+        assertThat(workQueues.size(), is(2));
+        assertThat(workQueues.get(0).getId(), is(FIRST_WORK_QUEUE_ID));
+        assertThat(workQueues.get(0).getQueueName(), is("Welsh Unit"));
+        assertThat(workQueues.get(1).getId(), is(SECOND_WORK_QUEUE_ID));
+        assertThat(workQueues.get(1).getQueueName(), is("Crown Court Admin"));
+    }
+
     private Envelope<JsonObject> getWorkQueueListWithOneElement() {
         final JsonArrayBuilder workQueueBuilder = createArrayBuilder();
 
@@ -118,6 +134,20 @@ public class ReferenceDataServiceTest {
                         .build());
     }
 
+    private Envelope<JsonObject> getWorkQueueListWithTwoElements() {
+        return envelopeFrom(
+                metadataWithRandomUUID(REFERENCE_DATA_QUERY_WORK_QUEUES),
+                createObjectBuilder()
+                        .add(WORK_QUEUES, createArrayBuilder()
+                                .add(createObjectBuilder()
+                                        .add("id", FIRST_WORK_QUEUE_ID.toString())
+                                        .add("queueName", "Welsh Unit"))
+                                .add(createObjectBuilder()
+                                        .add("id", SECOND_WORK_QUEUE_ID.toString())
+                                        .add("queueName", "Crown Court Admin")))
+                        .build());
+    }
+
     private Envelope<JsonObject> getEmptyWorkQueueList() {
         final JsonArrayBuilder workQueueBuilder = createArrayBuilder();
 
@@ -0,0 +1,163 @@
+package uk.gov.moj.cpp.businessprocesses.command.handler.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.moj.cpp.businessprocesses.pojo.WorkQueue;
+
+import javax.enterprise.concurrent.ManagedExecutorService;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.UUID.randomUUID;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+
+@ExtendWith(MockitoExtension.class)
+public class WorkQueueDirectoryTest {
+
+    private static final UUID WELSH_UNIT_ID = randomUUID();
+    private static final UUID CROWN_COURT_ADMIN_ID = randomUUID();
+
+    @Mock
+    private ReferenceDataService referenceDataService;
+
+    @Mock
+    private ManagedExecutorService managedExecutorService;
+
+    @Test
+    public void shouldServeWorkQueueNamesFromOneBulkLoad() {
+        when(referenceDataService.getWorkQueues()).thenReturn(List.of(
+                workQueue(WELSH_UNIT_ID, "Welsh Unit"),
+                workQueue(CROWN_COURT_ADMIN_ID, "Crown Court Admin")));
+        final WorkQueueDirectory workQueueDirectory = workQueueDirectory("PT2S");
+
+        assertThat(workQueueDirectory.getWorkQueueName(WELSH_UNIT_ID), is(Optional.of("Welsh Unit")));
+        assertThat(workQueueDirectory.getWorkQueueName(CROWN_COURT_ADMIN_ID), is(Optional.of("Crown Court Admin")));
+
+        verify(referenceDataService, times(1)).getWorkQueues();
+        verify(referenceDataService, never()).getWorkQueueByWorkQueueId(any());
+    }
+
+    @Test
+    public void shouldLookUpWorkQueuesAddedAfterTheBulkLoadOnce() {
+        when(referenceDataService.getWorkQueueByWorkQueueId(WELSH_UNIT_ID)).thenReturn(Optional.of(workQueue(WELSH_UNIT_ID, "Welsh Unit")));
+        final WorkQueueDirectory workQueueDirectory = workQueueDirectory("PT2S");
+
+        assertThat(workQueueDirectory.getWorkQueueName(WELSH_UNIT_ID), is(Optional.of("Welsh Unit")));
+        assertThat(workQueueDirectory.getWorkQueueName(WELSH_UNIT_ID), is(Optional.of("Welsh Unit")));
+
+        verify(referenceDataService, times(1)).getWorkQueueByWorkQueueId(WELSH_UNIT_ID);
+    }
+
+    @Test
+    public void shouldLookUpAWorkQueueTheBulkLoadLeftOut() {
+        when(referenceDataService.getWorkQueues()).thenReturn(List.of(workQueue(CROWN_COURT_ADMIN_ID, "Crown Court Admin")));
+        when(referenceDataService.getWorkQueueByWorkQueueId(WELSH_UNIT_ID)).thenReturn(Optional.of(workQueue(WELSH_UNIT_ID, "Welsh Unit")));
+        final WorkQueueDirectory workQueueDirectory = workQueueDirectory("PT2S");
+
+        assertThat(workQueueDirectory.getWorkQueueName(CROWN_COURT_ADMIN_ID), is(Optional.of("Crown Court Admin")));
+        assertThat(workQueueDirectory.getWorkQueueName(WELSH_UNIT_ID), is(Optional.of("Welsh Unit")));
+
+        verify(referenceDataService, never()).getWorkQueueByWorkQueueId(CROWN_COURT_ADMIN_ID);
+    }
+
+    @Test
+    public void shouldServeRestoredWorkQueueNamesWhileTheBulkLoadRuns() {
+        when(referenceDataService.getWorkQueues()).thenReturn(List.of(workQueue(WELSH_UNIT_ID, "Welsh Unit")));
+        final WorkQueueDirectory loaded = workQueueDirectory("PT2S");
+        loaded.getWorkQueueName(WELSH_UNIT_ID);
+        final WorkQueueDirectory restored = workQueueDirectory("PT2S");
+        setField(restored, "managedExecutorService", managedExecutorService);
+
+        restored.restore(loaded.snapshot());
+
+        assertThat(restored.getSectionName(), is("workQueues"));
+        assertThat(loaded.snapshot(), is(Map.of(WELSH_UNIT_ID.toString(), "Welsh Unit")));
+        assertThat(restored.getWorkQueueName(WELSH_UNIT_ID), is(Optional.of("Welsh Unit")));
+        verify(managedExecutorService).execute(any(Runnable.class));
+        verify(referenceDataService, times(1)).getWorkQueues();
+        verify(referenceDataService, never()).getWorkQueueByWorkQueueId(any());
+    }
+
+    @Test
+    public void shouldNotRetryAFailedBulkLoadOnEveryLookup() {
+        when(referenceDataService.getWorkQueues()).thenThrow(new IllegalStateException("reference data unavailable"));
+        when(referenceDataService.getWorkQueueByWorkQueueId(WELSH_UNIT_ID)).thenReturn(Optional.of(workQueue(WELSH_UNIT_ID, "Welsh Unit")));
+        final WorkQueueDirectory workQueueDirectory = workQueueDirectory("PT2S");
+
+        workQueueDirectory.getWorkQueueName(WELSH_UNIT_ID);
+        workQueueDirectory.getWorkQueueName(WELSH_UNIT_ID);
+
+        verify(referenceDataService, times(1)).getWorkQueues();
+    }
+
+    @Test
+    public void shouldGiveUpWaitingAndFillInTheNameLaterWhenReferenceDataIsSlow() throws Exception {
+        final CountDownLatch releaseReferenceData = new CountDownLatch(1);
+        final CountDownLatch lookupFinished = new CountDownLatch(1);
+        when(referenceDataService.getWorkQueueByWorkQueueId(WELSH_UNIT_ID)).thenAnswer(invocation -> {
+            releaseReferenceData.await(5, TimeUnit.SECONDS);
+            return Optional.of(workQueue(WELSH_UNIT_ID, "Welsh Unit"));
+        });
+        final ExecutorService executorService = Executors.newFixedThreadPool(2);
+        doAnswer(invocation -> {
+            final Runnable task = invocation.getArgument(0);
+            executorService.execute(() -> {
+                task.run();
+                lookupFinished.countDown();
+            });
+            return null;
+        }).when(managedExecutorService).execute(any(Runnable.class));
+        final WorkQueueDirectory workQueueDirectory = workQueueDirectory("PT0.05S");
+        setField(workQueueDirectory, "managedExecutorService", managedExecutorService);
+
+        try {
+            assertThat(workQueueDirectory.getWorkQueueName(WELSH_UNIT_ID), is(Optional.empty()));
+            final CompletableFuture<Optional<String>> lateWorkQueueName = workQueueDirectory.whenResolved(WELSH_UNIT_ID);
+
+            releaseReferenceData.countDown();
+            assertThat(lateWorkQueueName.get(5, TimeUnit.SECONDS), is(Optional.of("Welsh Unit")));
+            while (workQueueDirectory.size() == 0) {
+                lookupFinished.await(50, TimeUnit.MILLISECONDS);
+            }
+
+            assertThat(workQueueDirectory.getWorkQueueName(WELSH_UNIT_ID), is(Optional.of("Welsh Unit")));
+            verify(referenceDataService, times(1)).getWorkQueueByWorkQueueId(WELSH_UNIT_ID);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private WorkQueueDirectory workQueueDirectory(final String lookupTimeout) {
+        final WorkQueueDirectory workQueueDirectory = new WorkQueueDirectory();
+        setField(workQueueDirectory, "referenceDataService", referenceDataService);
+        setField(workQueueDirectory, "refreshAfter", "PT1H");
+        setField(workQueueDirectory, "retryAfter", "PT1M");
+        setField(workQueueDirectory, "lookupTimeout", lookupTimeout);
+        workQueueDirectory.init();
+        return workQueueDirectory;
+    }
+
+    private static WorkQueue workQueue(final UUID id, final String queueName) {
+        final WorkQueue workQueue = new WorkQueue();
+        setField(workQueue, "id", id);
+        setField(workQueue, "queueName", queueName);
+        return workQueue;
+    }
+}
@@ -0,0 +1,149 @@
+package uk.gov.moj.cpp.businessprocesses.command.handler.service;
+
+import static java.util.UUID.randomUUID;
+import static javax.transaction.Status.STATUS_ACTIVE;
+import static javax.transaction.Status.STATUS_COMMITTED;
+import static javax.transaction.Status.STATUS_ROLLEDBACK;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static uk.gov.justice.services.messaging.JsonObjects.createObjectBuilder;
+import static uk.gov.justice.services.test.utils.core.messaging.MetadataBuilderFactory.metadataWithRandomUUID;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+
+import uk.gov.justice.services.core.sender.Sender;
+import uk.gov.justice.services.messaging.JsonEnvelope;
+import uk.gov.moj.cpp.businessprocesses.pojo.WorkQueue;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import javax.enterprise.concurrent.ManagedExecutorService;
+import javax.json.JsonObject;
+import javax.transaction.Synchronization;
+import javax.transaction.TransactionSynchronizationRegistry;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class WorkQueueNameBackfillTest {
+
+    private static final UUID TASK_ID = randomUUID();
+    private static final UUID WELSH_UNIT_ID = randomUUID();
+    private static final String CHANGE_AUTHOR = "John Smith";
+    private static final UUID CHANGE_AUTHOR_ID = randomUUID();
+
+    @Mock
+    private ReferenceDataService referenceDataService;
+
+    @Mock
+    private ManagedExecutorService managedExecutorService;
+
+    @Mock
+    private TransactionSynchronizationRegistry transactionSynchronizationRegistry;
+
+    @Mock
+    private Sender sender;
+
+    @Captor
+    private ArgumentCaptor<Synchronization> synchronizationCaptor;
+
+    @Captor
+    private ArgumentCaptor<JsonEnvelope> envelopeCaptor;
+
+    @InjectMocks
+    private WorkQueueNameBackfill workQueueNameBackfill;
+
+    @Test
+    public void shouldSendTheWorkQueueNameOnceReferenceDataAnswersAfterTheLookupTimedOut() throws Exception {
+        final CountDownLatch releaseReferenceData = new CountDownLatch(1);
+        when(referenceDataService.getWorkQueueByWorkQueueId(WELSH_UNIT_ID)).thenAnswer(invocation -> {
+            releaseReferenceData.await(5, TimeUnit.SECONDS);
+            return Optional.of(workQueue(WELSH_UNIT_ID, "Welsh Unit"));
+        });
+        final ExecutorService executorService = Executors.newCachedThreadPool();
+        doAnswer(invocation -> {
+            executorService.execute(invocation.<Runnable>getArgument(0));
+            return null;
+        }).when(managedExecutorService).execute(any(Runnable.class));
+        when(transactionSynchronizationRegistry.getTransactionStatus()).thenReturn(STATUS_ACTIVE);
+        final WorkQueueDirectory workQueueDirectory = workQueueDirectory("PT0.05S", managedExecutorService);
+        setField(workQueueNameBackfill, "workQueueDirectory", workQueueDirectory);
+
+        try {
+            assertThat(workQueueDirectory.getWorkQueueName(WELSH_UNIT_ID), is(Optional.empty()));
+            workQueueNameBackfill.recordWorkQueueNameWhenResolved(recordTaskCreated(), TASK_ID, WELSH_UNIT_ID, CHANGE_AUTHOR, CHANGE_AUTHOR_ID);
+
+            verify(transactionSynchronizationRegistry).registerInterposedSynchronization(synchronizationCaptor.capture());
+            synchronizationCaptor.getValue().afterCompletion(STATUS_COMMITTED);
+            releaseReferenceData.countDown();
+
+            verify(sender, timeout(5000)).sendAsAdmin(envelopeCaptor.capture());
+            final JsonEnvelope command = envelopeCaptor.getValue();
+            assertThat(command.metadata().name(), is("businessprocesses.command.record-task-workqueue-name"));
+            final JsonObject payload = command.payloadAsJsonObject();
+            assertThat(payload.getString("id"), is(TASK_ID.toString()));
+            assertThat(payload.getString("workQueue"), is(WELSH_UNIT_ID.toString()));
+            assertThat(payload.getString("workQueueName"), is("Welsh Unit"));
+            assertThat(payload.getString("changeAuthor"), is(CHANGE_AUTHOR));
+            assertThat(payload.getString("changeAuthorId"), is(CHANGE_AUTHOR_ID.toString()));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldNotSendTheWorkQueueNameWhenTheCommandRollsBack() {
+        when(referenceDataService.getWorkQueues()).thenReturn(List.of(workQueue(WELSH_UNIT_ID, "Welsh Unit")));
+        when(transactionSynchronizationRegistry.getTransactionStatus()).thenReturn(STATUS_ACTIVE);
+        final WorkQueueDirectory workQueueDirectory = workQueueDirectory("PT2S", null);
+        setField(workQueueNameBackfill, "workQueueDirectory", workQueueDirectory);
+        workQueueDirectory.getWorkQueueName(WELSH_UNIT_ID);
+
+        workQueueNameBackfill.recordWorkQueueNameWhenResolved(recordTaskCreated(), TASK_ID, WELSH_UNIT_ID, CHANGE_AUTHOR, CHANGE_AUTHOR_ID);
+
+        verify(transactionSynchronizationRegistry).registerInterposedSynchronization(synchronizationCaptor.capture());
+        synchronizationCaptor.getValue().afterCompletion(STATUS_ROLLEDBACK);
+
+        verifyNoInteractions(sender, managedExecutorService);
+    }
+
+    private WorkQueueDirectory workQueueDirectory(final String lookupTimeout, final ManagedExecutorService executor) {
+        final WorkQueueDirectory workQueueDirectory = new WorkQueueDirectory();
+        setField(workQueueDirectory, "referenceDataService", referenceDataService);
+        setField(workQueueDirectory, "managedExecutorService", executor);
+        setField(workQueueDirectory, "refreshAfter", "PT1H");
+        setField(workQueueDirectory, "retryAfter", "PT1M");
+        setField(workQueueDirectory, "lookupTimeout", lookupTimeout);
+        workQueueDirectory.init();
+        return workQueueDirectory;
+    }
+
+    private static JsonEnvelope recordTaskCreated() {
+        return JsonEnvelope.envelopeFrom(metadataWithRandomUUID("businessprocesses.command.record-task-created").withUserId(CHANGE_AUTHOR_ID.toString()),
+                createObjectBuilder().add("id", TASK_ID.toString()).build());
+    }
+
+    private static WorkQueue workQueue(final UUID id, final String queueName) {
+        final WorkQueue workQueue = new WorkQueue();
+        setField(workQueue, "id", id);
+        setField(workQueue, "queueName", queueName);
+        return workQueue;
+    }
+}
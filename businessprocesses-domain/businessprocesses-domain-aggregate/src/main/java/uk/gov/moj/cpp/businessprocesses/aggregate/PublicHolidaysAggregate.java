@@ -0,0 +1,60 @@
+package uk.gov.moj.cpp.businessprocesses.aggregate;
+
+import static uk.gov.justice.domain.aggregate.matcher.EventSwitcher.match;
+import static uk.gov.justice.domain.aggregate.matcher.EventSwitcher.otherwiseDoNothing;
+import static uk.gov.justice.domain.aggregate.matcher.EventSwitcher.when;
+
+import uk.gov.justice.domain.aggregate.Aggregate;
+import uk.gov.justice.json.schemas.businessprocesses.event.PublicHolidaysUpdated;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+/**
+ * The public holidays of one division and year, as last seen in reference data by any node of the
+ * event processor. Every node reports a change it sees, but it is only recorded once.
+ */
+public class PublicHolidaysAggregate implements Aggregate {
+
+    private static final long serialVersionUID = 101L;
+
+    private TreeSet<LocalDate> publicHolidays;
+
+    @SuppressWarnings("squid:S2250")
+    @Override
+    public Object apply(final Object event) {
+        return match(event).with(
+                when(PublicHolidaysUpdated.class).apply(e -> publicHolidays = new TreeSet<>(e.getPublicHolidays())),
+                otherwiseDoNothing());
+    }
+
+    /**
+     * Records {@code newPublicHolidays} unless they have already been recorded. The dates that
+     * changed are worked out against the public holidays last recorded, or taken from
+     * {@code changedDates} when none have been recorded yet.
+     */
+    public Stream<Object> recordPublicHolidays(final String division, final int year, final List<LocalDate> newPublicHolidays, final Set<LocalDate> changedDates) {
+        final TreeSet<LocalDate> updated = new TreeSet<>(newPublicHolidays);
+        if (updated.equals(publicHolidays)) {
+            return Stream.empty();
+        }
+
+        final TreeSet<LocalDate> changed = new TreeSet<>(changedDates);
+        if (publicHolidays != null) {
+            changed.clear();
+            publicHolidays.stream().filter(date -> !updated.contains(date)).forEach(changed::add);
+            updated.stream().filter(date -> !publicHolidays.contains(date)).forEach(changed::add);
+        }
+
+        return apply(Stream.of(PublicHolidaysUpdated.publicHolidaysUpdated()
+                .withDivision(division)
+                .withYear(year)
+                .withPublicHolidays(new ArrayList<>(updated))
+                .withChangedDates(new ArrayList<>(changed))
+                .build()));
+    }
+}
@@ -126,13 +126,7 @@ public class TaskAggregate implements Aggregate {
         final Stream.Builder<Object> streamBuilder = Stream.builder();
 
         if (isDueDateUpdated(dueDate)) {
-            streamBuilder.add(TaskDueDateUpdated.taskDueDateUpdated()
-                    .withId(taskId)
-                    .withDueDate(dueDate)
-                    .withDetails(getDueDateDetails(dueDate))
-                    .withChangeAuthor(changeAuthor)
-                    .withChangeAuthorId(changeAuthorId)
-                    .build());
+            streamBuilder.add(taskDueDateUpdated(taskId, dueDate, changeAuthor, changeAuthorId));
         }
 
         if (isWorkQueueUpdated(workQueue)) {
@@ -149,6 +143,41 @@ public class TaskAggregate implements Aggregate {
         return apply(streamBuilder.build());
     }
 
+    /**
+     * Records the name of the work queue a task was recorded with before reference data could
+     * name it. Nothing is recorded once the task has moved to another queue or its queue is named.
+     */
+    public Stream<Object> recordTaskWorkQueueName(final UUID taskId, final UUID workQueue, final String workQueueName, final String changeAuthor, final UUID changeAuthorId) {
+        if (!workQueue.equals(this.workQueue) || this.workQueueName != null) {
+            return Stream.empty();
+        }
+        return apply(Stream.of(TaskWorkqueueUpdated.taskWorkqueueUpdated()
+                .withId(taskId)
+                .withWorkQueue(workQueue)
+                .withWorkQueueName(workQueueName)
+                .withDetails(String.format(ASSIGNED_WORK_QUEUE_DETAILS, workQueueName))
+                .withChangeAuthor(changeAuthor)
+                .withChangeAuthorId(changeAuthorId)
+                .build()));
+    }
+
+    public Stream<Object> recordTaskDueDateUpdated(final UUID taskId, final ZonedDateTime dueDate, final String changeAuthor, final UUID changeAuthorId) {
+        if (!isDueDateUpdated(dueDate)) {
+            return Stream.empty();
+        }
+        return apply(Stream.of(taskDueDateUpdated(taskId, dueDate, changeAuthor, changeAuthorId)));
+    }
+
+    private TaskDueDateUpdated taskDueDateUpdated(final UUID taskId, final ZonedDateTime dueDate, final String changeAuthor, final UUID changeAuthorId) {
+        return TaskDueDateUpdated.taskDueDateUpdated()
+                .withId(taskId)
+                .withDueDate(dueDate)
+                .withDetails(getDueDateDetails(dueDate))
+                .withChangeAuthor(changeAuthor)
+                .withChangeAuthorId(changeAuthorId)
+                .build();
+    }
+
     private boolean isWorkQueueUpdated(final UUID workQueue) {
         return this.workQueue != null && !this.workQueue.equals(workQueue) || this.workQueue == null && workQueue != null;
     }
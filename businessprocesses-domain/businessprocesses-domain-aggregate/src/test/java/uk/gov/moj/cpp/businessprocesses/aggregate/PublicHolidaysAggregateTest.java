@@ -0,0 +1,64 @@
+package uk.gov.moj.cpp.businessprocesses.aggregate;
+
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import uk.gov.justice.json.schemas.businessprocesses.event.PublicHolidaysUpdated;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PublicHolidaysAggregateTest {
+
+    private static final String DIVISION = "england-and-wales";
+    private static final int YEAR = 2099;
+    private static final LocalDate NEW_YEARS_DAY = LocalDate.parse("2099-01-01");
+    private static final LocalDate EXTRA_BANK_HOLIDAY = LocalDate.parse("2099-05-04");
+    private static final LocalDate CHRISTMAS_DAY = LocalDate.parse("2099-12-25");
+
+    private PublicHolidaysAggregate aggregate;
+
+    @BeforeEach
+    public void setUp() {
+        aggregate = new PublicHolidaysAggregate();
+    }
+
+    @Test
+    public void shouldRecordTheFirstChangeWithTheChangedDatesReported() {
+        final List<Object> events = aggregate.recordPublicHolidays(DIVISION, YEAR, List.of(NEW_YEARS_DAY, EXTRA_BANK_HOLIDAY, CHRISTMAS_DAY), Set.of(EXTRA_BANK_HOLIDAY))
+                .collect(toList());
+
+        assertThat(events.size(), is(1));
+        final PublicHolidaysUpdated publicHolidaysUpdated = (PublicHolidaysUpdated) events.get(0);
+        assertThat(publicHolidaysUpdated.getDivision(), is(DIVISION));
+        assertThat(publicHolidaysUpdated.getYear(), is(YEAR));
+        assertThat(publicHolidaysUpdated.getPublicHolidays(), is(List.of(NEW_YEARS_DAY, EXTRA_BANK_HOLIDAY, CHRISTMAS_DAY)));
+        assertThat(publicHolidaysUpdated.getChangedDates(), is(List.of(EXTRA_BANK_HOLIDAY)));
+    }
+
+    @Test
+    public void shouldNotRecordTheSameChangeReportedByAnotherNode() {
+        aggregate.recordPublicHolidays(DIVISION, YEAR, List.of(NEW_YEARS_DAY, EXTRA_BANK_HOLIDAY, CHRISTMAS_DAY), Set.of(EXTRA_BANK_HOLIDAY));
+
+        final List<Object> events = aggregate.recordPublicHolidays(DIVISION, YEAR, List.of(CHRISTMAS_DAY, EXTRA_BANK_HOLIDAY, NEW_YEARS_DAY), Set.of(EXTRA_BANK_HOLIDAY))
+                .collect(toList());
+
+        assertThat(events.size(), is(0));
+    }
+
+    @Test
+    public void shouldWorkOutTheChangedDatesFromThePublicHolidaysLastRecorded() {
+        aggregate.recordPublicHolidays(DIVISION, YEAR, List.of(NEW_YEARS_DAY, EXTRA_BANK_HOLIDAY, CHRISTMAS_DAY), Set.of(EXTRA_BANK_HOLIDAY));
+
+        final List<Object> events = aggregate.recordPublicHolidays(DIVISION, YEAR, List.of(NEW_YEARS_DAY, CHRISTMAS_DAY), Set.of(NEW_YEARS_DAY, EXTRA_BANK_HOLIDAY))
+                .collect(toList());
+
+        assertThat(events.size(), is(1));
+        assertThat(((PublicHolidaysUpdated) events.get(0)).getChangedDates(), is(List.of(EXTRA_BANK_HOLIDAY)));
+    }
+}
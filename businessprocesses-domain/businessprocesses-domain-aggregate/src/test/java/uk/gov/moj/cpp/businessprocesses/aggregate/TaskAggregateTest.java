@@ -222,4 +222,41 @@ public class TaskAggregateTest {
         assertThat(eventStreamNoUpdates.size(), is(0));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldOnlyCreateTaskDueDateUpdatedEventWhenTheDueDateChanges() {
+        aggregate.recordTaskCreated(taskId, taskTypeId, type, reference, note, createdDate, dueDate, hearingDate, workQueue, workQueueName, courtId, jurisdiction, changeAuthor, changeAuthorId)
+                .collect(toList());
+
+        assertThat(aggregate.recordTaskDueDateUpdated(taskId, dueDate, changeAuthor, changeAuthorId).count(), is(0L));
+
+        final ZonedDateTime newDueDate = dueDate.plusDays(1);
+        final List<Object> eventStream = aggregate.recordTaskDueDateUpdated(taskId, newDueDate, changeAuthor, changeAuthorId)
+                .collect(toList());
+
+        assertThat(eventStream.size(), is(1));
+        final TaskDueDateUpdated taskDueDateUpdated = (TaskDueDateUpdated) eventStream.get(0);
+        assertThat(taskDueDateUpdated.getId(), is(taskId));
+        assertThat(taskDueDateUpdated.getDueDate(), is(newDueDate));
+        assertThat(taskDueDateUpdated.getDetails(), is("Changed DueDate from: " + dueDate.format(DUE_DATE_FORMATTER) + ", to: " + newDueDate.format(DUE_DATE_FORMATTER)));
+        assertThat(aggregate.recordTaskDueDateUpdated(taskId, newDueDate, changeAuthor, changeAuthorId).count(), is(0L));
+    }
+
+    @Test
+    public void shouldOnlyRecordTheWorkQueueNameOfATaskRecordedWithoutIt() {
+        aggregate.recordTaskCreated(taskId, taskTypeId, type, reference, note, createdDate, dueDate, hearingDate, workQueue, null, courtId, jurisdiction, changeAuthor, changeAuthorId)
+                .collect(toList());
+
+        assertThat(aggregate.recordTaskWorkQueueName(taskId, workQueue2, workQueueName2, changeAuthor, changeAuthorId).count(), is(0L));
+
+        final List<Object> eventStream = aggregate.recordTaskWorkQueueName(taskId, workQueue, workQueueName, changeAuthor, changeAuthorId)
+                .collect(toList());
+
+        assertThat(eventStream.size(), is(1));
+        final TaskWorkqueueUpdated taskWorkqueueUpdated = (TaskWorkqueueUpdated) eventStream.get(0);
+        assertThat(taskWorkqueueUpdated.getId(), is(taskId));
+        assertThat(taskWorkqueueUpdated.getWorkQueue(), is(workQueue));
+        assertThat(taskWorkqueueUpdated.getWorkQueueName(), is(workQueueName));
+        assertThat(taskWorkqueueUpdated.getDetails(), is("Assigned to WorkQueue: " + workQueueName));
+        assertThat(aggregate.recordTaskWorkQueueName(taskId, workQueue, workQueueName, changeAuthor, changeAuthorId).count(), is(0L));
+    }
+}
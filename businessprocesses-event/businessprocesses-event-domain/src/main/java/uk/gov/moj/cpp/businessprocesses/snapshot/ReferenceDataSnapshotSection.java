@@ -0,0 +1,26 @@
+package uk.gov.moj.cpp.businessprocesses.snapshot;
+
+import java.util.Map;
+
+/**
+ * Reference data held in-process outside the event processor, e.g. by the command handler, that
+ * is kept in the node's reference data snapshot with the event processor's own catalogues, as
+ * names keyed by id.
+ */
+public interface ReferenceDataSnapshotSection {
+
+    /**
+     * @return the name of the section in the snapshot, unique across sections.
+     */
+    String getSectionName();
+
+    /**
+     * @return the names currently held, keyed by id.
+     */
+    Map<String, String> snapshot();
+
+    /**
+     * Preloads the names of a {@link #snapshot()}, without replacing any already held.
+     */
+    void restore(Map<String, String> names);
+}
@@ -0,0 +1,104 @@
+package uk.gov.moj.cpp.businessprocesses.audit;
+
+import static java.lang.String.format;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters for the {@link AuditPipeline}. Counters are cumulative for the lifetime of the
+ * deployment and are reported through {@link #toString()} by the {@code MetricsReporter} and when
+ * the pipeline is drained.
+ */
+public class AuditMetrics {
+
+    private final LongAdder queued = new LongAdder();
+    private final LongAdder audited = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder overflows = new LongAdder();
+    private final LongAdder callerRuns = new LongAdder();
+    private final LongAdder discarded = new LongAdder();
+    private final LongAdder flushes = new LongAdder();
+    private final LongAccumulator largestFlush = new LongAccumulator(Math::max, 0);
+
+    void recordQueued() {
+        queued.increment();
+    }
+
+    void recordAudited() {
+        audited.increment();
+    }
+
+    void recordFailure() {
+        failures.increment();
+    }
+
+    void recordOverflow() {
+        overflows.increment();
+    }
+
+    void recordCallerRun() {
+        callerRuns.increment();
+    }
+
+    void recordDiscarded() {
+        discarded.increment();
+    }
+
+    void recordFlush(final int size) {
+        flushes.increment();
+        largestFlush.accumulate(size);
+    }
+
+    public long getQueuedCount() {
+        return queued.sum();
+    }
+
+    public long getAuditedCount() {
+        return audited.sum();
+    }
+
+    /**
+     * @return the number of audits the audit service failed to take.
+     */
+    public long getFailureCount() {
+        return failures.sum();
+    }
+
+    /**
+     * @return the number of audits raised while the queue was full.
+     */
+    public long getOverflowCount() {
+        return overflows.sum();
+    }
+
+    /**
+     * @return the number of audits written on the thread that raised them because the queue was
+     * full.
+     */
+    public long getCallerRunCount() {
+        return callerRuns.sum();
+    }
+
+    /**
+     * @return the number of audits dropped because the queue was full.
+     */
+    public long getDiscardedCount() {
+        return discarded.sum();
+    }
+
+    public long getFlushCount() {
+        return flushes.sum();
+    }
+
+    public long getLargestFlush() {
+        return largestFlush.get();
+    }
+
+    @Override
+    public String toString() {
+        return format("audit[queued=%d, audited=%d, failures=%d, overflows=%d, callerRuns=%d, discarded=%d, flushes=%d, largestFlush=%d]",
+                getQueuedCount(), getAuditedCount(), getFailureCount(), getOverflowCount(), getCallerRunCount(),
+                getDiscardedCount(), getFlushCount(), getLargestFlush());
+    }
+}
@@ -0,0 +1,234 @@
+package uk.gov.moj.cpp.businessprocesses.audit;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static uk.gov.justice.services.core.annotation.Component.EVENT_PROCESSOR;
+
+import uk.gov.justice.services.common.configuration.Value;
+import uk.gov.justice.services.core.audit.AuditService;
+import uk.gov.justice.services.messaging.JsonEnvelope;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.annotation.Resource;
+import javax.enterprise.concurrent.ManagedExecutorService;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes event processor audits off the thread that raised them, so auditing does not add to
+ * the time a task listener or event processor takes.
+ *
+ * <p>Audits wait in a queue of {@code auditQueueCapacity} and are handed to the
+ * {@link AuditService} by a single flush at a time on the managed executor, up to
+ * {@code auditBatchSize} per pass. The envelope to audit is only built by the flush. When the
+ * queue is full, {@code auditOverflowPolicy} decides what happens:
+ *
+ * <ul>
+ *     <li>{@code CALLER_RUNS}: the audit is written on the thread that raised it.</li>
+ *     <li>{@code BLOCK}: the thread waits up to {@code auditOfferTimeout} for room, and then
+ *     writes the audit itself.</li>
+ *     <li>{@code DISCARD}: the audit is dropped, and counted.</li>
+ * </ul>
+ *
+ * <p>When the application stops, whatever is still queued is written before the pipeline goes,
+ * and any audit raised after that is written straight away.
+ */
+@ApplicationScoped
+public class AuditPipeline {
+
+    public enum OverflowPolicy {
+        CALLER_RUNS,
+        BLOCK,
+        DISCARD
+    }
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AuditPipeline.class);
+
+    @Inject
+    private AuditService auditService;
+
+    @Resource
+    private ManagedExecutorService managedExecutorService;
+
+    @Inject
+    @Value(key = "auditQueueCapacity", defaultValue = "10000")
+    private String queueCapacity;
+
+    @Inject
+    @Value(key = "auditBatchSize", defaultValue = "100")
+    private String batchSize;
+
+    @Inject
+    @Value(key = "auditOverflowPolicy", defaultValue = "CALLER_RUNS")
+    private String overflowPolicy;
+
+    @Inject
+    @Value(key = "auditOfferTimeout", defaultValue = "PT1S")
+    private String offerTimeout;
+
+    @Inject
+    @Value(key = "auditDrainTimeout", defaultValue = "PT30S")
+    private String drainTimeout;
+
+    private final AuditMetrics metrics = new AuditMetrics();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final Lock flushLock = new ReentrantLock();
+
+    private BlockingQueue<Supplier<JsonEnvelope>> queue;
+    private int maxAuditsPerFlush;
+    private OverflowPolicy policy;
+    private long offerTimeoutMillis;
+    private long drainTimeoutMillis;
+    private volatile boolean stopped;
+
+    @PostConstruct
+    public void init() {
+        queue = new ArrayBlockingQueue<>(Integer.parseInt(queueCapacity));
+        maxAuditsPerFlush = Integer.parseInt(batchSize);
+        policy = OverflowPolicy.valueOf(overflowPolicy);
+        offerTimeoutMillis = Duration.parse(offerTimeout).toMillis();
+        drainTimeoutMillis = Duration.parse(drainTimeout).toMillis();
+    }
+
+    /**
+     * Audits the envelope built by {@code envelope} as sent by the event processor.
+     */
+    public void audit(final Supplier<JsonEnvelope> envelope) {
+        if (stopped || managedExecutorService == null) {
+            write(envelope);
+            return;
+        }
+
+        if (queue.offer(envelope)) {
+            metrics.recordQueued();
+            scheduleFlush();
+        } else {
+            overflow(envelope);
+        }
+
+        // Queued while the application was stopping, after the queue was drained
+        if (stopped) {
+            flush();
+        }
+    }
+
+    public AuditMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Writes every queued audit before the application stops, waiting up to
+     * {@code auditDrainTimeout} for a flush already under way.
+     */
+    @PreDestroy
+    public void drain() {
+        stopped = true;
+        try {
+            if (flushLock.tryLock(drainTimeoutMillis, MILLISECONDS)) {
+                try {
+                    flushQueue();
+                } finally {
+                    flushLock.unlock();
+                }
+            } else {
+                LOGGER.error("Gave up waiting for the audit flush under way, {} audits left unwritten", queue.size());
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.error("Interrupted draining the audit queue, {} audits left unwritten", queue.size());
+        }
+        LOGGER.info("Audit pipeline drained: {}", metrics);
+    }
+
+    private void overflow(final Supplier<JsonEnvelope> envelope) {
+        metrics.recordOverflow();
+        switch (policy) {
+            case BLOCK:
+                if (offerWithin(envelope)) {
+                    metrics.recordQueued();
+                    scheduleFlush();
+                    return;
+                }
+                metrics.recordCallerRun();
+                write(envelope);
+                break;
+            case DISCARD:
+                metrics.recordDiscarded();
+                LOGGER.warn("Audit queue full, audit discarded: {}", metrics);
+                break;
+            default:
+                metrics.recordCallerRun();
+                write(envelope);
+        }
+    }
+
+    private boolean offerWithin(final Supplier<JsonEnvelope> envelope) {
+        try {
+            return queue.offer(envelope, offerTimeoutMillis, MILLISECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void scheduleFlush() {
+        if (flushScheduled.compareAndSet(false, true)) {
+            try {
+                managedExecutorService.submit(this::flush);
+            } catch (final RejectedExecutionException e) {
+                LOGGER.warn("Audit flush rejected by the managed executor, flushing on the calling thread", e);
+                flush();
+            }
+        }
+    }
+
+    private void flush() {
+        flushLock.lock();
+        try {
+            flushQueue();
+        } finally {
+            flushLock.unlock();
+            flushScheduled.set(false);
+        }
+
+        // An audit queued after the last pass, but before the flag was cleared, needs a flush of its own
+        if (!queue.isEmpty() && !stopped) {
+            scheduleFlush();
+        }
+    }
+
+    private void flushQueue() {
+        final List<Supplier<JsonEnvelope>> audits = new ArrayList<>(maxAuditsPerFlush);
+        while (queue.drainTo(audits, maxAuditsPerFlush) > 0) {
+            metrics.recordFlush(audits.size());
+            audits.forEach(this::write);
+            audits.clear();
+        }
+    }
+
+    private void write(final Supplier<JsonEnvelope> envelope) {
+        JsonEnvelope jsonEnvelope = null;
+        try {
+            jsonEnvelope = envelope.get();
+            auditService.audit(jsonEnvelope, EVENT_PROCESSOR);
+            metrics.recordAudited();
+        } catch (final RuntimeException e) {
+            metrics.recordFailure();
+            LOGGER.error("Failed to audit '{}'", jsonEnvelope != null ? jsonEnvelope.metadata().name() : null, e);
+        }
+    }
+}
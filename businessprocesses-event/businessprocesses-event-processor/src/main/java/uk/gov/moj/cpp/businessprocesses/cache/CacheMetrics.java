@@ -0,0 +1,98 @@
+package uk.gov.moj.cpp.businessprocesses.cache;
+
+import static java.lang.String.format;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hit, miss and refresh counters for an in-process cache. Counters are cumulative for the
+ * lifetime of the deployment and are logged through {@link #toString()} by the
+ * {@link uk.gov.moj.cpp.businessprocesses.service.MetricsReporter}.
+ */
+public class CacheMetrics {
+
+    private final String cacheName;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder negativeHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalescedLoads = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder refreshFailures = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public CacheMetrics(final String cacheName) {
+        this.cacheName = cacheName;
+    }
+
+    public String getCacheName() {
+        return cacheName;
+    }
+
+    void recordHit() {
+        hits.increment();
+    }
+
+    void recordNegativeHit() {
+        negativeHits.increment();
+    }
+
+    void recordMiss() {
+        misses.increment();
+    }
+
+    void recordCoalescedLoad() {
+        coalescedLoads.increment();
+    }
+
+    void recordRefresh() {
+        refreshes.increment();
+    }
+
+    void recordRefreshFailure() {
+        refreshFailures.increment();
+    }
+
+    void recordEviction() {
+        evictions.increment();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getNegativeHitCount() {
+        return negativeHits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getCoalescedLoadCount() {
+        return coalescedLoads.sum();
+    }
+
+    public long getRefreshCount() {
+        return refreshes.sum();
+    }
+
+    public long getRefreshFailureCount() {
+        return refreshFailures.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public double getHitRatio() {
+        final long requests = getHitCount() + getNegativeHitCount() + getMissCount();
+        return requests == 0 ? 0.0 : (double) (getHitCount() + getNegativeHitCount()) / requests;
+    }
+
+    @Override
+    public String toString() {
+        return format("%s[hits=%d, negativeHits=%d, misses=%d, coalesced=%d, refreshes=%d, refreshFailures=%d, evictions=%d, hitRatio=%.3f]",
+                cacheName, getHitCount(), getNegativeHitCount(), getMissCount(), getCoalescedLoadCount(),
+                getRefreshCount(), getRefreshFailureCount(), getEvictionCount(), getHitRatio());
+    }
+}
@@ -0,0 +1,351 @@
+package uk.gov.moj.cpp.businessprocesses.cache;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.Optional.empty;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+
+/**
+ * Bounded, concurrent in-process cache for reference data style lookups.
+ *
+ * <ul>
+ *     <li>Entries expire after {@code timeToLive}; expired entries are reloaded on the calling
+ *     thread.</li>
+ *     <li>Entries older than {@code refreshAfter} are still served, but a reload is handed to the
+ *     refresh executor so hot keys never expire under load (refresh-ahead).</li>
+ *     <li>A loader returning {@link Optional#empty()} is cached as a negative entry for
+ *     {@code negativeTimeToLive} so unknown keys do not hit the remote service every time.</li>
+ *     <li>An optional {@code validUntil} function can end an entry earlier than
+ *     {@code timeToLive}, for values that carry their own end of validity. A value loaded after
+ *     its end of validity is kept for {@code timeToLive}.</li>
+ *     <li>Concurrent misses for the same key share a single load.</li>
+ *     <li>Values known from an earlier run can be {@link #preload preloaded}; they are served
+ *     straight away and reloaded in the background the first time they are read.</li>
+ * </ul>
+ */
+public class RefreshAheadCache<K, V> {
+
+    private static final Logger LOGGER = getLogger(RefreshAheadCache.class);
+
+    private final Function<K, Optional<V>> loader;
+    private final Duration timeToLive;
+    private final Duration refreshAfter;
+    private final Duration negativeTimeToLive;
+    private final int maximumSize;
+    private final Function<V, Instant> validUntil;
+    private final Executor refreshExecutor;
+    private final Clock clock;
+    private final CacheMetrics metrics;
+
+    private final Map<K, CacheEntry<V>> entries = new ConcurrentHashMap<>();
+    private final Map<K, CompletableFuture<Optional<V>>> loadsInFlight = new ConcurrentHashMap<>();
+    private final Set<K> refreshesInFlight = ConcurrentHashMap.newKeySet();
+
+    private RefreshAheadCache(final Builder<K, V> builder) {
+        this.loader = requireNonNull(builder.loader, "loader");
+        this.timeToLive = builder.timeToLive;
+        this.refreshAfter = builder.refreshAfter;
+        this.negativeTimeToLive = builder.negativeTimeToLive;
+        this.maximumSize = builder.maximumSize;
+        this.validUntil = builder.validUntil;
+        this.refreshExecutor = builder.refreshExecutor;
+        this.clock = builder.clock;
+        this.metrics = new CacheMetrics(builder.name);
+    }
+
+    public static <K, V> Builder<K, V> builder(final String name, final Function<K, Optional<V>> loader) {
+        return new Builder<>(name, loader);
+    }
+
+    public Optional<V> get(final K key) {
+        final Instant now = clock.instant();
+        final CacheEntry<V> entry = entries.get(key);
+
+        if (entry != null && !entry.isExpired(now)) {
+            if (entry.value.isPresent()) {
+                metrics.recordHit();
+                if (entry.isDueForRefresh(now)) {
+                    refreshAsync(key);
+                }
+            } else {
+                metrics.recordNegativeHit();
+            }
+            return entry.value;
+        }
+
+        metrics.recordMiss();
+        return load(key);
+    }
+
+    public Optional<V> getIfPresent(final K key) {
+        final CacheEntry<V> entry = entries.get(key);
+        if (entry == null || entry.isExpired(clock.instant())) {
+            return empty();
+        }
+        return entry.value;
+    }
+
+    /**
+     * @return whether the key has an entry that has not expired, negative entries included, so
+     * that {@link #get} would not call the loader for it.
+     */
+    public boolean contains(final K key) {
+        final CacheEntry<V> entry = entries.get(key);
+        return entry != null && !entry.isExpired(clock.instant());
+    }
+
+    public void put(final K key, final V value) {
+        store(key, Optional.of(value));
+    }
+
+    /**
+     * Adds a value that may be out of date, e.g. one read back from a snapshot, unless the key is
+     * already cached. The value is served until {@code timeToLive} has passed, but is refreshed
+     * the first time it is read. Nothing is added once the cache is full.
+     */
+    public void preload(final K key, final V value) {
+        if (entries.containsKey(key) || entries.size() >= maximumSize) {
+            return;
+        }
+        final Instant now = clock.instant();
+        entries.putIfAbsent(key, new CacheEntry<>(Optional.of(value), now, expiresAt(now, Optional.of(value)), now));
+    }
+
+    /**
+     * @return the cached values, leaving out negative and expired entries.
+     */
+    public Map<K, V> asMap() {
+        final Instant now = clock.instant();
+        final Map<K, V> values = new HashMap<>();
+        entries.forEach((key, entry) -> {
+            if (!entry.isExpired(now)) {
+                entry.value.ifPresent(value -> values.put(key, value));
+            }
+        });
+        return values;
+    }
+
+    public void invalidate(final K key) {
+        entries.remove(key);
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public CacheMetrics metrics() {
+        return metrics;
+    }
+
+    private Optional<V> load(final K key) {
+        final CompletableFuture<Optional<V>> ownLoad = new CompletableFuture<>();
+        final CompletableFuture<Optional<V>> existingLoad = loadsInFlight.putIfAbsent(key, ownLoad);
+
+        if (existingLoad != null) {
+            metrics.recordCoalescedLoad();
+            return await(existingLoad);
+        }
+
+        try {
+            final Optional<V> value = invokeLoader(key);
+            store(key, value);
+            ownLoad.complete(value);
+            return value;
+        } catch (final RuntimeException e) {
+            ownLoad.completeExceptionally(e);
+            throw e;
+        } finally {
+            loadsInFlight.remove(key, ownLoad);
+        }
+    }
+
+    private void refreshAsync(final K key) {
+        if (refreshExecutor == null || !refreshesInFlight.add(key)) {
+            return;
+        }
+
+        try {
+            refreshExecutor.execute(() -> refresh(key));
+        } catch (final RuntimeException e) {
+            refreshesInFlight.remove(key);
+            LOGGER.warn("Unable to schedule refresh of {} for key {}", metrics.getCacheName(), key, e);
+        }
+    }
+
+    private void refresh(final K key) {
+        try {
+            store(key, invokeLoader(key));
+            metrics.recordRefresh();
+        } catch (final RuntimeException e) {
+            metrics.recordRefreshFailure();
+            LOGGER.warn("Refresh of {} failed for key {}, keeping the current entry until it expires", metrics.getCacheName(), key, e);
+        } finally {
+            refreshesInFlight.remove(key);
+        }
+    }
+
+    private Optional<V> invokeLoader(final K key) {
+        final Optional<V> value = loader.apply(key);
+        return value == null ? empty() : value;
+    }
+
+    private void store(final K key, final Optional<V> value) {
+        if (!entries.containsKey(key) && entries.size() >= maximumSize) {
+            evict();
+        }
+        final Instant now = clock.instant();
+        entries.put(key, new CacheEntry<>(value, now, expiresAt(now, value), now.plus(refreshAfter)));
+    }
+
+    private Instant expiresAt(final Instant now, final Optional<V> value) {
+        final Instant expiresAt = now.plus(value.isPresent() ? timeToLive : negativeTimeToLive);
+        if (validUntil != null && value.isPresent()) {
+            final Instant valueValidUntil = validUntil.apply(value.get());
+            // a value already past its validity is still what the loader serves, so it is kept for the time to live
+            if (valueValidUntil != null && valueValidUntil.isAfter(now) && valueValidUntil.isBefore(expiresAt)) {
+                return valueValidUntil;
+            }
+        }
+        return expiresAt;
+    }
+
+    private void evict() {
+        final Instant now = clock.instant();
+        entries.entrySet().removeIf(entry -> {
+            final boolean expired = entry.getValue().isExpired(now);
+            if (expired) {
+                metrics.recordEviction();
+            }
+            return expired;
+        });
+
+        while (entries.size() >= maximumSize) {
+            entries.entrySet().stream()
+                    .min(Comparator.comparing(entry -> entry.getValue().loadedAt))
+                    .ifPresent(oldest -> {
+                        if (entries.remove(oldest.getKey(), oldest.getValue())) {
+                            metrics.recordEviction();
+                        }
+                    });
+        }
+    }
+
+    private static <T> T await(final CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static final class CacheEntry<V> {
+        private final Optional<V> value;
+        private final Instant loadedAt;
+        private final Instant expiresAt;
+        private final Instant refreshAt;
+
+        private CacheEntry(final Optional<V> value, final Instant loadedAt, final Instant expiresAt, final Instant refreshAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+            this.expiresAt = expiresAt;
+            this.refreshAt = refreshAt;
+        }
+
+        private boolean isExpired(final Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+
+        private boolean isDueForRefresh(final Instant now) {
+            return !now.isBefore(refreshAt);
+        }
+    }
+
+    public static final class Builder<K, V> {
+        private final String name;
+        private final Function<K, Optional<V>> loader;
+        private Duration timeToLive = Duration.ofMinutes(10);
+        private Duration refreshAfter = Duration.ofMinutes(8);
+        private Duration negativeTimeToLive = Duration.ofMinutes(1);
+        private int maximumSize = 1000;
+        private Function<V, Instant> validUntil;
+        private Executor refreshExecutor;
+        private Clock clock = Clock.systemUTC();
+
+        private Builder(final String name, final Function<K, Optional<V>> loader) {
+            this.name = name;
+            this.loader = loader;
+        }
+
+        public Builder<K, V> withTimeToLive(final Duration timeToLive) {
+            this.timeToLive = timeToLive;
+            return this;
+        }
+
+        public Builder<K, V> withRefreshAfter(final Duration refreshAfter) {
+            this.refreshAfter = refreshAfter;
+            return this;
+        }
+
+        public Builder<K, V> withNegativeTimeToLive(final Duration negativeTimeToLive) {
+            this.negativeTimeToLive = negativeTimeToLive;
+            return this;
+        }
+
+        public Builder<K, V> withMaximumSize(final int maximumSize) {
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * @param validUntil returns the instant after which a loaded value must no longer be
+         *                   served, or {@code null} when only {@code timeToLive} applies. An
+         *                   instant that has already passed is ignored.
+         */
+        public Builder<K, V> withValidUntil(final Function<V, Instant> validUntil) {
+            this.validUntil = validUntil;
+            return this;
+        }
+
+        public Builder<K, V> withRefreshExecutor(final Executor refreshExecutor) {
+            this.refreshExecutor = refreshExecutor;
+            return this;
+        }
+
+        public Builder<K, V> withClock(final Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        public RefreshAheadCache<K, V> build() {
+            if (maximumSize < 1) {
+                throw new IllegalArgumentException("maximumSize must be at least 1");
+            }
+            if (refreshAfter.compareTo(timeToLive) > 0) {
+                throw new IllegalArgumentException("refreshAfter must not be greater than timeToLive");
+            }
+            return new RefreshAheadCache<>(this);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package uk.gov.moj.cpp.businessprocesses.cache;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.Optional.empty;
+import static org.slf4j.LoggerFactory.getLogger;
+import static uk.gov.justice.services.messaging.JsonObjects.createObjectBuilder;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+import javax.json.JsonWriter;
+
+import org.slf4j.Logger;
+
+/**
+ * Local, gzip compressed JSON file holding named sections of cached data, written as
+ * <pre>{"version": 1, "writtenAt": "...", "sections": {...}}</pre>
+ *
+ * <p>The file is only a shortcut for warming caches after a restart and can be deleted at any
+ * time. A file that is missing, unreadable, written with another {@link #VERSION} or older than
+ * the maximum age is ignored. A new snapshot is written to a temporary file first and moved over
+ * the old one, so readers never see a partly written file.
+ */
+public class SnapshotFile {
+
+    public static final int VERSION = 1;
+
+    private static final Logger LOGGER = getLogger(SnapshotFile.class);
+    private static final String VERSION_KEY = "version";
+    private static final String WRITTEN_AT = "writtenAt";
+    private static final String SECTIONS = "sections";
+
+    private final Path path;
+    private final Clock clock;
+
+    public SnapshotFile(final Path path, final Clock clock) {
+        this.path = path.toAbsolutePath();
+        this.clock = clock;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * @return the sections of the snapshot, or empty when there is no usable snapshot no older
+     * than {@code maximumAge}.
+     */
+    public Optional<JsonObject> read(final Duration maximumAge) {
+        if (!Files.isRegularFile(path)) {
+            return empty();
+        }
+
+        try (final Reader reader = new InputStreamReader(new GZIPInputStream(Files.newInputStream(path)), UTF_8);
+             final JsonReader jsonReader = Json.createReader(reader)) {
+            final JsonObject snapshot = jsonReader.readObject();
+            final int version = snapshot.getInt(VERSION_KEY, 0);
+            if (version != VERSION) {
+                LOGGER.info("Ignoring snapshot {} written with version {}", path, version);
+                return empty();
+            }
+            final Instant writtenAt = Instant.parse(snapshot.getString(WRITTEN_AT));
+            if (writtenAt.plus(maximumAge).isBefore(clock.instant())) {
+                LOGGER.info("Ignoring snapshot {} written at {}, it is older than {}", path, writtenAt, maximumAge);
+                return empty();
+            }
+            return Optional.of(snapshot.getJsonObject(SECTIONS));
+        } catch (final IOException | RuntimeException e) {
+            LOGGER.warn("Ignoring unreadable snapshot {}", path, e);
+            return empty();
+        }
+    }
+
+    public void write(final JsonObject sections) throws IOException {
+        final JsonObject snapshot = createObjectBuilder()
+                .add(VERSION_KEY, VERSION)
+                .add(WRITTEN_AT, clock.instant().toString())
+                .add(SECTIONS, sections)
+                .build();
+
+        final Path directory = path.getParent();
+        Files.createDirectories(directory);
+        final Path temporaryFile = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            try (final Writer writer = new OutputStreamWriter(new GZIPOutputStream(Files.newOutputStream(temporaryFile)), UTF_8);
+                 final JsonWriter jsonWriter = Json.createWriter(writer)) {
+                jsonWriter.writeObject(snapshot);
+            }
+            Files.move(temporaryFile, path, REPLACE_EXISTING, ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+}
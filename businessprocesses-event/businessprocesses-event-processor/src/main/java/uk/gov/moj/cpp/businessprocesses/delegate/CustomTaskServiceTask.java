@@ -1,5 +1,6 @@
 package uk.gov.moj.cpp.businessprocesses.delegate;
 
+import static java.lang.String.format;
 import static java.time.LocalDate.now;
 import static java.time.LocalDate.parse;
 import static java.util.Objects.isNull;
@@ -12,20 +13,21 @@ import static org.apache.commons.lang3.StringUtils.isNotEmpty;
 import static org.slf4j.LoggerFactory.getLogger;
 import static uk.gov.moj.cpp.businessprocesses.shared.Constants.TASK_VARIABLES_JSON_STRING;
 import static uk.gov.moj.cpp.businessprocesses.shared.DateConverter.isFutureDate;
+import static uk.gov.moj.cpp.businessprocesses.shared.JsonBinder.toJsonObject;
+import static uk.gov.moj.cpp.businessprocesses.shared.JsonBinder.toJsonValue;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.CASE_URN;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.CUSTODY_TIME_LIMIT;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.HEARING_DATE;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.HEARING_TYPE;
+import static uk.gov.moj.cpp.businessprocesses.shared.TaskPayloadVariables.getPayload;
+import static uk.gov.moj.cpp.businessprocesses.shared.TaskPayloadVariables.setPayload;
 
 import uk.gov.justice.courts.progression.query.Caag;
 import uk.gov.justice.courts.progression.query.caag.Defendant;
 import uk.gov.justice.listing.events.Hearing;
 import uk.gov.justice.listing.events.HearingDay;
-import uk.gov.justice.services.common.converter.JsonObjectToObjectConverter;
-import uk.gov.justice.services.common.converter.ObjectToJsonValueConverter;
-import uk.gov.justice.services.common.converter.StringToJsonObjectConverter;
-import uk.gov.justice.services.common.converter.jackson.ObjectMapperProducer;
 import uk.gov.moj.cpp.businessprocesses.create.CreateCustomTask;
+import uk.gov.moj.cpp.businessprocesses.service.AsyncQueries;
 import uk.gov.moj.cpp.businessprocesses.service.ListingService;
 import uk.gov.moj.cpp.businessprocesses.service.ProgressionService;
 import uk.gov.moj.cpp.businessprocesses.shared.StartDateAndTimeComparator;
@@ -34,13 +36,13 @@ import java.time.LocalDate;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.json.JsonObject;
 import javax.json.JsonObjectBuilder;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.camunda.bpm.engine.delegate.DelegateExecution;
 import org.camunda.bpm.engine.delegate.JavaDelegate;
 import org.slf4j.Logger;
@@ -50,8 +52,6 @@ public class CustomTaskServiceTask implements JavaDelegate {
 
     private static final Logger LOGGER = getLogger(CustomTaskServiceTask.class);
     private static final Comparator<HearingDay> compareByStartDateTime = Comparator.comparing(HearingDay::getStartTime);
-    private final ObjectMapper objectMapper = new ObjectMapperProducer().objectMapper();
-    private final ObjectToJsonValueConverter objectToJsonValueConverter = new ObjectToJsonValueConverter(objectMapper);
 
     @Inject
     private ListingService listingService;
@@ -60,38 +60,38 @@ public class CustomTaskServiceTask implements JavaDelegate {
     private ProgressionService progressionService;
 
     @Inject
-    private JsonObjectToObjectConverter jsonObjectToObjectConverter;
-
-    @Inject
-    private StringToJsonObjectConverter stringToJsonObjectConverter;
+    private AsyncQueries asyncQueries;
 
     @Override
     public void execute(final DelegateExecution delegateExecution) throws Exception {
-        CreateCustomTask createCustomTask;
-        if (delegateExecution.getVariable(TASK_VARIABLES_JSON_STRING) instanceof String) {
-            final JsonObject taskVariablesJsonString = stringToJsonObjectConverter.convert((String) delegateExecution.getVariable(TASK_VARIABLES_JSON_STRING));
-            createCustomTask = jsonObjectToObjectConverter.convert(taskVariablesJsonString, CreateCustomTask.class);
-        } else {
-            createCustomTask = objectMapper.convertValue(delegateExecution.getVariable(TASK_VARIABLES_JSON_STRING), CreateCustomTask.class);
+        final CreateCustomTask createCustomTask = getPayload(delegateExecution, TASK_VARIABLES_JSON_STRING, CreateCustomTask.class);
+        if (isNull(createCustomTask)) {
+            throw new IllegalArgumentException(format("Unable to read %s of execution %s", TASK_VARIABLES_JSON_STRING, delegateExecution.getId()));
         }
-        final JsonObject taskVariablesPayloadJsonObject = objectMapper.convertValue(createCustomTask, JsonObject.class);
+        final JsonObject taskVariablesPayloadJsonObject = toJsonObject(createCustomTask);
         final String userId = (String) delegateExecution.getVariable("userId");
         LOGGER.info("Task Variables in service task are {} with userid {}", createCustomTask, userId);
         final JsonObjectBuilder taskVariablesJsonObjectBuilder = createObjectBuilder();
         final String caseId = createCustomTask.getCaseId();
         if (nonNull(caseId)) {
-            final Caag caag = progressionService.getProsecutionCaseCaag(userId, caseId);
-
-            if (nonNull(caag) && isEmpty(caag.getLinkedApplications())) {
-                final List<Hearing> hearingList = listingService.getHearings(userId, caseId);
-                updateCtlTimeLimitInJsonObject(caag, taskVariablesJsonObjectBuilder);
-                updateLatestHearingDateAndTypeInJsonObject(hearingList, taskVariablesJsonObjectBuilder);
+            final CompletableFuture<List<Hearing>> hearings = asyncQueries.submit(() -> listingService.getHearings(userId, caseId));
+            try {
+                final Caag caag = progressionService.getProsecutionCaseCaag(userId, caseId);
+
+                if (nonNull(caag) && isEmpty(caag.getLinkedApplications())) {
+                    final List<Hearing> hearingList = asyncQueries.await(hearings);
+                    updateCtlTimeLimitInJsonObject(caag, taskVariablesJsonObjectBuilder);
+                    updateLatestHearingDateAndTypeInJsonObject(hearingList, taskVariablesJsonObjectBuilder);
+                }
+            } finally {
+                // the hearings are not used for a case with linked applications
+                asyncQueries.cancel(List.of(hearings));
             }
         }
 
         taskVariablesPayloadJsonObject.forEach(taskVariablesJsonObjectBuilder::add);
         delegateExecution.setVariable(CASE_URN, createCustomTask.getCaseURN());
-        delegateExecution.setVariable(TASK_VARIABLES_JSON_STRING, taskVariablesJsonObjectBuilder.build().toString());
+        setPayload(delegateExecution, TASK_VARIABLES_JSON_STRING, taskVariablesJsonObjectBuilder.build());
     }
 
     private void updateCtlTimeLimitInJsonObject(final Caag caag, final JsonObjectBuilder taskVariablesJsonObjectBuilder) {
@@ -108,7 +108,7 @@ public class CustomTaskServiceTask implements JavaDelegate {
 
         if (optionalCtlDate.isPresent()) {
             LOGGER.info("custody time limit date for case is : {}", optionalCtlDate.get());
-            taskVariablesJsonObjectBuilder.add(CUSTODY_TIME_LIMIT, objectToJsonValueConverter.convert(optionalCtlDate.get()));
+            taskVariablesJsonObjectBuilder.add(CUSTODY_TIME_LIMIT, toJsonValue(optionalCtlDate.get()));
         }
     }
 
@@ -129,8 +129,8 @@ public class CustomTaskServiceTask implements JavaDelegate {
             final LocalDate latestHearingDate = hearingDay.getStartTime().toLocalDate();
             final String hearingType = latestHearing.getType().getDescription();
             LOGGER.info("hearing date for case is : {} and hearing type for case is {}", latestHearingDate, hearingType);
-            taskVariablesJsonObjectBuilder.add(HEARING_DATE, objectToJsonValueConverter.convert(latestHearingDate));
-            taskVariablesJsonObjectBuilder.add(HEARING_TYPE, objectToJsonValueConverter.convert(hearingType));
+            taskVariablesJsonObjectBuilder.add(HEARING_DATE, toJsonValue(latestHearingDate));
+            taskVariablesJsonObjectBuilder.add(HEARING_TYPE, toJsonValue(hearingType));
         }
     }
 }
@@ -0,0 +1,43 @@
+package uk.gov.moj.cpp.businessprocesses.delegate;
+
+import uk.gov.moj.cpp.businessprocesses.service.DueDateRecalculation;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.camunda.bpm.engine.delegate.DelegateExecution;
+import org.camunda.bpm.engine.delegate.JavaDelegate;
+
+/**
+ * Recalculates one batch of due dates for a {@code public-holiday-due-date-recalculation} process,
+ * keeping the last task id done in the process so the next batch carries on after it.
+ */
+@Named("recalculateDueDates")
+public class RecalculateDueDates implements JavaDelegate {
+
+    static final String DIVISION = "division";
+    static final String YEAR = "year";
+    static final String PUBLIC_HOLIDAYS = "publicHolidays";
+    static final String CHANGED_DATES = "changedDates";
+    static final String AFTER_TASK_ID = "afterTaskId";
+    static final String RECALCULATION_COMPLETE = "recalculationComplete";
+
+    @Inject
+    private DueDateRecalculation dueDateRecalculation;
+
+    @Override
+    public void execute(final DelegateExecution execution) {
+        final Optional<UUID> next = dueDateRecalculation.recalculateBatch(
+                (String) execution.getVariable(DIVISION),
+                (Integer) execution.getVariable(YEAR),
+                (String) execution.getVariable(PUBLIC_HOLIDAYS),
+                (String) execution.getVariable(CHANGED_DATES),
+                UUID.fromString((String) execution.getVariable(AFTER_TASK_ID)));
+
+        next.ifPresent(taskId -> execution.setVariable(AFTER_TASK_ID, taskId.toString()));
+        execution.setVariable(RECALCULATION_COMPLETE, next.isEmpty());
+    }
+}
@@ -16,12 +16,12 @@ import static uk.gov.moj.cpp.businessprocesses.shared.Constants.PERMISSION_ID;
 import static uk.gov.moj.cpp.businessprocesses.shared.Constants.TARGET;
 
 import uk.gov.justice.services.core.annotation.ServiceComponent;
-import uk.gov.justice.services.core.featurecontrol.FeatureControlGuard;
 import uk.gov.justice.services.core.requester.Requester;
 import uk.gov.justice.services.core.sender.Sender;
 import uk.gov.justice.services.messaging.Envelope;
 import uk.gov.justice.services.messaging.JsonEnvelope;
 import uk.gov.justice.services.messaging.Metadata;
+import uk.gov.moj.cpp.businessprocesses.service.FeatureFlags;
 
 import java.util.List;
 import java.util.Map;
@@ -56,12 +56,12 @@ public class RemoveDDJAccessServiceTask implements JavaDelegate {
     private Sender sender;
 
     @Inject
-    private FeatureControlGuard featureControlGuard;
+    private FeatureFlags featureFlags;
 
     @Override
     public void execute(final DelegateExecution delegateExecution) {
 
-        if (!featureControlGuard.isFeatureEnabled("camunda-remove-ddj-access")) {
+        if (!featureFlags.isFeatureEnabled("camunda-remove-ddj-access")) {
             LOGGER.info("Feature 'camunda-remove-ddj-access' is not enabled, skipping Remove DDJ Access Service Task.");
             return;
         }
@@ -0,0 +1,80 @@
+package uk.gov.moj.cpp.businessprocesses.downstream;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Consecutive failure circuit breaker.
+ *
+ * <p>The breaker opens after {@code failureThreshold} failures in a row and turns calls away until
+ * {@code openDuration} has elapsed. The first call after that is let through as a trial: its
+ * success closes the breaker, its failure opens it again. Other calls are turned away while the
+ * trial is in progress.
+ */
+public class CircuitBreaker {
+
+    private enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final Clock clock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private Instant openUntil = Instant.MIN;
+
+    public CircuitBreaker(final int failureThreshold, final Duration openDuration, final Clock clock) {
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.clock = clock;
+    }
+
+    /**
+     * @return whether a call may be made now; a permitted call must be followed by
+     * {@link #onSuccess()}, {@link #onFailure()} or {@link #onNotCalled()}.
+     */
+    public synchronized boolean tryAcquirePermission() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (clock.instant().isBefore(openUntil)) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+    }
+
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openUntil = clock.instant().plus(openDuration);
+        }
+    }
+
+    /**
+     * Gives a permission back without a call having been made, so a trial call that could not be
+     * sent leaves the breaker ready for the next trial.
+     */
+    public synchronized void onNotCalled() {
+        if (state == State.HALF_OPEN) {
+            state = State.OPEN;
+        }
+    }
+
+    public synchronized boolean isOpen() {
+        return state != State.CLOSED;
+    }
+}
@@ -0,0 +1,96 @@
+package uk.gov.moj.cpp.businessprocesses.downstream;
+
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import uk.gov.moj.cpp.businessprocesses.shared.DownstreamUnavailableException;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Guards the queries sent to one downstream context, e.g. {@code referencedata}, with a bulkhead
+ * and a circuit breaker.
+ *
+ * <p>The bulkhead caps the number of threads waiting on the context at the same time, so a slow
+ * context ties up at most that many threads. A call that cannot get into the bulkhead within
+ * {@code bulkheadWait}, or that arrives while the circuit breaker is open, fails fast with a
+ * {@link DownstreamUnavailableException} without being sent. Failed calls, and calls that only
+ * return after their {@code deadline}, count towards opening the circuit breaker.
+ */
+public class DownstreamContext {
+
+    private final String name;
+    private final int maxConcurrentCalls;
+    private final Semaphore bulkhead;
+    private final Duration bulkheadWait;
+    private final Duration deadline;
+    private final CircuitBreaker circuitBreaker;
+
+    public DownstreamContext(final String name,
+                             final int maxConcurrentCalls,
+                             final Duration bulkheadWait,
+                             final Duration deadline,
+                             final CircuitBreaker circuitBreaker) {
+        this.name = name;
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+        this.bulkheadWait = bulkheadWait;
+        this.deadline = deadline;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getCallsInFlight() {
+        return maxConcurrentCalls - bulkhead.availablePermits();
+    }
+
+    public boolean isCircuitOpen() {
+        return circuitBreaker.isOpen();
+    }
+
+    public <T> T call(final QueryMetrics metrics, final Supplier<T> query) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            metrics.recordShortCircuit();
+            throw new DownstreamUnavailableException(format("%s not sent, the circuit breaker of %s is open", metrics.getQueryName(), name));
+        }
+        if (!enterBulkhead()) {
+            circuitBreaker.onNotCalled();
+            metrics.recordRejection();
+            throw new DownstreamUnavailableException(format("%s not sent, %s already has %d queries in flight", metrics.getQueryName(), name, maxConcurrentCalls));
+        }
+
+        final long start = System.nanoTime();
+        try {
+            final T result = query.get();
+            final long latencyNanos = System.nanoTime() - start;
+            metrics.recordSuccess(latencyNanos);
+            if (latencyNanos > deadline.toNanos()) {
+                metrics.recordSlowCall();
+                circuitBreaker.onFailure();
+            } else {
+                circuitBreaker.onSuccess();
+            }
+            return result;
+        } catch (final RuntimeException e) {
+            metrics.recordFailure(System.nanoTime() - start);
+            circuitBreaker.onFailure();
+            throw e;
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private boolean enterBulkhead() {
+        try {
+            return bulkhead.tryAcquire(bulkheadWait.toNanos(), NANOSECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package uk.gov.moj.cpp.businessprocesses.downstream;
+
+import static java.lang.Math.min;
+
+/**
+ * Caps the extra load that hedged requests put on downstream contexts. Every hedgeable request
+ * earns {@code budgetPercent} hundredths of a hedge, up to {@code maximumBurst} hedges saved up,
+ * and every hedge spends one, so over time at most {@code budgetPercent}% of the requests are
+ * sent twice.
+ */
+public class HedgeBudget {
+
+    private final double tokensPerRequest;
+    private final double maximumBurst;
+    private double tokens;
+
+    public HedgeBudget(final int budgetPercent, final int maximumBurst) {
+        this.tokensPerRequest = budgetPercent / 100.0;
+        this.maximumBurst = maximumBurst;
+    }
+
+    public synchronized void recordRequest() {
+        tokens = min(maximumBurst, tokens + tokensPerRequest);
+    }
+
+    public synchronized boolean tryAcquire() {
+        if (tokens < 1) {
+            return false;
+        }
+        tokens--;
+        return true;
+    }
+}
@@ -0,0 +1,51 @@
+package uk.gov.moj.cpp.businessprocesses.downstream;
+
+import static java.lang.Math.ceil;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+import java.util.Arrays;
+import java.util.OptionalLong;
+
+/**
+ * The latencies of the most recent successful calls of one query, used to estimate how long a
+ * typical call takes.
+ */
+public class LatencyWindow {
+
+    private final long[] latencies;
+    private int next;
+    private int size;
+
+    public LatencyWindow(final int capacity) {
+        this.latencies = new long[capacity];
+    }
+
+    public synchronized void record(final long latencyNanos) {
+        latencies[next] = latencyNanos;
+        next = (next + 1) % latencies.length;
+        size = min(size + 1, latencies.length);
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * @param percentile between 0 and 100, e.g. 95.
+     * @return the latency the given percentage of the recorded calls did not exceed, or empty when
+     * fewer than {@code minimumSamples} calls have been recorded.
+     */
+    public OptionalLong percentile(final double percentile, final int minimumSamples) {
+        final long[] sorted;
+        synchronized (this) {
+            if (size == 0 || size < minimumSamples) {
+                return OptionalLong.empty();
+            }
+            sorted = Arrays.copyOf(latencies, size);
+        }
+        Arrays.sort(sorted);
+        final int rank = (int) ceil(percentile / 100 * sorted.length);
+        return OptionalLong.of(sorted[min(max(rank, 1), sorted.length) - 1]);
+    }
+}
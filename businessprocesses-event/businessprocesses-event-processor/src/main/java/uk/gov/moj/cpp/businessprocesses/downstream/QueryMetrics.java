@@ -0,0 +1,174 @@
+package uk.gov.moj.cpp.businessprocesses.downstream;
+
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Outcome and latency counters for one downstream query name, e.g.
+ * {@code referencedata.query.workflow-task-types}. Counters are cumulative for the lifetime of the
+ * deployment.
+ */
+public class QueryMetrics {
+
+    private static final int RECENT_LATENCIES = 200;
+
+    private final String queryName;
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder slowCalls = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+    private final LongAdder shortCircuits = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final LongAccumulator maxLatencyNanos = new LongAccumulator(Math::max, 0);
+    private final LongAdder hedges = new LongAdder();
+    private final LongAdder hedgeWins = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LatencyWindow recentLatencies = new LatencyWindow(RECENT_LATENCIES);
+
+    public QueryMetrics(final String queryName) {
+        this.queryName = queryName;
+    }
+
+    public String getQueryName() {
+        return queryName;
+    }
+
+    void recordSuccess(final long latencyNanos) {
+        successes.increment();
+        recordLatency(latencyNanos);
+        recentLatencies.record(latencyNanos);
+    }
+
+    void recordFailure(final long latencyNanos) {
+        failures.increment();
+        recordLatency(latencyNanos);
+    }
+
+    void recordSlowCall() {
+        slowCalls.increment();
+    }
+
+    public void recordTimeout() {
+        timeouts.increment();
+    }
+
+    public void recordRejection() {
+        rejections.increment();
+    }
+
+    void recordShortCircuit() {
+        shortCircuits.increment();
+    }
+
+    public void recordHedge() {
+        hedges.increment();
+    }
+
+    public void recordHedgeWin() {
+        hedgeWins.increment();
+    }
+
+    public void recordCoalesced() {
+        coalesced.increment();
+    }
+
+    private void recordLatency(final long latencyNanos) {
+        totalLatencyNanos.add(latencyNanos);
+        maxLatencyNanos.accumulate(latencyNanos);
+    }
+
+    public long getSuccessCount() {
+        return successes.sum();
+    }
+
+    public long getFailureCount() {
+        return failures.sum();
+    }
+
+    /**
+     * @return the number of calls that returned a result, but only after their deadline.
+     */
+    public long getSlowCallCount() {
+        return slowCalls.sum();
+    }
+
+    /**
+     * @return the number of queries given up because no answer arrived within their deadline.
+     */
+    public long getTimeoutCount() {
+        return timeouts.sum();
+    }
+
+    /**
+     * @return the number of calls not sent because the bulkhead of the context, or the call pool, was full.
+     */
+    public long getRejectionCount() {
+        return rejections.sum();
+    }
+
+    /**
+     * @return the number of calls not sent because the circuit breaker of the context was open.
+     */
+    public long getShortCircuitCount() {
+        return shortCircuits.sum();
+    }
+
+    /**
+     * @return the number of duplicate requests sent because the first one was slow.
+     */
+    public long getHedgeCount() {
+        return hedges.sum();
+    }
+
+    /**
+     * @return the number of duplicate requests answered before the request they duplicated.
+     */
+    public long getHedgeWinCount() {
+        return hedgeWins.sum();
+    }
+
+    /**
+     * @return the number of calls that shared the answer of an identical call already in flight
+     * instead of being sent.
+     */
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    /**
+     * @return the share of all calls that were answered by an identical call already in flight.
+     */
+    public double getCoalescingRate() {
+        final long calls = getSuccessCount() + getFailureCount() + getRejectionCount() + getShortCircuitCount() + getCoalescedCount();
+        return calls == 0 ? 0.0 : (double) getCoalescedCount() / calls;
+    }
+
+    /**
+     * @return the given percentile of the latency of the last successful calls, or empty until
+     * {@code minimumSamples} calls have succeeded.
+     */
+    public OptionalLong getRecentLatencyPercentileNanos(final double percentile, final int minimumSamples) {
+        return recentLatencies.percentile(percentile, minimumSamples);
+    }
+
+    public long getMeanLatencyMillis() {
+        final long calls = getSuccessCount() + getFailureCount();
+        return calls == 0 ? 0 : NANOSECONDS.toMillis(totalLatencyNanos.sum() / calls);
+    }
+
+    public long getMaxLatencyMillis() {
+        return NANOSECONDS.toMillis(maxLatencyNanos.get());
+    }
+
+    @Override
+    public String toString() {
+        return format("%s[successes=%d, failures=%d, slowCalls=%d, timeouts=%d, rejections=%d, shortCircuits=%d, hedges=%d, hedgeWins=%d, coalesced=%d, coalescingRate=%.2f, meanLatencyMillis=%d, maxLatencyMillis=%d]",
+                queryName, getSuccessCount(), getFailureCount(), getSlowCallCount(), getTimeoutCount(), getRejectionCount(),
+                getShortCircuitCount(), getHedgeCount(), getHedgeWinCount(), getCoalescedCount(), getCoalescingRate(), getMeanLatencyMillis(), getMaxLatencyMillis());
+    }
+}
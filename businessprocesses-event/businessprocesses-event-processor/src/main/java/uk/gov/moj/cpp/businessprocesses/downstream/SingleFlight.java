@@ -0,0 +1,59 @@
+package uk.gov.moj.cpp.businessprocesses.downstream;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Lets concurrent identical calls share one execution: the first caller for a key makes the call
+ * and every caller arriving with the same key while it is in flight waits for, and is given, its
+ * result or failure. Nothing is remembered once the call completes.
+ */
+public class SingleFlight {
+
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * @param onCoalesced run when the caller joins a call that is already in flight.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(final String key, final Supplier<T> call, final Runnable onCoalesced) {
+        final CompletableFuture<Object> ownCall = new CompletableFuture<>();
+        final CompletableFuture<Object> callInFlight = inFlight.putIfAbsent(key, ownCall);
+        if (callInFlight != null) {
+            onCoalesced.run();
+            return (T) join(callInFlight);
+        }
+
+        try {
+            final T result = call.get();
+            ownCall.complete(result);
+            return result;
+        } catch (final RuntimeException | Error e) {
+            ownCall.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, ownCall);
+        }
+    }
+
+    public int callsInFlight() {
+        return inFlight.size();
+    }
+
+    private static Object join(final CompletableFuture<Object> callInFlight) {
+        try {
+            return callInFlight.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
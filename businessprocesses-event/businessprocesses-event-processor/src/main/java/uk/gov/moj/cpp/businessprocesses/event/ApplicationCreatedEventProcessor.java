@@ -27,8 +27,8 @@ import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.W
 import uk.gov.justice.services.core.annotation.Handles;
 import uk.gov.justice.services.core.annotation.ServiceComponent;
 import uk.gov.justice.services.core.dispatcher.SystemUserProvider;
-import uk.gov.justice.services.core.featurecontrol.FeatureControlGuard;
 import uk.gov.justice.services.messaging.JsonEnvelope;
+import uk.gov.moj.cpp.businessprocesses.service.FeatureFlags;
 import uk.gov.moj.cpp.businessprocesses.service.TaskTypeService;
 
 import java.util.Map;
@@ -57,11 +57,11 @@ public class ApplicationCreatedEventProcessor {
     private SystemUserProvider systemUserProvider;
 
     @Inject
-    private FeatureControlGuard featureControlGuard;
+    private FeatureFlags featureFlags;
 
     @Handles("public.progression.court-application-created")
     public void handleCourtApplicationCreatedProcessor(final JsonEnvelope jsonEnvelope) {
-        if (featureControlGuard.isFeatureEnabled("camunda-progression-court-application-created")) {
+        if (featureFlags.isFeatureEnabled("camunda-progression-court-application-created")) {
             handleCourtApplicationCreated(jsonEnvelope);
         }
     }
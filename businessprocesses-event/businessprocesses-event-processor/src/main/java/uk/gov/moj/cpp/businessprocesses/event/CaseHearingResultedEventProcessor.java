@@ -16,6 +16,8 @@ import static uk.gov.moj.cpp.businessprocesses.shared.Constants.SYSTEM_USER_NAME
 import static uk.gov.moj.cpp.businessprocesses.shared.Constants.TASK_NAME_SEND_DOCUMENTS_TO_PRISON;
 import static uk.gov.moj.cpp.businessprocesses.shared.Constants.VALUE;
 import static uk.gov.moj.cpp.businessprocesses.shared.Constants.PROMPT_CROWN_COURT_NAME;
+import static uk.gov.moj.cpp.businessprocesses.shared.EventPayloads.getPayload;
+import static uk.gov.moj.cpp.businessprocesses.shared.EventPayloads.withEvent;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.CASE_ID;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.CASE_URN;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.COURT_CODES;
@@ -35,14 +37,13 @@ import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.P
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.WORK_QUEUE;
 
 import uk.gov.justice.core.courts.Hearing;
-import uk.gov.justice.services.common.converter.JsonObjectToObjectConverter;
 import uk.gov.justice.services.core.annotation.Handles;
 import uk.gov.justice.services.core.annotation.ServiceComponent;
 import uk.gov.justice.services.core.dispatcher.SystemUserProvider;
-import uk.gov.justice.services.core.featurecontrol.FeatureControlGuard;
 import uk.gov.justice.services.messaging.JsonEnvelope;
 import uk.gov.moj.cpp.businessprocesses.pojo.CaseHearingResultedDefendantDetails;
-import uk.gov.moj.cpp.businessprocesses.service.ReferenceDataService;
+import uk.gov.moj.cpp.businessprocesses.service.CourtCentreDirectory;
+import uk.gov.moj.cpp.businessprocesses.service.FeatureFlags;
 import uk.gov.moj.cpp.businessprocesses.service.TaskTypeService;
 import uk.gov.moj.cpp.businessprocesses.shared.HearingHelper;
 
@@ -79,28 +80,25 @@ public class CaseHearingResultedEventProcessor {
     private TaskTypeService taskTypeService;
 
     @Inject
-    private ReferenceDataService referenceDataService;
+    private CourtCentreDirectory courtCentreDirectory;
 
     @Inject
     private SystemUserProvider systemUserProvider;
 
     @Inject
-    private FeatureControlGuard featureControlGuard;
-
-    @Inject
-    private JsonObjectToObjectConverter jsonObjectToObjectConverter;
+    private FeatureFlags featureFlags;
 
     @Handles("public.progression.hearing-resulted")
     public void handleHearingResultedProcessor(final JsonEnvelope jsonEnvelope) {
-        if (featureControlGuard.isFeatureEnabled("camunda-progression-hearing-resulted")) {
-            handleHearingResulted(jsonEnvelope);
+        if (featureFlags.isFeatureEnabled("camunda-progression-hearing-resulted")) {
+            withEvent(jsonEnvelope, () -> handleHearingResulted(jsonEnvelope));
         }
     }
 
     public void handleHearingResulted(final JsonEnvelope jsonEnvelope) {
 
         final JsonObject eventPayload = jsonEnvelope.payloadAsJsonObject();
-        final Hearing hearing = jsonObjectToObjectConverter.convert(eventPayload.getJsonObject("hearing"), Hearing.class);
+        final Hearing hearing = getPayload(jsonEnvelope, "hearing", Hearing.class);
         final JsonObject courtHearing = eventPayload.getJsonObject("hearing");
         final String hearingId = courtHearing.getString("id");
         final String jurisdiction = courtHearing.getString(JURISDICTION_TYPE);
@@ -281,8 +279,7 @@ public class CaseHearingResultedEventProcessor {
     private String extractCourtCode(final JsonArray judicialResultPrompts) {
         final String courtName = extractPromptValue(judicialResultPrompts, PROMPT_CROWN_COURT_NAME);
         if (!isBlank(courtName)) {
-            JsonObject courtCentreDetailsJson = referenceDataService.retrieveCourtCentreDetailsByCourtRoomName(courtName);
-            return ReferenceDataService.getCourtCentreOuCode(courtCentreDetailsJson);
+            return courtCentreDirectory.getOuCodeByCourtRoomName(courtName);
         }
         return null;
     }
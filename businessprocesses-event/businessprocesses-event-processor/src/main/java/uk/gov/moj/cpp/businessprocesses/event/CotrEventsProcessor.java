@@ -5,13 +5,12 @@ import static uk.gov.moj.cpp.businessprocesses.shared.Constants.BPMN_PROCESS_COT
 import static uk.gov.moj.cpp.businessprocesses.shared.Constants.SYSTEM_USER_NAME;
 import static uk.gov.moj.cpp.businessprocesses.shared.Constants.TASK_NAME_COTR_CUSTOM_ACTIVITY;
 import static uk.gov.moj.cpp.businessprocesses.shared.DateConverter.addDaysSkippingWeekends;
+import static uk.gov.moj.cpp.businessprocesses.shared.JsonBinder.toJsonObject;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.COTR_TASK_VARIABLES_JSON_STRING;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.DUE_DATE;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.LAST_UPDATED_BY_ID;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.LAST_UPDATED_BY_NAME;
 
-import uk.gov.justice.services.common.converter.ObjectToJsonObjectConverter;
-import uk.gov.justice.services.common.converter.jackson.ObjectMapperProducer;
 import uk.gov.justice.services.core.annotation.FeatureControl;
 import uk.gov.justice.services.core.annotation.Handles;
 import uk.gov.justice.services.core.annotation.ServiceComponent;
@@ -27,7 +26,6 @@ import java.util.UUID;
 
 import javax.inject.Inject;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.camunda.bpm.engine.RuntimeService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,8 +34,6 @@ import org.slf4j.LoggerFactory;
 public class CotrEventsProcessor {
     private static final Logger LOGGER = LoggerFactory.getLogger(CotrEventsProcessor.class);
 
-    private final ObjectMapper objectMapper = new ObjectMapperProducer().objectMapper();
-    private final ObjectToJsonObjectConverter objectToJsonObjectConverter = new ObjectToJsonObjectConverter(objectMapper);
     @Inject
     private RuntimeService runtimeService;
     @Inject
@@ -69,7 +65,7 @@ public class CotrEventsProcessor {
 
     private void startCotrTaskProcess(final WorkflowCOTRTaskType workflowCOTRTaskType) {
         final Map<String, Object> processVariables = taskTypeService.getTaskVariablesFromRefData(TASK_NAME_COTR_CUSTOM_ACTIVITY, null);
-        processVariables.put(COTR_TASK_VARIABLES_JSON_STRING, objectToJsonObjectConverter.convert(workflowCOTRTaskType).toString());
+        processVariables.put(COTR_TASK_VARIABLES_JSON_STRING, toJsonObject(workflowCOTRTaskType).toString());
         final String userId = systemUserProvider.getContextSystemUserId().map(UUID::toString).orElse(null);
         processVariables.put(DUE_DATE, workflowCOTRTaskType.getDue().toLocalDate().toString());
         processVariables.put(LAST_UPDATED_BY_ID, userId);
@@ -36,10 +36,10 @@ import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.U
 import uk.gov.justice.services.core.annotation.Handles;
 import uk.gov.justice.services.core.annotation.ServiceComponent;
 import uk.gov.justice.services.core.dispatcher.SystemUserProvider;
-import uk.gov.justice.services.core.featurecontrol.FeatureControlGuard;
 import uk.gov.justice.services.messaging.JsonEnvelope;
+import uk.gov.moj.cpp.businessprocesses.service.CourtCentreDirectory;
+import uk.gov.moj.cpp.businessprocesses.service.FeatureFlags;
 import uk.gov.moj.cpp.businessprocesses.service.ProgressionService;
-import uk.gov.moj.cpp.businessprocesses.service.ReferenceDataService;
 import uk.gov.moj.cpp.businessprocesses.service.TaskTypeService;
 import uk.gov.moj.cpp.businessprocesses.shared.DateConverter;
 
@@ -72,14 +72,14 @@ public class ErrorHandlerEventProcessor {
     private ProgressionService progressionService;
 
     @Inject
-    private FeatureControlGuard featureControlGuard;
+    private FeatureFlags featureFlags;
 
     @Inject
-    private ReferenceDataService referenceDataService;
+    private CourtCentreDirectory courtCentreDirectory;
 
     @Handles("public.prosecutioncasefile.events.case-validation-failed")
     public void handleCaseValidationFailedProcessor(final JsonEnvelope jsonEnvelope) {
-        if (featureControlGuard.isFeatureEnabled("camunda-prosecutioncasefile-events-case-validation-failed")) {
+        if (featureFlags.isFeatureEnabled("camunda-prosecutioncasefile-events-case-validation-failed")) {
             handleCaseValidationFailed(jsonEnvelope);
         }
     }
@@ -94,7 +94,7 @@ public class ErrorHandlerEventProcessor {
 
     @Handles("public.prosecutioncasefile.events.defendant-validation-failed")
     public void handleDefendantValidationFailedProcessor(final JsonEnvelope jsonEnvelope) {
-        if (featureControlGuard.isFeatureEnabled("camunda-prosecutioncasefile-events-defendant-validation-failed")) {
+        if (featureFlags.isFeatureEnabled("camunda-prosecutioncasefile-events-defendant-validation-failed")) {
             handleDefendantValidationFailed(jsonEnvelope);
         }
     }
@@ -124,7 +124,7 @@ public class ErrorHandlerEventProcessor {
 
     @Handles("public.prosecutioncasefile.events.sjp-validation-failed")
     public void handleSjpValidationFailedProcessor(final JsonEnvelope jsonEnvelope) {
-        if (featureControlGuard.isFeatureEnabled("camunda-prosecutioncasefile-events-sjp-validation-failed")) {
+        if (featureFlags.isFeatureEnabled("camunda-prosecutioncasefile-events-sjp-validation-failed")) {
             handleSjpValidationFailed(jsonEnvelope);
         }
     }
@@ -192,7 +192,7 @@ public class ErrorHandlerEventProcessor {
 
     @Handles("public.correspondence.event.outbound-correspondence-notification-failed")
     public void handleOutboundCorrespondenceNotificationFailedProcessor(final JsonEnvelope jsonEnvelope) {
-        if (featureControlGuard.isFeatureEnabled("camunda-correspondence-event-outbound-correspondence-notification-failed")) {
+        if (featureFlags.isFeatureEnabled("camunda-correspondence-event-outbound-correspondence-notification-failed")) {
             handleOutboundCorrespondenceNotificationFailed(jsonEnvelope);
         }
     }
@@ -287,7 +287,6 @@ public class ErrorHandlerEventProcessor {
     }
 
     private String getCourtCentreOuCodeByCourtRoomCode(final String courtRoomCode) {
-        final JsonObject courtCentreDetails = courtRoomCode != null ? referenceDataService.retrieveCourtCentreDetailsByCourtRoomCode(courtRoomCode) : null;
-        return ReferenceDataService.getCourtCentreOuCode(courtCentreDetails);
+        return courtCentreDirectory.getOuCodeByCourtRoomCode(courtRoomCode);
     }
 }
@@ -18,8 +18,8 @@ import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.L
 import uk.gov.justice.services.core.annotation.Handles;
 import uk.gov.justice.services.core.annotation.ServiceComponent;
 import uk.gov.justice.services.core.dispatcher.SystemUserProvider;
-import uk.gov.justice.services.core.featurecontrol.FeatureControlGuard;
 import uk.gov.justice.services.messaging.JsonEnvelope;
+import uk.gov.moj.cpp.businessprocesses.service.FeatureFlags;
 import uk.gov.moj.cpp.businessprocesses.service.TaskTypeService;
 
 import java.util.List;
@@ -48,11 +48,11 @@ public class FormFinalisedPublicEventProcessor {
     private SystemUserProvider systemUserProvider;
 
     @Inject
-    private FeatureControlGuard featureControlGuard;
+    private FeatureFlags featureFlags;
 
     @Handles("public.progression.form-finalised")
     public void handleFormFinalisedProcessor(final JsonEnvelope jsonEnvelope) {
-        if (featureControlGuard.isFeatureEnabled("camunda-progression-form-finalised")) {
+        if (featureFlags.isFeatureEnabled("camunda-progression-form-finalised")) {
             handleFormFinalised(jsonEnvelope);
         }
     }
@@ -36,9 +36,9 @@ import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.W
 import uk.gov.justice.services.core.annotation.Handles;
 import uk.gov.justice.services.core.annotation.ServiceComponent;
 import uk.gov.justice.services.core.dispatcher.SystemUserProvider;
-import uk.gov.justice.services.core.featurecontrol.FeatureControlGuard;
 import uk.gov.justice.services.messaging.JsonEnvelope;
 import uk.gov.moj.cpp.businessprocesses.event.summonsapplication.SummonsApplicationHandler;
+import uk.gov.moj.cpp.businessprocesses.service.FeatureFlags;
 import uk.gov.moj.cpp.businessprocesses.service.TaskTypeService;
 import uk.gov.moj.cpp.businessprocesses.shared.Constants;
 import uk.gov.moj.cpp.businessprocesses.shared.HearingInitiatedCaseApplicationDetailsNotFoundException;
@@ -73,7 +73,7 @@ public class HearingInitiatedEventProcessor {
     private SystemUserProvider systemUserProvider;
 
     @Inject
-    private FeatureControlGuard featureControlGuard;
+    private FeatureFlags featureFlags;
 
     @Inject
     private NotesGenerator notesGenerator;
@@ -89,7 +89,7 @@ public class HearingInitiatedEventProcessor {
     @Handles("public.hearing.initiated")
     public void handleHearingInitiatedProcessor(final JsonEnvelope jsonEnvelope) {
         LOGGER.info("Event public.hearing.initiated with payload {} ", jsonEnvelope);
-        if (featureControlGuard.isFeatureEnabled("camunda-hearing-initiated")) {
+        if (featureFlags.isFeatureEnabled("camunda-hearing-initiated")) {
             handleHearingInitiated(jsonEnvelope);
         }
     }
@@ -118,14 +118,14 @@ public class HearingInitiatedEventProcessor {
     }
 
     private void handleCaseDetails(final JsonArray caseDetails, final String hearingId, final String hearingDate, final String jurisdiction) {
-        if (featureControlGuard.isFeatureEnabled(FEATURE_FLAG_INTERPRETER)) {
+        if (featureFlags.isFeatureEnabled(FEATURE_FLAG_INTERPRETER)) {
             extractCaseDetailsAndStartProcessForHearingInitiated(caseDetails, hearingId, hearingDate, jurisdiction);
             interpreterForWelshActivityHandler.handleWelshInterpreterForCaseInitiated(hearingId);
         }
     }
 
     private void handleApplicationDetails(final JsonArray applicationDetails, final String hearingId, final String hearingDate, final String jurisdiction) {
-        if (featureControlGuard.isFeatureEnabled(FEATURE_FLAG_INTERPRETER)) {
+        if (featureFlags.isFeatureEnabled(FEATURE_FLAG_INTERPRETER)) {
             extractApplicationDetailsAndStartProcessForHearingInitiated(applicationDetails, hearingId, hearingDate, jurisdiction);
             interpreterForWelshActivityHandler.handleWelshInterpreterForApplicationInitiated(hearingId);
         }
@@ -4,6 +4,7 @@ import static java.lang.Boolean.TRUE;
 import static java.util.Objects.nonNull;
 import static org.apache.commons.collections.CollectionUtils.isNotEmpty;
 import static uk.gov.justice.services.core.annotation.Component.EVENT_PROCESSOR;
+import static uk.gov.moj.cpp.businessprocesses.service.ResultDefinitionResolver.judicialResults;
 import static uk.gov.moj.cpp.businessprocesses.shared.Constants.BPMN_PROCESS_LIST_BAIL_APPEAL_HEARING_PROCESS;
 import static uk.gov.moj.cpp.businessprocesses.shared.Constants.BPMN_PROCESS_LIST_MURDER_CASE_FOR_BAIL_HEARING_PROCESS;
 import static uk.gov.moj.cpp.businessprocesses.shared.Constants.BPMN_PROCESS_UPDATE_ACCESS_TO_SENSITIVE_CASE_PROCESS;
@@ -12,6 +13,8 @@ import static uk.gov.moj.cpp.businessprocesses.shared.Constants.SYSTEM_USER_NAME
 import static uk.gov.moj.cpp.businessprocesses.shared.Constants.TASK_NAME_LIST_BAIL_APPEAL_HEARING;
 import static uk.gov.moj.cpp.businessprocesses.shared.Constants.TASK_NAME_LIST_MURDER_CASE_FOR_BAIL_HEARING;
 import static uk.gov.moj.cpp.businessprocesses.shared.Constants.TASK_NAME_UPDATE_ACCESS_TO_SENSITIVE_CASE;
+import static uk.gov.moj.cpp.businessprocesses.shared.EventPayloads.getPayload;
+import static uk.gov.moj.cpp.businessprocesses.shared.EventPayloads.withEvent;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.CASE_ID;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.CASE_URN;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.COURT_CODES;
@@ -24,20 +27,22 @@ import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.L
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.REGION;
 
 import uk.gov.justice.core.courts.Hearing;
+import uk.gov.justice.core.courts.JudicialResult;
 import uk.gov.justice.core.courts.JudicialResultPrompt;
 import uk.gov.justice.core.courts.ProsecutionCase;
-import uk.gov.justice.services.common.converter.JsonObjectToObjectConverter;
 import uk.gov.justice.services.core.annotation.Handles;
 import uk.gov.justice.services.core.annotation.ServiceComponent;
 import uk.gov.justice.services.core.dispatcher.SystemUserProvider;
-import uk.gov.justice.services.core.featurecontrol.FeatureControlGuard;
 import uk.gov.justice.services.messaging.JsonEnvelope;
 import uk.gov.moj.cpp.businessprocesses.contants.BailAppealEnum;
 import uk.gov.moj.cpp.businessprocesses.contants.SeriousBailHearingEnum;
 import uk.gov.moj.cpp.businessprocesses.event.summonsapplication.SummonsApplicationHandler;
 import uk.gov.moj.cpp.businessprocesses.pojo.StartApplicationWorkflowRequest;
 import uk.gov.moj.cpp.businessprocesses.refdata.query.api.Resultdefinition;
-import uk.gov.moj.cpp.businessprocesses.service.ReferenceDataService;
+import uk.gov.moj.cpp.businessprocesses.service.AsyncQueries;
+import uk.gov.moj.cpp.businessprocesses.service.CourtCentreDirectory;
+import uk.gov.moj.cpp.businessprocesses.service.FeatureFlags;
+import uk.gov.moj.cpp.businessprocesses.service.ResultDefinitionResolver;
 import uk.gov.moj.cpp.businessprocesses.service.TaskTypeService;
 import uk.gov.moj.cpp.businessprocesses.service.UserGroupsService;
 import uk.gov.moj.cpp.businessprocesses.shared.HearingHelper;
@@ -46,6 +51,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import javax.inject.Inject;
 import javax.json.JsonObject;
@@ -60,10 +66,10 @@ public class HearingResultedProcessor {
     private static final Logger LOGGER = LoggerFactory.getLogger(HearingResultedProcessor.class);
 
     @Inject
-    private JsonObjectToObjectConverter jsonObjectToObjectConverter;
+    private ResultDefinitionResolver resultDefinitionResolver;
 
     @Inject
-    private ReferenceDataService referenceDataService;
+    private CourtCentreDirectory courtCentreDirectory;
 
     @Inject
     private UserGroupsService userGroupsService;
@@ -78,18 +84,23 @@ public class HearingResultedProcessor {
     private SystemUserProvider systemUserProvider;
 
     @Inject
-    private FeatureControlGuard featureControlGuard;
+    private FeatureFlags featureFlags;
 
     @Inject
     private SummonsApplicationHandler summonsApplicationTaskHandler;
 
+    @Inject
+    private AsyncQueries asyncQueries;
+
     @SuppressWarnings("pmd:NullAssignment")
     @Handles("public.events.hearing.hearing-resulted")
     public void handleHearingResultedProcessor(final JsonEnvelope jsonEnvelope) {
         LOGGER.info("public.events.hearing.hearing-resulted with payload {} ", jsonEnvelope);
-        if (featureControlGuard.isFeatureEnabled("camunda-hearing-hearing-resulted")) {
-            handleHearingResulted(jsonEnvelope);
-            summonsApplicationTaskHandler.handleSummonsApplicationResulted(jsonEnvelope);
+        if (featureFlags.isFeatureEnabled("camunda-hearing-hearing-resulted")) {
+            withEvent(jsonEnvelope, () -> {
+                handleHearingResulted(jsonEnvelope);
+                summonsApplicationTaskHandler.handleSummonsApplicationResulted(jsonEnvelope);
+            });
         }
     }
 
@@ -97,7 +108,7 @@ public class HearingResultedProcessor {
 
         LOGGER.info("Received the event from HEARING that triggers workflows based on the bail related result");
 
-        final Hearing hearing = jsonObjectToObjectConverter.convert(jsonEnvelope.payloadAsJsonObject().getJsonObject("hearing"), Hearing.class);
+        final Hearing hearing = getPayload(jsonEnvelope, "hearing", Hearing.class);
         final Map<String, String> taskMap = new HashMap<>();
 
         final JsonObject eventPayload = jsonEnvelope.payloadAsJsonObject();
@@ -105,22 +116,26 @@ public class HearingResultedProcessor {
         final String hearingDate = ((JsonObject) courtHearing.getJsonArray("hearingDays").get(0)).getString("sittingDay");
 
         if (isNotEmpty(hearing.getProsecutionCases())) {
-            hearing.getProsecutionCases().forEach(prosecutionCase -> prosecutionCase.getDefendants().stream()
-                    .flatMap(defendant -> defendant.getOffences().stream())
-                    .filter(offence -> isNotEmpty(offence.getJudicialResults()))
-                    .flatMap(offence -> offence.getJudicialResults().stream())
-                    .forEach(judicialResult -> {
-                        LOGGER.debug("List bail appeal hearing invoked for judicial result type id {} and judicialResultId {}", judicialResult.getJudicialResultTypeId(), judicialResult.getJudicialResultId());
-                        final Resultdefinition resultDefinition = referenceDataService.getResultDefinition(judicialResult.getJudicialResultTypeId().toString());
-                        if (nonNull(resultDefinition) && (BailAppealEnum.getBailAppealByType(resultDefinition.getShortCode()) != null) || SeriousBailHearingEnum.getSeriousBailHearingByType(resultDefinition.getShortCode()) != null) {
-                            taskMap.put(resultDefinition.getShortCode(), judicialResult.getJudicialResultId().toString());
-                        } else if (nonNull(judicialResult.getNextHearing()) && resultDefinition.getShortCode().equals(NEXT_HEARING_CROWN_COURT) && TRUE.equals(userGroupsService.getCaseSensitive(prosecutionCase.getId().toString()))) {
-                            final Optional<JudicialResultPrompt> location = getLocation(prosecutionCase);
-                            if (featureControlGuard.isFeatureEnabled(TASK_NAME_UPDATE_ACCESS_TO_SENSITIVE_CASE)) {
-                                startSensitiveCaseTransferWorkFlow(prosecutionCase.getId().toString(), prosecutionCase.getProsecutionCaseIdentifier().getCaseURN(), hearing, location.map(JudicialResultPrompt::getValue).orElse(null), hearingDate);
+            final Map<String, Resultdefinition> resultDefinitions = resultDefinitionResolver.resolve(hearing);
+            final Map<String, CompletableFuture<Boolean>> caseSensitivity = checkCaseSensitivity(hearing, resultDefinitions);
+            try {
+                hearing.getProsecutionCases().forEach(prosecutionCase -> judicialResults(prosecutionCase)
+                        .forEach(judicialResult -> {
+                            LOGGER.debug("List bail appeal hearing invoked for judicial result type id {} and judicialResultId {}", judicialResult.getJudicialResultTypeId(), judicialResult.getJudicialResultId());
+                            final Resultdefinition resultDefinition = resultDefinitions.get(judicialResult.getJudicialResultTypeId().toString());
+                            if (isBailResult(resultDefinition)) {
+                                taskMap.put(resultDefinition.getShortCode(), judicialResult.getJudicialResultId().toString());
+                            } else if (isNextHearingInCrownCourt(judicialResult, resultDefinition) && TRUE.equals(asyncQueries.await(caseSensitivity.get(prosecutionCase.getId().toString())))) {
+                                final Optional<JudicialResultPrompt> location = getLocation(prosecutionCase);
+                                if (featureFlags.isFeatureEnabled(TASK_NAME_UPDATE_ACCESS_TO_SENSITIVE_CASE)) {
+                                    startSensitiveCaseTransferWorkFlow(prosecutionCase.getId().toString(), prosecutionCase.getProsecutionCaseIdentifier().getCaseURN(), hearing, location.map(JudicialResultPrompt::getValue).orElse(null), hearingDate);
+                                }
                             }
-                        }
-                    }));
+                        }));
+            } finally {
+                // checks still running once a result has failed are not waited for
+                asyncQueries.cancel(caseSensitivity.values());
+            }
         }
 
         taskMap.forEach((shortCode, resultId) -> {
@@ -129,11 +144,37 @@ public class HearingResultedProcessor {
         });
     }
 
+    /**
+     * Starts the case sensitivity check of every prosecution case that may need its access
+     * updated, so the checks run concurrently rather than one after another while the results
+     * are iterated.
+     */
+    private Map<String, CompletableFuture<Boolean>> checkCaseSensitivity(final Hearing hearing, final Map<String, Resultdefinition> resultDefinitions) {
+        final Map<String, CompletableFuture<Boolean>> caseSensitivity = new HashMap<>();
+        hearing.getProsecutionCases().stream()
+                .filter(prosecutionCase -> judicialResults(prosecutionCase).anyMatch(judicialResult -> {
+                    final Resultdefinition resultDefinition = resultDefinitions.get(judicialResult.getJudicialResultTypeId().toString());
+                    return !isBailResult(resultDefinition) && isNextHearingInCrownCourt(judicialResult, resultDefinition);
+                }))
+                .map(prosecutionCase -> prosecutionCase.getId().toString())
+                .distinct()
+                .forEach(caseId -> caseSensitivity.put(caseId, asyncQueries.submit(() -> userGroupsService.getCaseSensitive(caseId))));
+        return caseSensitivity;
+    }
+
+    private static boolean isBailResult(final Resultdefinition resultDefinition) {
+        return nonNull(resultDefinition) && (BailAppealEnum.getBailAppealByType(resultDefinition.getShortCode()) != null || SeriousBailHearingEnum.getSeriousBailHearingByType(resultDefinition.getShortCode()) != null);
+    }
+
+    private static boolean isNextHearingInCrownCourt(final JudicialResult judicialResult, final Resultdefinition resultDefinition) {
+        return nonNull(judicialResult.getNextHearing()) && nonNull(resultDefinition) && NEXT_HEARING_CROWN_COURT.equals(resultDefinition.getShortCode());
+    }
+
     private void createNewTask(final Hearing hearing, final String shortCode, String type, final String hearingDate) {
-        if (BailAppealEnum.getBailAppealByType(shortCode) != null && featureControlGuard.isFeatureEnabled(TASK_NAME_LIST_BAIL_APPEAL_HEARING)) {
+        if (BailAppealEnum.getBailAppealByType(shortCode) != null && featureFlags.isFeatureEnabled(TASK_NAME_LIST_BAIL_APPEAL_HEARING)) {
             createBailAppealTask(hearing, BPMN_PROCESS_LIST_BAIL_APPEAL_HEARING_PROCESS, type, TASK_NAME_LIST_BAIL_APPEAL_HEARING, hearingDate);
         }
-        if (SeriousBailHearingEnum.getSeriousBailHearingByType(shortCode) != null && featureControlGuard.isFeatureEnabled(TASK_NAME_LIST_MURDER_CASE_FOR_BAIL_HEARING)) {
+        if (SeriousBailHearingEnum.getSeriousBailHearingByType(shortCode) != null && featureFlags.isFeatureEnabled(TASK_NAME_LIST_MURDER_CASE_FOR_BAIL_HEARING)) {
             createBailAppealTask(hearing, BPMN_PROCESS_LIST_MURDER_CASE_FOR_BAIL_HEARING_PROCESS, type, TASK_NAME_LIST_MURDER_CASE_FOR_BAIL_HEARING, hearingDate);
         }
     }
@@ -175,8 +216,7 @@ public class HearingResultedProcessor {
 
     private String getCourtCode(final String location, final Hearing hearing) {
         if (location != null) {
-            JsonObject courtCentreDetailsJson = referenceDataService.retrieveCourtCentreDetailsByCourtRoomName(location);
-            return ReferenceDataService.getCourtCentreOuCode(courtCentreDetailsJson);
+            return courtCentreDirectory.getOuCodeByCourtRoomName(location);
         }
 
         if (hearing != null && hearing.getCourtCentre() != null) {
@@ -40,8 +40,8 @@ import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.W
 import uk.gov.justice.services.core.annotation.Handles;
 import uk.gov.justice.services.core.annotation.ServiceComponent;
 import uk.gov.justice.services.core.dispatcher.SystemUserProvider;
-import uk.gov.justice.services.core.featurecontrol.FeatureControlGuard;
 import uk.gov.justice.services.messaging.JsonEnvelope;
+import uk.gov.moj.cpp.businessprocesses.service.FeatureFlags;
 import uk.gov.moj.cpp.businessprocesses.service.TaskTypeService;
 import uk.gov.moj.cpp.businessprocesses.shared.HearingTrialCaseApplicationDetailsNotFoundException;
 import uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants;
@@ -73,11 +73,11 @@ public class HearingTrialVacatedEventProcessor {
     private SystemUserProvider systemUserProvider;
 
     @Inject
-    private FeatureControlGuard featureControlGuard;
+    private FeatureFlags featureFlags;
 
     @Handles("public.hearing.trial-vacated")
     public void handleHearingVacatedProcessor(final JsonEnvelope jsonEnvelope) {
-        if (featureControlGuard.isFeatureEnabled("camunda-hearing-trial-vacated")) {
+        if (featureFlags.isFeatureEnabled("camunda-hearing-trial-vacated")) {
             handleHearingVacated(jsonEnvelope);
         }
     }
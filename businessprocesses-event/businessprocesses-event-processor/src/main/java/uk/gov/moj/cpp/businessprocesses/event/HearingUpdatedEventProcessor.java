@@ -4,8 +4,8 @@ package uk.gov.moj.cpp.businessprocesses.event;
 import static uk.gov.justice.services.core.annotation.Component.EVENT_PROCESSOR;
 import uk.gov.justice.services.core.annotation.Handles;
 import uk.gov.justice.services.core.annotation.ServiceComponent;
-import uk.gov.justice.services.core.featurecontrol.FeatureControlGuard;
 import uk.gov.justice.services.messaging.JsonEnvelope;
+import uk.gov.moj.cpp.businessprocesses.service.FeatureFlags;
 import uk.gov.moj.cpp.businessprocesses.shared.Constants;
 import uk.gov.moj.cpp.businessprocesses.shared.InterpreterForWelshActivityHandler;
 
@@ -22,7 +22,7 @@ public class HearingUpdatedEventProcessor {
     private static final Logger LOGGER = LoggerFactory.getLogger(HearingUpdatedEventProcessor.class);
 
     @Inject
-    private FeatureControlGuard featureControlGuard;
+    private FeatureFlags featureFlags;
 
     @Inject
     private InterpreterForWelshActivityHandler interpreterForWelshActivityHandler;
@@ -30,7 +30,7 @@ public class HearingUpdatedEventProcessor {
     @Handles("public.events.hearing.hearing-detail-changed")
     public void handleHearingDetailsChanged(final JsonEnvelope jsonEnvelope) {
         LOGGER.info("Event public.events.hearing.hearing-detail-changed {} ", jsonEnvelope);
-        if (featureControlGuard.isFeatureEnabled("camunda-hearing-initiated")) {
+        if (featureFlags.isFeatureEnabled("camunda-hearing-initiated")) {
             final JsonObject eventPayload = jsonEnvelope.payloadAsJsonObject();
             final String hearingId = eventPayload.getString(Constants.ID);
             interpreterForWelshActivityHandler.handleWelshInterpreterForHearingUpdated(hearingId);
@@ -40,7 +40,7 @@ public class HearingUpdatedEventProcessor {
     @Handles("public.events.hearing.defendant-details-updated")
     public void handleHearingDefendantDetailsChangedEvent(final JsonEnvelope jsonEnvelope) {
         LOGGER.info("Event public.events.hearing.defendant-details-updated {} ", jsonEnvelope);
-        if (featureControlGuard.isFeatureEnabled("camunda-hearing-initiated")) {
+        if (featureFlags.isFeatureEnabled("camunda-hearing-initiated")) {
             final JsonObject eventPayload = jsonEnvelope.payloadAsJsonObject();
             final String hearingId = eventPayload.getString(Constants.HEARING_ID);
             interpreterForWelshActivityHandler.handleWelshInterpreterForHearingUpdated(hearingId);
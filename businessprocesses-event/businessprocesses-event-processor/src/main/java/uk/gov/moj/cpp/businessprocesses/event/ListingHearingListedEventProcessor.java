@@ -16,8 +16,8 @@ import uk.gov.justice.services.common.converter.JsonObjectToObjectConverter;
 import uk.gov.justice.services.core.annotation.Handles;
 import uk.gov.justice.services.core.annotation.ServiceComponent;
 import uk.gov.justice.services.core.dispatcher.SystemUserProvider;
-import uk.gov.justice.services.core.featurecontrol.FeatureControlGuard;
 import uk.gov.justice.services.messaging.JsonEnvelope;
+import uk.gov.moj.cpp.businessprocesses.service.FeatureFlags;
 
 import java.util.List;
 import java.util.UUID;
@@ -40,14 +40,14 @@ public class ListingHearingListedEventProcessor {
     private SystemUserProvider systemUserProvider;
 
     @Inject
-    private FeatureControlGuard featureControlGuard;
+    private FeatureFlags featureFlags;
 
     @Inject
     private JsonObjectToObjectConverter jsonObjectToObjectConverter;
 
     @Handles("public.listing.hearing-listed")
     public void handleHearingListedProcessor(final JsonEnvelope jsonEnvelope) {
-        if (featureControlGuard.isFeatureEnabled("camunda-listing-hearing-listed")) {
+        if (featureFlags.isFeatureEnabled("camunda-listing-hearing-listed")) {
             handleHearingListed(jsonEnvelope);
         }
     }
@@ -71,7 +71,7 @@ public class ListingHearingListedEventProcessor {
 
     public void completeBailHearingTasks(final String caseURN, final String hearingId, final String hearingType, String... processDefinitionKeys) {
         stream(processDefinitionKeys).forEach(processDefinitionKey -> {
-            if (featureControlGuard.isFeatureEnabled(processDefinitionKey)) {
+            if (featureFlags.isFeatureEnabled(processDefinitionKey)) {
                 LOGGER.info("Calling task query caseURN {}, hearingId {} and hearingType {} for processKey {}", caseURN, hearingId, hearingType, processDefinitionKey);
                 final List<Task> tasks = taskService.createTaskQuery()
                         .processDefinitionKey(processDefinitionKey)
@@ -6,13 +6,12 @@ import static uk.gov.moj.cpp.businessprocesses.shared.Constants.BPMN_PROCESS_OPA
 import static uk.gov.moj.cpp.businessprocesses.shared.Constants.SYSTEM_USER_NAME;
 import static uk.gov.moj.cpp.businessprocesses.shared.Constants.TASK_NAME_OPA_CUSTOM_ACTIVITY;
 import static uk.gov.moj.cpp.businessprocesses.shared.DateConverter.addDaysSkippingWeekends;
+import static uk.gov.moj.cpp.businessprocesses.shared.JsonBinder.toJsonObject;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.DUE_DATE;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.LAST_UPDATED_BY_ID;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.LAST_UPDATED_BY_NAME;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.OPA_TASK_VARIABLES_JSON_STRING;
 
-import uk.gov.justice.services.common.converter.ObjectToJsonObjectConverter;
-import uk.gov.justice.services.common.converter.jackson.ObjectMapperProducer;
 import uk.gov.justice.services.core.annotation.FeatureControl;
 import uk.gov.justice.services.core.annotation.Handles;
 import uk.gov.justice.services.core.annotation.ServiceComponent;
@@ -28,7 +27,6 @@ import java.util.UUID;
 
 import javax.inject.Inject;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.camunda.bpm.engine.RuntimeService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -38,9 +36,6 @@ public class OpaEventsProcessor {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(OpaEventsProcessor.class);
 
-    private final ObjectMapper objectMapper = new ObjectMapperProducer().objectMapper();
-    private final ObjectToJsonObjectConverter objectToJsonObjectConverter = new ObjectToJsonObjectConverter(objectMapper);
-
     @Inject
     private RuntimeService runtimeService;
     @Inject
@@ -71,7 +66,7 @@ public class OpaEventsProcessor {
 
     private void startOpaTaskProcess(final WorkflowOpaTaskType workflowOpaTaskType) {
         final Map<String, Object> processVariables = taskTypeService.getTaskVariablesFromRefData(TASK_NAME_OPA_CUSTOM_ACTIVITY, null);
-        processVariables.put(OPA_TASK_VARIABLES_JSON_STRING, objectToJsonObjectConverter.convert(workflowOpaTaskType).toString());
+        processVariables.put(OPA_TASK_VARIABLES_JSON_STRING, toJsonObject(workflowOpaTaskType).toString());
         final String userId = systemUserProvider.getContextSystemUserId().map(UUID::toString).orElse(null);
         processVariables.put(DUE_DATE, workflowOpaTaskType.getDue().toLocalDate().toString());
         processVariables.put(LAST_UPDATED_BY_ID, userId);
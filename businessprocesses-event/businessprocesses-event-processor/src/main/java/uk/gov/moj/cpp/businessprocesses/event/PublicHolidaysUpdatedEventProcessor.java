@@ -0,0 +1,48 @@
+package uk.gov.moj.cpp.businessprocesses.event;
+
+import static java.util.stream.Collectors.toList;
+import static uk.gov.justice.services.core.annotation.Component.EVENT_PROCESSOR;
+import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.ENGLAND_AND_WALES_DIVISION;
+
+import uk.gov.justice.services.core.annotation.Handles;
+import uk.gov.justice.services.core.annotation.ServiceComponent;
+import uk.gov.justice.services.messaging.JsonEnvelope;
+import uk.gov.moj.cpp.businessprocesses.service.DueDateRecalculation;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import javax.inject.Inject;
+import javax.json.JsonArray;
+import javax.json.JsonObject;
+import javax.json.JsonString;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+@ServiceComponent(EVENT_PROCESSOR)
+public class PublicHolidaysUpdatedEventProcessor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PublicHolidaysUpdatedEventProcessor.class);
+
+    @Inject
+    private DueDateRecalculation dueDateRecalculation;
+
+    @Handles("businessprocesses.event.public-holidays-updated")
+    public void handlePublicHolidaysUpdated(final JsonEnvelope jsonEnvelope) {
+        final JsonObject eventPayload = jsonEnvelope.payloadAsJsonObject();
+        final String division = eventPayload.getString("division");
+
+        LOGGER.info("Received businessprocesses.event.public-holidays-updated for division {}", division);
+
+        if (ENGLAND_AND_WALES_DIVISION.equals(division)) {
+            dueDateRecalculation.start(division, eventPayload.getInt("year"),
+                    dates(eventPayload.getJsonArray("publicHolidays")),
+                    dates(eventPayload.getJsonArray("changedDates")));
+        }
+    }
+
+    private static List<LocalDate> dates(final JsonArray dates) {
+        return dates.getValuesAs(JsonString.class).stream().map(date -> LocalDate.parse(date.getString())).collect(toList());
+    }
+}
@@ -17,8 +17,8 @@ import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.U
 import uk.gov.justice.services.core.annotation.Handles;
 import uk.gov.justice.services.core.annotation.ServiceComponent;
 import uk.gov.justice.services.core.dispatcher.SystemUserProvider;
-import uk.gov.justice.services.core.featurecontrol.FeatureControlGuard;
 import uk.gov.justice.services.messaging.JsonEnvelope;
+import uk.gov.moj.cpp.businessprocesses.service.FeatureFlags;
 import uk.gov.moj.cpp.businessprocesses.service.TaskTypeService;
 import uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants;
 
@@ -51,11 +51,11 @@ public class SJPEventProcessor {
     private SystemUserProvider systemUserProvider;
 
     @Inject
-    private FeatureControlGuard featureControlGuard;
+    private FeatureFlags featureFlags;
 
     @Handles("public.events.sjp.case-referred-to-court")
     public void handleSjpCaseReferredToCourtProcessor(final JsonEnvelope jsonEnvelope) {
-        if (featureControlGuard.isFeatureEnabled("camunda-sjp-case-referred-to-court")) {
+        if (featureFlags.isFeatureEnabled("camunda-sjp-case-referred-to-court")) {
             handleSjpCaseReferredToCourt(jsonEnvelope);
         }
     }
@@ -21,9 +21,9 @@ import uk.gov.justice.services.core.annotation.Handles;
 import uk.gov.justice.services.core.annotation.ServiceComponent;
 import uk.gov.justice.services.core.dispatcher.SystemUserProvider;
 import uk.gov.justice.services.messaging.JsonEnvelope;
+import uk.gov.moj.cpp.businessprocesses.service.CourtCentreDirectory;
 import uk.gov.moj.cpp.businessprocesses.service.ListingService;
 import uk.gov.moj.cpp.businessprocesses.service.ProgressionService;
-import uk.gov.moj.cpp.businessprocesses.service.ReferenceDataService;
 import uk.gov.moj.cpp.businessprocesses.service.TaskTypeService;
 import uk.gov.moj.cpp.businessprocesses.shared.HearingHelper;
 import uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants;
@@ -54,7 +54,7 @@ public class SuppressWelshDocumentCreationPublicEventProcessor {
     private ListingService listingService;
 
     @Inject
-    private ReferenceDataService referenceDataService;
+    private CourtCentreDirectory courtCentreDirectory;
     @Inject
     private SystemUserProvider systemUserProvider;
     @Inject
@@ -78,9 +78,8 @@ public class SuppressWelshDocumentCreationPublicEventProcessor {
 
     private void markSuppressWelshDocumentTranslationProcess(final JsonObject eventPayload) {
 
-        final Map<String, Object> processVariables = taskTypeService.getTaskVariablesFromRefData(TASK_NAME_TRANSLATE_TO_WELSH, null);
-
         final JsonObject nowDocumentNotificationSuppressedObject = eventPayload.getJsonObject(NOW_DOCUMENT_NOTIFICATION_SUPPRESSED);
+        final Map<String, Object> processVariables = taskTypeService.getTaskVariablesFromRefData(TASK_NAME_TRANSLATE_TO_WELSH, null);
         processVariables.put(ProcessVariableConstants.MASTER_DEFENDANT_ID, nowDocumentNotificationSuppressedObject.getString(MASTER_DEFENDANT_ID, null));
         processVariables.put(ProcessVariableConstants.DEFENDANT_NAME, nowDocumentNotificationSuppressedObject.getString(DEFENDANT_NAME, null));
         processVariables.put(ProcessVariableConstants.MATERIAL_ID, nowDocumentNotificationSuppressedObject.getString(MATERIAL_ID, null));
@@ -119,8 +118,7 @@ public class SuppressWelshDocumentCreationPublicEventProcessor {
         if (hearing != null) {
             UUID courtCentreId = hearing.getCourtCentreId();
             if (courtCentreId != null) {
-                final JsonObject courtCentreDetails = referenceDataService.retrieveCourtCentreDetailsByCourtId(courtCentreId.toString());
-                final String courtCode = ReferenceDataService.getCourtCentreOuCode(courtCentreDetails);
+                final String courtCode = courtCentreDirectory.getOuCodeByCourtId(courtCentreId.toString());
                 if (courtCode != null) {
                     processVariables.put(ProcessVariableConstants.COURT_CODES, courtCode);
                 }
@@ -19,9 +19,9 @@ import uk.gov.justice.services.core.annotation.Handles;
 import uk.gov.justice.services.core.annotation.ServiceComponent;
 import uk.gov.justice.services.core.dispatcher.SystemUserProvider;
 import uk.gov.justice.services.messaging.JsonEnvelope;
+import uk.gov.moj.cpp.businessprocesses.service.CourtCentreDirectory;
 import uk.gov.moj.cpp.businessprocesses.service.ListingService;
 import uk.gov.moj.cpp.businessprocesses.service.ProgressionService;
-import uk.gov.moj.cpp.businessprocesses.service.ReferenceDataService;
 import uk.gov.moj.cpp.businessprocesses.service.TaskTypeService;
 import uk.gov.moj.cpp.businessprocesses.shared.Constants;
 import uk.gov.moj.cpp.businessprocesses.shared.HearingHelper;
@@ -57,7 +57,7 @@ public class WelshTranslationRequiredEventProcessor {
     private ListingService listingService;
 
     @Inject
-    private ReferenceDataService referenceDataService;
+    private CourtCentreDirectory courtCentreDirectory;
 
     @Handles("public.progression.welsh-translation-required")
     public void handleWelshTranslationRequired(final JsonEnvelope jsonEnvelope) {
@@ -70,8 +70,8 @@ public class WelshTranslationRequiredEventProcessor {
 
 
     private void markAsWelshTranslationRequired(final JsonObject eventPayload) {
-        final Map<String, Object> processVariables = taskTypeService.getTaskVariablesFromRefData(TASK_NAME_TRANSLATE_TO_WELSH, null);
         final JsonObject welshTranslationRequiredObject = eventPayload.getJsonObject("welshTranslationRequired");
+        final Map<String, Object> processVariables = taskTypeService.getTaskVariablesFromRefData(TASK_NAME_TRANSLATE_TO_WELSH, null);
         processVariables.put(ProcessVariableConstants.MASTER_DEFENDANT_ID, welshTranslationRequiredObject.getString(Constants.MASTER_DEFENDANT_ID, null));
         processVariables.put(ProcessVariableConstants.DEFENDANT_NAME, welshTranslationRequiredObject.getString(DEFENDANT_NAME, null));
         processVariables.put(ProcessVariableConstants.MATERIAL_ID, welshTranslationRequiredObject.getString(MATERIAL_ID, null));
@@ -113,8 +113,7 @@ public class WelshTranslationRequiredEventProcessor {
         if (hearing != null) {
             UUID courtCentreId = hearing.getCourtCentreId();
             if (courtCentreId != null) {
-                final JsonObject courtCentreDetails = referenceDataService.retrieveCourtCentreDetailsByCourtId(courtCentreId.toString());
-                return ReferenceDataService.getCourtCentreOuCode(courtCentreDetails);
+                return courtCentreDirectory.getOuCodeByCourtId(courtCentreId.toString());
             }
         }
         return null;
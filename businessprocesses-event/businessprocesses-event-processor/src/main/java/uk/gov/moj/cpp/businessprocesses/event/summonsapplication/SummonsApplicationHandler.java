@@ -4,19 +4,18 @@ import static java.util.Optional.ofNullable;
 import static org.apache.commons.collections.CollectionUtils.isNotEmpty;
 import static uk.gov.moj.cpp.businessprocesses.shared.Constants.PROCESS_NEW_SUMMONS_APPLICATION;
 import static uk.gov.moj.cpp.businessprocesses.shared.Constants.TASK_NEW_PROCESS_NEW_SUMMONS_APPLICATION;
+import static uk.gov.moj.cpp.businessprocesses.shared.EventPayloads.getPayload;
+import static uk.gov.moj.cpp.businessprocesses.shared.Timestamps.UTC_TIMESTAMP_FORMATTER;
 
 import uk.gov.justice.core.courts.CourtApplication;
 import uk.gov.justice.core.courts.DefendantJudicialResult;
 import uk.gov.justice.core.courts.Hearing;
 import uk.gov.justice.core.courts.JudicialResult;
-import uk.gov.justice.services.common.converter.jackson.ObjectMapperProducer;
 import uk.gov.justice.services.messaging.JsonEnvelope;
+import uk.gov.moj.cpp.businessprocesses.service.CourtCentreDirectory;
 import uk.gov.moj.cpp.businessprocesses.service.HearingService;
-import uk.gov.moj.cpp.businessprocesses.service.ReferenceDataService;
 import uk.gov.moj.cpp.businessprocesses.shared.Constants;
 
-import java.io.IOException;
-import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
@@ -26,7 +25,6 @@ import java.util.stream.Stream;
 import javax.inject.Inject;
 import javax.json.JsonObject;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -34,9 +32,6 @@ public class SummonsApplicationHandler {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(SummonsApplicationHandler.class);
 
-    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
-
-    private static final ObjectMapper objectMapper = new ObjectMapperProducer().objectMapper();
     public static final String HEARING = "hearing";
     public static final String ID = "id";
 
@@ -60,7 +55,7 @@ public class SummonsApplicationHandler {
     private SummonsApplicationTaskHandler summonsApplicationTaskHandler;
 
     @Inject
-    private ReferenceDataService referenceDataService;
+    private CourtCentreDirectory courtCentreDirectory;
 
 
     public void handleSummonsApplicationHearingInitiated(final JsonEnvelope jsonEnvelope) {
@@ -88,7 +83,7 @@ public class SummonsApplicationHandler {
                         final String courtName = hearing.getCourtCentre().getName();
                         final SummonsApplicationTaskRequest summonsApplicationTaskRequest = new SummonsApplicationTaskRequest.Builder()
                                 .withHearingId(hearingId)
-                                .withHearingDate(hearing.getHearingDays().get(0).getSittingDay().format(DATE_TIME_FORMATTER)) // revisit this
+                                .withHearingDate(hearing.getHearingDays().get(0).getSittingDay().format(UTC_TIMESTAMP_FORMATTER)) // revisit this
                                 .withCourtName(courtName)
                                 .withCourtCode(courtCode)
                                 .withApplicationId(courtApplication.getId())
@@ -108,12 +103,10 @@ public class SummonsApplicationHandler {
 
     public void handleSummonsApplicationResulted(final JsonEnvelope jsonEnvelope) {
 
-        final JsonObject eventPayload = jsonEnvelope.payloadAsJsonObject();
-
-        Hearing hearing;
+        final Hearing hearing;
         try {
-            hearing = objectMapper.readValue(eventPayload.getJsonObject(HEARING).toString(), Hearing.class);
-        } catch (IOException e) {
+            hearing = getPayload(jsonEnvelope, HEARING, Hearing.class);
+        } catch (IllegalArgumentException e) {
             throw new IllegalStateException("Unable to unmarshal Hearings", e);
         }
 
@@ -197,11 +190,7 @@ public class SummonsApplicationHandler {
     }
 
     private String getCourtCode(final String courtCentreId) {
-        if (courtCentreId != null) {
-            JsonObject courtCentreDetailsJson = referenceDataService.retrieveCourtCentreDetailsByCourtId(courtCentreId);
-            return ReferenceDataService.getCourtCentreOuCode(courtCentreDetailsJson);
-        }
-        return null;
+        return courtCentreDirectory.getOuCodeByCourtId(courtCentreId);
     }
 
 }
@@ -8,8 +8,8 @@ import static org.apache.commons.lang3.StringUtils.isNotEmpty;
 import static org.slf4j.LoggerFactory.getLogger;
 import static uk.gov.justice.services.core.annotation.Component.EVENT_PROCESSOR;
 import static uk.gov.justice.services.messaging.JsonEnvelope.envelopeFrom;
-import static uk.gov.moj.cpp.businessprocesses.listener.Utils.DATE_FORMATTER;
 import static uk.gov.moj.cpp.businessprocesses.shared.DateConverter.getDate;
+import static uk.gov.moj.cpp.businessprocesses.shared.JsonBinder.toJsonValue;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.CASE_URN;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.COTR_ID;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.COTR_TASK_VARIABLES_JSON_STRING;
@@ -27,26 +27,26 @@ import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.P
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.PREVIOUS_WORK_QUEUE;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.REGION;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.WORK_QUEUE;
+import static uk.gov.moj.cpp.businessprocesses.shared.RecordTaskCommands.sendOnCommit;
+import static uk.gov.moj.cpp.businessprocesses.shared.TaskCreatedListenerHelper.getCreatedTaskVariables;
 import static uk.gov.moj.cpp.businessprocesses.shared.TaskCreatedListenerHelper.getJsonObjectBuilder;
 import static uk.gov.moj.cpp.businessprocesses.shared.TaskCreatedListenerHelper.getMetadataForRecordTaskCreated;
 import static uk.gov.moj.cpp.businessprocesses.shared.TaskCreatedListenerHelper.validateChangeAuthorDetails;
+import static uk.gov.moj.cpp.businessprocesses.shared.TaskPayloadVariables.getPayload;
+import static uk.gov.moj.cpp.businessprocesses.shared.Timestamps.toServerZoneString;
 
-import uk.gov.justice.services.common.converter.ObjectToJsonValueConverter;
-import uk.gov.justice.services.common.converter.jackson.ObjectMapperProducer;
 import uk.gov.justice.services.core.annotation.ServiceComponent;
 import uk.gov.justice.services.core.dispatcher.SystemUserProvider;
 import uk.gov.justice.services.core.sender.Sender;
 import uk.gov.moj.cpp.businessprocesses.pojo.WorkflowCOTRTaskType;
 import uk.gov.moj.cpp.businessprocesses.service.CourtCentreService;
 import uk.gov.moj.cpp.businessprocesses.shared.MandatoryTaskVariablesNotFoundException;
-import uk.gov.moj.cpp.businessprocesses.shared.WorkflowTaskTypeMapper;
 
 import java.util.UUID;
 
 import javax.inject.Inject;
 import javax.inject.Named;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.camunda.bpm.engine.TaskService;
 import org.camunda.bpm.engine.delegate.DelegateTask;
 import org.camunda.bpm.engine.delegate.TaskListener;
@@ -59,9 +59,6 @@ public class CotrTaskCreatedListener implements TaskListener {
     private static final Logger LOGGER = getLogger(CotrTaskCreatedListener.class);
     private static final String COMMA = ",";
 
-    private final ObjectMapper objectMapper = new ObjectMapperProducer().objectMapper();
-    private final ObjectToJsonValueConverter objectToJsonValueConverter = new ObjectToJsonValueConverter(objectMapper);
-
     @Inject
     private TaskService tService;
 
@@ -83,20 +80,19 @@ public class CotrTaskCreatedListener implements TaskListener {
         final TaskEntity taskEntity = (TaskEntity) delegateTask;
         updateTaskEntityForCreateTask(taskEntity);
 
-        final VariableMapImpl variableMap = taskEntity.getExecution().getVariables();
+        final VariableMapImpl variableMap = getCreatedTaskVariables(taskEntity);
         if (!validateChangeAuthorDetails(variableMap)) {
             throw new MandatoryTaskVariablesNotFoundException(format("Task Created Change Author Details Not found task: %s ", taskEntity.getId()));
         }
 
-        sender.sendAsAdmin(envelopeFrom(getMetadataForRecordTaskCreated(systemUserProvider.getContextSystemUserId().map(UUID::toString)
+        sendOnCommit(sender, envelopeFrom(getMetadataForRecordTaskCreated(systemUserProvider.getContextSystemUserId().map(UUID::toString)
                         .orElse(variableMap.getValue(LAST_UPDATED_BY_ID, String.class))),
                 getJsonObjectBuilder(variableMap, taskEntity).build()));
     }
 
     private void updateTaskEntityForCreateTask(final TaskEntity taskEntity) {
 
-        final String taskVariablesJsonString = (String) taskEntity.getVariable(COTR_TASK_VARIABLES_JSON_STRING);
-        final WorkflowCOTRTaskType workflowCOTRTaskType = WorkflowTaskTypeMapper.mapToWorkflowCOTRTaskType(taskVariablesJsonString);
+        final WorkflowCOTRTaskType workflowCOTRTaskType = getPayload(taskEntity, COTR_TASK_VARIABLES_JSON_STRING, WorkflowCOTRTaskType.class);
         if (nonNull(workflowCOTRTaskType)) {
             if (nonNull(workflowCOTRTaskType.getDisplayName())) {
                 taskEntity.setName(workflowCOTRTaskType.getDisplayName());
@@ -112,7 +108,7 @@ public class CotrTaskCreatedListener implements TaskListener {
 
             if (nonNull(workflowCOTRTaskType.getDue())) {
                 taskEntity.setDueDate(getDate(workflowCOTRTaskType.getDue()));
-                taskEntity.setVariableLocal(PREVIOUS_DUE, DATE_FORMATTER.format(taskEntity.getDueDate()));
+                taskEntity.setVariableLocal(PREVIOUS_DUE, toServerZoneString(taskEntity.getDueDate()));
             }
 
             if (nonNull(workflowCOTRTaskType.getTaskCreationDate())) {
@@ -164,7 +160,7 @@ public class CotrTaskCreatedListener implements TaskListener {
             taskEntity.setVariableLocal(ORGANISATION_ID, workflowCOTRTaskType.getOrganisationId());
         }
         if (nonNull(workflowCOTRTaskType.getDefendants())) {
-            taskEntity.setVariableLocal(DEFENDANTS, objectToJsonValueConverter.convert(workflowCOTRTaskType.getDefendants()).toString());
+            taskEntity.setVariableLocal(DEFENDANTS, toJsonValue(workflowCOTRTaskType.getDefendants()).toString());
         }
 
         if (isNotEmpty(workflowCOTRTaskType.getComment())) {
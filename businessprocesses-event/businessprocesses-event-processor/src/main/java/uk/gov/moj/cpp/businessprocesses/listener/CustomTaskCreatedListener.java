@@ -9,8 +9,9 @@ import static org.apache.commons.lang3.StringUtils.isNotEmpty;
 import static org.slf4j.LoggerFactory.getLogger;
 import static uk.gov.justice.services.core.annotation.Component.EVENT_PROCESSOR;
 import static uk.gov.justice.services.messaging.JsonEnvelope.envelopeFrom;
-import static uk.gov.moj.cpp.businessprocesses.listener.Utils.DATE_FORMATTER;
+import static uk.gov.moj.cpp.businessprocesses.shared.Constants.TASK_VARIABLES_JSON_STRING;
 import static uk.gov.moj.cpp.businessprocesses.shared.DateConverter.getDate;
+import static uk.gov.moj.cpp.businessprocesses.shared.JsonBinder.toJsonValue;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.BUSINESS_UNIT_CODES;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.CASE_ID;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.CASE_TAG;
@@ -34,12 +35,14 @@ import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.R
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.TASK_TYPE;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.TASK_TYPE_ID;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.WORK_QUEUE;
+import static uk.gov.moj.cpp.businessprocesses.shared.RecordTaskCommands.sendOnCommit;
+import static uk.gov.moj.cpp.businessprocesses.shared.TaskCreatedListenerHelper.getCreatedTaskVariables;
 import static uk.gov.moj.cpp.businessprocesses.shared.TaskCreatedListenerHelper.getJsonObjectBuilder;
 import static uk.gov.moj.cpp.businessprocesses.shared.TaskCreatedListenerHelper.getMetadataForRecordTaskCreated;
 import static uk.gov.moj.cpp.businessprocesses.shared.TaskCreatedListenerHelper.validateChangeAuthorDetails;
+import static uk.gov.moj.cpp.businessprocesses.shared.TaskPayloadVariables.getPayload;
+import static uk.gov.moj.cpp.businessprocesses.shared.Timestamps.toServerZoneString;
 
-import uk.gov.justice.services.common.converter.ObjectToJsonValueConverter;
-import uk.gov.justice.services.common.converter.jackson.ObjectMapperProducer;
 import uk.gov.justice.services.core.annotation.ServiceComponent;
 import uk.gov.justice.services.core.dispatcher.SystemUserProvider;
 import uk.gov.justice.services.core.sender.Sender;
@@ -49,7 +52,6 @@ import uk.gov.moj.cpp.businessprocesses.service.CourtCentreService;
 import uk.gov.moj.cpp.businessprocesses.service.DueDateCalculationService;
 import uk.gov.moj.cpp.businessprocesses.service.ReferenceDataService;
 import uk.gov.moj.cpp.businessprocesses.shared.MandatoryTaskVariablesNotFoundException;
-import uk.gov.moj.cpp.businessprocesses.shared.WorkflowTaskTypeMapper;
 
 import java.time.ZoneId;
 import java.util.Date;
@@ -58,9 +60,7 @@ import java.util.UUID;
 
 import javax.inject.Inject;
 import javax.inject.Named;
-import javax.json.JsonObject;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.camunda.bpm.engine.delegate.DelegateTask;
 import org.camunda.bpm.engine.delegate.TaskListener;
 import org.camunda.bpm.engine.impl.persistence.entity.TaskEntity;
@@ -72,8 +72,6 @@ import org.slf4j.Logger;
 public class CustomTaskCreatedListener implements TaskListener {
     private static final Logger LOGGER = getLogger(CustomTaskCreatedListener.class);
     private static final String COMMA = ",";
-    private final ObjectMapper objectMapper = new ObjectMapperProducer().objectMapper();
-    private final ObjectToJsonValueConverter objectToJsonValueConverter = new ObjectToJsonValueConverter(objectMapper);
 
     private static final String DEFAULT_CALCULATION_FORMULA = "${now()+2d}";
 
@@ -102,20 +100,19 @@ public class CustomTaskCreatedListener implements TaskListener {
         final TaskEntity taskEntity = (TaskEntity) delegateTask;
         updateTaskEntityForCreateTask(taskEntity);
 
-        final VariableMapImpl variableMap = taskEntity.getExecution().getVariables();
+        final VariableMapImpl variableMap = getCreatedTaskVariables(taskEntity);
         if (!validateChangeAuthorDetails(variableMap)) {
             throw new MandatoryTaskVariablesNotFoundException(format("Task Created Change Author Details Not found task: %s ", taskEntity.getId()));
         }
 
-        sender.sendAsAdmin(envelopeFrom(getMetadataForRecordTaskCreated(systemUserProvider.getContextSystemUserId().map(UUID::toString)
+        sendOnCommit(sender, envelopeFrom(getMetadataForRecordTaskCreated(systemUserProvider.getContextSystemUserId().map(UUID::toString)
                         .orElse(variableMap.getValue(LAST_UPDATED_BY_ID, String.class))),
                 getJsonObjectBuilder(variableMap, taskEntity).build()));
     }
 
     private void updateTaskEntityForCreateTask(final TaskEntity taskEntity) {
 
-        final String taskVariablesJsonString = (String) taskEntity.getVariable("taskVariablesJsonString");
-        final WorkflowCustomTaskType workflowCustomTaskType = WorkflowTaskTypeMapper.mapToWorkflowCustomTaskType(taskVariablesJsonString);
+        final WorkflowCustomTaskType workflowCustomTaskType = getPayload(taskEntity, TASK_VARIABLES_JSON_STRING, WorkflowCustomTaskType.class);
         if (nonNull(workflowCustomTaskType)) {
             if (nonNull(workflowCustomTaskType.getDisplayName())) {
                 taskEntity.setName(workflowCustomTaskType.getDisplayName());
@@ -185,7 +182,7 @@ public class CustomTaskCreatedListener implements TaskListener {
             taskEntity.setVariableLocal(ORGANISATION_ID, workflowCustomTaskType.getOrganisationId());
         }
         if (nonNull(workflowCustomTaskType.getDefendants())) {
-            taskEntity.setVariableLocal(DEFENDANTS, objectToJsonValueConverter.convert(workflowCustomTaskType.getDefendants()).toString());
+            taskEntity.setVariableLocal(DEFENDANTS, toJsonValue(workflowCustomTaskType.getDefendants()).toString());
         }
         if (nonNull(workflowCustomTaskType.getNote())) {
             taskEntity.setVariableLocal(NOTE, workflowCustomTaskType.getNote());
@@ -210,7 +207,7 @@ public class CustomTaskCreatedListener implements TaskListener {
                 }
 
                 setDueDate(workflowTaskType, taskEntity, workflowCustomTaskType);
-                taskEntity.setVariableLocal(PREVIOUS_DUE, DATE_FORMATTER.format(taskEntity.getDueDate()));
+                taskEntity.setVariableLocal(PREVIOUS_DUE, toServerZoneString(taskEntity.getDueDate()));
                 setTaskTypeId(taskEntity, workflowTaskType);
             }
         }
@@ -235,7 +232,7 @@ public class CustomTaskCreatedListener implements TaskListener {
                 if (workflowCustomTaskType.getHearingDate() != null) {
                     final ZoneId defaultZoneId = ZoneId.systemDefault();
                     final Date date = Date.from(workflowCustomTaskType.getHearingDate().atStartOfDay(defaultZoneId).toInstant());
-                    taskEntity.setDueDate(dueDateCalculationService.getCalculatedDate(dueDateCalculation, DATE_FORMATTER.format(date)));
+                    taskEntity.setDueDate(dueDateCalculationService.getCalculatedDate(dueDateCalculation, toServerZoneString(date)));
                 } else {
                     taskEntity.setDueDate(dueDateCalculationService.getCalculatedDate(DEFAULT_CALCULATION_FORMULA, null));
                 }
@@ -11,13 +11,14 @@ import static uk.gov.moj.cpp.businessprocesses.shared.Constants.CHANGE_AUTHOR;
 import static uk.gov.moj.cpp.businessprocesses.shared.Constants.CHANGE_AUTHOR_ID;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.LAST_UPDATED_BY_ID;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.LAST_UPDATED_BY_NAME;
+import static uk.gov.moj.cpp.businessprocesses.shared.RecordTaskCommands.sendOnCommit;
 import static uk.gov.moj.cpp.businessprocesses.shared.TaskAuditService.getMetadata;
 
 import uk.gov.justice.services.core.annotation.ServiceComponent;
 import uk.gov.justice.services.core.dispatcher.SystemUserProvider;
 import uk.gov.justice.services.core.sender.Sender;
 import uk.gov.justice.services.messaging.JsonEnvelope;
-import uk.gov.moj.cpp.businessprocesses.service.UserGroupsService;
+import uk.gov.moj.cpp.businessprocesses.service.UserDirectory;
 import uk.gov.moj.cpp.businessprocesses.shared.MandatoryTaskVariablesNotFoundException;
 import uk.gov.moj.cpp.businessprocesses.shared.TaskAuditService;
 
@@ -54,7 +55,7 @@ public class TasksAssignedListener implements TaskListener {
     private TaskAuditService taskAuditService;
 
     @Inject
-    private UserGroupsService userGroupsService;
+    private UserDirectory userDirectory;
 
     @Override
     public void notify(final DelegateTask delegateTask) {
@@ -75,7 +76,7 @@ public class TasksAssignedListener implements TaskListener {
 
         if (nonNull(assigneeToId) && !EMPTY.equals(assigneeToId)) {
             jsonObjectBuilder.add("assignToId", assigneeToId);
-            final String userDetails = userGroupsService.getUserDetails(assigneeToId);
+            final String userDetails = userDirectory.getUserDetails(assigneeToId);
             jsonObjectBuilder.add("assignTo", userDetails);
         }
 
@@ -87,7 +88,7 @@ public class TasksAssignedListener implements TaskListener {
 
         final JsonEnvelope commandEnvelope = envelopeFrom(getMetadata("businessprocesses.command.record-task-assigned", userId), commandPayload);
 
-        sender.sendAsAdmin(commandEnvelope);
+        sendOnCommit(sender, commandEnvelope);
         taskAuditService.audit(commandEnvelope, changeAuthorId);
     }
 
@@ -14,7 +14,9 @@ import static uk.gov.moj.cpp.businessprocesses.shared.Constants.DELETED_DATE;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.DELETION_REASON;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.LAST_UPDATED_BY_ID;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.LAST_UPDATED_BY_NAME;
+import static uk.gov.moj.cpp.businessprocesses.shared.RecordTaskCommands.sendOnCommit;
 import static uk.gov.moj.cpp.businessprocesses.shared.TaskAuditService.getMetadata;
+import static uk.gov.moj.cpp.businessprocesses.shared.TaskVariables.getValue;
 
 import uk.gov.justice.services.common.util.UtcClock;
 import uk.gov.justice.services.core.annotation.ServiceComponent;
@@ -102,12 +104,12 @@ public class TasksCompletedListener implements TaskListener {
 
         final JsonEnvelope commandEnvelope = envelopeFrom(getMetadata(commandHandlerName, userId), commandPayload);
 
-        sender.sendAsAdmin(commandEnvelope);
+        sendOnCommit(sender, commandEnvelope);
         taskAuditService.audit(commandEnvelope, changeAuthorId);
     }
 
     private String getTaskDeletionReason(final TaskEntity taskEntity) {
-        return taskEntity.getVariables().getValue(DELETION_REASON, String.class);
+        return getValue(taskEntity, DELETION_REASON, String.class);
     }
 
 }
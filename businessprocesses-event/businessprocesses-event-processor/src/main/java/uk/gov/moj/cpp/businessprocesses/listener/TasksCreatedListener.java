@@ -6,12 +6,10 @@ import static uk.gov.justice.services.messaging.JsonObjects.createObjectBuilder;
 import static org.slf4j.LoggerFactory.getLogger;
 import static uk.gov.justice.services.core.annotation.Component.EVENT_PROCESSOR;
 import static uk.gov.justice.services.messaging.JsonEnvelope.envelopeFrom;
-import static uk.gov.moj.cpp.businessprocesses.listener.Utils.DATE_FORMATTER;
 import static uk.gov.moj.cpp.businessprocesses.shared.Constants.CHANGE_AUTHOR;
 import static uk.gov.moj.cpp.businessprocesses.shared.Constants.CHANGE_AUTHOR_ID;
 import static uk.gov.moj.cpp.businessprocesses.shared.Constants.COURT_ID;
 import static uk.gov.moj.cpp.businessprocesses.shared.Constants.REFERENCE;
-import static uk.gov.moj.cpp.businessprocesses.shared.DateConverter.getUTCZonedDateTimeString;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.CANDIDATE_GROUPS;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.CASE_URN;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.COURT_CODES;
@@ -26,7 +24,11 @@ import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.P
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.REGION;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.TASK_TYPE_ID;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.WORK_QUEUE;
+import static uk.gov.moj.cpp.businessprocesses.shared.RecordTaskCommands.sendOnCommit;
 import static uk.gov.moj.cpp.businessprocesses.shared.TaskAuditService.getMetadata;
+import static uk.gov.moj.cpp.businessprocesses.shared.TaskVariables.getVariables;
+import static uk.gov.moj.cpp.businessprocesses.shared.Timestamps.toServerZoneString;
+import static uk.gov.moj.cpp.businessprocesses.shared.Timestamps.toUtcString;
 
 import uk.gov.justice.services.core.annotation.ServiceComponent;
 import uk.gov.justice.services.core.dispatcher.SystemUserProvider;
@@ -80,14 +82,15 @@ public class TasksCreatedListener implements TaskListener {
         final TaskEntity taskEntity = (TaskEntity) delegateTask;
 
         final String taskId = taskEntity.getId();
-        final String createdDate = getUTCZonedDateTimeString(taskEntity.getCreateTime());
+        final String createdDate = toUtcString(taskEntity.getCreateTime());
         final String taskType = taskEntity.getName();
 
         final JsonObjectBuilder jsonObjectBuilder = createObjectBuilder()
                 .add("id", taskId)
                 .add("createdDate", createdDate)
                 .add("type", taskType);
-        final VariableMapImpl variableMap = taskEntity.getExecution().getVariables();
+        final VariableMapImpl variableMap = getVariables(taskEntity.getExecution(), LAST_UPDATED_BY_ID, LAST_UPDATED_BY_NAME, TASK_TYPE_ID,
+                CASE_URN, NOTE, HEARING_DATE, WORK_QUEUE, COURT_ID, JURISDICTION, CANDIDATE_GROUPS, COURT_CODES);
 
         if (!validateChangeAuthorDetails(variableMap)) {
             throw new MandatoryTaskVariablesNotFoundException(format("Task Created Change Author Details Not found task: %s ", taskId));
@@ -110,9 +113,9 @@ public class TasksCreatedListener implements TaskListener {
         jsonObjectBuilder.add(TASK_TYPE_ID, taskTypeId);
 
         if (taskEntity.getDueDate() != null) {
-            final String dateTimeString = getUTCZonedDateTimeString(taskEntity.getDueDate());
+            final String dateTimeString = toUtcString(taskEntity.getDueDate());
             jsonObjectBuilder.add(DUE_DATE, dateTimeString);
-            taskEntity.setVariableLocal(PREVIOUS_DUE, DATE_FORMATTER.format(taskEntity.getDueDate()));
+            taskEntity.setVariableLocal(PREVIOUS_DUE, toServerZoneString(taskEntity.getDueDate()));
         }
         if (variableMap.containsKey(CASE_URN)) {
             final String caseUrn = variableMap.getValue(CASE_URN, String.class);
@@ -162,7 +165,7 @@ public class TasksCreatedListener implements TaskListener {
 
         final JsonEnvelope commandEnvelope = envelopeFrom(getMetadata("businessprocesses.command.record-task-created", userId), commandPayload);
 
-        sender.sendAsAdmin(commandEnvelope);
+        sendOnCommit(sender, commandEnvelope);
         taskAuditService.audit(commandEnvelope, lastUpdatedById);
     }
 
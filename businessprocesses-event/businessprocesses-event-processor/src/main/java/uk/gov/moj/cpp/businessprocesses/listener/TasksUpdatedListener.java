@@ -16,7 +16,6 @@ import javax.inject.Inject;
 import javax.inject.Named;
 import javax.json.JsonObject;
 import javax.json.JsonObjectBuilder;
-import java.text.SimpleDateFormat;
 import java.util.UUID;
 
 import static java.lang.String.format;
@@ -28,17 +27,19 @@ import static org.apache.commons.lang3.StringUtils.isNotEmpty;
 import static org.slf4j.LoggerFactory.getLogger;
 import static uk.gov.justice.services.core.annotation.Component.EVENT_PROCESSOR;
 import static uk.gov.justice.services.messaging.JsonEnvelope.envelopeFrom;
-import static uk.gov.moj.cpp.businessprocesses.listener.Utils.DATE_FORMATTER;
 import static uk.gov.moj.cpp.businessprocesses.shared.Constants.CHANGE_AUTHOR;
 import static uk.gov.moj.cpp.businessprocesses.shared.Constants.CHANGE_AUTHOR_ID;
-import static uk.gov.moj.cpp.businessprocesses.shared.DateConverter.getUTCZonedDateTimeString;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.DUE_DATE;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.LAST_UPDATED_BY_ID;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.LAST_UPDATED_BY_NAME;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.PREVIOUS_DUE;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.PREVIOUS_WORK_QUEUE;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.WORK_QUEUE;
+import static uk.gov.moj.cpp.businessprocesses.shared.RecordTaskCommands.sendOnCommit;
 import static uk.gov.moj.cpp.businessprocesses.shared.TaskAuditService.getMetadata;
+import static uk.gov.moj.cpp.businessprocesses.shared.TaskVariables.getVariablesLocal;
+import static uk.gov.moj.cpp.businessprocesses.shared.Timestamps.toServerZoneString;
+import static uk.gov.moj.cpp.businessprocesses.shared.Timestamps.toUtcString;
 
 @SuppressWarnings("squid:CallToDeprecatedMethod")
 @Named("tasksUpdatedListener")
@@ -62,7 +63,7 @@ public class TasksUpdatedListener implements TaskListener {
         LOGGER.info("Task with ID '{}' and name '{}' updated", updatedTask.getId(), updatedTask.getName());
 
         final TaskEntity taskEntity = (TaskEntity) updatedTask;
-        final VariableMap variableMapLocal = taskEntity.getVariablesLocal();
+        final VariableMap variableMapLocal = getVariablesLocal(taskEntity, PREVIOUS_DUE, WORK_QUEUE, PREVIOUS_WORK_QUEUE, LAST_UPDATED_BY_ID, LAST_UPDATED_BY_NAME);
         final String taskId = taskEntity.getId();
 
         if (isDueDateChanged(taskEntity, variableMapLocal) || isWorkQueueChanged(variableMapLocal)) {
@@ -85,7 +86,7 @@ public class TasksUpdatedListener implements TaskListener {
             jsonObjectBuilder.add(CHANGE_AUTHOR, changeAuthorName);
 
             if (taskEntity.getDueDate() != null) {
-                final String dateTimeString = getUTCZonedDateTimeString(taskEntity.getDueDate());
+                final String dateTimeString = toUtcString(taskEntity.getDueDate());
                 jsonObjectBuilder.add(DUE_DATE, dateTimeString);
             }
 
@@ -97,7 +98,7 @@ public class TasksUpdatedListener implements TaskListener {
             final String userId = systemUserProvider.getContextSystemUserId().map(UUID::toString).orElse(changeAuthorId);
             final JsonEnvelope commandEnvelope = envelopeFrom(getMetadata(TASK_UPDATED_COMMAND_NAME, userId), commandPayload);
 
-            sender.sendAsAdmin(commandEnvelope);
+            sendOnCommit(sender, commandEnvelope);
             taskAuditService.audit(commandEnvelope, changeAuthorId);
         } else {
             LOGGER.debug("Task with ID '{}' and name '{}' due date / workQueue not changed, skipping update listener. due: {} previousDue: {} workQueue: {} previousWorkQueue: {}",
@@ -113,7 +114,7 @@ public class TasksUpdatedListener implements TaskListener {
 
     private boolean isDueDateChanged(final TaskEntity taskEntity, final VariableMap variableMap) {
         final String previousDue = nonNull(variableMap.getValue(PREVIOUS_DUE, String.class)) ? variableMap.getValue(PREVIOUS_DUE, String.class) : EMPTY;
-        final String due = nonNull(taskEntity.getDueDate()) ? DATE_FORMATTER.format(taskEntity.getDueDate()) : EMPTY;
+        final String due = nonNull(taskEntity.getDueDate()) ? toServerZoneString(taskEntity.getDueDate()) : EMPTY;
         return isNotEmpty(due) && !due.equals(previousDue) || isEmpty(due) && isNotEmpty(previousDue);
     }
 
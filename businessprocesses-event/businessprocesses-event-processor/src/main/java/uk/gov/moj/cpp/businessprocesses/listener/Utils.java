@@ -1,12 +0,0 @@
-package uk.gov.moj.cpp.businessprocesses.listener;
-
-import java.text.SimpleDateFormat;
-
-@SuppressWarnings({"squid:S2885"})
-public class Utils {
-
-    private Utils(){}
-
-    public static final SimpleDateFormat DATE_FORMATTER = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSXXX");
-
-}
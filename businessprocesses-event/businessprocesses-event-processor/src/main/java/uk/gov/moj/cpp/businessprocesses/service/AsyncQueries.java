@@ -0,0 +1,113 @@
+package uk.gov.moj.cpp.businessprocesses.service;
+
+import static java.lang.String.format;
+import static java.time.Duration.parse;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import uk.gov.justice.services.common.configuration.Value;
+import uk.gov.moj.cpp.businessprocesses.shared.DownstreamUnavailableException;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.Resource;
+import javax.enterprise.concurrent.ManagedExecutorService;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+/**
+ * Runs independent downstream queries concurrently, so a handler that needs the results of
+ * several of them waits for the slowest one rather than for all of them in turn.
+ *
+ * <p>Queries are started with {@link #submit} on the container managed executor and collected
+ * with {@link #await}, which gives up once {@code downstreamQueryDeadline} has elapsed since the
+ * query was submitted. A query that misses its deadline or is given up with {@link #cancel} is
+ * interrupted rather than left running. Without a managed executor, e.g. in unit tests, queries
+ * run on the calling thread as they are submitted.
+ *
+ * <p>Only submit queries that go downstream and whose result will be awaited; anything served
+ * from a local cache is quicker to call directly.
+ *
+ * <p>Queries submitted here run outside the request context of the handled envelope, so they are
+ * not memoized by {@link QueryMemo}.
+ */
+@ApplicationScoped
+public class AsyncQueries {
+
+    @Resource
+    private ManagedExecutorService managedExecutorService;
+
+    @Inject
+    @Value(key = "downstreamQueryDeadline", defaultValue = "PT10S")
+    private String queryDeadline;
+
+    private Duration deadline;
+
+    @PostConstruct
+    public void init() {
+        deadline = parse(queryDeadline);
+    }
+
+    public <T> CompletableFuture<T> submit(final Supplier<T> query) {
+        if (managedExecutorService == null) {
+            try {
+                return completedFuture(query.get());
+            } catch (final RuntimeException e) {
+                return failedFuture(e);
+            }
+        }
+        final CompletableFuture<T> pendingQuery = new CompletableFuture<>();
+        final Future<?> runningQuery = managedExecutorService.submit(() -> {
+            try {
+                pendingQuery.complete(query.get());
+            } catch (final RuntimeException | Error e) {
+                pendingQuery.completeExceptionally(e);
+            }
+        });
+        pendingQuery.whenComplete((result, failure) -> {
+            if (failure != null) {
+                runningQuery.cancel(true);
+            }
+        });
+        return pendingQuery.orTimeout(deadline.toMillis(), MILLISECONDS);
+    }
+
+    /**
+     * Gives up the queries that have not completed yet, e.g. when the handler fails before it
+     * gets to await them.
+     */
+    public void cancel(final Collection<? extends CompletableFuture<?>> pendingQueries) {
+        pendingQueries.forEach(pendingQuery -> pendingQuery.cancel(true));
+    }
+
+    /**
+     * @return the result of the query, once it is available.
+     * @throws DownstreamUnavailableException when the query did not complete within its deadline,
+     *                                         so the envelope or job is handled again later.
+     */
+    public <T> T await(final CompletableFuture<T> pendingQuery) {
+        try {
+            return pendingQuery.join();
+        } catch (final CompletionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof TimeoutException) {
+                throw new DownstreamUnavailableException(format("Downstream query given up, no answer within %s", deadline));
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+}
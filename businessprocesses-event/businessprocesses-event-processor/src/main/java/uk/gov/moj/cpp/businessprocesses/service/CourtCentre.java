@@ -0,0 +1,75 @@
+package uk.gov.moj.cpp.businessprocesses.service;
+
+import static uk.gov.justice.services.messaging.JsonObjects.createObjectBuilder;
+import static uk.gov.moj.cpp.businessprocesses.service.ReferenceDataService.getCourtCentreId;
+import static uk.gov.moj.cpp.businessprocesses.service.ReferenceDataService.getCourtCentreOuCode;
+import static uk.gov.moj.cpp.businessprocesses.service.ReferenceDataService.getCourtCentreRegion;
+
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+
+/**
+ * Immutable view of the court centre fields the event processors need, read once from the
+ * reference data court centre payload.
+ */
+public final class CourtCentre {
+
+    private static final String ID = "id";
+    private static final String OUCODE = "oucode";
+    private static final String REGION = "region";
+    private static final String IS_WELSH = "isWelsh";
+
+    private final String id;
+    private final String ouCode;
+    private final String region;
+    private final boolean welsh;
+
+    private CourtCentre(final String id, final String ouCode, final String region, final boolean welsh) {
+        this.id = id;
+        this.ouCode = ouCode;
+        this.region = region;
+        this.welsh = welsh;
+    }
+
+    public static CourtCentre from(final JsonObject courtCentreDetails) {
+        return new CourtCentre(
+                getCourtCentreId(courtCentreDetails),
+                getCourtCentreOuCode(courtCentreDetails),
+                getCourtCentreRegion(courtCentreDetails),
+                courtCentreDetails.getBoolean(IS_WELSH, false));
+    }
+
+    /**
+     * @return the fields of this court centre in the reference data payload format, so that
+     * {@link #from(JsonObject)} reads them back.
+     */
+    public JsonObject toJson() {
+        final JsonObjectBuilder courtCentreDetails = createObjectBuilder().add(IS_WELSH, welsh);
+        if (id != null) {
+            courtCentreDetails.add(ID, id);
+        }
+        if (ouCode != null) {
+            courtCentreDetails.add(OUCODE, ouCode);
+        }
+        if (region != null) {
+            courtCentreDetails.add(REGION, region);
+        }
+        return courtCentreDetails.build();
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getOuCode() {
+        return ouCode;
+    }
+
+    public String getRegion() {
+        return region;
+    }
+
+    public boolean isWelsh() {
+        return welsh;
+    }
+}
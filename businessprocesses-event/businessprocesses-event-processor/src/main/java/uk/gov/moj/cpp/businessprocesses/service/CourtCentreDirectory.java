@@ -0,0 +1,224 @@
+package uk.gov.moj.cpp.businessprocesses.service;
+
+import static java.lang.Integer.parseInt;
+import static java.time.Duration.parse;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static java.util.Optional.ofNullable;
+import static uk.gov.justice.services.messaging.JsonObjects.createObjectBuilder;
+
+import uk.gov.justice.services.common.configuration.Value;
+import uk.gov.moj.cpp.businessprocesses.cache.CacheMetrics;
+import uk.gov.moj.cpp.businessprocesses.cache.RefreshAheadCache;
+import uk.gov.moj.cpp.businessprocesses.shared.DownstreamUnavailableException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.Resource;
+import javax.enterprise.concurrent.ManagedExecutorService;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * In-process directory of court centres, indexed by court centre id, OU code, court room code and
+ * court room name. Each index is filled the first time a key is looked up and hot entries are
+ * reloaded in the background before they expire, so the event processors do not go to reference
+ * data for every event that mentions a court.
+ *
+ * <p>The OU code index is populated from court centres loaded by id; there is no reference data
+ * query by OU code, so {@link #findByOuCode(String)} only answers for courts already seen.
+ *
+ * <p>A failed reference data call is not cached, it is retried on the next lookup. While reference
+ * data is unavailable the lookups fail with {@link DownstreamUnavailableException} rather than
+ * answer as if the court were unknown, so the event is redelivered.
+ */
+@ApplicationScoped
+public class CourtCentreDirectory {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CourtCentreDirectory.class);
+    private static final String BY_ID = "byId";
+    private static final String BY_COURT_ROOM_CODE = "byCourtRoomCode";
+    private static final String BY_COURT_ROOM_NAME = "byCourtRoomName";
+
+    @Inject
+    private ReferenceDataService referenceDataService;
+
+    @Resource
+    private ManagedExecutorService managedExecutorService;
+
+    @Inject
+    @Value(key = "courtCentreDirectoryTimeToLive", defaultValue = "PT12H")
+    private String timeToLive;
+
+    @Inject
+    @Value(key = "courtCentreDirectoryRefreshAfter", defaultValue = "PT1H")
+    private String refreshAfter;
+
+    @Inject
+    @Value(key = "courtCentreDirectoryNegativeTimeToLive", defaultValue = "PT5M")
+    private String negativeTimeToLive;
+
+    @Inject
+    @Value(key = "courtCentreDirectoryMaximumSize", defaultValue = "2000")
+    private String maximumSize;
+
+    private final Map<String, CourtCentre> courtCentresByOuCode = new ConcurrentHashMap<>();
+
+    private RefreshAheadCache<String, CourtCentre> courtCentresById;
+    private RefreshAheadCache<String, CourtCentre> courtCentresByCourtRoomCode;
+    private RefreshAheadCache<String, CourtCentre> courtCentresByCourtRoomName;
+
+    @PostConstruct
+    public void init() {
+        courtCentresById = newIndex("courtCentresById", this::loadByCourtId);
+        courtCentresByCourtRoomCode = newIndex("courtCentresByCourtRoomCode", courtRoomCode ->
+                load("courtRoomCode", courtRoomCode, referenceDataService::retrieveCourtCentreDetailsByCourtRoomCode));
+        courtCentresByCourtRoomName = newIndex("courtCentresByCourtRoomName", courtRoomName ->
+                load("courtRoomName", courtRoomName, referenceDataService::retrieveCourtCentreDetailsByCourtRoomName));
+    }
+
+    public Optional<CourtCentre> findById(final String courtCentreId) {
+        return find(courtCentresById, courtCentreId);
+    }
+
+    public Optional<CourtCentre> findByOuCode(final String ouCode) {
+        return ofNullable(ouCode).map(courtCentresByOuCode::get);
+    }
+
+    public Optional<CourtCentre> findByCourtRoomCode(final String courtRoomCode) {
+        return find(courtCentresByCourtRoomCode, courtRoomCode);
+    }
+
+    public Optional<CourtCentre> findByCourtRoomName(final String courtRoomName) {
+        return find(courtCentresByCourtRoomName, courtRoomName);
+    }
+
+    public String getOuCodeByCourtId(final String courtCentreId) {
+        return findById(courtCentreId).map(CourtCentre::getOuCode).orElse(null);
+    }
+
+    public String getOuCodeByCourtRoomCode(final String courtRoomCode) {
+        return findByCourtRoomCode(courtRoomCode).map(CourtCentre::getOuCode).orElse(null);
+    }
+
+    public String getOuCodeByCourtRoomName(final String courtRoomName) {
+        return findByCourtRoomName(courtRoomName).map(CourtCentre::getOuCode).orElse(null);
+    }
+
+    /**
+     * The court room code payload does not carry the region, so the court centre it points at is
+     * resolved through the id index.
+     */
+    public String getRegionByCourtRoomCode(final String courtRoomCode) {
+        return findByCourtRoomCode(courtRoomCode)
+                .map(CourtCentre::getId)
+                .flatMap(this::findById)
+                .map(CourtCentre::getRegion)
+                .orElse(null);
+    }
+
+    public boolean isWelshCourt(final String courtCentreId) {
+        final boolean isWelsh = findById(courtCentreId).map(CourtCentre::isWelsh).orElse(false);
+        LOGGER.info("CourtId = {}, isWelsh= {}", courtCentreId, isWelsh);
+        return isWelsh;
+    }
+
+    /**
+     * @return the court centres currently held by each index, for a {@link ReferenceDataSnapshot}.
+     */
+    public JsonObject snapshot() {
+        return createObjectBuilder()
+                .add(BY_ID, snapshot(courtCentresById))
+                .add(BY_COURT_ROOM_CODE, snapshot(courtCentresByCourtRoomCode))
+                .add(BY_COURT_ROOM_NAME, snapshot(courtCentresByCourtRoomName))
+                .build();
+    }
+
+    /**
+     * Preloads the court centres of a {@link #snapshot()}. Each one is reloaded from reference
+     * data in the background the first time it is looked up.
+     */
+    public void restore(final JsonObject snapshot) {
+        restore(snapshot.getJsonObject(BY_ID), courtCentresById);
+        restore(snapshot.getJsonObject(BY_COURT_ROOM_CODE), courtCentresByCourtRoomCode);
+        restore(snapshot.getJsonObject(BY_COURT_ROOM_NAME), courtCentresByCourtRoomName);
+        courtCentresById.asMap().values().stream()
+                .filter(courtCentre -> courtCentre.getOuCode() != null)
+                .forEach(courtCentre -> courtCentresByOuCode.putIfAbsent(courtCentre.getOuCode(), courtCentre));
+    }
+
+    public List<CacheMetrics> getMetrics() {
+        return List.of(courtCentresById.metrics(), courtCentresByCourtRoomCode.metrics(), courtCentresByCourtRoomName.metrics());
+    }
+
+    public void invalidateAll() {
+        courtCentresById.invalidateAll();
+        courtCentresByCourtRoomCode.invalidateAll();
+        courtCentresByCourtRoomName.invalidateAll();
+        courtCentresByOuCode.clear();
+    }
+
+    private RefreshAheadCache<String, CourtCentre> newIndex(final String name, final Function<String, Optional<CourtCentre>> loader) {
+        return RefreshAheadCache.builder(name, loader)
+                .withTimeToLive(parse(timeToLive))
+                .withRefreshAfter(parse(refreshAfter))
+                .withNegativeTimeToLive(parse(negativeTimeToLive))
+                .withMaximumSize(parseInt(maximumSize))
+                .withRefreshExecutor(managedExecutorService)
+                .build();
+    }
+
+    private static JsonObject snapshot(final RefreshAheadCache<String, CourtCentre> index) {
+        final JsonObjectBuilder courtCentres = createObjectBuilder();
+        index.asMap().forEach((key, courtCentre) -> courtCentres.add(key, courtCentre.toJson()));
+        return courtCentres.build();
+    }
+
+    private static void restore(final JsonObject courtCentres, final RefreshAheadCache<String, CourtCentre> index) {
+        if (courtCentres != null) {
+            courtCentres.forEach((key, courtCentreDetails) -> index.preload(key, CourtCentre.from((JsonObject) courtCentreDetails)));
+        }
+    }
+
+    private Optional<CourtCentre> find(final RefreshAheadCache<String, CourtCentre> index, final String key) {
+        if (key == null) {
+            return empty();
+        }
+        try {
+            return index.get(key);
+        } catch (final DownstreamUnavailableException e) {
+            throw e;
+        } catch (final RuntimeException e) {
+            LOGGER.warn("Unable to resolve court centre for {} from reference data", key, e);
+            return empty();
+        }
+    }
+
+    private Optional<CourtCentre> loadByCourtId(final String courtCentreId) {
+        final Optional<CourtCentre> courtCentre = load("courtId", courtCentreId, referenceDataService::retrieveCourtCentreDetailsByCourtId);
+        courtCentre.filter(loaded -> loaded.getOuCode() != null)
+                .ifPresent(loaded -> courtCentresByOuCode.put(loaded.getOuCode(), loaded));
+        return courtCentre;
+    }
+
+    private static Optional<CourtCentre> load(final String keyName, final String key, final Function<String, JsonObject> query) {
+        final JsonObject courtCentreDetails = query.apply(key);
+        if (courtCentreDetails == null) {
+            throw new IllegalStateException("No court centre details returned for " + keyName + ": " + key);
+        }
+        if (courtCentreDetails.isEmpty()) {
+            return empty();
+        }
+        return of(CourtCentre.from(courtCentreDetails));
+    }
+}
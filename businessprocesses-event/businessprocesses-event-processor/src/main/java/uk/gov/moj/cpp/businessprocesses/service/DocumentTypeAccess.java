@@ -0,0 +1,75 @@
+package uk.gov.moj.cpp.businessprocesses.service;
+
+import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.SECTION;
+import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.SECTION_APPLICATIONS;
+import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.SECTION_CORRESPONDENCE;
+import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.SECTION_PLEA;
+
+import java.util.Set;
+
+import javax.json.JsonObject;
+
+/**
+ * Immutable view of the section and access fields of a document type, read once from the
+ * reference data document type access payload.
+ */
+public final class DocumentTypeAccess {
+
+    private static final Set<String> TRIAGE_SECTIONS = Set.of(SECTION_APPLICATIONS, SECTION_PLEA, SECTION_CORRESPONDENCE);
+
+    private static final String SECTION_CODE = "section_code";
+    private static final String DOCUMENT_CATEGORY = "document_category";
+    private static final String JURISDICTION = "jurisdiction";
+
+    private final String documentTypeId;
+    private final String section;
+    private final String sectionCode;
+    private final String documentCategory;
+    private final String jurisdiction;
+
+    private DocumentTypeAccess(final String documentTypeId, final String section, final String sectionCode,
+                               final String documentCategory, final String jurisdiction) {
+        this.documentTypeId = documentTypeId;
+        this.section = section;
+        this.sectionCode = sectionCode;
+        this.documentCategory = documentCategory;
+        this.jurisdiction = jurisdiction;
+    }
+
+    public static DocumentTypeAccess from(final String documentTypeId, final JsonObject documentType) {
+        return new DocumentTypeAccess(
+                documentTypeId,
+                documentType.getString(SECTION, null),
+                documentType.getString(SECTION_CODE, null),
+                documentType.getString(DOCUMENT_CATEGORY, null),
+                documentType.getString(JURISDICTION, null));
+    }
+
+    public String getDocumentTypeId() {
+        return documentTypeId;
+    }
+
+    public String getSection() {
+        return section;
+    }
+
+    public String getSectionCode() {
+        return sectionCode;
+    }
+
+    public String getDocumentCategory() {
+        return documentCategory;
+    }
+
+    public String getJurisdiction() {
+        return jurisdiction;
+    }
+
+    /**
+     * @return true when documents of this type are uploaded to a section that raises a triage
+     * incoming document task.
+     */
+    public boolean isTriageSection() {
+        return TRIAGE_SECTIONS.contains(section);
+    }
+}
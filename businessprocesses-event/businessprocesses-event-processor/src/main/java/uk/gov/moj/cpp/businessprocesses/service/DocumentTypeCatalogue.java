@@ -0,0 +1,83 @@
+package uk.gov.moj.cpp.businessprocesses.service;
+
+import static java.lang.Integer.parseInt;
+import static java.time.Duration.parse;
+
+import uk.gov.justice.services.common.configuration.Value;
+import uk.gov.moj.cpp.businessprocesses.cache.CacheMetrics;
+import uk.gov.moj.cpp.businessprocesses.cache.RefreshAheadCache;
+
+import java.util.Optional;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.Resource;
+import javax.enterprise.concurrent.ManagedExecutorService;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+/**
+ * In-process index of {@link DocumentTypeAccess} keyed by document type id.
+ *
+ * <p>Document types are a small and almost static catalogue, so entries are kept for a long time
+ * and reloaded in the background before they expire. Reference data has no query listing every
+ * document type, so each type is loaded the first time a document of that type is added.
+ */
+@ApplicationScoped
+public class DocumentTypeCatalogue {
+
+    @Inject
+    private ReferenceDataService referenceDataService;
+
+    @Resource
+    private ManagedExecutorService managedExecutorService;
+
+    @Inject
+    @Value(key = "documentTypeCacheTimeToLive", defaultValue = "PT12H")
+    private String timeToLive;
+
+    @Inject
+    @Value(key = "documentTypeCacheRefreshAfter", defaultValue = "PT1H")
+    private String refreshAfter;
+
+    @Inject
+    @Value(key = "documentTypeCacheNegativeTimeToLive", defaultValue = "PT5M")
+    private String negativeTimeToLive;
+
+    @Inject
+    @Value(key = "documentTypeCacheMaximumSize", defaultValue = "1000")
+    private String maximumSize;
+
+    private RefreshAheadCache<String, DocumentTypeAccess> documentTypes;
+
+    @PostConstruct
+    public void init() {
+        documentTypes = RefreshAheadCache.<String, DocumentTypeAccess>builder("documentTypes", this::loadDocumentType)
+                .withTimeToLive(parse(timeToLive))
+                .withRefreshAfter(parse(refreshAfter))
+                .withNegativeTimeToLive(parse(negativeTimeToLive))
+                .withMaximumSize(parseInt(maximumSize))
+                .withRefreshExecutor(managedExecutorService)
+                .build();
+    }
+
+    public Optional<DocumentTypeAccess> getDocumentType(final String documentTypeId) {
+        if (documentTypeId == null) {
+            return Optional.empty();
+        }
+        return documentTypes.get(documentTypeId);
+    }
+
+    public void invalidateAll() {
+        documentTypes.invalidateAll();
+    }
+
+    public CacheMetrics getMetrics() {
+        return documentTypes.metrics();
+    }
+
+    private Optional<DocumentTypeAccess> loadDocumentType(final String documentTypeId) {
+        return referenceDataService.getDocumentType(documentTypeId)
+                .filter(documentType -> !documentType.isEmpty())
+                .map(documentType -> DocumentTypeAccess.from(documentTypeId, documentType));
+    }
+}
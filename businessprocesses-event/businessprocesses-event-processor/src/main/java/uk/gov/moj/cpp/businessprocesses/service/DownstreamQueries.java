@@ -0,0 +1,386 @@
+package uk.gov.moj.cpp.businessprocesses.service;
+
+import static java.lang.Integer.parseInt;
+import static java.lang.String.format;
+import static java.lang.Math.min;
+import static java.time.Duration.parse;
+import static java.util.Arrays.stream;
+import static java.util.Optional.ofNullable;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toSet;
+
+import uk.gov.justice.services.common.configuration.Value;
+import uk.gov.justice.services.messaging.JsonEnvelope;
+import uk.gov.moj.cpp.businessprocesses.downstream.CircuitBreaker;
+import uk.gov.moj.cpp.businessprocesses.downstream.DownstreamContext;
+import uk.gov.moj.cpp.businessprocesses.downstream.HedgeBudget;
+import uk.gov.moj.cpp.businessprocesses.downstream.QueryMetrics;
+import uk.gov.moj.cpp.businessprocesses.downstream.SingleFlight;
+import uk.gov.moj.cpp.businessprocesses.shared.DownstreamUnavailableException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.annotation.Resource;
+import javax.enterprise.concurrent.ManagedThreadFactory;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.json.JsonArray;
+import javax.json.JsonObject;
+import javax.json.JsonValue;
+
+/**
+ * Entry point for every query the event processor sends to another context. Each downstream
+ * context, taken from the first segment of the query name ({@code referencedata},
+ * {@code progression}, {@code listing}, {@code hearing}, {@code usersgroups}), gets its own
+ * {@link DownstreamContext}, so one slow context cannot take up every processor thread.
+ *
+ * <p>Queries that are turned away fail with a {@link DownstreamUnavailableException}, which is
+ * safe to retry. Metrics are kept per query name.
+ *
+ * <p>With a managed thread factory, each call is made on a pool of {@code downstreamCallPoolSize}
+ * threads of its own while the caller waits at most {@code downstreamQueryDeadline}. The pool is
+ * kept apart from the managed executor because the callers waiting on it often run there. A call
+ * without an answer by then is interrupted, and a call finding every thread of the pool busy is not
+ * sent; either way the query fails with a {@link DownstreamUnavailableException}. Without a
+ * factory, e.g. in unit tests, the call is made on the calling thread and a late answer is only
+ * counted as slow.
+ *
+ * <p>Read-only queries named in {@code hedgedQueries} can be hedged, see {@link #hedgedQuery}.
+ *
+ * <p>Identical queries, i.e. with the same name, user and payload, that are sent while the same
+ * query is already in flight share its answer instead of being sent again.
+ */
+@ApplicationScoped
+public class DownstreamQueries {
+
+    private static final int MINIMUM_LATENCY_SAMPLES = 20;
+    private static final int MAXIMUM_HEDGE_BURST = 10;
+    private static final String INTERRUPTED = "Interrupted while waiting for a downstream query";
+
+    @Inject
+    @Value(key = "downstreamMaxConcurrentQueries", defaultValue = "10")
+    private String maxConcurrentQueries;
+
+    @Inject
+    @Value(key = "downstreamBulkheadWait", defaultValue = "PT0.5S")
+    private String bulkheadWait;
+
+    @Inject
+    @Value(key = "downstreamQueryDeadline", defaultValue = "PT10S")
+    private String queryDeadline;
+
+    @Inject
+    @Value(key = "downstreamCircuitBreakerFailureThreshold", defaultValue = "5")
+    private String failureThreshold;
+
+    @Inject
+    @Value(key = "downstreamCircuitBreakerOpenDuration", defaultValue = "PT30S")
+    private String openDuration;
+
+    @Inject
+    @Value(key = "hedgedQueries", defaultValue = "")
+    private String hedgedQueries;
+
+    @Inject
+    @Value(key = "hedgeDelayPercentile", defaultValue = "95")
+    private String hedgeDelayPercentile;
+
+    @Inject
+    @Value(key = "hedgeBudgetPercent", defaultValue = "5")
+    private String hedgeBudgetPercent;
+
+    @Inject
+    @Value(key = "downstreamCallPoolSize", defaultValue = "50")
+    private String callPoolSize;
+
+    @Resource
+    private ManagedThreadFactory managedThreadFactory;
+
+    private Clock clock = Clock.systemUTC();
+
+    private final ConcurrentMap<String, DownstreamContext> contexts = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, QueryMetrics> metrics = new ConcurrentHashMap<>();
+    private final SingleFlight singleFlight = new SingleFlight();
+
+    private int maxConcurrentCalls;
+    private Duration bulkheadWaitDuration;
+    private Duration deadline;
+    private int circuitBreakerFailureThreshold;
+    private Duration circuitBreakerOpenDuration;
+    private Set<String> hedgedQueryNames;
+    private double hedgePercentile;
+    private HedgeBudget hedgeBudget;
+    private ExecutorService callPool;
+
+    @PostConstruct
+    public void init() {
+        maxConcurrentCalls = parseInt(maxConcurrentQueries);
+        bulkheadWaitDuration = parse(bulkheadWait);
+        deadline = parse(queryDeadline);
+        circuitBreakerFailureThreshold = parseInt(failureThreshold);
+        circuitBreakerOpenDuration = parse(openDuration);
+        hedgedQueryNames = stream(hedgedQueries.split(","))
+                .map(String::trim)
+                .filter(queryName -> !queryName.isEmpty())
+                .collect(toSet());
+        hedgePercentile = Double.parseDouble(hedgeDelayPercentile);
+        hedgeBudget = new HedgeBudget(parseInt(hedgeBudgetPercent), MAXIMUM_HEDGE_BURST);
+        if (callPool == null && managedThreadFactory != null) {
+            final int poolSize = parseInt(callPoolSize);
+            final ThreadPoolExecutor pool = new ThreadPoolExecutor(poolSize, poolSize, 60, SECONDS, new SynchronousQueue<>(), managedThreadFactory);
+            pool.allowCoreThreadTimeOut(true);
+            callPool = pool;
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (callPool != null) {
+            callPool.shutdownNow();
+        }
+    }
+
+    /**
+     * Sends the query, unless an identical query is already in flight, through the bulkhead and
+     * circuit breaker of its downstream context.
+     *
+     * @param query       the query envelope; its name and payload identify the query
+     * @param remoteQuery sends the query and returns its result
+     * @throws DownstreamUnavailableException when the query was not sent
+     */
+    public <T> T query(final JsonEnvelope query, final Supplier<T> remoteQuery) {
+        final String queryName = query.metadata().name();
+        return singleFlight.execute(keyOf(query), () -> query(queryName, remoteQuery), () -> metricsOf(queryName).recordCoalesced());
+    }
+
+    /**
+     * As {@link #query(JsonEnvelope, Supplier)}, hedged as described at
+     * {@link #hedgedQuery(String, Supplier)}.
+     */
+    public <T> T hedgedQuery(final JsonEnvelope query, final Supplier<T> remoteQuery) {
+        final String queryName = query.metadata().name();
+        return singleFlight.execute(keyOf(query), () -> hedgedQuery(queryName, remoteQuery), () -> metricsOf(queryName).recordCoalesced());
+    }
+
+    /**
+     * Sends a query through the bulkhead and circuit breaker of its downstream context.
+     *
+     * @param queryName the name of the query, e.g. {@code referencedata.query.workflow-task-types}
+     * @param query     sends the query and returns its result
+     * @throws DownstreamUnavailableException when the query was not sent, or was given up at its
+     *                                        deadline
+     */
+    public <T> T query(final String queryName, final Supplier<T> query) {
+        if (callPool == null) {
+            return call(queryName, query);
+        }
+        return await(queryName, start(queryName, query), deadline.toNanos());
+    }
+
+    /**
+     * Like {@link #query}, but when the query is named in {@code hedgedQueries} and no answer has
+     * arrived once the {@code hedgeDelayPercentile} latency of its recent calls has elapsed, a
+     * duplicate is sent and whichever answer arrives first is used. Duplicates are limited to
+     * {@code hedgeBudgetPercent}% of the hedgeable queries. Only use this for read-only queries.
+     */
+    public <T> T hedgedQuery(final String queryName, final Supplier<T> query) {
+        if (callPool == null || !hedgedQueryNames.contains(queryName)) {
+            return query(queryName, query);
+        }
+
+        final QueryMetrics queryMetrics = metricsOf(queryName);
+        final OptionalLong recentLatencyNanos = queryMetrics.getRecentLatencyPercentileNanos(hedgePercentile, MINIMUM_LATENCY_SAMPLES);
+        hedgeBudget.recordRequest();
+        final CompletableFuture<T> primary = start(queryName, query);
+        if (recentLatencyNanos.isEmpty()) {
+            return await(queryName, primary, deadline.toNanos());
+        }
+
+        final long hedgeDelayNanos = min(recentLatencyNanos.getAsLong(), deadline.toNanos());
+        try {
+            return primary.get(hedgeDelayNanos, NANOSECONDS);
+        } catch (final TimeoutException e) {
+            if (!hedgeBudget.tryAcquire()) {
+                return await(queryName, primary, deadline.toNanos() - hedgeDelayNanos);
+            }
+        } catch (final ExecutionException e) {
+            throw unwrap(e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(INTERRUPTED, e);
+        }
+
+        final CompletableFuture<T> hedge;
+        try {
+            hedge = start(queryName, query);
+        } catch (final DownstreamUnavailableException e) {
+            return await(queryName, primary, deadline.toNanos() - hedgeDelayNanos);
+        }
+        queryMetrics.recordHedge();
+        hedge.thenRun(() -> {
+            if (!primary.isDone()) {
+                queryMetrics.recordHedgeWin();
+            }
+        });
+        try {
+            return await(queryName, firstAnswer(primary, hedge), deadline.toNanos() - hedgeDelayNanos);
+        } catch (final DownstreamUnavailableException e) {
+            primary.cancel(true);
+            hedge.cancel(true);
+            throw e;
+        }
+    }
+
+    public Optional<QueryMetrics> getMetrics(final String queryName) {
+        return ofNullable(metrics.get(queryName));
+    }
+
+    public Collection<QueryMetrics> getAllMetrics() {
+        return metrics.values();
+    }
+
+    public Optional<DownstreamContext> getContext(final String contextName) {
+        return ofNullable(contexts.get(contextName));
+    }
+
+    private <T> T call(final String queryName, final Supplier<T> query) {
+        final QueryMetrics queryMetrics = metricsOf(queryName);
+        return contexts.computeIfAbsent(contextOf(queryName), this::newContext).call(queryMetrics, query);
+    }
+
+    /**
+     * Starts the call on the call pool. Cancelling the returned future interrupts the call.
+     *
+     * @throws DownstreamUnavailableException when every thread of the pool is busy
+     */
+    private <T> CompletableFuture<T> start(final String queryName, final Supplier<T> query) {
+        final CompletableFuture<T> pendingQuery = new CompletableFuture<>();
+        final Future<?> runningQuery;
+        try {
+            runningQuery = callPool.submit(() -> {
+                try {
+                    pendingQuery.complete(call(queryName, query));
+                } catch (final RuntimeException | Error e) {
+                    pendingQuery.completeExceptionally(e);
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            metricsOf(queryName).recordRejection();
+            throw new DownstreamUnavailableException(format("%s not sent, all %s downstream call threads are busy", queryName, callPoolSize));
+        }
+        pendingQuery.whenComplete((result, failure) -> {
+            if (failure != null) {
+                runningQuery.cancel(true);
+            }
+        });
+        return pendingQuery;
+    }
+
+    private QueryMetrics metricsOf(final String queryName) {
+        return metrics.computeIfAbsent(queryName, QueryMetrics::new);
+    }
+
+    private DownstreamContext newContext(final String contextName) {
+        return new DownstreamContext(contextName, maxConcurrentCalls, bulkheadWaitDuration, deadline,
+                new CircuitBreaker(circuitBreakerFailureThreshold, circuitBreakerOpenDuration, clock));
+    }
+
+    private <T> T await(final String queryName, final CompletableFuture<T> pendingQuery, final long timeoutNanos) {
+        try {
+            return pendingQuery.get(timeoutNanos, NANOSECONDS);
+        } catch (final ExecutionException e) {
+            throw unwrap(e);
+        } catch (final TimeoutException e) {
+            pendingQuery.cancel(true);
+            metricsOf(queryName).recordTimeout();
+            throw new DownstreamUnavailableException(format("%s given up, no answer within %s", queryName, deadline));
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(INTERRUPTED, e);
+        }
+    }
+
+    /**
+     * @return the first successful answer of either query, or the failure of the last one to fail.
+     */
+    private static <T> CompletableFuture<T> firstAnswer(final CompletableFuture<T> primary, final CompletableFuture<T> hedge) {
+        final CompletableFuture<T> first = new CompletableFuture<>();
+        final AtomicInteger failures = new AtomicInteger();
+        for (final CompletableFuture<T> attempt : List.of(primary, hedge)) {
+            attempt.whenComplete((result, failure) -> {
+                if (failure == null) {
+                    first.complete(result);
+                } else if (failures.incrementAndGet() == 2) {
+                    first.completeExceptionally(failure);
+                }
+            });
+        }
+        return first;
+    }
+
+    private static RuntimeException unwrap(final ExecutionException e) {
+        final Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    private static String keyOf(final JsonEnvelope query) {
+        return query.metadata().name() + '|' + query.metadata().userId().orElse("") + '|' + canonical(query.payload());
+    }
+
+    /**
+     * @return the JSON text of the value with the keys of every object in alphabetical order, so
+     * payloads built in a different order give the same text.
+     */
+    private static String canonical(final JsonValue value) {
+        if (value instanceof JsonObject) {
+            return ((JsonObject) value).entrySet().stream()
+                    .sorted(Map.Entry.comparingByKey())
+                    .map(entry -> quoted(entry.getKey()) + ':' + canonical(entry.getValue()))
+                    .collect(joining(",", "{", "}"));
+        }
+        if (value instanceof JsonArray) {
+            return ((JsonArray) value).stream()
+                    .map(DownstreamQueries::canonical)
+                    .collect(joining(",", "[", "]"));
+        }
+        return String.valueOf(value);
+    }
+
+    private static String quoted(final String key) {
+        return '"' + key.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+    }
+
+    private static String contextOf(final String queryName) {
+        final int endOfContext = queryName.indexOf('.');
+        return endOfContext < 0 ? queryName : queryName.substring(0, endOfContext);
+    }
+}
@@ -0,0 +1,278 @@
+package uk.gov.moj.cpp.businessprocesses.service;
+
+import static java.time.ZoneOffset.UTC;
+import static java.time.temporal.ChronoUnit.DAYS;
+import static java.util.Optional.empty;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toCollection;
+import static java.util.stream.Collectors.toMap;
+import static uk.gov.justice.services.core.annotation.Component.EVENT_PROCESSOR;
+import static uk.gov.justice.services.messaging.JsonEnvelope.envelopeFrom;
+import static uk.gov.justice.services.messaging.JsonObjects.createArrayBuilder;
+import static uk.gov.justice.services.messaging.JsonObjects.createObjectBuilder;
+import static uk.gov.moj.cpp.businessprocesses.shared.Constants.BPMN_PROCESS_PUBLIC_HOLIDAY_DUE_DATE_RECALCULATION;
+import static uk.gov.moj.cpp.businessprocesses.shared.Constants.CHANGE_AUTHOR;
+import static uk.gov.moj.cpp.businessprocesses.shared.Constants.CHANGE_AUTHOR_ID;
+import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.DUE_DATE;
+import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.LAST_UPDATED_BY_ID;
+import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.LAST_UPDATED_BY_NAME;
+import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.PREVIOUS_DUE;
+import static uk.gov.moj.cpp.businessprocesses.shared.TaskAuditService.getMetadata;
+import static uk.gov.moj.cpp.businessprocesses.shared.Timestamps.toServerZoneString;
+import static uk.gov.moj.cpp.businessprocesses.shared.Timestamps.toUtcString;
+
+import uk.gov.justice.services.common.configuration.Value;
+import uk.gov.justice.services.core.annotation.ServiceComponent;
+import uk.gov.justice.services.core.dispatcher.SystemUserProvider;
+import uk.gov.justice.services.core.sender.Sender;
+import uk.gov.moj.cpp.businessprocesses.shared.InvalidDueDateCalculationRuleException;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import javax.annotation.PostConstruct;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
+
+import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.engine.TaskService;
+import org.camunda.bpm.engine.task.Task;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Works out the due dates of open tasks again when public holidays in England and Wales change,
+ * so that tasks created before a holiday was added (or removed) are not due on it.
+ *
+ * <p>Each node reports a change its {@link WorkingDayCalendar} sees with a
+ * {@code businessprocesses.command.record-public-holidays} command. The change is only recorded
+ * once, and the node that handles the {@code businessprocesses.event.public-holidays-updated}
+ * event for it {@link #start starts} a {@code public-holiday-due-date-recalculation} process.
+ * Each batch of the process is a job of its own, and the last task id done is a process
+ * variable that commits with the batch. A recalculation cut short by a restart carries on from
+ * its last batch, and a failed batch is retried by the job executor.
+ *
+ * <p>Only tasks due within {@code dueDateRecalculationWindow} of a changed date are looked at,
+ * {@code dueDateRecalculationBatchSize} at a time in task id order. A task is moved when its due
+ * date rule gives a different date now and a changed date lies between the date the rule counts
+ * from and its old or new due date. Tasks whose due date has been changed by a user are left
+ * alone. The Camunda tasks of a batch are updated first and the viewstore then follows from a
+ * single {@code businessprocesses.command.record-task-due-dates-updated} command. Running a batch
+ * twice does no harm, as tasks already due on the recalculated date are skipped.
+ */
+@ApplicationScoped
+public class DueDateRecalculation {
+
+    static final String RECALCULATION_AUTHOR = "Public holiday due date recalculation";
+    static final String DIVISION = "division";
+    static final String YEAR = "year";
+    static final String PUBLIC_HOLIDAYS = "publicHolidays";
+    static final String CHANGED_DATES = "changedDates";
+    static final String AFTER_TASK_ID = "afterTaskId";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DueDateRecalculation.class);
+    private static final String RECORD_PUBLIC_HOLIDAYS = "businessprocesses.command.record-public-holidays";
+    private static final String RECORD_TASK_DUE_DATES_UPDATED = "businessprocesses.command.record-task-due-dates-updated";
+    private static final String TASKS = "tasks";
+    private static final String ID = "id";
+    private static final String DATE_SEPARATOR = ",";
+    private static final UUID FIRST_TASK_ID = new UUID(0, 0);
+
+    @Inject
+    private TaskDueDatesService taskDueDatesService;
+
+    @Inject
+    private WorkflowTaskTypeCatalogue workflowTaskTypeCatalogue;
+
+    @Inject
+    private CalendarWeekDayOperationsService calendarWeekDayOperationsService;
+
+    @Inject
+    private TaskService taskService;
+
+    @Inject
+    private RuntimeService runtimeService;
+
+    @Inject
+    private SystemUserProvider systemUserProvider;
+
+    @ServiceComponent(EVENT_PROCESSOR)
+    @Inject
+    private Sender sender;
+
+    @Inject
+    @Value(key = "dueDateRecalculationBatchSize", defaultValue = "200")
+    private String batchSize;
+
+    @Inject
+    @Value(key = "dueDateRecalculationWindow", defaultValue = "P60D")
+    private String window;
+
+    private int maxTasksPerBatch;
+    private Period dueDateWindow;
+
+    @PostConstruct
+    public void init() {
+        maxTasksPerBatch = Integer.parseInt(batchSize);
+        dueDateWindow = Period.parse(window);
+    }
+
+    /**
+     * Reports the public holidays this node has seen change, to be recorded once for every node.
+     */
+    public void onPublicHolidaysChanged(@Observes final PublicHolidaysChanged publicHolidaysChanged) {
+        final JsonArrayBuilder publicHolidays = createArrayBuilder();
+        publicHolidaysChanged.getPublicHolidays().forEach(date -> publicHolidays.add(date.toString()));
+        final JsonArrayBuilder changedDates = createArrayBuilder();
+        new TreeSet<>(publicHolidaysChanged.getChangedDates()).forEach(date -> changedDates.add(date.toString()));
+
+        final String userId = systemUserProvider.getContextSystemUserId().map(UUID::toString).orElse(null);
+        sender.sendAsAdmin(envelopeFrom(getMetadata(RECORD_PUBLIC_HOLIDAYS, userId), createObjectBuilder()
+                .add(DIVISION, publicHolidaysChanged.getDivision())
+                .add(YEAR, publicHolidaysChanged.getYear())
+                .add(PUBLIC_HOLIDAYS, publicHolidays)
+                .add(CHANGED_DATES, changedDates)
+                .build()));
+    }
+
+    /**
+     * Starts recalculating the due dates of the tasks affected by the recorded change of a
+     * division's public holidays for a year.
+     */
+    public void start(final String division, final int year, final List<LocalDate> publicHolidays, final Collection<LocalDate> changedDates) {
+        final Map<String, Object> processVariables = new HashMap<>();
+        processVariables.put(DIVISION, division);
+        processVariables.put(YEAR, year);
+        processVariables.put(PUBLIC_HOLIDAYS, join(publicHolidays));
+        processVariables.put(CHANGED_DATES, join(new TreeSet<>(changedDates)));
+        processVariables.put(AFTER_TASK_ID, FIRST_TASK_ID.toString());
+        runtimeService.startProcessInstanceByKey(BPMN_PROCESS_PUBLIC_HOLIDAY_DUE_DATE_RECALCULATION, division + '/' + year, processVariables);
+
+        LOGGER.info("Due date recalculation started for public holidays {} of division {}", changedDates, division);
+    }
+
+    /**
+     * Recalculates the next batch of tasks after {@code afterTaskId}, with a calendar of its own
+     * that uses the recorded public holidays of the division and year whichever node it runs on.
+     *
+     * @return the task id to carry on after, or empty once every task has been looked at.
+     */
+    public Optional<UUID> recalculateBatch(final String division, final int year, final String publicHolidays, final String changedDates, final UUID afterTaskId) {
+        final CalendarWeekDayOperationsService workingDays = calendarWeekDayOperationsService.withPublicHolidays(division, year, split(publicHolidays).toList());
+        final SortedSet<LocalDate> changed = split(changedDates).collect(toCollection(TreeSet::new));
+
+        final List<TaskDueDate> tasks = taskDueDatesService.getOpenTaskDueDates(
+                changed.first().minus(dueDateWindow).atStartOfDay(UTC),
+                changed.last().plus(dueDateWindow).plusDays(1).atStartOfDay(UTC),
+                afterTaskId, RECALCULATION_AUTHOR, maxTasksPerBatch);
+
+        recalculate(tasks, changed, workingDays);
+
+        return tasks.size() < maxTasksPerBatch ? empty() : Optional.of(tasks.get(tasks.size() - 1).getTaskId());
+    }
+
+    private void recalculate(final List<TaskDueDate> tasks, final SortedSet<LocalDate> changedDates, final CalendarWeekDayOperationsService workingDays) {
+        final Map<String, ZonedDateTime> newDueDates = new LinkedHashMap<>();
+        for (final TaskDueDate task : tasks) {
+            recalculatedDueDate(task, changedDates, workingDays).ifPresent(dueDate -> newDueDates.put(task.getTaskId().toString(), dueDate));
+        }
+        if (newDueDates.isEmpty()) {
+            return;
+        }
+
+        final String changeAuthorId = systemUserProvider.getContextSystemUserId()
+                .map(UUID::toString)
+                .orElseThrow(() -> new IllegalStateException("No system user to recalculate due dates with"));
+        final Map<String, Task> camundaTasks = taskService.createTaskQuery()
+                .taskIdIn(newDueDates.keySet().toArray(new String[0]))
+                .list().stream()
+                .collect(toMap(Task::getId, Function.identity()));
+
+        final JsonArrayBuilder updatedTasks = createArrayBuilder();
+        newDueDates.forEach((taskId, dueDate) -> {
+            final Task camundaTask = camundaTasks.get(taskId);
+            if (camundaTask != null) {
+                final Date due = Date.from(dueDate.toInstant());
+                taskService.setVariablesLocal(taskId, Map.of(
+                        LAST_UPDATED_BY_ID, changeAuthorId,
+                        LAST_UPDATED_BY_NAME, RECALCULATION_AUTHOR,
+                        PREVIOUS_DUE, toServerZoneString(due)));
+                camundaTask.setDueDate(due);
+                taskService.saveTask(camundaTask);
+                updatedTasks.add(createObjectBuilder().add(ID, taskId).add(DUE_DATE, toUtcString(due)));
+            }
+        });
+
+        final JsonObject payload = createObjectBuilder()
+                .add(TASKS, updatedTasks)
+                .add(CHANGE_AUTHOR_ID, changeAuthorId)
+                .add(CHANGE_AUTHOR, RECALCULATION_AUTHOR)
+                .build();
+        if (!payload.getJsonArray(TASKS).isEmpty()) {
+            sender.sendAsAdmin(envelopeFrom(getMetadata(RECORD_TASK_DUE_DATES_UPDATED, changeAuthorId), payload));
+            LOGGER.info("Recalculated the due dates of {} tasks for public holidays {}", payload.getJsonArray(TASKS).size(), changedDates);
+        }
+    }
+
+    private Optional<ZonedDateTime> recalculatedDueDate(final TaskDueDate task, final SortedSet<LocalDate> changedDates, final CalendarWeekDayOperationsService workingDays) {
+        final Optional<TaskTypeTemplate> template = workflowTaskTypeCatalogue.getTemplate(task.getType()).filter(TaskTypeTemplate::hasDueDateCalc);
+        if (template.isEmpty() || task.getCreatedDate() == null) {
+            return empty();
+        }
+
+        final DueDateRule rule;
+        try {
+            rule = DueDateRule.compile(template.get().getDueDateCalc());
+        } catch (final InvalidDueDateCalculationRuleException e) {
+            LOGGER.warn("Not recalculating the due date of task {}: {}", task.getTaskId(), e.getMessage());
+            return empty();
+        }
+        final LocalDate createdOn = utcDate(task.getCreatedDate());
+        final LocalDate hearingDate = task.getHearingDate() == null ? null : utcDate(task.getHearingDate());
+        if (rule.requiresHearingDate() && hearingDate == null) {
+            return empty();
+        }
+
+        final LocalDate currentDueDate = utcDate(task.getDueDate());
+        final LocalDate dueDate = rule.dueDate(createdOn, hearingDate, workingDays);
+        if (dueDate.equals(currentDueDate) || !spansChangedDate(changedDates, createdOn, hearingDate, currentDueDate, dueDate)) {
+            return empty();
+        }
+        return Optional.of(task.getDueDate().plusDays(DAYS.between(currentDueDate, dueDate)));
+    }
+
+    private static boolean spansChangedDate(final SortedSet<LocalDate> changedDates, final LocalDate... dates) {
+        final List<LocalDate> counted = Stream.of(dates).filter(date -> date != null).sorted().toList();
+        final LocalDate first = counted.get(0);
+        final LocalDate last = counted.get(counted.size() - 1);
+        return !changedDates.subSet(first, last.plusDays(1)).isEmpty();
+    }
+
+    private static LocalDate utcDate(final ZonedDateTime dateTime) {
+        return dateTime.withZoneSameInstant(UTC).toLocalDate();
+    }
+
+    private static String join(final Collection<LocalDate> dates) {
+        return dates.stream().map(LocalDate::toString).collect(joining(DATE_SEPARATOR));
+    }
+
+    private static Stream<LocalDate> split(final String dates) {
+        return Stream.of(dates.split(DATE_SEPARATOR)).filter(date -> !date.isEmpty()).map(LocalDate::parse);
+    }
+}
@@ -0,0 +1,217 @@
+package uk.gov.moj.cpp.businessprocesses.service;
+
+import static java.lang.Long.parseLong;
+
+import uk.gov.moj.cpp.businessprocesses.shared.InvalidDueDateCalculationRuleException;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A due date calculation rule from reference data, compiled once per rule text by
+ * {@link #compile(String)}. Rules are immutable and safe to share between threads.
+ *
+ * <p>A rule is an offset from {@code now} or {@code hearingDate}, optionally followed by
+ * {@code ;} separated modifiers, with or without the surrounding {@code ${...}}:
+ * <pre>
+ *     now                          today
+ *     now()+2d, now+2, now+2wd     two working days after today
+ *     hearingDate-5cd              five calendar days before the hearing date
+ *     hearingDate-5; at=17:00      five working days before the hearing date, due at 17:00
+ *     hearingDate-5; min=now+1     ... but no earlier than the next working day
+ *     hearingDate+10; max=now+20cd ... but no later than twenty calendar days from today
+ * </pre>
+ * A {@code d} or {@code wd} unit, or no unit, counts working days and {@code cd} counts calendar
+ * days. Without {@code at} the due date is at the end of the day (23:59:59). When both bounds are
+ * given the {@code max} bound wins.
+ *
+ * <p>A rule without modifiers that does not follow this grammar is read as it always has been:
+ * it is based on the hearing date when it mentions {@code hearingDate}, a {@code +} or {@code -}
+ * adds or subtracts working days, and the digits in the rule are the number of days.
+ */
+public final class DueDateRule {
+
+    private static final String HEARING_DATE = "hearingDate";
+    private static final LocalTime END_OF_DAY = LocalTime.of(23, 59, 59);
+    private static final int MAXIMUM_CACHED_RULES = 1000;
+    private static final Pattern OFFSET = Pattern.compile("(now|hearingDate)(?:([+-])(\\d{1,9})(d|wd|cd)?)?");
+    private static final ConcurrentMap<String, DueDateRule> RULES = new ConcurrentHashMap<>();
+
+    private final Offset offset;
+    private final Offset minimum;
+    private final Offset maximum;
+    private final LocalTime timeOfDay;
+
+    private DueDateRule(final Offset offset, final Offset minimum, final Offset maximum, final LocalTime timeOfDay) {
+        this.offset = offset;
+        this.minimum = minimum;
+        this.maximum = maximum;
+        this.timeOfDay = timeOfDay;
+    }
+
+    /**
+     * @return the compiled rule, from the cache when the same rule text has been compiled before
+     * @throws InvalidDueDateCalculationRuleException when the rule has modifiers that are not valid
+     */
+    public static DueDateRule compile(final String rule) {
+        final DueDateRule compiled = RULES.get(rule);
+        if (compiled != null) {
+            return compiled;
+        }
+        if (RULES.size() >= MAXIMUM_CACHED_RULES) {
+            return parse(rule);
+        }
+        return RULES.computeIfAbsent(rule, DueDateRule::parse);
+    }
+
+    public boolean requiresHearingDate() {
+        return offset.fromHearingDate
+                || (minimum != null && minimum.fromHearingDate)
+                || (maximum != null && maximum.fromHearingDate);
+    }
+
+    public LocalTime getTimeOfDay() {
+        return timeOfDay;
+    }
+
+    /**
+     * @param today       the date {@code now} refers to
+     * @param hearingDate the date {@code hearingDate} refers to, null when there is none
+     * @param workingDays working day arithmetic
+     * @throws InvalidDueDateCalculationRuleException when the rule needs a hearing date and there
+     *                                                is none
+     */
+    public LocalDate dueDate(final LocalDate today, final LocalDate hearingDate, final CalendarWeekDayOperationsService workingDays) {
+        if (hearingDate == null && requiresHearingDate()) {
+            throw new InvalidDueDateCalculationRuleException("Rule Expects HearingDate");
+        }
+
+        LocalDate dueDate = offset.apply(today, hearingDate, workingDays);
+        if (minimum != null) {
+            final LocalDate earliest = minimum.apply(today, hearingDate, workingDays);
+            if (dueDate.isBefore(earliest)) {
+                dueDate = earliest;
+            }
+        }
+        if (maximum != null) {
+            final LocalDate latest = maximum.apply(today, hearingDate, workingDays);
+            if (dueDate.isAfter(latest)) {
+                dueDate = latest;
+            }
+        }
+        return dueDate;
+    }
+
+    private static DueDateRule parse(final String rule) {
+        final String expression = unwrap(rule.replaceAll("\\s+", "")).replace("now()", "now");
+        final String[] parts = expression.split(";");
+        final Offset offset = parseOffset(parts[0]);
+        if (parts.length == 1) {
+            return new DueDateRule(offset != null ? offset : legacyOffset(rule), null, null, END_OF_DAY);
+        }
+        if (offset == null) {
+            throw invalid(rule);
+        }
+
+        Offset minimum = null;
+        Offset maximum = null;
+        LocalTime timeOfDay = END_OF_DAY;
+        for (int index = 1; index < parts.length; index++) {
+            final String modifier = parts[index];
+            if (modifier.startsWith("min=")) {
+                minimum = requireOffset(rule, modifier.substring(4));
+            } else if (modifier.startsWith("max=")) {
+                maximum = requireOffset(rule, modifier.substring(4));
+            } else if (modifier.startsWith("at=")) {
+                timeOfDay = parseTime(rule, modifier.substring(3));
+            } else if (!modifier.isEmpty()) {
+                throw invalid(rule);
+            }
+        }
+        return new DueDateRule(offset, minimum, maximum, timeOfDay);
+    }
+
+    private static String unwrap(final String expression) {
+        if (expression.startsWith("${") && expression.endsWith("}")) {
+            return expression.substring(2, expression.length() - 1);
+        }
+        return expression;
+    }
+
+    private static Offset parseOffset(final String expression) {
+        final Matcher matcher = OFFSET.matcher(expression);
+        if (!matcher.matches()) {
+            return null;
+        }
+        final boolean fromHearingDate = HEARING_DATE.equals(matcher.group(1));
+        if (matcher.group(2) == null) {
+            return new Offset(fromHearingDate, null, 0, true);
+        }
+        return new Offset(fromHearingDate, matcher.group(2), parseLong(matcher.group(3)), !"cd".equals(matcher.group(4)));
+    }
+
+    private static Offset requireOffset(final String rule, final String expression) {
+        final Offset offset = parseOffset(expression);
+        if (offset == null) {
+            throw invalid(rule);
+        }
+        return offset;
+    }
+
+    private static LocalTime parseTime(final String rule, final String time) {
+        try {
+            return LocalTime.parse(time);
+        } catch (final DateTimeParseException e) {
+            throw invalid(rule);
+        }
+    }
+
+    private static Offset legacyOffset(final String rule) {
+        final String formattedRule = rule.replaceAll("[^a-zA-Z0-9+-]", "");
+        final boolean fromHearingDate = rule.contains(HEARING_DATE);
+        final boolean plus = formattedRule.contains("+");
+        if (!plus && !formattedRule.contains("-")) {
+            return new Offset(fromHearingDate, null, 0, true);
+        }
+        final String digits = formattedRule.replaceAll("[^0-9]", "");
+        final long numberOfDays = digits.isEmpty() ? 0L : parseLong(digits);
+        return new Offset(fromHearingDate, plus ? "+" : "-", numberOfDays, true);
+    }
+
+    private static InvalidDueDateCalculationRuleException invalid(final String rule) {
+        return new InvalidDueDateCalculationRuleException("Invalid due date calculation rule " + rule);
+    }
+
+    private static final class Offset {
+        private final boolean fromHearingDate;
+        private final String sign;
+        private final long days;
+        private final boolean workingDays;
+
+        private Offset(final boolean fromHearingDate, final String sign, final long days, final boolean workingDays) {
+            this.fromHearingDate = fromHearingDate;
+            this.sign = sign;
+            this.days = days;
+            this.workingDays = workingDays;
+        }
+
+        private LocalDate apply(final LocalDate today, final LocalDate hearingDate, final CalendarWeekDayOperationsService workingDayOperations) {
+            final LocalDate date = fromHearingDate ? hearingDate : today;
+            if (sign == null) {
+                return date;
+            }
+            final boolean subtract = "-".equals(sign);
+            if (!workingDays) {
+                return subtract ? date.minusDays(days) : date.plusDays(days);
+            }
+            return subtract
+                    ? workingDayOperations.minusWorkingDays(date, days)
+                    : workingDayOperations.plusWorkingDays(date, days);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package uk.gov.moj.cpp.businessprocesses.service;
+
+import static java.time.Duration.parse;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import uk.gov.justice.services.common.configuration.Value;
+import uk.gov.justice.services.core.featurecontrol.FeatureControlGuard;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.annotation.Resource;
+import javax.enterprise.concurrent.ManagedScheduledExecutorService;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Immutable snapshot of the feature flags the event processor has checked, so that checking a
+ * flag on a hot path is one volatile read and a map lookup rather than a call to the
+ * {@link FeatureControlGuard}.
+ *
+ * <p>A flag is read from the guard the first time it is checked. Every flag in the snapshot is
+ * read again every {@code featureFlagRefreshInterval} in the background, so switching a flag on
+ * or off takes effect within that interval, on top of any caching done by the guard itself. When
+ * the background refresh has fallen behind, the first check after the interval refreshes the
+ * snapshot on the calling thread.
+ */
+@ApplicationScoped
+public class FeatureFlags {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FeatureFlags.class);
+
+    @Inject
+    private FeatureControlGuard featureControlGuard;
+
+    @Resource
+    private ManagedScheduledExecutorService managedScheduledExecutorService;
+
+    @Inject
+    @Value(key = "featureFlagRefreshInterval", defaultValue = "PT30S")
+    private String refreshInterval;
+
+    private volatile Snapshot snapshot = new Snapshot(Map.of(), System.nanoTime());
+
+    private long refreshIntervalNanos;
+    private ScheduledFuture<?> scheduledRefresh;
+
+    @PostConstruct
+    public void init() {
+        refreshIntervalNanos = parse(refreshInterval).toNanos();
+        if (managedScheduledExecutorService != null && refreshIntervalNanos > 0) {
+            scheduledRefresh = managedScheduledExecutorService.scheduleWithFixedDelay(this::refreshInBackground,
+                    refreshIntervalNanos, refreshIntervalNanos, NANOSECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduledRefresh != null) {
+            scheduledRefresh.cancel(false);
+        }
+    }
+
+    public boolean isFeatureEnabled(final String featureName) {
+        final Snapshot current = snapshot;
+        final Boolean enabled = current.flags.get(featureName);
+        if (enabled != null && current.isFresh(System.nanoTime())) {
+            return enabled;
+        }
+        return refresh(featureName);
+    }
+
+    private synchronized boolean refresh(final String featureName) {
+        final Snapshot current = snapshot;
+        final long now = System.nanoTime();
+        if (!current.isFresh(now)) {
+            snapshot = read(current.flags.keySet(), now);
+        }
+
+        final Boolean enabled = snapshot.flags.get(featureName);
+        if (enabled != null) {
+            return enabled;
+        }
+        final boolean featureEnabled = featureControlGuard.isFeatureEnabled(featureName);
+        snapshot = snapshot.with(featureName, featureEnabled);
+        return featureEnabled;
+    }
+
+    private synchronized void refreshInBackground() {
+        try {
+            snapshot = read(snapshot.flags.keySet(), System.nanoTime());
+        } catch (final RuntimeException e) {
+            LOGGER.warn("Unable to refresh feature flags, they will be read again on their next check", e);
+        }
+    }
+
+    private Snapshot read(final Set<String> featureNames, final long now) {
+        final Map<String, Boolean> flags = new HashMap<>();
+        featureNames.forEach(featureName -> flags.put(featureName, featureControlGuard.isFeatureEnabled(featureName)));
+        return new Snapshot(Map.copyOf(flags), now + refreshIntervalNanos);
+    }
+
+    private static final class Snapshot {
+        private final Map<String, Boolean> flags;
+        private final long freshUntilNanos;
+
+        private Snapshot(final Map<String, Boolean> flags, final long freshUntilNanos) {
+            this.flags = flags;
+            this.freshUntilNanos = freshUntilNanos;
+        }
+
+        private boolean isFresh(final long nowNanos) {
+            return nowNanos - freshUntilNanos < 0;
+        }
+
+        private Snapshot with(final String featureName, final boolean enabled) {
+            final Map<String, Boolean> withFlag = new HashMap<>(flags);
+            withFlag.put(featureName, enabled);
+            return new Snapshot(Map.copyOf(withFlag), freshUntilNanos);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package uk.gov.moj.cpp.businessprocesses.service;
+
+import static java.time.Duration.parse;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import uk.gov.justice.services.common.configuration.Value;
+import uk.gov.moj.cpp.businessprocesses.audit.AuditPipeline;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+
+import javax.annotation.PreDestroy;
+import javax.annotation.Resource;
+import javax.enterprise.concurrent.ManagedScheduledExecutorService;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.Initialized;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Logs the metrics of the event processor's in-process caches, downstream queries and audit pipeline every
+ * {@code metricsReportInterval}, and once more when the application stops. An interval of
+ * {@code PT0S} turns the periodic report off.
+ */
+@ApplicationScoped
+public class MetricsReporter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MetricsReporter.class);
+
+    @Inject
+    private WorkflowTaskTypeCatalogue workflowTaskTypeCatalogue;
+
+    @Inject
+    private WorkingDayCalendar workingDayCalendar;
+
+    @Inject
+    private CourtCentreDirectory courtCentreDirectory;
+
+    @Inject
+    private ResultDefinitionCatalogue resultDefinitionCatalogue;
+
+    @Inject
+    private DocumentTypeCatalogue documentTypeCatalogue;
+
+    @Inject
+    private UserDirectory userDirectory;
+
+    @Inject
+    private DownstreamQueries downstreamQueries;
+
+    @Inject
+    private AuditPipeline auditPipeline;
+
+    @Resource
+    private ManagedScheduledExecutorService managedScheduledExecutorService;
+
+    @Inject
+    @Value(key = "metricsReportInterval", defaultValue = "PT5M")
+    private String interval;
+
+    private ScheduledFuture<?> scheduledReports;
+
+    public void onStartup(@Observes @Initialized(ApplicationScoped.class) final Object event) {
+        final long intervalMillis = parse(interval).toMillis();
+        if (managedScheduledExecutorService != null && intervalMillis > 0) {
+            scheduledReports = managedScheduledExecutorService.scheduleWithFixedDelay(this::report, intervalMillis, intervalMillis, MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduledReports != null) {
+            scheduledReports.cancel(false);
+        }
+        report();
+    }
+
+    /**
+     * Logs every metric of {@link #getMetrics()}, one line each.
+     */
+    public void report() {
+        try {
+            getMetrics().forEach(metrics -> LOGGER.info("{}", metrics));
+        } catch (final RuntimeException e) {
+            LOGGER.warn("Unable to report metrics", e);
+        }
+    }
+
+    /**
+     * @return the current metrics, each of which describes itself through {@code toString()}.
+     */
+    public List<Object> getMetrics() {
+        final List<Object> metrics = new ArrayList<>();
+        metrics.add(workflowTaskTypeCatalogue.getMetrics());
+        metrics.addAll(workingDayCalendar.getMetrics());
+        metrics.addAll(courtCentreDirectory.getMetrics());
+        metrics.add(resultDefinitionCatalogue.getMetrics());
+        metrics.add(documentTypeCatalogue.getMetrics());
+        metrics.add(userDirectory.getMetrics());
+        metrics.addAll(downstreamQueries.getAllMetrics());
+        metrics.add(auditPipeline.getMetrics());
+        return metrics;
+    }
+}
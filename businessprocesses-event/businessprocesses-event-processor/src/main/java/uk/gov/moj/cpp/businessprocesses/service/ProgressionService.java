@@ -6,9 +6,9 @@ import static org.slf4j.LoggerFactory.getLogger;
 import static uk.gov.justice.services.core.annotation.Component.EVENT_PROCESSOR;
 import static uk.gov.justice.services.messaging.Envelope.metadataBuilder;
 import static uk.gov.justice.services.messaging.JsonEnvelope.envelopeFrom;
+import static uk.gov.moj.cpp.businessprocesses.shared.JsonBinder.bind;
 
 import uk.gov.justice.courts.progression.query.Caag;
-import uk.gov.justice.services.common.converter.jackson.ObjectMapperProducer;
 import uk.gov.justice.services.core.annotation.ServiceComponent;
 import uk.gov.justice.services.core.requester.Requester;
 import uk.gov.justice.services.messaging.JsonEnvelope;
@@ -19,7 +19,6 @@ import javax.inject.Inject;
 import javax.json.JsonObject;
 import javax.json.JsonValue;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 
 public class ProgressionService {
@@ -29,7 +28,6 @@ public class ProgressionService {
     private static final String PROGRESSION_QUERY_PROSECUTION_CASE = "progression.query.prosecutioncase";
 
     private static final String PROGRESSION_QUERY_PROSECUTION_CASE_EXIST_BY_CASE_URN = "progression.query.case-exist-by-caseurn";
-    private static final ObjectMapper objectMapper = new ObjectMapperProducer().objectMapper();
 
     private static final String CASE_ID = "caseId";
 
@@ -37,6 +35,11 @@ public class ProgressionService {
     @ServiceComponent(EVENT_PROCESSOR)
     private Requester requester;
 
+    @Inject
+    private QueryMemo queryMemo;
+
+    @Inject
+    private DownstreamQueries downstreamQueries;
 
     public Caag getProsecutionCaseCaag(final String userId, final String caseId) {
         LOGGER.info("calling progression prosecutioncase with case id : {}", caseId);
@@ -47,12 +50,12 @@ public class ProgressionService {
                 createObjectBuilder().
                         add(CASE_ID, caseId));
 
-        final JsonValue response = requester.request(queryEnvelope, JsonObject.class).payload();
+        final JsonValue response = queryMemo.memoize(queryEnvelope, () -> downstreamQueries.query(queryEnvelope, () -> requester.request(queryEnvelope, JsonObject.class).payload()));
 
         Caag caag = null;
         if (null != response) {
             try {
-                caag = objectMapper.readValue(response.toString(), Caag.class);
+                caag = bind(response, Caag.class);
             } catch (IOException e) {
                 throw new IllegalStateException("Unable to unmarshal prosecutioncase", e);
             }
@@ -73,7 +76,7 @@ public class ProgressionService {
                         .build(),
                 query);
 
-        return requester.requestAsAdmin(jsonEnvelope, JsonObject.class).payload();
+        return queryMemo.memoize(jsonEnvelope, () -> downstreamQueries.query(jsonEnvelope, () -> requester.requestAsAdmin(jsonEnvelope, JsonObject.class).payload()));
     }
 
     public String getProsecutionCaseExistByCaseUrn(final String caseUrn) {
@@ -89,7 +92,7 @@ public class ProgressionService {
                         .build(),
                 query);
 
-        final JsonObject responsePayload = requester.requestAsAdmin(jsonEnvelope, JsonObject.class).payload();
+        final JsonObject responsePayload = queryMemo.memoize(jsonEnvelope, () -> downstreamQueries.query(jsonEnvelope, () -> requester.requestAsAdmin(jsonEnvelope, JsonObject.class).payload()));
 
         if(responsePayload != null && responsePayload.containsKey(CASE_ID)) {
             return responsePayload.getString(CASE_ID);
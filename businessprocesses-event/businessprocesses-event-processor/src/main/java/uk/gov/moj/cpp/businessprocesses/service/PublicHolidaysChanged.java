@@ -0,0 +1,46 @@
+package uk.gov.moj.cpp.businessprocesses.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Fired by the {@link WorkingDayCalendar} when reloading a year from reference data finds public
+ * holidays that have been added or removed since the year was last loaded.
+ */
+public class PublicHolidaysChanged {
+
+    private final String division;
+    private final int year;
+    private final List<LocalDate> publicHolidays;
+    private final Set<LocalDate> changedDates;
+
+    public PublicHolidaysChanged(final String division, final int year, final List<LocalDate> publicHolidays, final Set<LocalDate> changedDates) {
+        this.division = division;
+        this.year = year;
+        this.publicHolidays = List.copyOf(publicHolidays);
+        this.changedDates = Set.copyOf(changedDates);
+    }
+
+    public String getDivision() {
+        return division;
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    /**
+     * @return the public holidays of the year as reloaded.
+     */
+    public List<LocalDate> getPublicHolidays() {
+        return publicHolidays;
+    }
+
+    /**
+     * @return the dates that have become, or stopped being, public holidays.
+     */
+    public Set<LocalDate> getChangedDates() {
+        return changedDates;
+    }
+}
@@ -3,23 +3,23 @@ package uk.gov.moj.cpp.businessprocesses.service;
 import static uk.gov.justice.services.core.annotation.Component.EVENT_PROCESSOR;
 
 import uk.gov.justice.services.core.annotation.ServiceComponent;
-import uk.gov.justice.services.core.audit.AuditService;
 import uk.gov.justice.services.core.sender.Sender;
 import uk.gov.justice.services.messaging.JsonEnvelope;
+import uk.gov.moj.cpp.businessprocesses.audit.AuditPipeline;
 
 import javax.inject.Inject;
 
 public class PublishEventService {
 
     @Inject
-    private AuditService auditService;
+    private AuditPipeline auditPipeline;
 
     @ServiceComponent(EVENT_PROCESSOR)
     @Inject
     private Sender sender;
 
     public void sendAndAuditEvent(final JsonEnvelope jsonEnvelope) {
-        auditService.audit(jsonEnvelope, EVENT_PROCESSOR);
         sender.send(jsonEnvelope);
+        auditPipeline.audit(() -> jsonEnvelope);
     }
 }
@@ -0,0 +1,67 @@
+package uk.gov.moj.cpp.businessprocesses.service;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+import uk.gov.justice.services.messaging.JsonEnvelope;
+
+import java.util.function.Supplier;
+
+import javax.enterprise.context.ContextNotActiveException;
+import javax.enterprise.context.RequestScoped;
+import javax.enterprise.inject.spi.BeanManager;
+import javax.inject.Inject;
+
+import org.slf4j.Logger;
+
+/**
+ * Remembers the result of each remote query for as long as the envelope that caused it is being
+ * handled, so identical queries made by different handlers, listeners and services for the same
+ * event go over the network once.
+ *
+ * <p>Queries are identified by name, user id and payload. Results are kept in a
+ * {@link RequestQueryResults}, so they never outlive the handled envelope. Outside a request
+ * context, e.g. on a Camunda job executor thread, every query goes straight to the remote
+ * service. A failed query is not remembered.
+ */
+public class QueryMemo {
+
+    private static final Logger LOGGER = getLogger(QueryMemo.class);
+
+    @Inject
+    private BeanManager beanManager;
+
+    @Inject
+    private RequestQueryResults requestQueryResults;
+
+    @SuppressWarnings("unchecked")
+    public <T> T memoize(final JsonEnvelope query, final Supplier<T> remoteQuery) {
+        if (!requestContextActive()) {
+            return remoteQuery.get();
+        }
+
+        final String key = keyOf(query);
+        if (requestQueryResults.contains(key)) {
+            LOGGER.debug("Reusing the result of {} made earlier for this envelope", query.metadata().name());
+            return (T) requestQueryResults.get(key);
+        }
+
+        final T result = remoteQuery.get();
+        requestQueryResults.put(key, result);
+        return result;
+    }
+
+    private boolean requestContextActive() {
+        if (beanManager == null) {
+            return false;
+        }
+        try {
+            return beanManager.getContext(RequestScoped.class).isActive();
+        } catch (final ContextNotActiveException e) {
+            return false;
+        }
+    }
+
+    private static String keyOf(final JsonEnvelope query) {
+        return query.metadata().name() + '|' + query.metadata().userId().orElse("") + '|' + query.payload();
+    }
+}
@@ -5,7 +5,6 @@ import static java.util.UUID.fromString;
 import static java.util.UUID.randomUUID;
 import static uk.gov.justice.services.messaging.JsonObjects.createObjectBuilder;
 import static uk.gov.justice.services.core.annotation.Component.EVENT_PROCESSOR;
-import static uk.gov.justice.services.core.enveloper.Enveloper.envelop;
 import static uk.gov.justice.services.messaging.Envelope.metadataBuilder;
 import static uk.gov.justice.services.messaging.JsonEnvelope.envelopeFrom;
 import static uk.gov.moj.cpp.businessprocesses.shared.WorkflowTaskTypeMapper.mapToWorkflowTaskType;
@@ -19,6 +18,7 @@ import uk.gov.justice.services.messaging.MetadataBuilder;
 import uk.gov.moj.cpp.businessprocesses.pojo.PublicHoliday;
 import uk.gov.moj.cpp.businessprocesses.pojo.WorkflowTaskType;
 import uk.gov.moj.cpp.businessprocesses.refdata.query.api.Resultdefinition;
+import uk.gov.moj.cpp.businessprocesses.shared.DownstreamUnavailableException;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
@@ -59,11 +59,15 @@ public class ReferenceDataService {
     @ServiceComponent(EVENT_PROCESSOR)
     private Requester requester;
 
+    @Inject
+    private DownstreamQueries downstreamQueries;
+
     public Optional<WorkflowTaskType> getWorkflowTaskType(final String taskName) {
         final MetadataBuilder metadataBuilder = JsonEnvelope.metadataBuilder()
                 .withId(randomUUID())
                 .withName(REFERENCE_DATA_QUERY_WORKFLOW_TASK_TYPES);
-        final Envelope<JsonObject> envelope = requester.requestAsAdmin(envelopeFrom(metadataBuilder, createObjectBuilder().add(TASK_NAME, taskName).build()), JsonObject.class);
+        final JsonEnvelope query = envelopeFrom(metadataBuilder, createObjectBuilder().add(TASK_NAME, taskName).build());
+        final Envelope<JsonObject> envelope = downstreamQueries.hedgedQuery(query, () -> requester.requestAsAdmin(query, JsonObject.class));
 
         return mapToWorkflowTaskType(envelope, taskName);
     }
@@ -75,16 +79,19 @@ public class ReferenceDataService {
         final MetadataBuilder metadataBuilder = metadataBuilder()
                 .withId(randomUUID())
                 .withName(REFERENCEDATA_GET_WORK_QUEUE_NAME);
-        final Envelope<JsonObject> responseEnvelope = requester.requestAsAdmin(envelopeFrom(metadataBuilder, payload), JsonObject.class);
+        final JsonEnvelope query = envelopeFrom(metadataBuilder, payload);
+        final Envelope<JsonObject> responseEnvelope = downstreamQueries.hedgedQuery(query, () -> requester.requestAsAdmin(query, JsonObject.class));
 
         return ofNullable(responseEnvelope.payload());
     }
 
-    public Optional<JsonObject> getDocumentType(final JsonEnvelope event, final String documentTypeId) {
+    public Optional<JsonObject> getDocumentType(final String documentTypeId) {
+        final MetadataBuilder metadataBuilder = metadataBuilder()
+                .withId(randomUUID())
+                .withName(REFERENCEDATA_GET_DOCUMENT_TYPE_INFO);
 
-        final Envelope<JsonObject> envelope = requester.request(envelop(createObjectBuilder().add(ID, documentTypeId).build())
-                .withName(REFERENCEDATA_GET_DOCUMENT_TYPE_INFO)
-                .withMetadataFrom(event), JsonObject.class);
+        final JsonEnvelope query = envelopeFrom(metadataBuilder, createObjectBuilder().add(ID, documentTypeId).build());
+        final Envelope<JsonObject> envelope = downstreamQueries.hedgedQuery(query, () -> requester.requestAsAdmin(query, JsonObject.class));
 
         return Optional.ofNullable(envelope.payload());
     }
@@ -101,7 +108,8 @@ public class ReferenceDataService {
 
         final JsonObject params = getParams(division, fromDate, toDate);
 
-        final Envelope<JsonObject> jsonObjectEnvelope = requester.requestAsAdmin(envelopeFrom(metadataBuilder, params), JsonObject.class);
+        final JsonEnvelope query = envelopeFrom(metadataBuilder, params);
+        final Envelope<JsonObject> jsonObjectEnvelope = downstreamQueries.hedgedQuery(query, () -> requester.requestAsAdmin(query, JsonObject.class));
 
         return transform(jsonObjectEnvelope);
     }
@@ -115,17 +123,11 @@ public class ReferenceDataService {
                 .withId(randomUUID())
                 .withName(REFERENCE_DATA_QUERY_RESULT_DEFINITION_BY_ID);
 
-        final Envelope<JsonObject> responseEnvelope = requester.requestAsAdmin(envelopeFrom(metadataBuilder, payload), JsonObject.class);
+        final JsonEnvelope query = envelopeFrom(metadataBuilder, payload);
+        final Envelope<JsonObject> responseEnvelope = downstreamQueries.hedgedQuery(query, () -> requester.requestAsAdmin(query, JsonObject.class));
         return jsonObjectToObjectConverter.convert(responseEnvelope.payload(), Resultdefinition.class);
     }
 
-    public Boolean isWelshCourt(final String courtId) {
-        JsonObject responsePayload = retrieveCourtCentreDetailsByCourtId(courtId);
-        final boolean isWelsh = responsePayload.getBoolean("isWelsh", false);
-        LOGGER.info("CourtId = {}, isWelsh= {}", courtId, isWelsh);
-        return isWelsh;
-    }
-
     public JsonObject retrieveCourtCentreDetailsByCourtId(final String courtId) {
         try {
             final JsonObject payload = createObjectBuilder().add("id", courtId).build();
@@ -135,7 +137,9 @@ public class ReferenceDataService {
                             .withName(REFERENCE_DATA_QUERY_COURT_CENTRES_BY_COURT_ROOM)
                             .withId(randomUUID()).build(), payload);
 
-            return requester.requestAsAdmin(envelopeFrom(requestEnvelope.metadata(), requestEnvelope.payload())).asJsonObject();
+            return downstreamQueries.hedgedQuery(requestEnvelope, () -> requester.requestAsAdmin(envelopeFrom(requestEnvelope.metadata(), requestEnvelope.payload())).asJsonObject());
+        } catch (final DownstreamUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             LOGGER.error("Error retrieving court centre details for courtId: {}", courtId, e);
             return null;
@@ -151,7 +155,9 @@ public class ReferenceDataService {
                             .withName(REFERENCE_DATA_QUERY_COURT_CENTRES_BY_COURT_ROOMS)
                             .withId(randomUUID()).build(), payload);
 
-            return requester.requestAsAdmin(envelopeFrom(requestEnvelope.metadata(), requestEnvelope.payload())).asJsonObject();
+            return downstreamQueries.hedgedQuery(requestEnvelope, () -> requester.requestAsAdmin(envelopeFrom(requestEnvelope.metadata(), requestEnvelope.payload())).asJsonObject());
+        } catch (final DownstreamUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             LOGGER.error("Error retrieving court centre details for courtRoomCode: {}", courtRoomCode, e);
             return null;
@@ -167,7 +173,9 @@ public class ReferenceDataService {
                             .withName(REFERENCE_DATA_QUERY_COURT_CENTRES_BY_COURT_ROOM_NAME)
                             .withId(randomUUID()).build(), payload);
 
-            return requester.requestAsAdmin(envelopeFrom(requestEnvelope.metadata(), requestEnvelope.payload())).asJsonObject();
+            return downstreamQueries.hedgedQuery(requestEnvelope, () -> requester.requestAsAdmin(envelopeFrom(requestEnvelope.metadata(), requestEnvelope.payload())).asJsonObject());
+        } catch (final DownstreamUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             LOGGER.error("Error retrieving court centre details for courtRoomName: {}", courtRoomName, e);
             return null;
@@ -0,0 +1,167 @@
+package uk.gov.moj.cpp.businessprocesses.service;
+
+import static java.time.Duration.parse;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static uk.gov.justice.services.messaging.JsonObjects.createObjectBuilder;
+
+import uk.gov.justice.services.common.configuration.Value;
+import uk.gov.moj.cpp.businessprocesses.cache.SnapshotFile;
+import uk.gov.moj.cpp.businessprocesses.snapshot.ReferenceDataSnapshotSection;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Consumer;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.annotation.Resource;
+import javax.enterprise.concurrent.ManagedScheduledExecutorService;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.Initialized;
+import javax.enterprise.event.Observes;
+import javax.enterprise.inject.Any;
+import javax.enterprise.inject.Instance;
+import javax.inject.Inject;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+import javax.json.JsonString;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps a per node {@link SnapshotFile} of the reference data catalogues (workflow task types,
+ * working day calendars and court centres), and of every {@link ReferenceDataSnapshotSection}
+ * deployed alongside, e.g. the command handler's work queue names, so that after a deploy or
+ * restart the first events and commands are not all waiting on reference data.
+ *
+ * <p>The snapshot is read back when the application starts, before events are consumed, and the
+ * catalogues serve its entries until they have been reloaded from reference data in the
+ * background. It is rewritten every {@code referenceDataSnapshotInterval} and when the
+ * application stops. A snapshot older than {@code referenceDataSnapshotMaximumAge} is ignored.
+ */
+@ApplicationScoped
+public class ReferenceDataSnapshot {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReferenceDataSnapshot.class);
+    private static final String WORKFLOW_TASK_TYPES = "workflowTaskTypes";
+    private static final String WORKING_DAY_CALENDAR = "workingDayCalendar";
+    private static final String COURT_CENTRES = "courtCentres";
+
+    @Inject
+    private WorkflowTaskTypeCatalogue workflowTaskTypeCatalogue;
+
+    @Inject
+    private WorkingDayCalendar workingDayCalendar;
+
+    @Inject
+    private CourtCentreDirectory courtCentreDirectory;
+
+    @Inject
+    @Any
+    private Instance<ReferenceDataSnapshotSection> snapshotSections;
+
+    @Resource
+    private ManagedScheduledExecutorService managedScheduledExecutorService;
+
+    @Inject
+    @Value(key = "referenceDataSnapshotFile", defaultValue = "")
+    private String file;
+
+    @Inject
+    @Value(key = "referenceDataSnapshotInterval", defaultValue = "PT15M")
+    private String interval;
+
+    @Inject
+    @Value(key = "referenceDataSnapshotMaximumAge", defaultValue = "P2D")
+    private String maximumAge;
+
+    private SnapshotFile snapshotFile;
+    private ScheduledFuture<?> scheduledWrites;
+
+    @PostConstruct
+    public void init() {
+        snapshotFile = new SnapshotFile(file.isEmpty() ? defaultFile() : Paths.get(file), Clock.systemUTC());
+    }
+
+    public void onStartup(@Observes @Initialized(ApplicationScoped.class) final Object event) {
+        restore();
+        if (managedScheduledExecutorService != null) {
+            final long intervalMillis = parse(interval).toMillis();
+            scheduledWrites = managedScheduledExecutorService.scheduleWithFixedDelay(this::write, intervalMillis, intervalMillis, MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduledWrites != null) {
+            scheduledWrites.cancel(false);
+        }
+        write();
+    }
+
+    /**
+     * Preloads the catalogues from the snapshot file, if there is a usable one.
+     */
+    public void restore() {
+        final Duration maximumSnapshotAge = parse(maximumAge);
+        snapshotFile.read(maximumSnapshotAge).ifPresent(sections -> {
+            restore(sections, WORKFLOW_TASK_TYPES, workflowTaskTypeCatalogue::restore);
+            restore(sections, WORKING_DAY_CALENDAR, workingDayCalendar::restore);
+            restore(sections, COURT_CENTRES, courtCentreDirectory::restore);
+            snapshotSections.forEach(section -> restore(sections, section.getSectionName(), names -> section.restore(toMap(names))));
+            LOGGER.info("Restored reference data from snapshot {}", snapshotFile.getPath());
+        });
+    }
+
+    /**
+     * Writes what the catalogues currently hold to the snapshot file. A failed write is logged
+     * and otherwise ignored; the previous snapshot, if any, is left in place.
+     */
+    public void write() {
+        try {
+            final JsonObjectBuilder sections = createObjectBuilder()
+                    .add(WORKFLOW_TASK_TYPES, workflowTaskTypeCatalogue.snapshot())
+                    .add(WORKING_DAY_CALENDAR, workingDayCalendar.snapshot())
+                    .add(COURT_CENTRES, courtCentreDirectory.snapshot());
+            snapshotSections.forEach(section -> sections.add(section.getSectionName(), toJsonObject(section.snapshot())));
+            snapshotFile.write(sections.build());
+        } catch (final IOException | RuntimeException e) {
+            LOGGER.warn("Unable to write reference data snapshot {}", snapshotFile.getPath(), e);
+        }
+    }
+
+    private static void restore(final JsonObject sections, final String sectionName, final Consumer<JsonObject> catalogue) {
+        try {
+            final JsonObject section = sections.getJsonObject(sectionName);
+            if (section != null) {
+                catalogue.accept(section);
+            }
+        } catch (final RuntimeException e) {
+            LOGGER.warn("Ignoring the {} section of the reference data snapshot", sectionName, e);
+        }
+    }
+
+    private static JsonObject toJsonObject(final Map<String, String> names) {
+        final JsonObjectBuilder section = createObjectBuilder();
+        names.forEach(section::add);
+        return section.build();
+    }
+
+    private static Map<String, String> toMap(final JsonObject section) {
+        final Map<String, String> names = new HashMap<>();
+        section.forEach((id, name) -> names.put(id, ((JsonString) name).getString()));
+        return names;
+    }
+
+    private static Path defaultFile() {
+        final String dataDirectory = System.getProperty("jboss.server.data.dir", System.getProperty("java.io.tmpdir"));
+        return Paths.get(dataDirectory, "businessprocesses", "reference-data-snapshot.json.gz");
+    }
+}
@@ -0,0 +1,32 @@
+package uk.gov.moj.cpp.businessprocesses.service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.enterprise.context.RequestScoped;
+
+/**
+ * Results of the queries made while handling one envelope. A new instance is created for every
+ * handled envelope and discarded with it; see {@link QueryMemo}.
+ */
+@RequestScoped
+public class RequestQueryResults {
+
+    private final Map<String, Object> results = new HashMap<>();
+
+    public boolean contains(final String key) {
+        return results.containsKey(key);
+    }
+
+    public Object get(final String key) {
+        return results.get(key);
+    }
+
+    public void put(final String key, final Object result) {
+        results.put(key, result);
+    }
+
+    public int size() {
+        return results.size();
+    }
+}
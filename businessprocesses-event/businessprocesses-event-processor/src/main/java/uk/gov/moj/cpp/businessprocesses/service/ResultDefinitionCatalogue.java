@@ -0,0 +1,196 @@
+package uk.gov.moj.cpp.businessprocesses.service;
+
+import static java.lang.Integer.parseInt;
+import static java.lang.Math.min;
+import static java.time.Duration.parse;
+import static java.time.ZoneOffset.UTC;
+import static java.util.Optional.ofNullable;
+import static java.util.concurrent.CompletableFuture.runAsync;
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
+
+import uk.gov.justice.services.common.configuration.Value;
+import uk.gov.moj.cpp.businessprocesses.cache.CacheMetrics;
+import uk.gov.moj.cpp.businessprocesses.cache.RefreshAheadCache;
+import uk.gov.moj.cpp.businessprocesses.refdata.query.api.Resultdefinition;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.Resource;
+import javax.enterprise.concurrent.ManagedExecutorService;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * In-process catalogue of {@link Resultdefinition}s keyed by result definition id.
+ *
+ * <p>A definition is served until the cache time to live elapses or, when it has an end date,
+ * until the end of that day, whichever is first. A definition that has already ended is served
+ * for the time to live like any other. Background refreshes pick up new versions of a definition
+ * while the current one is still being served.
+ */
+@ApplicationScoped
+public class ResultDefinitionCatalogue {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResultDefinitionCatalogue.class);
+
+    @Inject
+    private ReferenceDataService referenceDataService;
+
+    @Resource
+    private ManagedExecutorService managedExecutorService;
+
+    @Inject
+    @Value(key = "resultDefinitionCacheTimeToLive", defaultValue = "PT1H")
+    private String timeToLive;
+
+    @Inject
+    @Value(key = "resultDefinitionCacheRefreshAfter", defaultValue = "PT45M")
+    private String refreshAfter;
+
+    @Inject
+    @Value(key = "resultDefinitionCacheNegativeTimeToLive", defaultValue = "PT5M")
+    private String negativeTimeToLive;
+
+    @Inject
+    @Value(key = "resultDefinitionCacheMaximumSize", defaultValue = "2000")
+    private String maximumSize;
+
+    @Inject
+    @Value(key = "resultDefinitionLookupParallelism", defaultValue = "4")
+    private String lookupParallelism;
+
+    private final LongAdder remoteCallsSaved = new LongAdder();
+
+    private RefreshAheadCache<String, Resultdefinition> resultDefinitions;
+
+    @PostConstruct
+    public void init() {
+        resultDefinitions = RefreshAheadCache.<String, Resultdefinition>builder("resultDefinitions", this::loadResultDefinition)
+                .withTimeToLive(parse(timeToLive))
+                .withRefreshAfter(parse(refreshAfter))
+                .withNegativeTimeToLive(parse(negativeTimeToLive))
+                .withMaximumSize(parseInt(maximumSize))
+                .withValidUntil(ResultDefinitionCatalogue::validUntil)
+                .withRefreshExecutor(managedExecutorService)
+                .build();
+    }
+
+    public Optional<Resultdefinition> getResultDefinition(final String resultDefinitionId) {
+        return resultDefinitions.get(resultDefinitionId);
+    }
+
+    /**
+     * Resolves the result definitions for every id of one event as one batch. Repeated ids are
+     * looked up once, cached ids, including ones cached as unknown to reference data, are served
+     * straight away and the remaining ids are fetched from
+     * reference data in parallel, at most {@code resultDefinitionLookupParallelism} at a time,
+     * since the reference data query only accepts a single id.
+     *
+     * @param resultDefinitionIds the ids as they appear in the event, duplicates included.
+     * @return the definitions found, keyed by id; ids unknown to reference data are left out.
+     */
+    public Map<String, Resultdefinition> getResultDefinitions(final Collection<String> resultDefinitionIds) {
+        final Set<String> distinctIds = new LinkedHashSet<>(resultDefinitionIds);
+        final Map<String, Resultdefinition> found = new ConcurrentHashMap<>();
+        final List<String> notCached = new ArrayList<>();
+
+        for (final String resultDefinitionId : distinctIds) {
+            if (!resultDefinitions.contains(resultDefinitionId)) {
+                notCached.add(resultDefinitionId);
+            } else {
+                resolveInto(found, resultDefinitionId);
+            }
+        }
+        fetchAll(notCached, found);
+
+        final int remoteCalls = notCached.size();
+        final int saved = resultDefinitionIds.size() - remoteCalls;
+        remoteCallsSaved.add(saved);
+        LOGGER.info("Resolved {} result definitions for {} lookups with {} reference data calls, {} calls saved",
+                found.size(), resultDefinitionIds.size(), remoteCalls, saved);
+        return found;
+    }
+
+    /**
+     * @return the total number of reference data calls avoided by de-duplication and caching
+     * since start up.
+     */
+    public long getRemoteCallsSaved() {
+        return remoteCallsSaved.sum();
+    }
+
+    public void invalidateAll() {
+        resultDefinitions.invalidateAll();
+    }
+
+    public CacheMetrics getMetrics() {
+        return resultDefinitions.metrics();
+    }
+
+    private void fetchAll(final List<String> resultDefinitionIds, final Map<String, Resultdefinition> found) {
+        final int parallelism = min(parseInt(lookupParallelism), resultDefinitionIds.size());
+        if (parallelism <= 1 || managedExecutorService == null) {
+            resultDefinitionIds.forEach(resultDefinitionId -> resolveInto(found, resultDefinitionId));
+            return;
+        }
+
+        final List<List<String>> partitions = new ArrayList<>();
+        for (int index = 0; index < parallelism; index++) {
+            partitions.add(new ArrayList<>());
+        }
+        for (int index = 0; index < resultDefinitionIds.size(); index++) {
+            partitions.get(index % parallelism).add(resultDefinitionIds.get(index));
+        }
+
+        final List<CompletableFuture<Void>> fetches = partitions.subList(1, parallelism).stream()
+                .map(partition -> runAsync(() -> partition.forEach(resultDefinitionId -> resolveInto(found, resultDefinitionId)), managedExecutorService))
+                .toList();
+        partitions.get(0).forEach(resultDefinitionId -> resolveInto(found, resultDefinitionId));
+
+        try {
+            fetches.forEach(CompletableFuture::join);
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private void resolveInto(final Map<String, Resultdefinition> found, final String resultDefinitionId) {
+        getResultDefinition(resultDefinitionId).ifPresent(resultDefinition -> found.put(resultDefinitionId, resultDefinition));
+    }
+
+    private Optional<Resultdefinition> loadResultDefinition(final String resultDefinitionId) {
+        final Optional<Resultdefinition> loaded = ofNullable(referenceDataService.getResultDefinition(resultDefinitionId));
+        resultDefinitions.getIfPresent(resultDefinitionId)
+                .filter(current -> loaded.isPresent() && !Objects.equals(current.getVersion(), loaded.get().getVersion()))
+                .ifPresent(current -> LOGGER.info("Result definition {} changed from version {} to {}",
+                        resultDefinitionId, current.getVersion(), loaded.get().getVersion()));
+        return loaded;
+    }
+
+    private static Instant validUntil(final Resultdefinition resultDefinition) {
+        if (isNotBlank(resultDefinition.getEndDate())) {
+            return LocalDate.parse(resultDefinition.getEndDate()).plusDays(1).atStartOfDay(UTC).toInstant();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,58 @@
+package uk.gov.moj.cpp.businessprocesses.service;
+
+import static org.apache.commons.collections.CollectionUtils.isEmpty;
+import static org.apache.commons.collections.CollectionUtils.isNotEmpty;
+
+import uk.gov.justice.core.courts.Hearing;
+import uk.gov.justice.core.courts.JudicialResult;
+import uk.gov.justice.core.courts.ProsecutionCase;
+import uk.gov.moj.cpp.businessprocesses.refdata.query.api.Resultdefinition;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import javax.inject.Inject;
+
+/**
+ * Resolves the result definitions of a whole hearing in one go: every judicial result type id on
+ * the offences of the hearing's prosecution cases is collected first and the distinct ids are
+ * resolved as a single batch, instead of one reference data round trip per judicial result.
+ */
+public class ResultDefinitionResolver {
+
+    @Inject
+    private ResultDefinitionCatalogue resultDefinitionCatalogue;
+
+    /**
+     * @return the result definitions of the hearing keyed by judicial result type id; ids unknown
+     * to reference data are left out.
+     */
+    public Map<String, Resultdefinition> resolve(final Hearing hearing) {
+        return resultDefinitionCatalogue.getResultDefinitions(judicialResultTypeIds(hearing));
+    }
+
+    /**
+     * @return the judicial results on the offences of the prosecution case's defendants, in the
+     * order they are resolved in.
+     */
+    public static Stream<JudicialResult> judicialResults(final ProsecutionCase prosecutionCase) {
+        return prosecutionCase.getDefendants().stream()
+                .flatMap(defendant -> defendant.getOffences().stream())
+                .filter(offence -> isNotEmpty(offence.getJudicialResults()))
+                .flatMap(offence -> offence.getJudicialResults().stream());
+    }
+
+    private static List<String> judicialResultTypeIds(final Hearing hearing) {
+        if (isEmpty(hearing.getProsecutionCases())) {
+            return List.of();
+        }
+        return hearing.getProsecutionCases().stream()
+                .flatMap(ResultDefinitionResolver::judicialResults)
+                .map(JudicialResult::getJudicialResultTypeId)
+                .filter(Objects::nonNull)
+                .map(Object::toString)
+                .toList();
+    }
+}
@@ -0,0 +1,45 @@
+package uk.gov.moj.cpp.businessprocesses.service;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+/**
+ * What is needed to work out the due date of an open task again, as returned by the
+ * {@code businessprocesses.query.open-task-due-dates} query.
+ */
+public class TaskDueDate {
+
+    private final UUID taskId;
+    private final String type;
+    private final ZonedDateTime createdDate;
+    private final ZonedDateTime dueDate;
+    private final ZonedDateTime hearingDate;
+
+    public TaskDueDate(final UUID taskId, final String type, final ZonedDateTime createdDate, final ZonedDateTime dueDate, final ZonedDateTime hearingDate) {
+        this.taskId = taskId;
+        this.type = type;
+        this.createdDate = createdDate;
+        this.dueDate = dueDate;
+        this.hearingDate = hearingDate;
+    }
+
+    public UUID getTaskId() {
+        return taskId;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public ZonedDateTime getCreatedDate() {
+        return createdDate;
+    }
+
+    public ZonedDateTime getDueDate() {
+        return dueDate;
+    }
+
+    public ZonedDateTime getHearingDate() {
+        return hearingDate;
+    }
+}
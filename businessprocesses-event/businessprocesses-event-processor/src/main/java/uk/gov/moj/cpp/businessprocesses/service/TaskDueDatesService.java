@@ -0,0 +1,71 @@
+package uk.gov.moj.cpp.businessprocesses.service;
+
+import static java.util.UUID.randomUUID;
+import static uk.gov.justice.services.core.annotation.Component.EVENT_PROCESSOR;
+import static uk.gov.justice.services.messaging.Envelope.metadataBuilder;
+import static uk.gov.justice.services.messaging.JsonEnvelope.envelopeFrom;
+import static uk.gov.justice.services.messaging.JsonObjects.createObjectBuilder;
+
+import uk.gov.justice.services.common.converter.ZonedDateTimes;
+import uk.gov.justice.services.core.annotation.ServiceComponent;
+import uk.gov.justice.services.core.requester.Requester;
+import uk.gov.justice.services.messaging.JsonEnvelope;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import javax.inject.Inject;
+import javax.json.JsonObject;
+
+/**
+ * Reads the due dates of open tasks from the businessprocesses query API.
+ */
+public class TaskDueDatesService {
+
+    private static final String OPEN_TASK_DUE_DATES_QUERY = "businessprocesses.query.open-task-due-dates";
+    private static final String TASKS = "tasks";
+    private static final String TASK_ID = "taskId";
+    private static final String TYPE = "type";
+    private static final String CREATED_DATE = "createdDate";
+    private static final String DUE_DATE = "dueDate";
+    private static final String HEARING_DATE = "hearingDate";
+
+    @Inject
+    @ServiceComponent(EVENT_PROCESSOR)
+    private Requester requester;
+
+    @Inject
+    private DownstreamQueries downstreamQueries;
+
+    /**
+     * @return at most {@code limit} open tasks due in {@code [dueFrom, dueTo)}, in task id order
+     * after {@code afterTaskId}, leaving out those whose due date has been changed by anyone other
+     * than {@code changeAuthor}.
+     */
+    public List<TaskDueDate> getOpenTaskDueDates(final ZonedDateTime dueFrom, final ZonedDateTime dueTo, final UUID afterTaskId, final String changeAuthor, final int limit) {
+        final JsonEnvelope queryEnvelope = envelopeFrom(metadataBuilder()
+                        .withId(randomUUID())
+                        .withName(OPEN_TASK_DUE_DATES_QUERY),
+                createObjectBuilder()
+                        .add("dueFrom", ZonedDateTimes.toString(dueFrom))
+                        .add("dueTo", ZonedDateTimes.toString(dueTo))
+                        .add("afterTaskId", afterTaskId.toString())
+                        .add("changeAuthor", changeAuthor)
+                        .add("limit", String.valueOf(limit)));
+
+        final JsonObject response = downstreamQueries.query(queryEnvelope, () -> requester.requestAsAdmin(queryEnvelope, JsonObject.class).payload());
+        return response.getJsonArray(TASKS).getValuesAs(JsonObject.class).stream()
+                .map(TaskDueDatesService::toTaskDueDate)
+                .toList();
+    }
+
+    private static TaskDueDate toTaskDueDate(final JsonObject task) {
+        return new TaskDueDate(
+                UUID.fromString(task.getString(TASK_ID)),
+                task.getString(TYPE),
+                ZonedDateTimes.fromString(task.getString(CREATED_DATE)),
+                ZonedDateTimes.fromString(task.getString(DUE_DATE)),
+                task.containsKey(HEARING_DATE) ? ZonedDateTimes.fromString(task.getString(HEARING_DATE)) : null);
+    }
+}
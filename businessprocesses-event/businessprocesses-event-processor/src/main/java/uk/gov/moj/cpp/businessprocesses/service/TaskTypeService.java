@@ -1,21 +1,12 @@
 package uk.gov.moj.cpp.businessprocesses.service;
 
 import static java.lang.String.format;
-import static java.util.Arrays.stream;
-import static java.util.Objects.nonNull;
-import static java.util.regex.Pattern.compile;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
-import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.CANDIDATE_GROUPS;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.DEEP_LINK;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.DUE_DATE;
-import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.IS_DEFERRABLE;
-import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.IS_DELETABLE;
-import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.TASK_NAME;
-import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.TASK_TYPE_ID;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.WORK_QUEUE;
 
-import uk.gov.moj.cpp.businessprocesses.pojo.WorkflowTaskType;
 import uk.gov.moj.cpp.businessprocesses.shared.WorkFlowTaskTypeNotFoundException;
 
 import java.util.HashMap;
@@ -31,12 +22,10 @@ import org.slf4j.LoggerFactory;
 
 public class TaskTypeService {
 
-    private static final String REGEX = ",";
-
     private static final Logger LOGGER = LoggerFactory.getLogger(TaskTypeService.class);
 
     @Inject
-    private ReferenceDataService referenceDataService;
+    private WorkflowTaskTypeCatalogue workflowTaskTypeCatalogue;
 
     @Inject
     private DueDateCalculationService dueDateCalculationService;
@@ -51,44 +40,26 @@ public class TaskTypeService {
      * @param caseUrn     - A case urn value if required, that will be appended to the deeplink.
      * @return A map of task variables from reference data.
      */
-    @SuppressWarnings({"squid:S3776"})
     public Map<String, Object> getTaskVariablesFromRefData(final String taskType, final String resourceId, final String hearingDate, final String caseUrn) {
-        LOGGER.info("Looking up Task information from reference data for taskType: {}", taskType);
+        LOGGER.info("Looking up Task information for taskType: {}", taskType);
 
-        final HashMap<String, Object> variables = new HashMap<>();
-        final Optional<WorkflowTaskType> optionalWorkflowTaskType = referenceDataService.getWorkflowTaskType(taskType);
-        if (nonNull(optionalWorkflowTaskType) && optionalWorkflowTaskType.isPresent()) {
-            final WorkflowTaskType workflowTaskType = optionalWorkflowTaskType.get();
-            variables.put(IS_DELETABLE, workflowTaskType.getDeletable());
-            variables.put(IS_DEFERRABLE, workflowTaskType.getDeferrable());
-            variables.put(TASK_NAME, workflowTaskType.getDisplayName());
-
-            if (nonNull(workflowTaskType.getId())) {
-                variables.put(TASK_TYPE_ID, workflowTaskType.getId());
-            }
-            if (nonNull(workflowTaskType.getTaskGroup())) {
-                variables.put(CANDIDATE_GROUPS, stream(workflowTaskType.getTaskGroup().split(REGEX)).map(String::trim).toList());
-            }
-            if (isNotEmpty(workflowTaskType.getDeepLink()) && isNotEmpty((resourceId))) {
-                if (compile("%[s]").matcher(workflowTaskType.getDeepLink()).results().count() == 2) {
-                    variables.put(DEEP_LINK, String.format(workflowTaskType.getDeepLink(), resourceId, caseUrn));
-                } else {
-                    variables.put(DEEP_LINK, workflowTaskType.getDeepLink().concat(resourceId));
-                }
-            }
-            if (nonNull(workflowTaskType.getWorkQueueId())) {
-                variables.put(WORK_QUEUE, workflowTaskType.getWorkQueueId());
-            }
-            if (nonNull(workflowTaskType.getDueDateCalc())) {
-                String dueDate = (hearingDate == null) ? dueDateCalculationService.calculateDueDate(workflowTaskType.getDueDateCalc())
-                        : dueDateCalculationService.calculateDueDate(workflowTaskType.getDueDateCalc(), hearingDate);
-                variables.put(DUE_DATE, dueDate);
-            } else {
-                variables.put(DUE_DATE, EMPTY);
-            }
-        } else {
+        final Optional<TaskTypeTemplate> optionalTemplate = workflowTaskTypeCatalogue.getTemplate(taskType);
+        if (optionalTemplate.isEmpty()) {
             throw new WorkFlowTaskTypeNotFoundException(format("No WorkFlowTaskType with task type '%s' found in referencedata context", taskType));
         }
+
+        final TaskTypeTemplate template = optionalTemplate.get();
+        final Map<String, Object> variables = template.newVariables();
+        if (template.hasDeepLink() && isNotEmpty(resourceId)) {
+            variables.put(DEEP_LINK, template.deepLinkFor(resourceId, caseUrn));
+        }
+        if (template.hasDueDateCalc()) {
+            final String dueDate = (hearingDate == null) ? dueDateCalculationService.calculateDueDate(template.getDueDateCalc())
+                    : dueDateCalculationService.calculateDueDate(template.getDueDateCalc(), hearingDate);
+            variables.put(DUE_DATE, dueDate);
+        } else {
+            variables.put(DUE_DATE, EMPTY);
+        }
         return variables;
     }
 
@@ -0,0 +1,109 @@
+package uk.gov.moj.cpp.businessprocesses.service;
+
+import static java.util.Arrays.stream;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Objects.nonNull;
+import static org.apache.commons.lang3.StringUtils.isNotEmpty;
+import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.CANDIDATE_GROUPS;
+import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.IS_DEFERRABLE;
+import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.IS_DELETABLE;
+import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.TASK_NAME;
+import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.TASK_TYPE_ID;
+import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.WORK_QUEUE;
+
+import uk.gov.moj.cpp.businessprocesses.pojo.WorkflowTaskType;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable, pre-processed form of a {@link WorkflowTaskType}. Everything that does not depend on
+ * the individual task being created (candidate groups, flags, deep link shape) is worked out once
+ * when the template is compiled, so building the process variables is a map copy.
+ */
+public final class TaskTypeTemplate {
+
+    private static final String TASK_GROUP_SEPARATOR = ",";
+    private static final Pattern DEEP_LINK_PLACEHOLDER = Pattern.compile("%[s]");
+    private static final long RESOURCE_AND_CASE_URN_PLACEHOLDERS = 2;
+
+    private final WorkflowTaskType workflowTaskType;
+    private final String taskName;
+    private final String deepLink;
+    private final boolean deepLinkWithCaseUrn;
+    private final String dueDateCalc;
+    private final Map<String, Object> staticVariables;
+
+    private TaskTypeTemplate(final WorkflowTaskType workflowTaskType) {
+        this.workflowTaskType = workflowTaskType;
+        this.taskName = workflowTaskType.getTaskName();
+        this.deepLink = workflowTaskType.getDeepLink();
+        this.deepLinkWithCaseUrn = isNotEmpty(deepLink)
+                && DEEP_LINK_PLACEHOLDER.matcher(deepLink).results().count() == RESOURCE_AND_CASE_URN_PLACEHOLDERS;
+        this.dueDateCalc = workflowTaskType.getDueDateCalc();
+        this.staticVariables = unmodifiableMap(toStaticVariables(workflowTaskType));
+    }
+
+    public static TaskTypeTemplate compile(final WorkflowTaskType workflowTaskType) {
+        return new TaskTypeTemplate(workflowTaskType);
+    }
+
+    /**
+     * @return the task type this template was compiled from.
+     */
+    public WorkflowTaskType getWorkflowTaskType() {
+        return workflowTaskType;
+    }
+
+    public String getTaskName() {
+        return taskName;
+    }
+
+    public String getDueDateCalc() {
+        return dueDateCalc;
+    }
+
+    public boolean hasDueDateCalc() {
+        return nonNull(dueDateCalc);
+    }
+
+    public boolean hasDeepLink() {
+        return isNotEmpty(deepLink);
+    }
+
+    /**
+     * @return a new, mutable map holding the variables that are the same for every task of this
+     * type.
+     */
+    public Map<String, Object> newVariables() {
+        return new HashMap<>(staticVariables);
+    }
+
+    public String deepLinkFor(final String resourceId, final String caseUrn) {
+        if (deepLinkWithCaseUrn) {
+            return String.format(deepLink, resourceId, caseUrn);
+        }
+        return deepLink.concat(resourceId);
+    }
+
+    private static Map<String, Object> toStaticVariables(final WorkflowTaskType workflowTaskType) {
+        final Map<String, Object> variables = new HashMap<>();
+        variables.put(IS_DELETABLE, workflowTaskType.getDeletable());
+        variables.put(IS_DEFERRABLE, workflowTaskType.getDeferrable());
+        variables.put(TASK_NAME, workflowTaskType.getDisplayName());
+
+        if (nonNull(workflowTaskType.getId())) {
+            variables.put(TASK_TYPE_ID, workflowTaskType.getId());
+        }
+        if (nonNull(workflowTaskType.getTaskGroup())) {
+            final List<String> candidateGroups = stream(workflowTaskType.getTaskGroup().split(TASK_GROUP_SEPARATOR)).map(String::trim).toList();
+            variables.put(CANDIDATE_GROUPS, candidateGroups);
+        }
+        if (nonNull(workflowTaskType.getWorkQueueId())) {
+            variables.put(WORK_QUEUE, workflowTaskType.getWorkQueueId());
+        }
+        return variables;
+    }
+}
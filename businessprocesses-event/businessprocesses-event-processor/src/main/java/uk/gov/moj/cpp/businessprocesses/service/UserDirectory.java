@@ -0,0 +1,87 @@
+package uk.gov.moj.cpp.businessprocesses.service;
+
+import static java.lang.Integer.parseInt;
+import static java.time.Duration.parse;
+
+import uk.gov.justice.services.common.configuration.Value;
+import uk.gov.moj.cpp.businessprocesses.cache.CacheMetrics;
+import uk.gov.moj.cpp.businessprocesses.cache.RefreshAheadCache;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.Resource;
+import javax.enterprise.concurrent.ManagedExecutorService;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * In-process directory of user display names keyed by user id, so that assigning many tasks to
+ * the same users does not query users and groups for every assignment.
+ *
+ * <p>Names are kept for a short time only, so a renamed user shows up quickly. Concurrent lookups
+ * of the same user share one query. A failed query is not cached and falls back to the user id,
+ * as {@link UserGroupsService#getUserDetails(String)} does.
+ */
+@ApplicationScoped
+public class UserDirectory {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(UserDirectory.class);
+
+    @Inject
+    private UserGroupsService userGroupsService;
+
+    @Resource
+    private ManagedExecutorService managedExecutorService;
+
+    @Inject
+    @Value(key = "userDirectoryTimeToLive", defaultValue = "PT5M")
+    private String timeToLive;
+
+    @Inject
+    @Value(key = "userDirectoryRefreshAfter", defaultValue = "PT4M")
+    private String refreshAfter;
+
+    @Inject
+    @Value(key = "userDirectoryNegativeTimeToLive", defaultValue = "PT1M")
+    private String negativeTimeToLive;
+
+    @Inject
+    @Value(key = "userDirectoryMaximumSize", defaultValue = "1000")
+    private String maximumSize;
+
+    private RefreshAheadCache<String, String> userDisplayNames;
+
+    @PostConstruct
+    public void init() {
+        userDisplayNames = RefreshAheadCache.<String, String>builder("userDisplayNames", userGroupsService::getUserDisplayName)
+                .withTimeToLive(parse(timeToLive))
+                .withRefreshAfter(parse(refreshAfter))
+                .withNegativeTimeToLive(parse(negativeTimeToLive))
+                .withMaximumSize(parseInt(maximumSize))
+                .withRefreshExecutor(managedExecutorService)
+                .build();
+    }
+
+    /**
+     * @return the first and last name of the user, or the user id when the user is not known or
+     * users and groups cannot be reached.
+     */
+    public String getUserDetails(final String userId) {
+        try {
+            return userDisplayNames.get(userId).orElse(userId);
+        } catch (final RuntimeException e) {
+            LOGGER.error("User details could not find ", e);
+            return userId;
+        }
+    }
+
+    public void invalidate(final String userId) {
+        userDisplayNames.invalidate(userId);
+    }
+
+    public CacheMetrics getMetrics() {
+        return userDisplayNames.metrics();
+    }
+}
@@ -1,5 +1,6 @@
 package uk.gov.moj.cpp.businessprocesses.service;
 
+import static java.util.Optional.ofNullable;
 import static java.util.UUID.randomUUID;
 import static uk.gov.justice.services.messaging.JsonObjects.createObjectBuilder;
 import static org.slf4j.LoggerFactory.getLogger;
@@ -14,6 +15,8 @@ import uk.gov.justice.services.messaging.Envelope;
 import uk.gov.justice.services.messaging.JsonEnvelope;
 import uk.gov.justice.services.messaging.MetadataBuilder;
 
+import java.util.Optional;
+
 import javax.inject.Inject;
 import javax.json.JsonObject;
 
@@ -26,10 +29,17 @@ public class UserGroupsService {
     private static final String USER_ID = "userId";
 
     private static final String RESTRICTED_CASE_PERMISSIONS_QUERY = "usersgroups.restricted-case-permissions";
+    private static final String GET_USER_DETAILS_QUERY = "usersgroups.get-user-details";
     @Inject
     @ServiceComponent(EVENT_PROCESSOR)
     private Requester requester;
 
+    @Inject
+    private QueryMemo queryMemo;
+
+    @Inject
+    private DownstreamQueries downstreamQueries;
+
     public Boolean getCaseSensitive(final String caseId) {
 
         LOGGER.info("calling case sensitive information for case id : {}", caseId);
@@ -39,7 +49,7 @@ public class UserGroupsService {
                 createObjectBuilder().
                         add(TARGET_ID, caseId));
 
-        final JsonObject responsePayload = requester.requestAsAdmin(queryEnvelope).payloadAsJsonObject();
+        final JsonObject responsePayload = queryMemo.memoize(queryEnvelope, () -> downstreamQueries.query(queryEnvelope, () -> requester.requestAsAdmin(queryEnvelope).payloadAsJsonObject()));
         if (null != responsePayload) {
             return responsePayload.getBoolean("isCaseSensitive");
         }
@@ -48,9 +58,7 @@ public class UserGroupsService {
 
     public String getUserDetails(final String userId) {
         try {
-            final Envelope<JsonObject> response = getUserDetailsAsAdmin(userId);
-            final JsonObject jsonObject = response.payload();
-            final String userDetails = jsonObject != null ? jsonObject.getString("firstName") + " " + jsonObject.getString("lastName") : userId;
+            final String userDetails = getUserDisplayName(userId).orElse(userId);
             LOGGER.info("user details {} ", userDetails);
             return userDetails;
         } catch (Exception ex) {
@@ -59,12 +67,24 @@ public class UserGroupsService {
         }
     }
 
+    /**
+     * Unlike {@link #getUserDetails(String)}, a failed query is not hidden behind the user id.
+     *
+     * @return the first and last name of the user, or empty when the user is not known.
+     */
+    public Optional<String> getUserDisplayName(final String userId) {
+        final JsonObject jsonObject = getUserDetailsAsAdmin(userId).payload();
+        return ofNullable(jsonObject).map(userDetails -> userDetails.getString("firstName") + " " + userDetails.getString("lastName"));
+    }
+
     private Envelope<JsonObject> getUserDetailsAsAdmin(final String userId) {
         final MetadataBuilder metadataBuilder = JsonEnvelope.metadataBuilder()
                 .withId(randomUUID())
                 .withUserId(userId)
-                .withName("usersgroups.get-user-details");
+                .withName(GET_USER_DETAILS_QUERY);
+
+        final JsonEnvelope queryEnvelope = envelopeFrom(metadataBuilder, createObjectBuilder().add(USER_ID, userId).build());
 
-        return requester.requestAsAdmin(envelopeFrom(metadataBuilder, createObjectBuilder().add(USER_ID, userId).build()), JsonObject.class);
+        return downstreamQueries.query(queryEnvelope, () -> requester.requestAsAdmin(queryEnvelope, JsonObject.class));
     }
 }
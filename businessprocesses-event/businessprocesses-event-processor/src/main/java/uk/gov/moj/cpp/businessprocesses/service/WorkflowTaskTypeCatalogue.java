@@ -0,0 +1,114 @@
+package uk.gov.moj.cpp.businessprocesses.service;
+
+import static java.lang.Integer.parseInt;
+import static java.time.Duration.parse;
+import static java.util.Optional.ofNullable;
+import static uk.gov.justice.services.messaging.JsonObjects.createObjectBuilder;
+
+import uk.gov.justice.services.common.configuration.Value;
+import uk.gov.justice.services.common.converter.JsonObjectToObjectConverter;
+import uk.gov.justice.services.common.converter.ObjectToJsonObjectConverter;
+import uk.gov.moj.cpp.businessprocesses.cache.CacheMetrics;
+import uk.gov.moj.cpp.businessprocesses.cache.RefreshAheadCache;
+import uk.gov.moj.cpp.businessprocesses.pojo.WorkflowTaskType;
+
+import java.util.Optional;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.Resource;
+import javax.enterprise.concurrent.ManagedExecutorService;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * In-process catalogue of compiled {@link TaskTypeTemplate}s keyed by task name, so that starting
+ * a process does not need a round trip to reference data for every task it creates.
+ */
+@ApplicationScoped
+public class WorkflowTaskTypeCatalogue {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WorkflowTaskTypeCatalogue.class);
+
+    @Inject
+    private ReferenceDataService referenceDataService;
+
+    @Inject
+    private JsonObjectToObjectConverter jsonObjectToObjectConverter;
+
+    @Inject
+    private ObjectToJsonObjectConverter objectToJsonObjectConverter;
+
+    @Resource
+    private ManagedExecutorService managedExecutorService;
+
+    @Inject
+    @Value(key = "workflowTaskTypeCacheTimeToLive", defaultValue = "PT30M")
+    private String timeToLive;
+
+    @Inject
+    @Value(key = "workflowTaskTypeCacheRefreshAfter", defaultValue = "PT20M")
+    private String refreshAfter;
+
+    @Inject
+    @Value(key = "workflowTaskTypeCacheNegativeTimeToLive", defaultValue = "PT1M")
+    private String negativeTimeToLive;
+
+    @Inject
+    @Value(key = "workflowTaskTypeCacheMaximumSize", defaultValue = "500")
+    private String maximumSize;
+
+    private RefreshAheadCache<String, TaskTypeTemplate> templates;
+
+    @PostConstruct
+    public void init() {
+        templates = RefreshAheadCache.<String, TaskTypeTemplate>builder("workflowTaskTypes", this::loadTemplate)
+                .withTimeToLive(parse(timeToLive))
+                .withRefreshAfter(parse(refreshAfter))
+                .withNegativeTimeToLive(parse(negativeTimeToLive))
+                .withMaximumSize(parseInt(maximumSize))
+                .withRefreshExecutor(managedExecutorService)
+                .build();
+    }
+
+    public Optional<TaskTypeTemplate> getTemplate(final String taskName) {
+        return templates.get(taskName);
+    }
+
+    public void invalidateAll() {
+        templates.invalidateAll();
+    }
+
+    /**
+     * @return the task types currently held, keyed by task name, for a {@link ReferenceDataSnapshot}.
+     */
+    public JsonObject snapshot() {
+        final JsonObjectBuilder taskTypes = createObjectBuilder();
+        templates.asMap().forEach((taskName, template) ->
+                taskTypes.add(taskName, objectToJsonObjectConverter.convert(template.getWorkflowTaskType())));
+        return taskTypes.build();
+    }
+
+    /**
+     * Preloads the task types of a {@link #snapshot()}. Each one is reloaded from reference data
+     * in the background the first time it is used.
+     */
+    public void restore(final JsonObject snapshot) {
+        snapshot.forEach((taskName, workflowTaskType) -> templates.preload(taskName,
+                TaskTypeTemplate.compile(jsonObjectToObjectConverter.convert((JsonObject) workflowTaskType, WorkflowTaskType.class))));
+    }
+
+    public CacheMetrics getMetrics() {
+        return templates.metrics();
+    }
+
+    private Optional<TaskTypeTemplate> loadTemplate(final String taskName) {
+        LOGGER.info("Loading Task information from reference data for taskType: {}", taskName);
+        return ofNullable(referenceDataService.getWorkflowTaskType(taskName))
+                .flatMap(workflowTaskType -> workflowTaskType.map(TaskTypeTemplate::compile));
+    }
+}
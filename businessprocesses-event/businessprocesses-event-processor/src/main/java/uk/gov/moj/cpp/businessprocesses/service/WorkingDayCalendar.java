@@ -0,0 +1,224 @@
+package uk.gov.moj.cpp.businessprocesses.service;
+
+import static java.lang.Integer.parseInt;
+import static java.time.Duration.parse;
+import static java.util.Optional.of;
+import static uk.gov.justice.services.messaging.JsonObjects.createArrayBuilder;
+import static uk.gov.justice.services.messaging.JsonObjects.createObjectBuilder;
+
+import uk.gov.justice.services.common.configuration.Value;
+import uk.gov.moj.cpp.businessprocesses.cache.CacheMetrics;
+import uk.gov.moj.cpp.businessprocesses.cache.RefreshAheadCache;
+import uk.gov.moj.cpp.businessprocesses.pojo.PublicHoliday;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Resource;
+import javax.enterprise.concurrent.ManagedExecutorService;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Event;
+import javax.inject.Inject;
+import javax.json.JsonArray;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+import javax.json.JsonString;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Per division working day calendar. Public holidays are fetched from reference data one year at
+ * a time, the first time a date in that year is needed, and held as a {@link WorkingDayYear}
+ * index that is refreshed in the background. Moving by any number of working days only touches
+ * the years that are actually crossed.
+ *
+ * <p>When a reload finds that the public holidays of a year have changed, e.g. a bank holiday
+ * has been announced, a {@link PublicHolidaysChanged} event is fired.
+ */
+@ApplicationScoped
+public class WorkingDayCalendar {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WorkingDayCalendar.class);
+    private static final int MAXIMUM_YEARS_PER_DIVISION = 20;
+
+    @Inject
+    private ReferenceDataService referenceDataService;
+
+    @Resource
+    private ManagedExecutorService managedExecutorService;
+
+    @Inject
+    private Event<PublicHolidaysChanged> publicHolidaysChanged;
+
+    @Inject
+    @Value(key = "workingDayCalendarTimeToLive", defaultValue = "PT24H")
+    private String timeToLive;
+
+    @Inject
+    @Value(key = "workingDayCalendarRefreshAfter", defaultValue = "PT6H")
+    private String refreshAfter;
+
+    private final Map<String, RefreshAheadCache<Integer, WorkingDayYear>> divisions = new ConcurrentHashMap<>();
+    private final Map<String, List<LocalDate>> loadedPublicHolidays = new ConcurrentHashMap<>();
+
+    /**
+     * @return the {@code numberOfDays}th working day after {@code date}, or {@code date} itself
+     * when {@code numberOfDays} is not positive.
+     */
+    public LocalDate plusWorkingDays(final String division, final LocalDate date, final long numberOfDays) {
+        if (numberOfDays <= 0) {
+            return date;
+        }
+
+        WorkingDayYear workingDayYear = workingDayYear(division, date.getYear());
+        int firstOrdinal = workingDayYear.workingDayCount() - workingDayYear.workingDaysAfter(date);
+        long remaining = numberOfDays;
+        while (remaining > workingDayYear.workingDayCount() - firstOrdinal) {
+            remaining -= workingDayYear.workingDayCount() - firstOrdinal;
+            workingDayYear = workingDayYear(division, workingDayYear.getYear() + 1);
+            firstOrdinal = 0;
+        }
+        return workingDayYear.workingDay(firstOrdinal + (int) remaining - 1);
+    }
+
+    /**
+     * @return the {@code numberOfDays}th working day before {@code date}, or {@code date} itself
+     * when {@code numberOfDays} is not positive.
+     */
+    public LocalDate minusWorkingDays(final String division, final LocalDate date, final long numberOfDays) {
+        if (numberOfDays <= 0) {
+            return date;
+        }
+
+        WorkingDayYear workingDayYear = workingDayYear(division, date.getYear());
+        int available = workingDayYear.workingDaysBefore(date);
+        long remaining = numberOfDays;
+        while (remaining > available) {
+            remaining -= available;
+            workingDayYear = workingDayYear(division, workingDayYear.getYear() - 1);
+            available = workingDayYear.workingDayCount();
+        }
+        return workingDayYear.workingDay(available - (int) remaining);
+    }
+
+    public boolean isWorkingDay(final String division, final LocalDate date) {
+        return workingDayYear(division, date.getYear()).isWorkingDay(date);
+    }
+
+    /**
+     * @return the public holidays of every loaded year, by division and year, for a
+     * {@link ReferenceDataSnapshot}.
+     */
+    public JsonObject snapshot() {
+        final JsonObjectBuilder snapshot = createObjectBuilder();
+        divisions.forEach((division, years) -> {
+            final JsonObjectBuilder publicHolidaysByYear = createObjectBuilder();
+            years.asMap().forEach((year, workingDayYear) -> {
+                final JsonArrayBuilder publicHolidays = createArrayBuilder();
+                workingDayYear.getPublicHolidays().forEach(publicHoliday -> publicHolidays.add(publicHoliday.toString()));
+                publicHolidaysByYear.add(String.valueOf(year), publicHolidays);
+            });
+            snapshot.add(division, publicHolidaysByYear);
+        });
+        return snapshot.build();
+    }
+
+    /**
+     * Preloads the years of a {@link #snapshot()}. Each year is reloaded from reference data in
+     * the background the first time it is used.
+     */
+    public void restore(final JsonObject snapshot) {
+        snapshot.forEach((division, publicHolidaysByYear) -> {
+            final RefreshAheadCache<Integer, WorkingDayYear> years = divisions.computeIfAbsent(division, this::newDivisionCache);
+            ((JsonObject) publicHolidaysByYear).forEach((year, publicHolidays) -> {
+                final List<LocalDate> dates = ((JsonArray) publicHolidays).getValuesAs(JsonString.class).stream()
+                        .map(date -> LocalDate.parse(date.getString()))
+                        .toList();
+                final WorkingDayYear workingDayYear = WorkingDayYear.of(parseInt(year), dates);
+                years.preload(workingDayYear.getYear(), workingDayYear);
+                loadedPublicHolidays.putIfAbsent(division + '/' + year, workingDayYear.getPublicHolidays());
+            });
+        });
+    }
+
+    /**
+     * @return the metrics of the cache of each division used so far.
+     */
+    public List<CacheMetrics> getMetrics() {
+        return divisions.values().stream()
+                .map(RefreshAheadCache::metrics)
+                .toList();
+    }
+
+    /**
+     * @return a calendar of its own that uses {@code publicHolidays} for a year of a division and
+     * this calendar for every other year, without changing this calendar or firing a
+     * {@link PublicHolidaysChanged} event.
+     */
+    public WorkingDayCalendar withPublicHolidays(final String division, final int year, final List<LocalDate> publicHolidays) {
+        final WorkingDayYear ownYear = WorkingDayYear.of(year, publicHolidays);
+        final WorkingDayCalendar calendar = this;
+        return new WorkingDayCalendar() {
+            @Override
+            WorkingDayYear workingDayYear(final String yearDivision, final int yearNumber) {
+                return division.equals(yearDivision) && year == yearNumber ? ownYear : calendar.workingDayYear(yearDivision, yearNumber);
+            }
+        };
+    }
+
+    /**
+     * Drops every loaded year, so the next lookup re-reads the public holidays from reference
+     * data.
+     */
+    public void invalidateAll() {
+        divisions.values().forEach(RefreshAheadCache::invalidateAll);
+    }
+
+    WorkingDayYear workingDayYear(final String division, final int year) {
+        return divisions.computeIfAbsent(division, this::newDivisionCache)
+                .get(year)
+                .orElseThrow(() -> new IllegalStateException("Unable to build working day calendar for " + division + " " + year));
+    }
+
+    private RefreshAheadCache<Integer, WorkingDayYear> newDivisionCache(final String division) {
+        return RefreshAheadCache.<Integer, WorkingDayYear>builder("workingDayCalendar-" + division, year -> loadYear(division, year))
+                .withTimeToLive(parse(timeToLive))
+                .withRefreshAfter(parse(refreshAfter))
+                .withMaximumSize(MAXIMUM_YEARS_PER_DIVISION)
+                .withRefreshExecutor(managedExecutorService)
+                .build();
+    }
+
+    private Optional<WorkingDayYear> loadYear(final String division, final int year) {
+        LOGGER.info("Loading public holidays for division {} and year {}", division, year);
+        final List<LocalDate> publicHolidays = referenceDataService.getPublicHolidays(division, LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31))
+                .stream()
+                .map(PublicHoliday::getDate)
+                .toList();
+        final WorkingDayYear workingDayYear = WorkingDayYear.of(year, publicHolidays);
+        final List<LocalDate> previousPublicHolidays = loadedPublicHolidays.put(division + '/' + year, workingDayYear.getPublicHolidays());
+        if (previousPublicHolidays != null && !previousPublicHolidays.equals(workingDayYear.getPublicHolidays())) {
+            // cached before the event is fired, so that due dates recalculated for it see the change
+            divisions.get(division).put(year, workingDayYear);
+            publicHolidaysChanged(division, year, previousPublicHolidays, workingDayYear.getPublicHolidays());
+        }
+        return of(workingDayYear);
+    }
+
+    private void publicHolidaysChanged(final String division, final int year, final List<LocalDate> previousPublicHolidays, final List<LocalDate> publicHolidays) {
+        final Set<LocalDate> changedDates = new HashSet<>(previousPublicHolidays);
+        changedDates.addAll(publicHolidays);
+        changedDates.removeIf(date -> previousPublicHolidays.contains(date) && publicHolidays.contains(date));
+        LOGGER.info("Public holidays changed for division {} on {}", division, changedDates);
+        if (publicHolidaysChanged != null) {
+            publicHolidaysChanged.fire(new PublicHolidaysChanged(division, year, publicHolidays, changedDates));
+        }
+    }
+}
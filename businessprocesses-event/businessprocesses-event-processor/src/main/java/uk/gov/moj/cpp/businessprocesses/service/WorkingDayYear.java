@@ -0,0 +1,105 @@
+package uk.gov.moj.cpp.businessprocesses.service;
+
+import static java.time.DayOfWeek.SATURDAY;
+import static java.time.DayOfWeek.SUNDAY;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Immutable working day index for one calendar year of one division. Weekends and the supplied
+ * public holidays are non-working days.
+ *
+ * <p>{@code workingDaysUpTo[d]} holds the number of working days from 1st January up to and
+ * including day-of-year {@code d + 1}, and {@code workingDays[n]} holds the day-of-year index of
+ * the {@code n}th working day, so moving by any number of working days within the year is two
+ * array reads.
+ */
+public final class WorkingDayYear {
+
+    private final int year;
+    private final LocalDate firstDay;
+    private final List<LocalDate> publicHolidays;
+    private final int[] workingDaysUpTo;
+    private final int[] workingDays;
+
+    private WorkingDayYear(final int year, final Collection<LocalDate> publicHolidays) {
+        this.year = year;
+        this.firstDay = LocalDate.ofYearDay(year, 1);
+        this.publicHolidays = publicHolidays.stream()
+                .filter(publicHoliday -> publicHoliday.getYear() == year)
+                .distinct()
+                .sorted()
+                .toList();
+
+        final int length = Year.of(year).length();
+        final boolean[] nonWorking = new boolean[length];
+        for (final LocalDate publicHoliday : this.publicHolidays) {
+            nonWorking[publicHoliday.getDayOfYear() - 1] = true;
+        }
+
+        this.workingDaysUpTo = new int[length];
+        final int[] workingDayIndexes = new int[length];
+        int count = 0;
+        DayOfWeek dayOfWeek = firstDay.getDayOfWeek();
+        for (int dayIndex = 0; dayIndex < length; dayIndex++) {
+            if (!nonWorking[dayIndex] && dayOfWeek != SATURDAY && dayOfWeek != SUNDAY) {
+                workingDayIndexes[count++] = dayIndex;
+            }
+            workingDaysUpTo[dayIndex] = count;
+            dayOfWeek = dayOfWeek.plus(1);
+        }
+        this.workingDays = new int[count];
+        System.arraycopy(workingDayIndexes, 0, workingDays, 0, count);
+    }
+
+    public static WorkingDayYear of(final int year, final Collection<LocalDate> publicHolidays) {
+        return new WorkingDayYear(year, publicHolidays);
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    /**
+     * @return the public holidays of this year the index was built with, in date order.
+     */
+    public List<LocalDate> getPublicHolidays() {
+        return publicHolidays;
+    }
+
+    public int workingDayCount() {
+        return workingDays.length;
+    }
+
+    public boolean isWorkingDay(final LocalDate date) {
+        final int dayIndex = date.getDayOfYear() - 1;
+        return workingDaysUpTo[dayIndex] != (dayIndex == 0 ? 0 : workingDaysUpTo[dayIndex - 1]);
+    }
+
+    /**
+     * @return the number of working days in this year strictly after {@code date}.
+     */
+    public int workingDaysAfter(final LocalDate date) {
+        return workingDays.length - workingDaysUpTo[date.getDayOfYear() - 1];
+    }
+
+    /**
+     * @return the number of working days in this year strictly before {@code date}.
+     */
+    public int workingDaysBefore(final LocalDate date) {
+        final int dayIndex = date.getDayOfYear() - 1;
+        return dayIndex == 0 ? 0 : workingDaysUpTo[dayIndex - 1];
+    }
+
+    /**
+     * @param ordinal zero based position of the working day within the year.
+     * @return the date of that working day.
+     */
+    public LocalDate workingDay(final int ordinal) {
+        return firstDay.plusDays(workingDays[ordinal]);
+    }
+}
@@ -19,6 +19,7 @@ public class Constants {
     public static final String BPMN_PROCESS_BOOK_INTERPRETER_WELSH_APPLICATION = "book_interpreter_welsh_application";
     public static final String BPMN_PROCESS_LIST_MURDER_CASE_FOR_BAIL_HEARING_PROCESS = "list_murder_case_for_bail_hearing_process";
     public static final String BPMN_PROCESS_OPA_CUSTOM_TASK_PROCESS = "opa_custom_task_process";
+    public static final String BPMN_PROCESS_PUBLIC_HOLIDAY_DUE_DATE_RECALCULATION = "public-holiday-due-date-recalculation";
     public static final String BPMN_PROCESS_SJP_CASE_HEARING_DECISION_SAVED = "sjp-case-hearing-decision-saved";
     public static final String BPMN_PROCESS_SPI_ERROR_IDENTIFIED = "spi_error_identified";
     public static final String BPMN_PROCESS_TRIAGE_INCOMING_DOCUMENT_IDENTIFIED = "triage_incoming_document_identified";
@@ -5,39 +5,34 @@ import static java.time.ZoneOffset.UTC;
 import static java.time.ZonedDateTime.of;
 import static java.util.Date.from;
 import static java.util.Objects.nonNull;
-import static java.util.TimeZone.getTimeZone;
-import static org.joda.time.DateTimeZone.forTimeZone;
+import static uk.gov.moj.cpp.businessprocesses.shared.Timestamps.UTC_TIMESTAMP_FORMATTER;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.time.ZoneId;
 import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.Date;
 
 import org.apache.commons.lang3.StringUtils;
-import org.joda.time.DateTime;
-import org.joda.time.DateTimeZone;
 
 public class DateConverter {
 
-    private static final DateTimeZone UTC_DATE_TIME_ZONE = forTimeZone(getTimeZone(UTC));
+    private static final String START_OF_DAY = "00:00:00.000";
 
     private DateConverter() {
     }
 
     public static String getUTCZonedDateTimeString(final Date date) {
-        return new DateTime(date, UTC_DATE_TIME_ZONE).toString();
+        return Timestamps.toUtcString(date);
     }
 
     public static String getUTCZonedDateTimeString(final LocalDateTime localDateTime) {
-        return new DateTime(localDateTime, UTC_DATE_TIME_ZONE).toString();
+        return Timestamps.toUtcString(localDateTime);
     }
 
     public static String getUTCZonedDateTimeString(final String date) {
-        return new DateTime(parse(date), UTC_DATE_TIME_ZONE).toString();
+        return Timestamps.toUtcString(parse(date));
     }
 
     public static ZonedDateTime getUTCZonedDateTime(final LocalDateTime localDateTime) {
@@ -71,15 +66,14 @@ public class DateConverter {
             }
 
             if(StringUtils.isEmpty(timeStr)){
-                timeStr = "00:00:00.000";
+                timeStr = START_OF_DAY;
             }
             LocalDate date = LocalDate.parse(dateStr);
             LocalTime time = LocalTime.parse(timeStr);
 
-            ZonedDateTime zonedDateTime = ZonedDateTime.of(date, time, ZoneId.of("UTC"));
+            ZonedDateTime zonedDateTime = ZonedDateTime.of(date, time, UTC);
 
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
-            return formatter.format(zonedDateTime);
+            return UTC_TIMESTAMP_FORMATTER.format(zonedDateTime);
         } catch (Exception e) {
             return "";
         }
@@ -0,0 +1,13 @@
+package uk.gov.moj.cpp.businessprocesses.shared;
+
+/**
+ * Thrown instead of sending a query to a downstream context that is already saturated or whose
+ * circuit breaker is open, or when a query gets no answer within its deadline. Queries do not
+ * change anything downstream, so handling the envelope or job again later is safe.
+ */
+public class DownstreamUnavailableException extends RuntimeException {
+
+    public DownstreamUnavailableException(final String error) {
+        super(error);
+    }
+}
@@ -0,0 +1,77 @@
+package uk.gov.moj.cpp.businessprocesses.shared;
+
+import uk.gov.justice.services.messaging.JsonEnvelope;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.json.JsonObject;
+
+/**
+ * Reads the members of an event's payload, e.g. the {@code hearing} of a hearing resulted event,
+ * as the processor's domain model.
+ *
+ * <p>While an event is handled within {@link #withEvent(JsonEnvelope, Runnable)} each member is
+ * bound at most once: the object bound for a type is handed to the processor and every
+ * sub-handler that reads the same member as the same type, so the objects returned must not be
+ * changed. Outside of it the member is bound on each read.
+ */
+public final class EventPayloads {
+
+    private static final ThreadLocal<Event> EVENT = new ThreadLocal<>();
+
+    private EventPayloads() {
+    }
+
+    /**
+     * Handles {@code envelope} with {@code handler}, sharing the members bound while it runs.
+     */
+    public static void withEvent(final JsonEnvelope envelope, final Runnable handler) {
+        final Event outer = EVENT.get();
+        EVENT.set(new Event(envelope.payloadAsJsonObject()));
+        try {
+            handler.run();
+        } finally {
+            if (outer == null) {
+                EVENT.remove();
+            } else {
+                EVENT.set(outer);
+            }
+        }
+    }
+
+    /**
+     * @return the payload member {@code name} of {@code envelope} as a {@code type}, or
+     * {@code null} when it is not set.
+     * @throws IllegalArgumentException if the member cannot be bound to a {@code type}
+     */
+    public static <T> T getPayload(final JsonEnvelope envelope, final String name, final Class<T> type) {
+        final JsonObject payload = envelope.payloadAsJsonObject();
+        final Event event = EVENT.get();
+        if (event == null || event.payload != payload) {
+            return JsonBinder.convert(payload.get(name), type);
+        }
+
+        final Map<Class<?>, Object> bound = event.members.computeIfAbsent(name, key -> new HashMap<>());
+        final Object member = bound.get(type);
+        if (member != null) {
+            return type.cast(member);
+        }
+
+        final T typedMember = JsonBinder.convert(payload.get(name), type);
+        if (typedMember != null) {
+            bound.put(type, typedMember);
+        }
+        return typedMember;
+    }
+
+    private static final class Event {
+
+        private final JsonObject payload;
+        private final Map<String, Map<Class<?>, Object>> members = new HashMap<>();
+
+        private Event(final JsonObject payload) {
+            this.payload = payload;
+        }
+    }
+}
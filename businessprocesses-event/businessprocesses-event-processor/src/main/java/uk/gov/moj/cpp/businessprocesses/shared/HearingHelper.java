@@ -3,12 +3,12 @@ package uk.gov.moj.cpp.businessprocesses.shared;
 import static java.util.stream.Collectors.toList;
 import static org.apache.commons.collections.CollectionUtils.isEmpty;
 import static org.apache.commons.collections.CollectionUtils.isNotEmpty;
+import static uk.gov.moj.cpp.businessprocesses.shared.Timestamps.UTC_TIMESTAMP_FORMATTER;
 
 import uk.gov.justice.listing.events.Defendant;
 import uk.gov.justice.listing.events.Hearing;
 import uk.gov.justice.listing.events.HearingDay;
 
-import java.time.format.DateTimeFormatter;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
@@ -37,7 +37,7 @@ public class HearingHelper {
             return null;
         }
         final HearingDay hearingDay = hearing.getHearingDays().get(0);
-        return hearingDay.getStartTime().format(DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'"));
+        return hearingDay.getStartTime().format(UTC_TIMESTAMP_FORMATTER);
     }
 
     public static String getCustodyTimeLimit(final uk.gov.justice.core.courts.Hearing hearing) {
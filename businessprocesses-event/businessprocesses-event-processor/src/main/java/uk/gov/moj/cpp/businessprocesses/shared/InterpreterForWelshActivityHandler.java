@@ -15,17 +15,17 @@ import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.L
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.PROSECUTION_CASE;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.WELSH_LANGUAGE_UNIT_WORK_QUEUE;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.WORK_QUEUE;
+import static uk.gov.moj.cpp.businessprocesses.shared.Timestamps.UTC_TIMESTAMP_FORMATTER;
 
 import uk.gov.justice.core.courts.Hearing;
 import uk.gov.justice.core.courts.ProsecutionCase;
 import uk.gov.justice.services.core.dispatcher.SystemUserProvider;
 import uk.gov.moj.cpp.businessprocesses.pojo.DefendantHearingLanguageNeeds;
+import uk.gov.moj.cpp.businessprocesses.service.CourtCentreDirectory;
 import uk.gov.moj.cpp.businessprocesses.service.HearingService;
 import uk.gov.moj.cpp.businessprocesses.service.ProgressionService;
-import uk.gov.moj.cpp.businessprocesses.service.ReferenceDataService;
 import uk.gov.moj.cpp.businessprocesses.service.TaskTypeService;
 
-import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -45,8 +45,6 @@ public class InterpreterForWelshActivityHandler {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(InterpreterForWelshActivityHandler.class);
 
-    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
-
     @Inject
     private RuntimeService runtimeService;
 
@@ -60,7 +58,7 @@ public class InterpreterForWelshActivityHandler {
     private ProgressionService progressionService;
 
     @Inject
-    private ReferenceDataService referenceDataService;
+    private CourtCentreDirectory courtCentreDirectory;
 
     @Inject
     private TaskService taskService;
@@ -72,7 +70,7 @@ public class InterpreterForWelshActivityHandler {
         LOGGER.info("Received request to create welsh interpreter activity for hearingId = {}", hearingId);
         final Hearing hearing = hearingService.getHearing(hearingId);
         if (isWelshCourtWithApplication(hearing)) {
-            final String hearingDate = hearing.getHearingDays().get(0).getSittingDay().format(DATE_TIME_FORMATTER);
+            final String hearingDate = hearing.getHearingDays().get(0).getSittingDay().format(UTC_TIMESTAMP_FORMATTER);
             processLinkedApplication(hearing, hearingId, hearingDate);
         }
     }
@@ -80,7 +78,7 @@ public class InterpreterForWelshActivityHandler {
     public void handleWelshInterpreterForCaseInitiated(final String hearingId) {
         final Hearing hearing = hearingService.getHearing(hearingId);
         if (hearing != null && isWelshCourtWithProsecutionCases(hearing)) {
-            final String hearingDate = hearing.getHearingDays().get(0).getSittingDay().format(DATE_TIME_FORMATTER);
+            final String hearingDate = hearing.getHearingDays().get(0).getSittingDay().format(UTC_TIMESTAMP_FORMATTER);
             processProsecutionCases(hearing, hearingId, hearingDate);
         }
     }
@@ -92,7 +90,7 @@ public class InterpreterForWelshActivityHandler {
             return;
         }
 
-        final String hearingDate = hearing.getHearingDays().get(0).getSittingDay().format(DATE_TIME_FORMATTER);
+        final String hearingDate = hearing.getHearingDays().get(0).getSittingDay().format(UTC_TIMESTAMP_FORMATTER);
 
         if (nonEmpty(hearing.getCourtApplications())) {
             processLinkedApplication(hearing, hearingId, hearingDate);
@@ -107,7 +105,7 @@ public class InterpreterForWelshActivityHandler {
     }
 
     private Boolean isWelshCourt(final Hearing hearing) {
-        return referenceDataService.isWelshCourt(hearing.getCourtCentre().getId().toString());
+        return courtCentreDirectory.isWelshCourt(hearing.getCourtCentre().getId().toString());
     }
 
     private boolean isWelshCourtWithApplication(final Hearing hearing) {
@@ -0,0 +1,89 @@
+package uk.gov.moj.cpp.businessprocesses.shared;
+
+import uk.gov.justice.services.common.converter.jackson.ObjectMapperProducer;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.json.JsonObject;
+import javax.json.JsonValue;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+/**
+ * Binds JSON to the processor's POJOs and back with one {@link ObjectMapper}, shared by every
+ * thread, in place of an {@code ObjectMapper} per class or bean.
+ *
+ * <p>JSON-P values, e.g. query responses and event payloads, are bound straight from their tokens
+ * rather than written out as a string and parsed again. The {@link ObjectReader} and
+ * {@link ObjectWriter} for each type are built on first use and kept.
+ */
+public final class JsonBinder {
+
+    private static final ObjectMapper objectMapper = new ObjectMapperProducer().objectMapper();
+    private static final Map<Class<?>, ObjectReader> READERS = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, ObjectWriter> WRITERS = new ConcurrentHashMap<>();
+
+    private JsonBinder() {
+    }
+
+    public static <T> T bind(final JsonValue json, final Class<T> type) throws IOException {
+        return readerFor(type).readValue(toTokens(json, JsonValue.class).asParser());
+    }
+
+    public static <T> T read(final String json, final Class<T> type) throws IOException {
+        return readerFor(type).readValue(json);
+    }
+
+    /**
+     * @return {@code value} as a {@code type}, e.g. a {@code Map} variable as a POJO.
+     * @throws IllegalArgumentException if {@code value} cannot be bound to a {@code type}
+     */
+    public static <T> T convert(final Object value, final Class<T> type) {
+        if (value == null || type.isInstance(value)) {
+            return type.cast(value);
+        }
+        try {
+            return readerFor(type).readValue(toTokens(value, value.getClass()).asParser());
+        } catch (final IOException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code value} cannot be written as JSON
+     */
+    public static JsonObject toJsonObject(final Object value) {
+        return convert(value, JsonObject.class);
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code value} cannot be written as JSON
+     */
+    public static JsonValue toJsonValue(final Object value) {
+        return convert(value, JsonValue.class);
+    }
+
+    public static String write(final Object value) throws JsonProcessingException {
+        return writerFor(value.getClass()).writeValueAsString(value);
+    }
+
+    private static TokenBuffer toTokens(final Object value, final Class<?> type) throws IOException {
+        final TokenBuffer tokens = new TokenBuffer(objectMapper, false);
+        writerFor(type).writeValue(tokens, value);
+        return tokens;
+    }
+
+    private static ObjectReader readerFor(final Class<?> type) {
+        return READERS.computeIfAbsent(type, objectMapper::readerFor);
+    }
+
+    private static ObjectWriter writerFor(final Class<?> type) {
+        return WRITERS.computeIfAbsent(type, objectMapper::writerFor);
+    }
+}
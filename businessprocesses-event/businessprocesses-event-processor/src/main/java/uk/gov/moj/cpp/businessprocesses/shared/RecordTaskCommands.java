@@ -0,0 +1,121 @@
+package uk.gov.moj.cpp.businessprocesses.shared;
+
+import static java.util.UUID.randomUUID;
+import static org.camunda.bpm.engine.impl.cfg.TransactionState.COMMITTING;
+import static org.camunda.bpm.engine.impl.cfg.TransactionState.ROLLED_BACK;
+import static uk.gov.justice.services.messaging.JsonEnvelope.envelopeFrom;
+import static uk.gov.justice.services.messaging.JsonEnvelope.metadataBuilder;
+import static uk.gov.justice.services.messaging.JsonObjects.createArrayBuilder;
+import static uk.gov.justice.services.messaging.JsonObjects.createObjectBuilder;
+
+import uk.gov.justice.services.core.sender.Sender;
+import uk.gov.justice.services.messaging.JsonEnvelope;
+import uk.gov.justice.services.messaging.MetadataBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObjectBuilder;
+
+import org.camunda.bpm.engine.impl.cfg.TransactionContext;
+import org.camunda.bpm.engine.impl.context.Context;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+
+/**
+ * Sends the {@code businessprocesses.command.record-task-*} commands of the task listeners as the
+ * engine transaction they were raised in commits.
+ *
+ * <p>The commands of one transaction, e.g. every user task created when a process starts, are
+ * sent together as one {@code businessprocesses.command.record-task-commands} command, which the
+ * command handler applies to each task in turn. The batch is sent while the transaction is
+ * committing, so under the container's transaction manager the send takes part in the same
+ * transaction as the engine: a failed send rolls the engine back, and the commands of a
+ * transaction that is rolled back are never delivered. Outside an engine command, e.g. in unit
+ * tests, each command is sent straight away.
+ *
+ * <p>Work that must only happen for commands that were sent, such as queueing their audits, is
+ * handed to {@link #runOnCommit} and runs once the batch has been sent.
+ */
+public final class RecordTaskCommands {
+
+    public static final String RECORD_TASK_COMMANDS = "businessprocesses.command.record-task-commands";
+    public static final String COMMANDS = "commands";
+
+    private static final Map<TransactionContext, Batch> BATCHES = new ConcurrentHashMap<>();
+
+    private RecordTaskCommands() {
+    }
+
+    public static void sendOnCommit(final Sender sender, final JsonEnvelope command) {
+        final CommandContext commandContext = Context.getCommandContext();
+        if (commandContext == null) {
+            sender.sendAsAdmin(command);
+            return;
+        }
+
+        final Batch batch = batchOf(commandContext);
+        batch.sender = sender;
+        batch.commands.add(command);
+    }
+
+    /**
+     * Runs {@code action} once the commands of the engine transaction it is raised in have been
+     * sent, so nothing is done for a transaction that is rolled back. Outside an engine command it
+     * runs straight away.
+     */
+    public static void runOnCommit(final Runnable action) {
+        final CommandContext commandContext = Context.getCommandContext();
+        if (commandContext == null) {
+            action.run();
+            return;
+        }
+
+        batchOf(commandContext).afterSend.add(action);
+    }
+
+    private static Batch batchOf(final CommandContext commandContext) {
+        return BATCHES.computeIfAbsent(commandContext.getTransactionContext(), transactionContext -> {
+            transactionContext.addTransactionListener(COMMITTING, context -> send(BATCHES.remove(transactionContext)));
+            transactionContext.addTransactionListener(ROLLED_BACK, context -> BATCHES.remove(transactionContext));
+            return new Batch();
+        });
+    }
+
+    private static void send(final Batch batch) {
+        if (batch == null) {
+            return;
+        }
+
+        if (!batch.commands.isEmpty()) {
+            batch.sender.sendAsAdmin(batch.commands.size() == 1 ? batch.commands.get(0) : toBatchEnvelope(batch.commands));
+        }
+        batch.afterSend.forEach(Runnable::run);
+    }
+
+    private static JsonEnvelope toBatchEnvelope(final List<JsonEnvelope> commands) {
+        final JsonArrayBuilder commandsBuilder = createArrayBuilder();
+        commands.forEach(command -> {
+            final JsonObjectBuilder commandBuilder = createObjectBuilder()
+                    .add("id", command.metadata().id().toString())
+                    .add("name", command.metadata().name());
+            command.metadata().userId().ifPresent(userId -> commandBuilder.add("userId", userId));
+            commandsBuilder.add(commandBuilder.add("payload", command.payloadAsJsonObject()));
+        });
+
+        final MetadataBuilder metadata = metadataBuilder()
+                .withId(randomUUID())
+                .withName(RECORD_TASK_COMMANDS);
+        commands.get(0).metadata().userId().ifPresent(metadata::withUserId);
+        return envelopeFrom(metadata, createObjectBuilder().add(COMMANDS, commandsBuilder).build());
+    }
+
+    private static final class Batch {
+
+        private Sender sender;
+        private final List<JsonEnvelope> commands = new ArrayList<>();
+        private final List<Runnable> afterSend = new ArrayList<>();
+    }
+}
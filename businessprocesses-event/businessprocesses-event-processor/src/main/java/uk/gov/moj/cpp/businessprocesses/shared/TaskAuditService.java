@@ -1,20 +1,20 @@
 package uk.gov.moj.cpp.businessprocesses.shared;
 
 import static java.util.UUID.randomUUID;
-import static uk.gov.justice.services.core.annotation.Component.EVENT_PROCESSOR;
 import static uk.gov.justice.services.messaging.JsonEnvelope.envelopeFrom;
 import static uk.gov.justice.services.messaging.JsonEnvelope.metadataBuilder;
+import static uk.gov.moj.cpp.businessprocesses.shared.RecordTaskCommands.runOnCommit;
 
-import uk.gov.justice.services.core.audit.AuditService;
 import uk.gov.justice.services.messaging.JsonEnvelope;
 import uk.gov.justice.services.messaging.Metadata;
+import uk.gov.moj.cpp.businessprocesses.audit.AuditPipeline;
 
 import javax.inject.Inject;
 
 public class TaskAuditService {
 
     @Inject
-    private AuditService auditService;
+    private AuditPipeline auditPipeline;
 
     public static Metadata getMetadata(final String commandHandlerName, final String userId) {
         return metadataBuilder()
@@ -24,13 +24,13 @@ public class TaskAuditService {
     }
 
     /**
-     * updating auditEnvelope userId with changeAuthId for audit
+     * updating auditEnvelope userId with changeAuthId for audit, queued once the commands of the
+     * engine transaction have been sent
      * @param auditEnvelope
      * @param userId is changeAuthId from listeners
      */
 
     public void audit(final JsonEnvelope auditEnvelope, final String userId) {
-        final JsonEnvelope jsonEnvelope = envelopeFrom(getMetadata(auditEnvelope.metadata().name(), userId), auditEnvelope.payloadAsJsonObject());
-        auditService.audit(jsonEnvelope, EVENT_PROCESSOR);
+        runOnCommit(() -> auditPipeline.audit(() -> envelopeFrom(getMetadata(auditEnvelope.metadata().name(), userId), auditEnvelope.payloadAsJsonObject())));
     }
 }
@@ -8,7 +8,6 @@ import static uk.gov.moj.cpp.businessprocesses.shared.Constants.CHANGE_AUTHOR;
 import static uk.gov.moj.cpp.businessprocesses.shared.Constants.CHANGE_AUTHOR_ID;
 import static uk.gov.moj.cpp.businessprocesses.shared.Constants.COURT_ID;
 import static uk.gov.moj.cpp.businessprocesses.shared.Constants.REFERENCE;
-import static uk.gov.moj.cpp.businessprocesses.shared.DateConverter.getUTCZonedDateTimeString;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.CASE_URN;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.DUE_DATE;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.HEARING_DATE;
@@ -18,6 +17,8 @@ import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.L
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.NOTE;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.TASK_TYPE_ID;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.WORK_QUEUE;
+import static uk.gov.moj.cpp.businessprocesses.shared.TaskVariables.getVariables;
+import static uk.gov.moj.cpp.businessprocesses.shared.Timestamps.toUtcString;
 
 import uk.gov.justice.services.messaging.Metadata;
 
@@ -31,10 +32,18 @@ public class TaskCreatedListenerHelper {
     private TaskCreatedListenerHelper() {
     }
 
+    /**
+     * @return the process variables {@link #getJsonObjectBuilder} and
+     * {@link #validateChangeAuthorDetails} read, fetched from the execution of the task.
+     */
+    public static VariableMapImpl getCreatedTaskVariables(final TaskEntity taskEntity) {
+        return getVariables(taskEntity.getExecution(), LAST_UPDATED_BY_ID, LAST_UPDATED_BY_NAME, CASE_URN, NOTE, HEARING_DATE, COURT_ID, JURISDICTION);
+    }
+
     @SuppressWarnings("squid:MethodCyclomaticComplexity")
     public static JsonObjectBuilder getJsonObjectBuilder(final VariableMapImpl variableMap, final TaskEntity taskEntity) {
         final String taskId = taskEntity.getId();
-        final String createdDate = getUTCZonedDateTimeString(taskEntity.getCreateTime());
+        final String createdDate = toUtcString(taskEntity.getCreateTime());
         final String taskType = taskEntity.getName();
         final JsonObjectBuilder jsonObjectBuilder = createObjectBuilder()
                 .add("id", taskId)
@@ -54,7 +63,7 @@ public class TaskCreatedListenerHelper {
         }
 
         if (taskEntity.getDueDate() != null) {
-            final String dateTimeString = getUTCZonedDateTimeString(taskEntity.getDueDate());
+            final String dateTimeString = toUtcString(taskEntity.getDueDate());
             jsonObjectBuilder.add(DUE_DATE, dateTimeString);
         }
 
@@ -0,0 +1,98 @@
+package uk.gov.moj.cpp.businessprocesses.shared;
+
+import static org.camunda.bpm.engine.impl.cfg.TransactionState.COMMITTED;
+import static org.camunda.bpm.engine.impl.cfg.TransactionState.ROLLED_BACK;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.json.JsonObject;
+
+import org.camunda.bpm.engine.delegate.VariableScope;
+import org.camunda.bpm.engine.impl.cfg.TransactionContext;
+import org.camunda.bpm.engine.impl.context.Context;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.slf4j.Logger;
+
+/**
+ * Reads and writes the JSON payload variables of the custom, generic, COTR and OPA tasks, e.g.
+ * {@code taskVariablesJsonString}, as typed objects.
+ *
+ * <p>The payload stays stored as one compact JSON string, as the processes are started with it.
+ * Within an engine transaction each payload is parsed at most once: the object read for a type is
+ * kept until the transaction ends and handed to every delegate and listener that reads the same
+ * payload as the same type, so the objects returned must not be changed. A payload written as a
+ * {@link JsonObject} is kept too, and is read as any other type from that tree instead of being
+ * parsed again. Outside an engine command the payload is parsed on each read.
+ */
+public final class TaskPayloadVariables {
+
+    private static final Logger LOGGER = getLogger(TaskPayloadVariables.class);
+    private static final Map<TransactionContext, Map<String, Map<Class<?>, Object>>> PAYLOADS = new ConcurrentHashMap<>();
+
+    private TaskPayloadVariables() {
+    }
+
+    /**
+     * @return the payload variable {@code name} visible from {@code scope} as a {@code type}, or
+     * {@code null} when it is not set or cannot be read as one.
+     */
+    public static <T> T getPayload(final VariableScope scope, final String name, final Class<T> type) {
+        final Object variable = scope.getVariable(name);
+        if (variable == null || type.isInstance(variable)) {
+            return type.cast(variable);
+        }
+        if (!(variable instanceof String)) {
+            // Set as an object rather than a JSON string, e.g. through the engine's REST API
+            return JsonBinder.convert(variable, type);
+        }
+
+        final String json = (String) variable;
+        final Map<Class<?>, Object> parsed = parsedInTransaction(json);
+        final Object payload = parsed.get(type);
+        if (payload != null) {
+            return type.cast(payload);
+        }
+
+        final T typedPayload = read(name, json, (JsonObject) parsed.get(JsonObject.class), type);
+        if (typedPayload != null) {
+            parsed.put(type, typedPayload);
+        }
+        return typedPayload;
+    }
+
+    /**
+     * Sets the payload variable {@code name} on {@code scope} to {@code payload}, written once as a
+     * JSON string.
+     */
+    public static void setPayload(final VariableScope scope, final String name, final JsonObject payload) {
+        final String json = payload.toString();
+        parsedInTransaction(json).put(JsonObject.class, payload);
+        scope.setVariable(name, json);
+    }
+
+    private static <T> T read(final String name, final String json, final JsonObject tree, final Class<T> type) {
+        try {
+            return tree != null ? JsonBinder.convert(tree, type) : JsonBinder.read(json, type);
+        } catch (final IOException | IllegalArgumentException e) {
+            LOGGER.error("Unable to unmarshal {} as {}. Payload :{}", name, type.getSimpleName(), json, e);
+            return null;
+        }
+    }
+
+    private static Map<Class<?>, Object> parsedInTransaction(final String json) {
+        final CommandContext commandContext = Context.getCommandContext();
+        if (commandContext == null) {
+            return new HashMap<>();
+        }
+
+        return PAYLOADS.computeIfAbsent(commandContext.getTransactionContext(), transactionContext -> {
+            transactionContext.addTransactionListener(COMMITTED, context -> PAYLOADS.remove(transactionContext));
+            transactionContext.addTransactionListener(ROLLED_BACK, context -> PAYLOADS.remove(transactionContext));
+            return new ConcurrentHashMap<>();
+        }).computeIfAbsent(json, key -> new ConcurrentHashMap<>());
+    }
+}
@@ -0,0 +1,56 @@
+package uk.gov.moj.cpp.businessprocesses.shared;
+
+import org.camunda.bpm.engine.delegate.VariableScope;
+import org.camunda.bpm.engine.variable.impl.VariableMapImpl;
+import org.camunda.bpm.engine.variable.value.TypedValue;
+
+/**
+ * Reads the variables a task listener needs by name, instead of through
+ * {@link VariableScope#getVariables()}, which loads and deserializes every variable of the scope
+ * and its parents, including the large JSON strings the custom task variables are held in.
+ *
+ * <p>Only the named variables are fetched and deserialized. A variable that is not set is left out
+ * of the map, so {@code containsKey} still tells a variable set to {@code null} apart from one that
+ * was never set.
+ */
+public final class TaskVariables {
+
+    private TaskVariables() {
+    }
+
+    /**
+     * @return the named variables visible from {@code scope}, looked up through its parent scopes.
+     */
+    public static VariableMapImpl getVariables(final VariableScope scope, final String... names) {
+        final VariableMapImpl variables = new VariableMapImpl();
+        for (final String name : names) {
+            final TypedValue value = scope.getVariableTyped(name, true);
+            if (value != null) {
+                variables.putValueTyped(name, value);
+            }
+        }
+        return variables;
+    }
+
+    /**
+     * @return the named variables set on {@code scope} itself.
+     */
+    public static VariableMapImpl getVariablesLocal(final VariableScope scope, final String... names) {
+        final VariableMapImpl variables = new VariableMapImpl();
+        for (final String name : names) {
+            final TypedValue value = scope.getVariableLocalTyped(name, true);
+            if (value != null) {
+                variables.putValueTyped(name, value);
+            }
+        }
+        return variables;
+    }
+
+    /**
+     * @return the value of the named variable visible from {@code scope}, or {@code null} when it
+     * is not set.
+     */
+    public static <T> T getValue(final VariableScope scope, final String name, final Class<T> type) {
+        return getVariables(scope, name).getValue(name, type);
+    }
+}
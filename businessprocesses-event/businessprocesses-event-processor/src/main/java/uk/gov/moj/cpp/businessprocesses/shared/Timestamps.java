@@ -0,0 +1,127 @@
+package uk.gov.moj.cpp.businessprocesses.shared;
+
+import static java.time.ZoneOffset.UTC;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+
+/**
+ * The timestamp formats used in task variables, commands and events, shared by every thread.
+ *
+ * <ul>
+ *     <li>{@link #toUtcString(Date) UTC timestamps}: {@code yyyy-MM-dd'T'HH:mm:ss.SSS'Z'}, as
+ *     sent in commands and events.</li>
+ *     <li>{@link #toServerZoneString(Date) server zone timestamps}:
+ *     {@code yyyy-MM-dd'T'HH:mm:ss.SSSXXX} in the zone of the server, as held in the
+ *     {@code previousDue} task variable.</li>
+ * </ul>
+ *
+ * <p>Timestamps between the years 0 and 9999, at a whole minute offset, are written straight
+ * into a character array; anything else falls back to the equivalent {@link DateTimeFormatter}.
+ */
+public final class Timestamps {
+
+    /**
+     * Writes the fields of a date time as they are, followed by {@code Z}, without converting it
+     * to UTC first.
+     */
+    public static final DateTimeFormatter UTC_TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
+
+    private static final DateTimeFormatter UTC_INSTANT_FORMATTER = UTC_TIMESTAMP_FORMATTER.withZone(UTC);
+    private static final ZoneId SERVER_ZONE = ZoneId.systemDefault();
+    private static final DateTimeFormatter SERVER_ZONE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSXXX").withZone(SERVER_ZONE);
+    private static final long MILLIS_PER_SECOND = 1000L;
+    private static final int SECONDS_PER_MINUTE = 60;
+    private static final int MINUTES_PER_HOUR = 60;
+    private static final int MAXIMUM_FAST_YEAR = 9999;
+    private static final int UTC_LENGTH = 24;
+    private static final int OFFSET_LENGTH = 29;
+
+    private Timestamps() {
+    }
+
+    public static String toUtcString(final Date date) {
+        return toUtcString(date.getTime());
+    }
+
+    public static String toUtcString(final Instant instant) {
+        return toUtcString(instant.toEpochMilli());
+    }
+
+    /**
+     * @return {@code localDateTime} as a UTC timestamp, taking it to be in UTC.
+     */
+    public static String toUtcString(final LocalDateTime localDateTime) {
+        return toUtcString(localDateTime.toInstant(UTC));
+    }
+
+    /**
+     * @return {@code date} as a timestamp in the zone of the server, e.g.
+     * {@code 2024-04-17T23:59:59.000+01:00}.
+     */
+    public static String toServerZoneString(final Date date) {
+        final Instant instant = date.toInstant();
+        final ZoneOffset offset = SERVER_ZONE.getRules().getOffset(instant);
+        final String timestamp = format(instant.toEpochMilli(), offset);
+        return timestamp != null ? timestamp : SERVER_ZONE_FORMATTER.format(instant);
+    }
+
+    private static String toUtcString(final long epochMilli) {
+        final String timestamp = format(epochMilli, UTC);
+        return timestamp != null ? timestamp : UTC_INSTANT_FORMATTER.format(Instant.ofEpochMilli(epochMilli));
+    }
+
+    /**
+     * @return the timestamp, or null when it is outside the fast path.
+     */
+    private static String format(final long epochMilli, final ZoneOffset offset) {
+        final int offsetSeconds = offset.getTotalSeconds();
+        if (offsetSeconds % SECONDS_PER_MINUTE != 0) {
+            return null;
+        }
+        final long epochSecond = Math.floorDiv(epochMilli, MILLIS_PER_SECOND);
+        final int millis = (int) Math.floorMod(epochMilli, MILLIS_PER_SECOND);
+        final LocalDateTime dateTime = LocalDateTime.ofEpochSecond(epochSecond, 0, offset);
+        final int year = dateTime.getYear();
+        if (year < 0 || year > MAXIMUM_FAST_YEAR) {
+            return null;
+        }
+
+        final char[] chars = new char[offsetSeconds == 0 ? UTC_LENGTH : OFFSET_LENGTH];
+        digits(chars, 0, year, 4);
+        chars[4] = '-';
+        digits(chars, 5, dateTime.getMonthValue(), 2);
+        chars[7] = '-';
+        digits(chars, 8, dateTime.getDayOfMonth(), 2);
+        chars[10] = 'T';
+        digits(chars, 11, dateTime.getHour(), 2);
+        chars[13] = ':';
+        digits(chars, 14, dateTime.getMinute(), 2);
+        chars[16] = ':';
+        digits(chars, 17, dateTime.getSecond(), 2);
+        chars[19] = '.';
+        digits(chars, 20, millis, 3);
+        if (offsetSeconds == 0) {
+            chars[23] = 'Z';
+        } else {
+            final int offsetMinutes = Math.abs(offsetSeconds) / SECONDS_PER_MINUTE;
+            chars[23] = offsetSeconds < 0 ? '-' : '+';
+            digits(chars, 24, offsetMinutes / MINUTES_PER_HOUR, 2);
+            chars[26] = ':';
+            digits(chars, 27, offsetMinutes % MINUTES_PER_HOUR, 2);
+        }
+        return new String(chars);
+    }
+
+    private static void digits(final char[] chars, final int start, final int value, final int width) {
+        int remaining = value;
+        for (int index = start + width - 1; index >= start; index--) {
+            chars[index] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        }
+    }
+}
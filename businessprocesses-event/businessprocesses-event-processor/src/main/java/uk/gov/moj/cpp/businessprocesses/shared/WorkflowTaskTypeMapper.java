@@ -4,7 +4,6 @@ import static java.util.Objects.nonNull;
 import static java.util.Optional.empty;
 import static org.slf4j.LoggerFactory.getLogger;
 
-import uk.gov.justice.services.common.converter.jackson.ObjectMapperProducer;
 import uk.gov.justice.services.messaging.Envelope;
 import uk.gov.moj.cpp.businessprocesses.pojo.WorkflowCOTRTaskType;
 import uk.gov.moj.cpp.businessprocesses.pojo.WorkflowOpaTaskType;
@@ -19,14 +18,11 @@ import javax.json.JsonArray;
 import javax.json.JsonObject;
 import javax.json.JsonValue;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 
 public class WorkflowTaskTypeMapper {
     private static final Logger LOGGER = getLogger(WorkflowTaskTypeMapper.class);
 
-    private static final ObjectMapper objectMapper = new ObjectMapperProducer().objectMapper();
-
     private WorkflowTaskTypeMapper() {
     }
 
@@ -58,7 +54,7 @@ public class WorkflowTaskTypeMapper {
     private static Function<JsonValue, WorkflowTaskType> mapToWorkflowTaskType() {
         return jsonValue -> {
             try {
-                return objectMapper.readValue(jsonValue.toString(), WorkflowTaskType.class);
+                return JsonBinder.bind(jsonValue, WorkflowTaskType.class);
             } catch (IOException ex) {
                 LOGGER.error("Unable to unmarshal WorkflowTaskType. Payload :{}", jsonValue, ex);
                 return null;
@@ -68,7 +64,7 @@ public class WorkflowTaskTypeMapper {
 
     public static WorkflowCustomTaskType mapToWorkflowCustomTaskType(final String taskWithVariablesJsonString) {
         try {
-            return objectMapper.readValue(taskWithVariablesJsonString, WorkflowCustomTaskType.class);
+            return JsonBinder.read(taskWithVariablesJsonString, WorkflowCustomTaskType.class);
         } catch (IOException ex) {
             LOGGER.error("Unable to unmarshal taskWithVariablesJsonString. Payload :{}", taskWithVariablesJsonString, ex);
             return null;
@@ -77,7 +73,7 @@ public class WorkflowTaskTypeMapper {
 
     public static WorkflowCOTRTaskType mapToWorkflowCOTRTaskType(final String cotrTaskWithVariablesJsonString) {
         try {
-            return objectMapper.readValue(cotrTaskWithVariablesJsonString, WorkflowCOTRTaskType.class);
+            return JsonBinder.read(cotrTaskWithVariablesJsonString, WorkflowCOTRTaskType.class);
         } catch (IOException ex) {
             LOGGER.error("Unable to unmarshal cotrTaskWithVariablesJsonString. Payload :{}", cotrTaskWithVariablesJsonString, ex);
             return null;
@@ -86,7 +82,7 @@ public class WorkflowTaskTypeMapper {
 
     public static WorkflowOpaTaskType mapToWorkflowOpaTaskType(final String opaTaskWithVariablesJsonString) {
         try {
-            return objectMapper.readValue(opaTaskWithVariablesJsonString, WorkflowOpaTaskType.class);
+            return JsonBinder.read(opaTaskWithVariablesJsonString, WorkflowOpaTaskType.class);
         } catch (IOException ex) {
             LOGGER.error("Unable to unmarshal opaTaskWithVariablesJsonString. Payload :{}", opaTaskWithVariablesJsonString, ex);
             return null;
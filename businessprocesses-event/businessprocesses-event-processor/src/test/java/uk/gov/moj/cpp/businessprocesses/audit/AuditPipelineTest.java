@@ -0,0 +1,139 @@
+package uk.gov.moj.cpp.businessprocesses.audit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static uk.gov.justice.services.core.annotation.Component.EVENT_PROCESSOR;
+import static uk.gov.justice.services.messaging.JsonEnvelope.envelopeFrom;
+import static uk.gov.justice.services.messaging.JsonObjects.createObjectBuilder;
+import static uk.gov.justice.services.test.utils.core.messaging.MetadataBuilderFactory.metadataWithRandomUUID;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+
+import uk.gov.justice.services.core.audit.AuditService;
+import uk.gov.justice.services.messaging.JsonEnvelope;
+
+import javax.enterprise.concurrent.ManagedExecutorService;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AuditPipelineTest {
+
+    private final JsonEnvelope first = envelope("businessprocesses.command.record-task-created");
+    private final JsonEnvelope second = envelope("businessprocesses.command.record-task-assigned");
+    private final JsonEnvelope third = envelope("businessprocesses.command.record-task-completed");
+
+    @Mock
+    private AuditService auditService;
+
+    @Mock
+    private ManagedExecutorService managedExecutorService;
+
+    @InjectMocks
+    private AuditPipeline auditPipeline;
+
+    @Captor
+    private ArgumentCaptor<Runnable> flushCaptor;
+
+    @Test
+    void shouldWriteQueuedAuditsInBatchesOffTheCallingThread() {
+        configure("10", "CALLER_RUNS");
+
+        auditPipeline.audit(() -> first);
+        auditPipeline.audit(() -> second);
+        auditPipeline.audit(() -> third);
+
+        verifyNoInteractions(auditService);
+        verify(managedExecutorService).submit(flushCaptor.capture());
+        flushCaptor.getValue().run();
+
+        final InOrder inOrder = inOrder(auditService);
+        inOrder.verify(auditService).audit(first, EVENT_PROCESSOR);
+        inOrder.verify(auditService).audit(second, EVENT_PROCESSOR);
+        inOrder.verify(auditService).audit(third, EVENT_PROCESSOR);
+        assertThat(auditPipeline.getMetrics().getAuditedCount(), is(3L));
+        assertThat(auditPipeline.getMetrics().getFlushCount(), is(2L));
+        assertThat(auditPipeline.getMetrics().getLargestFlush(), is(2L));
+    }
+
+    @Test
+    void shouldWriteTheAuditOnTheCallingThreadWhenTheQueueIsFull() {
+        configure("1", "CALLER_RUNS");
+
+        auditPipeline.audit(() -> first);
+        auditPipeline.audit(() -> second);
+
+        verify(auditService).audit(second, EVENT_PROCESSOR);
+        assertThat(auditPipeline.getMetrics().getOverflowCount(), is(1L));
+        assertThat(auditPipeline.getMetrics().getCallerRunCount(), is(1L));
+    }
+
+    @Test
+    void shouldDiscardTheAuditWhenTheQueueIsFullAndConfiguredTo() {
+        configure("1", "DISCARD");
+
+        auditPipeline.audit(() -> first);
+        auditPipeline.audit(() -> second);
+        auditPipeline.drain();
+
+        verify(auditService).audit(first, EVENT_PROCESSOR);
+        verify(auditService, times(1)).audit(any(), any());
+        assertThat(auditPipeline.getMetrics().getDiscardedCount(), is(1L));
+    }
+
+    @Test
+    void shouldWriteEveryQueuedAuditWhenDrainedAndLaterAuditsStraightAway() {
+        configure("10", "CALLER_RUNS");
+
+        auditPipeline.audit(() -> first);
+        auditPipeline.audit(() -> second);
+        auditPipeline.drain();
+
+        verify(auditService).audit(first, EVENT_PROCESSOR);
+        verify(auditService).audit(second, EVENT_PROCESSOR);
+
+        auditPipeline.audit(() -> third);
+
+        verify(auditService).audit(third, EVENT_PROCESSOR);
+        verify(managedExecutorService, times(1)).submit(any(Runnable.class));
+    }
+
+    @Test
+    void shouldCarryOnWritingAuditsAfterOneFails() {
+        configure("10", "CALLER_RUNS");
+        doThrow(new IllegalStateException("Audit topic unavailable")).when(auditService).audit(first, EVENT_PROCESSOR);
+
+        auditPipeline.audit(() -> first);
+        auditPipeline.audit(() -> second);
+        auditPipeline.drain();
+
+        verify(auditService).audit(second, EVENT_PROCESSOR);
+        assertThat(auditPipeline.getMetrics().getFailureCount(), is(1L));
+        assertThat(auditPipeline.getMetrics().getAuditedCount(), is(1L));
+    }
+
+    private void configure(final String queueCapacity, final String overflowPolicy) {
+        setField(auditPipeline, "queueCapacity", queueCapacity);
+        setField(auditPipeline, "batchSize", "2");
+        setField(auditPipeline, "overflowPolicy", overflowPolicy);
+        setField(auditPipeline, "offerTimeout", "PT0.1S");
+        setField(auditPipeline, "drainTimeout", "PT1S");
+        auditPipeline.init();
+    }
+
+    private static JsonEnvelope envelope(final String name) {
+        return envelopeFrom(metadataWithRandomUUID(name), createObjectBuilder().build());
+    }
+}
@@ -0,0 +1,132 @@
+package uk.gov.moj.cpp.businessprocesses.benchmark;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+
+import uk.gov.justice.services.common.converter.ZonedDateTimes;
+import uk.gov.moj.cpp.businessprocesses.pojo.PublicHoliday;
+import uk.gov.moj.cpp.businessprocesses.service.CalendarWeekDayOperationsService;
+import uk.gov.moj.cpp.businessprocesses.service.DueDateCalculationService;
+import uk.gov.moj.cpp.businessprocesses.service.ReferenceDataService;
+import uk.gov.moj.cpp.businessprocesses.service.WorkingDayCalendar;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the regex based due date calculation DueDateCalculationService used to do on every
+ * call (copied below) against the compiled {@link uk.gov.moj.cpp.businessprocesses.service.DueDateRule}s
+ * it uses now. Both sides share the same working day calendar, without any public holidays, so
+ * the difference is the rule parsing and formatting.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DueDateCalculationBenchmark {
+
+    private static final String HEARING_DATE = "2024-04-15T10:00:00.000Z";
+
+    @Param({"${now()}", "${now()+2d}", "${hearingDate-5d}"})
+    private String rule;
+
+    private CalendarWeekDayOperationsService calendarWeekDayOperationsService;
+    private DueDateCalculationService dueDateCalculationService;
+
+    @Setup
+    public void setUp() {
+        final WorkingDayCalendar workingDayCalendar = new WorkingDayCalendar();
+        setField(workingDayCalendar, "timeToLive", "PT24H");
+        setField(workingDayCalendar, "refreshAfter", "PT6H");
+        setField(workingDayCalendar, "referenceDataService", new ReferenceDataService() {
+            @Override
+            public List<PublicHoliday> getPublicHolidays(final String division, final LocalDate fromDate, final LocalDate toDate) {
+                return List.of();
+            }
+        });
+        calendarWeekDayOperationsService = new CalendarWeekDayOperationsService();
+        setField(calendarWeekDayOperationsService, "workingDayCalendar", workingDayCalendar);
+        dueDateCalculationService = new DueDateCalculationService();
+        setField(dueDateCalculationService, "calendarWeekDayOperationsService", calendarWeekDayOperationsService);
+        dueDateCalculationService.calculateDueDate(rule, HEARING_DATE);
+    }
+
+    @Benchmark
+    public String regexRuleAsString() {
+        final String formattedRule = rule.replaceAll("[^a-zA-Z0-9+-]", "").replaceAll("\\s+", "").trim();
+        final LocalDate dueDate = legacyDueDate(formattedRule, baseDate());
+        final ZonedDateTime zonedDateTime = LocalDate.parse(dueDate.toString()).atTime(23, 59, 59, 0).atZone(ZoneOffset.UTC);
+        return zonedDateTime.format(DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'"));
+    }
+
+    @Benchmark
+    public String compiledRuleAsString() {
+        return dueDateCalculationService.calculateDueDate(rule, HEARING_DATE);
+    }
+
+    @Benchmark
+    public Date regexRuleAsDate() {
+        final String formattedRule = rule.replaceAll("[^a-zA-Z0-9+-]", "").replaceAll("\\s+", "").trim();
+        final LocalDate dueDate = legacyDueDate(formattedRule, baseDate());
+        final Date originalDate = Date.from(dueDate.atStartOfDay().atZone(ZoneOffset.UTC).toInstant());
+        final LocalDateTime localDateTime = originalDate.toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime();
+        LocalDateTime newLocalDateTime = localDateTime.plusHours(23).plusMinutes(59).withSecond(59);
+        final LocalDateTime endOfDay = localDateTime.toLocalDate().atTime(23, 59, 59);
+        if (newLocalDateTime.isAfter(endOfDay)) {
+            newLocalDateTime = endOfDay;
+        }
+        return Date.from(newLocalDateTime.atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    @Benchmark
+    public Date compiledRuleAsDate() {
+        return dueDateCalculationService.getCalculatedDate(rule, HEARING_DATE);
+    }
+
+    private LocalDate baseDate() {
+        return rule.contains("hearingDate")
+                ? ZonedDateTimes.fromString(HEARING_DATE).toLocalDate()
+                : LocalDateTime.now().toLocalDate();
+    }
+
+    private LocalDate legacyDueDate(final String formattedRule, final LocalDate date) {
+        if (formattedRule.contains("+")) {
+            return calendarWeekDayOperationsService.plusWorkingDays(date, numberOfDays(formattedRule));
+        } else if (formattedRule.contains("-")) {
+            return calendarWeekDayOperationsService.minusWorkingDays(date, numberOfDays(formattedRule));
+        }
+        return date;
+    }
+
+    private static Long numberOfDays(final String formattedRule) {
+        final String days = formattedRule.replaceAll("[^0-9]", "").replaceAll("\\s+", "").trim();
+        return days.isEmpty() ? 0L : Long.parseLong(days);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(DueDateCalculationBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,81 @@
+package uk.gov.moj.cpp.businessprocesses.benchmark;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static uk.gov.moj.cpp.businessprocesses.util.FileUtil.getFileContentAsJson;
+
+import uk.gov.justice.core.courts.Hearing;
+import uk.gov.justice.services.common.converter.ObjectToJsonObjectConverter;
+import uk.gov.justice.services.common.converter.jackson.ObjectMapperProducer;
+import uk.gov.moj.cpp.businessprocesses.shared.JsonBinder;
+
+import java.io.IOException;
+
+import javax.json.JsonObject;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the ways a hearing query response used to be bound, written out as a string and parsed
+ * again by an {@code ObjectMapper}, and written back as a {@code JsonObject}, by a converter around
+ * an {@code ObjectMapper} of the caller's own, against {@link JsonBinder}. Run with {@code -prof gc}
+ * to compare allocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class JsonBindingBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapperProducer().objectMapper();
+    private final ObjectToJsonObjectConverter objectToJsonObjectConverter = new ObjectToJsonObjectConverter(objectMapper);
+
+    private JsonObject hearingJson;
+    private Hearing hearing;
+
+    @Setup
+    public void setUp() throws IOException {
+        hearingJson = getFileContentAsJson("json/hearing.get.hearing.json").getJsonObject("hearing");
+        hearing = JsonBinder.bind(hearingJson, Hearing.class);
+    }
+
+    @Benchmark
+    public Hearing objectMapperReadString() throws IOException {
+        return objectMapper.readValue(hearingJson.toString(), Hearing.class);
+    }
+
+    @Benchmark
+    public Hearing jsonBinderBind() throws IOException {
+        return JsonBinder.bind(hearingJson, Hearing.class);
+    }
+
+    @Benchmark
+    public JsonObject objectToJsonObjectConverter() {
+        return objectToJsonObjectConverter.convert(hearing);
+    }
+
+    @Benchmark
+    public JsonObject jsonBinderToJsonObject() {
+        return JsonBinder.toJsonObject(hearing);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JsonBindingBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,134 @@
+package uk.gov.moj.cpp.businessprocesses.benchmark;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static uk.gov.moj.cpp.businessprocesses.shared.Constants.COURT_ID;
+import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.CANDIDATE_GROUPS;
+import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.CASE_URN;
+import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.HEARING_DATE;
+import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.LAST_UPDATED_BY_ID;
+import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.LAST_UPDATED_BY_NAME;
+import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.TASK_TYPE_ID;
+import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.WORK_QUEUE;
+import static uk.gov.moj.cpp.businessprocesses.shared.TaskCreatedListenerHelper.getCreatedTaskVariables;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.camunda.bpm.engine.ProcessEngine;
+import org.camunda.bpm.engine.ProcessEngineConfiguration;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
+import org.camunda.bpm.engine.impl.persistence.entity.TaskEntity;
+import org.camunda.bpm.engine.variable.VariableMap;
+import org.camunda.bpm.engine.variable.Variables;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares reading every variable of a task's execution, as the task created listeners used to,
+ * against reading only the variables they use, on an in-memory engine whose process also holds a
+ * custom task's JSON string and a serialized object the listeners never read. Each read is an
+ * engine command of its own, as a listener's is; run with {@code -prof gc} to compare allocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskVariablesBenchmark {
+
+    private static final String PROCESS_KEY = "task_variables_benchmark";
+
+    private ProcessEngine processEngine;
+    private CommandExecutor commandExecutor;
+    private String taskId;
+
+    @Setup
+    public void setUp() {
+        processEngine = ProcessEngineConfiguration.createStandaloneInMemProcessEngineConfiguration()
+                .setJdbcUrl("jdbc:h2:mem:task-variables-benchmark")
+                .setJobExecutorActivate(false)
+                .buildProcessEngine();
+        processEngine.getRepositoryService().createDeployment()
+                .addModelInstance(PROCESS_KEY + ".bpmn", Bpmn.createExecutableProcess(PROCESS_KEY)
+                        .startEvent()
+                        .userTask("task")
+                        .endEvent()
+                        .done())
+                .deploy();
+        processEngine.getRuntimeService().startProcessInstanceByKey(PROCESS_KEY, processVariables());
+        taskId = processEngine.getTaskService().createTaskQuery().singleResult().getId();
+        commandExecutor = ((ProcessEngineConfigurationImpl) processEngine.getProcessEngineConfiguration()).getCommandExecutorTxRequired();
+    }
+
+    @TearDown
+    public void tearDown() {
+        processEngine.close();
+    }
+
+    @Benchmark
+    public VariableMap allVariables() {
+        return commandExecutor.execute(commandContext -> findTask(commandContext).getExecution().getVariables());
+    }
+
+    @Benchmark
+    public VariableMap namedVariables() {
+        return commandExecutor.execute(commandContext -> getCreatedTaskVariables(findTask(commandContext)));
+    }
+
+    private TaskEntity findTask(final CommandContext commandContext) {
+        return commandContext.getTaskManager().findTaskById(taskId);
+    }
+
+    private static VariableMap processVariables() {
+        // String variables are held in a column of 4000 characters
+        final StringBuilder taskVariablesJsonString = new StringBuilder("{\"defendants\":[");
+        final List<Map<String, String>> defendants = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            final Map<String, String> defendant = new HashMap<>();
+            defendant.put("id", UUID.randomUUID().toString());
+            defendant.put("firstName", "First");
+            defendant.put("lastName", "Last");
+            defendants.add(defendant);
+            if (i < 30) {
+                taskVariablesJsonString.append(i == 0 ? "" : ",").append("{\"id\":\"").append(defendant.get("id")).append("\",\"firstName\":\"First\",\"lastName\":\"Last\"}");
+            }
+        }
+        taskVariablesJsonString.append("]}");
+
+        return Variables.createVariables()
+                .putValue(LAST_UPDATED_BY_ID, UUID.randomUUID().toString())
+                .putValue(LAST_UPDATED_BY_NAME, "Benchmark User")
+                .putValue(TASK_TYPE_ID, UUID.randomUUID().toString())
+                .putValue(CASE_URN, "29GD7875621")
+                .putValue(HEARING_DATE, "2024-04-17T10:00:00.000Z")
+                .putValue(WORK_QUEUE, UUID.randomUUID().toString())
+                .putValue(COURT_ID, UUID.randomUUID().toString())
+                .putValue(CANDIDATE_GROUPS, new ArrayList<>(Arrays.asList("Listing Officers", "Court Clerks")))
+                .putValue("taskVariablesJsonString", taskVariablesJsonString.toString())
+                .putValue("defendants", defendants);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(TaskVariablesBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,82 @@
+package uk.gov.moj.cpp.businessprocesses.benchmark;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import uk.gov.moj.cpp.businessprocesses.shared.Timestamps;
+
+import java.text.SimpleDateFormat;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the ways the task listeners used to write timestamps (a Joda {@code DateTime} per UTC
+ * timestamp, and a {@code SimpleDateFormat} for the {@code previousDue} variable) against
+ * {@link Timestamps}. The {@code SimpleDateFormat} is given to each thread here, as sharing it
+ * between threads is what gave wrong timestamps; run with {@code -prof gc} to compare allocation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class TimestampsBenchmark {
+
+    private final Date date = new Date(1713394799000L);
+    private final SimpleDateFormat simpleDateFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSXXX");
+    private final DateTimeFormatter serverZoneFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSXXX").withZone(ZoneId.systemDefault());
+    private final DateTimeFormatter utcFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").withZone(ZoneOffset.UTC);
+
+    @Benchmark
+    public String jodaUtc() {
+        return new DateTime(date, DateTimeZone.UTC).toString();
+    }
+
+    @Benchmark
+    public String dateTimeFormatterUtc() {
+        return utcFormatter.format(date.toInstant());
+    }
+
+    @Benchmark
+    public String timestampsUtc() {
+        return Timestamps.toUtcString(date);
+    }
+
+    @Benchmark
+    public String simpleDateFormatServerZone() {
+        return simpleDateFormat.format(date);
+    }
+
+    @Benchmark
+    public String dateTimeFormatterServerZone() {
+        return serverZoneFormatter.format(date.toInstant());
+    }
+
+    @Benchmark
+    public String timestampsServerZone() {
+        return Timestamps.toServerZoneString(date);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(TimestampsBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,99 @@
+package uk.gov.moj.cpp.businessprocesses.benchmark;
+
+import static java.time.DayOfWeek.SATURDAY;
+import static java.time.DayOfWeek.SUNDAY;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.ENGLAND_AND_WALES_DIVISION;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+
+import uk.gov.moj.cpp.businessprocesses.pojo.PublicHoliday;
+import uk.gov.moj.cpp.businessprocesses.service.ReferenceDataService;
+import uk.gov.moj.cpp.businessprocesses.service.WorkingDayCalendar;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the day by day working day walk (with the public holidays held in a list, as
+ * CalendarWeekDayOperationsService used to do after its reference data call) against the
+ * {@link WorkingDayCalendar} index. Reference data latency is excluded from both sides.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorkingDayCalendarBenchmark {
+
+    private static final List<LocalDate> PUBLIC_HOLIDAYS = List.of(
+            LocalDate.parse("2024-01-01"),
+            LocalDate.parse("2024-03-29"),
+            LocalDate.parse("2024-04-01"),
+            LocalDate.parse("2024-05-06"),
+            LocalDate.parse("2024-05-27"),
+            LocalDate.parse("2024-08-26"),
+            LocalDate.parse("2024-12-25"),
+            LocalDate.parse("2024-12-26"));
+
+    @Param({"2", "10", "28"})
+    private long numberOfDays;
+
+    private final LocalDate date = LocalDate.parse("2024-03-25");
+
+    private WorkingDayCalendar workingDayCalendar;
+
+    @Setup
+    public void setUp() {
+        workingDayCalendar = new WorkingDayCalendar();
+        setField(workingDayCalendar, "timeToLive", "PT24H");
+        setField(workingDayCalendar, "refreshAfter", "PT6H");
+        setField(workingDayCalendar, "referenceDataService", new ReferenceDataService() {
+            @Override
+            public List<PublicHoliday> getPublicHolidays(final String division, final LocalDate fromDate, final LocalDate toDate) {
+                return PUBLIC_HOLIDAYS.stream()
+                        .filter(holiday -> !holiday.isBefore(fromDate) && !holiday.isAfter(toDate))
+                        .map(holiday -> new PublicHoliday(UUID.randomUUID(), division, "title", holiday))
+                        .toList();
+            }
+        });
+        workingDayCalendar.plusWorkingDays(ENGLAND_AND_WALES_DIVISION, date, 1);
+    }
+
+    @Benchmark
+    public LocalDate dayByDayWalk() {
+        LocalDate adjusted = date;
+        for (long count = 0; count < numberOfDays; count++) {
+            adjusted = adjusted.plusDays(1);
+            while (adjusted.getDayOfWeek() == SATURDAY || adjusted.getDayOfWeek() == SUNDAY || PUBLIC_HOLIDAYS.contains(adjusted)) {
+                adjusted = adjusted.plusDays(1);
+            }
+        }
+        return adjusted;
+    }
+
+    @Benchmark
+    public LocalDate workingDayCalendarIndex() {
+        return workingDayCalendar.plusWorkingDays(ENGLAND_AND_WALES_DIVISION, date, numberOfDays);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(WorkingDayCalendarBenchmark.class.getSimpleName()).build()).run();
+    }
+}
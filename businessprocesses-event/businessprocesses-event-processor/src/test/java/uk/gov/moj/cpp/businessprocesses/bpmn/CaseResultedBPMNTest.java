@@ -18,7 +18,6 @@ import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.C
 import uk.gov.justice.services.common.converter.ListToJsonArrayConverter;
 import uk.gov.justice.services.common.converter.StringToJsonObjectConverter;
 import uk.gov.justice.services.core.dispatcher.SystemUserProvider;
-import uk.gov.justice.services.core.featurecontrol.FeatureControlGuard;
 import uk.gov.justice.services.core.requester.Requester;
 import uk.gov.justice.services.core.sender.Sender;
 import uk.gov.justice.services.messaging.Envelope;
@@ -29,6 +28,7 @@ import uk.gov.moj.cpp.businessprocesses.delegate.RemoveDDJAccessServiceTask;
 import uk.gov.moj.cpp.businessprocesses.listener.TasksAssignedListener;
 import uk.gov.moj.cpp.businessprocesses.listener.TasksCompletedListener;
 import uk.gov.moj.cpp.businessprocesses.listener.TasksCreatedListener;
+import uk.gov.moj.cpp.businessprocesses.service.FeatureFlags;
 import uk.gov.moj.cpp.businessprocesses.shared.TaskAuditService;
 
 import java.util.HashMap;
@@ -119,7 +119,7 @@ public class CaseResultedBPMNTest {
     private ListToJsonArrayConverter listToJsonArrayConverter;
 
     @Mock
-    private FeatureControlGuard featureControlGuard;
+    private FeatureFlags featureFlags;
 
     private static final String REMOVE_DDJ_ACCESS_TASK_ID = "Remove_DDJ_from_hearing";
     private static final String SEND_DOCUMENTS_TO_PRISON_TASK_ID = "Send_documents_to_prison";
@@ -186,7 +186,7 @@ public class CaseResultedBPMNTest {
     @Deployment(resources = {CASE_RESULTED_BPMN_FILE_NAME})
     void shouldStartCaseResultedProcessAndRemoveDDJAccessForCaseResultedInMagistratesCourtWithAllResultsFinal() {
 
-        when(featureControlGuard.isFeatureEnabled(any())).thenReturn(true);
+        when(featureFlags.isFeatureEnabled(any())).thenReturn(true);
 
         final String permissionId = randomUUID().toString();
         final MetadataBuilder metadataBuilder = metadataWithRandomUUID(PERMISSIONS_QUERY_API);
@@ -8,6 +8,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
 import static uk.gov.moj.cpp.businessprocesses.shared.Constants.SYSTEM_USER_NAME;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.CANDIDATE_GROUPS;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.CASE_URN;
@@ -29,11 +30,13 @@ import uk.gov.moj.cpp.businessprocesses.listener.TasksAssignedListener;
 import uk.gov.moj.cpp.businessprocesses.listener.TasksCompletedListener;
 import uk.gov.moj.cpp.businessprocesses.listener.TasksCreatedListener;
 import uk.gov.moj.cpp.businessprocesses.listener.TasksUpdatedListener;
+import uk.gov.moj.cpp.businessprocesses.service.UserDirectory;
 import uk.gov.moj.cpp.businessprocesses.service.UserGroupsService;
 import uk.gov.moj.cpp.businessprocesses.shared.TaskAuditService;
 
 import java.util.HashMap;
 import java.util.List;
+import java.util.Optional;
 
 import org.camunda.bpm.engine.ProcessEngineConfiguration;
 import org.camunda.bpm.engine.RuntimeService;
@@ -125,12 +128,21 @@ public class CorrespondenceFailureIdentifiedBPMNTest {
     private UserGroupsService userGroupsService;
 
     @RequiredHistoryLevel(ProcessEngineConfiguration.HISTORY_ACTIVITY)
+    @InjectMocks
+    private UserDirectory userDirectory;
+
     @BeforeEach
     public void setUp() throws Exception {
         runtimeService = extension.getProcessEngine().getRuntimeService();
         taskService = extension.getProcessEngine().getTaskService();
         register("tasksCreatedListener", tasksCreatedListener);
         register("tasksAssignedListener", tasksAssignedListener);
+        setField(userDirectory, "timeToLive", "PT5M");
+        setField(userDirectory, "refreshAfter", "PT4M");
+        setField(userDirectory, "negativeTimeToLive", "PT1M");
+        setField(userDirectory, "maximumSize", "1000");
+        userDirectory.init();
+        setField(tasksAssignedListener, "userDirectory", userDirectory);
         register("tasksCompletedListener", tasksCompletedListener);
         register("tasksUpdatedListener", tasksUpdatedListener);
     }
@@ -205,14 +217,14 @@ public class CorrespondenceFailureIdentifiedBPMNTest {
         MatcherAssert.assertThat(task.getTaskDefinitionKey(), is(CORRESPONDENCE_FAILURE_DEFINITION));
         MatcherAssert.assertThat(task.getName(), is(TASK_NAME_VALUE));
 
-        when(userGroupsService.getUserDetails(any())).thenReturn(ASSIGN_TO);
+        when(userGroupsService.getUserDisplayName(any())).thenReturn(Optional.of(ASSIGN_TO));
 
         taskService.setVariableLocal(task.getId(), LAST_UPDATED_BY_NAME, CHANGE_AUTHOR);
         taskService.setVariableLocal(task.getId(), LAST_UPDATED_BY_ID, CHANGE_AUTHOR_ID);
         taskService.setAssignee(task.getId(), "ctsc");
 
         verify(sender, times(2)).sendAsAdmin(jsonEnvelopeArgumentCaptor.capture());
-        verify(userGroupsService).getUserDetails(any());
+        verify(userGroupsService).getUserDisplayName(any());
         Metadata metadata = jsonEnvelopeArgumentCaptor.getValue().metadata();
         assertThat(metadata.name(), CoreMatchers.is("businessprocesses.command.record-task-assigned"));
     }
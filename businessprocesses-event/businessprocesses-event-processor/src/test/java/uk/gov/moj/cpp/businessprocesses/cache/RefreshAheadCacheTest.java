@@ -0,0 +1,295 @@
+package uk.gov.moj.cpp.businessprocesses.cache;
+
+import static java.time.Duration.ofMinutes;
+import static java.time.Duration.ofSeconds;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+class RefreshAheadCacheTest {
+
+    private final MutableClock clock = new MutableClock();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void shouldLoadOnceAndServeSubsequentReadsFromCache() {
+        final RefreshAheadCache<String, String> cache = cache(key -> of(key + loads.incrementAndGet()), ofMinutes(10), ofMinutes(8));
+
+        assertThat(cache.get("a"), is(of("a1")));
+        assertThat(cache.get("a"), is(of("a1")));
+
+        assertThat(loads.get(), is(1));
+        assertThat(cache.metrics().getMissCount(), is(1L));
+        assertThat(cache.metrics().getHitCount(), is(1L));
+    }
+
+    @Test
+    void shouldReloadExpiredEntries() {
+        final RefreshAheadCache<String, String> cache = cache(key -> of(key + loads.incrementAndGet()), ofMinutes(10), ofMinutes(10));
+
+        cache.get("a");
+        clock.advance(ofMinutes(10));
+
+        assertThat(cache.get("a"), is(of("a2")));
+        assertThat(cache.metrics().getMissCount(), is(2L));
+    }
+
+    @Test
+    void shouldRefreshAheadOfExpiryWhileServingTheCurrentValue() {
+        final List<Runnable> scheduled = new ArrayList<>();
+        final RefreshAheadCache<String, String> cache = RefreshAheadCache.<String, String>builder("test", key -> of(key + loads.incrementAndGet()))
+                .withTimeToLive(ofMinutes(10))
+                .withRefreshAfter(ofMinutes(5))
+                .withRefreshExecutor(scheduled::add)
+                .withClock(clock)
+                .build();
+
+        cache.get("a");
+        clock.advance(ofMinutes(6));
+
+        assertThat(cache.get("a"), is(of("a1")));
+        assertThat(cache.get("a"), is(of("a1")));
+        assertThat(scheduled.size(), is(1));
+
+        scheduled.get(0).run();
+
+        assertThat(cache.get("a"), is(of("a2")));
+        assertThat(cache.metrics().getRefreshCount(), is(1L));
+    }
+
+    @Test
+    void shouldServePreloadedValuesAndRefreshThemOnFirstRead() {
+        final List<Runnable> scheduled = new ArrayList<>();
+        final RefreshAheadCache<String, String> cache = RefreshAheadCache.<String, String>builder("test", key -> of(key + loads.incrementAndGet()))
+                .withRefreshExecutor(scheduled::add)
+                .withClock(clock)
+                .build();
+
+        cache.preload("a", "snapshot");
+
+        assertThat(cache.get("a"), is(of("snapshot")));
+        assertThat(scheduled.size(), is(1));
+
+        scheduled.get(0).run();
+
+        assertThat(cache.get("a"), is(of("a1")));
+        assertThat(cache.asMap(), is(Map.of("a", "a1")));
+    }
+
+    @Test
+    void shouldNotReplaceCachedValuesWithPreloadedValues() {
+        final RefreshAheadCache<String, String> cache = cache(key -> of(key + loads.incrementAndGet()), ofMinutes(10), ofMinutes(8));
+
+        cache.get("a");
+        cache.preload("a", "snapshot");
+
+        assertThat(cache.get("a"), is(of("a1")));
+    }
+
+    @Test
+    void shouldKeepCurrentValueWhenRefreshFails() {
+        final RefreshAheadCache<String, String> cache = RefreshAheadCache.<String, String>builder("test", key -> {
+                    if (loads.incrementAndGet() > 1) {
+                        throw new IllegalStateException("reference data unavailable");
+                    }
+                    return of("value");
+                })
+                .withTimeToLive(ofMinutes(10))
+                .withRefreshAfter(ofMinutes(5))
+                .withRefreshExecutor(Runnable::run)
+                .withClock(clock)
+                .build();
+
+        cache.get("a");
+        clock.advance(ofMinutes(6));
+
+        assertThat(cache.get("a"), is(of("value")));
+        assertThat(cache.get("a"), is(of("value")));
+        assertThat(cache.metrics().getRefreshFailureCount(), is(2L));
+    }
+
+    @Test
+    void shouldCacheUnknownKeysForTheNegativeTimeToLive() {
+        final RefreshAheadCache<String, String> cache = RefreshAheadCache.<String, String>builder("test", key -> {
+                    loads.incrementAndGet();
+                    return empty();
+                })
+                .withNegativeTimeToLive(ofSeconds(30))
+                .withClock(clock)
+                .build();
+
+        assertThat(cache.get("unknown"), is(empty()));
+        assertThat(cache.get("unknown"), is(empty()));
+        assertThat(loads.get(), is(1));
+        assertThat(cache.metrics().getNegativeHitCount(), is(1L));
+        assertThat(cache.contains("unknown"), is(true));
+
+        clock.advance(ofSeconds(30));
+
+        assertThat(cache.contains("unknown"), is(false));
+        cache.get("unknown");
+        assertThat(loads.get(), is(2));
+    }
+
+    @Test
+    void shouldEvictTheOldestEntryWhenFull() {
+        final RefreshAheadCache<String, String> cache = RefreshAheadCache.<String, String>builder("test", key -> of(key))
+                .withMaximumSize(2)
+                .withClock(clock)
+                .build();
+
+        cache.get("a");
+        clock.advance(ofSeconds(1));
+        cache.get("b");
+        clock.advance(ofSeconds(1));
+        cache.get("c");
+
+        assertThat(cache.size(), is(2));
+        assertThat(cache.getIfPresent("a"), is(empty()));
+        assertThat(cache.getIfPresent("c"), is(of("c")));
+        assertThat(cache.metrics().getEvictionCount(), is(1L));
+    }
+
+    @Test
+    void shouldShareOneLoadBetweenConcurrentMissesForTheSameKey() throws Exception {
+        final CountDownLatch loaderStarted = new CountDownLatch(1);
+        final CountDownLatch releaseLoader = new CountDownLatch(1);
+        final RefreshAheadCache<String, String> cache = RefreshAheadCache.<String, String>builder("test", key -> {
+                    loads.incrementAndGet();
+                    loaderStarted.countDown();
+                    await(releaseLoader);
+                    return of(key);
+                })
+                .withClock(clock)
+                .build();
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            final Future<Optional<String>> first = executorService.submit(() -> cache.get("a"));
+            loaderStarted.await(5, TimeUnit.SECONDS);
+            final Future<Optional<String>> second = executorService.submit(() -> cache.get("a"));
+            while (cache.metrics().getCoalescedLoadCount() == 0) {
+                Thread.onSpinWait();
+            }
+            releaseLoader.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS), is(of("a")));
+            assertThat(second.get(5, TimeUnit.SECONDS), is(of("a")));
+            assertThat(loads.get(), is(1));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldPropagateLoaderFailuresWithoutCachingThem() {
+        final RefreshAheadCache<String, String> cache = RefreshAheadCache.<String, String>builder("test", key -> {
+                    if (loads.incrementAndGet() == 1) {
+                        throw new IllegalStateException("reference data unavailable");
+                    }
+                    return of(key);
+                })
+                .withClock(clock)
+                .build();
+
+        assertThrows(IllegalStateException.class, () -> cache.get("a"));
+        assertThat(cache.get("a"), is(of("a")));
+    }
+
+    @Test
+    void shouldExpireEntriesAtTheirOwnValidUntilWhenEarlierThanTheTimeToLive() {
+        final Instant validUntil = clock.instant().plus(ofMinutes(2));
+        final RefreshAheadCache<String, String> cache = RefreshAheadCache.<String, String>builder("test", key -> of(key + loads.incrementAndGet()))
+                .withTimeToLive(ofMinutes(10))
+                .withRefreshAfter(ofMinutes(8))
+                .withValidUntil(value -> value.startsWith("a") ? validUntil : null)
+                .withClock(clock)
+                .build();
+
+        cache.get("a");
+        cache.get("b");
+        clock.advance(ofMinutes(2));
+
+        assertThat(cache.get("a"), is(of("a3")));
+        assertThat(cache.get("b"), is(of("b2")));
+    }
+
+    @Test
+    void shouldKeepEntriesLoadedAfterTheirValidUntilForTheTimeToLive() {
+        final Instant validUntil = clock.instant().minus(ofMinutes(1));
+        final RefreshAheadCache<String, String> cache = RefreshAheadCache.<String, String>builder("test", key -> of(key + loads.incrementAndGet()))
+                .withTimeToLive(ofMinutes(10))
+                .withRefreshAfter(ofMinutes(8))
+                .withValidUntil(value -> validUntil)
+                .withClock(clock)
+                .build();
+
+        cache.get("a");
+        clock.advance(ofMinutes(5));
+
+        assertThat(cache.get("a"), is(of("a1")));
+        assertThat(loads.get(), is(1));
+    }
+
+    private RefreshAheadCache<String, String> cache(final Function<String, Optional<String>> loader,
+                                                    final Duration timeToLive,
+                                                    final Duration refreshAfter) {
+        return RefreshAheadCache.builder("test", loader)
+                .withTimeToLive(timeToLive)
+                .withRefreshAfter(refreshAfter)
+                .withClock(clock)
+                .build();
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant = Instant.parse("2024-01-01T09:00:00Z");
+
+        void advance(final Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
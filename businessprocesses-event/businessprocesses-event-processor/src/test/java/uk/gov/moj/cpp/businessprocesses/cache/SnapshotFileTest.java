@@ -0,0 +1,84 @@
+package uk.gov.moj.cpp.businessprocesses.cache;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.time.Duration.ofDays;
+import static java.time.Duration.ofHours;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static uk.gov.justice.services.messaging.JsonObjects.createObjectBuilder;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+
+import javax.json.JsonObject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SnapshotFileTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T09:00:00Z");
+    private static final JsonObject SECTIONS = createObjectBuilder()
+            .add("courtCentres", createObjectBuilder().add("B62IZ00", createObjectBuilder().add("isWelsh", true)))
+            .build();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldReadBackWhatWasWritten() throws IOException {
+        final SnapshotFile snapshotFile = snapshotFile(NOW);
+
+        snapshotFile.write(SECTIONS);
+
+        assertThat(snapshotFile.read(ofDays(2)), is(Optional.of(SECTIONS)));
+    }
+
+    @Test
+    void shouldIgnoreMissingSnapshots() {
+        assertThat(snapshotFile(NOW).read(ofDays(2)), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldIgnoreSnapshotsOlderThanTheMaximumAge() throws IOException {
+        snapshotFile(NOW).write(SECTIONS);
+
+        assertThat(snapshotFile(NOW.plus(ofHours(3))).read(ofHours(2)), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldIgnoreSnapshotsOfAnotherVersion() throws IOException {
+        writeCompressed(createObjectBuilder()
+                .add("version", SnapshotFile.VERSION + 1)
+                .add("writtenAt", NOW.toString())
+                .add("sections", SECTIONS)
+                .build().toString());
+
+        assertThat(snapshotFile(NOW).read(ofDays(2)), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldIgnoreUnreadableSnapshots() throws IOException {
+        writeCompressed("{\"version\": 1, \"writtenAt\": ");
+
+        assertThat(snapshotFile(NOW).read(ofDays(2)), is(Optional.empty()));
+    }
+
+    private SnapshotFile snapshotFile(final Instant now) {
+        return new SnapshotFile(directory.resolve("snapshot.json.gz"), Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    private void writeCompressed(final String content) throws IOException {
+        try (final Writer writer = new OutputStreamWriter(new GZIPOutputStream(Files.newOutputStream(directory.resolve("snapshot.json.gz"))), UTF_8)) {
+            writer.write(content);
+        }
+    }
+}
@@ -2,18 +2,26 @@ package uk.gov.moj.cpp.businessprocesses.delegate;
 
 import static java.util.UUID.randomUUID;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.moj.cpp.businessprocesses.util.TestDataProvider.createTaskVariableInputJson;
 import static uk.gov.moj.cpp.businessprocesses.util.TestDataProvider.getHearingList;
 import static uk.gov.moj.cpp.businessprocesses.util.TestDataProvider.getProsecutionCaseCaag;
 
+import uk.gov.justice.courts.progression.query.Caag;
 import uk.gov.justice.services.common.converter.jackson.ObjectMapperProducer;
 import uk.gov.moj.cpp.businessprocesses.create.CreateCustomTask;
+import uk.gov.moj.cpp.businessprocesses.service.AsyncQueries;
 import uk.gov.moj.cpp.businessprocesses.service.ListingService;
 import uk.gov.moj.cpp.businessprocesses.service.ProgressionService;
 
+import java.util.List;
+
 import org.camunda.bpm.engine.delegate.DelegateExecution;
 import org.camunda.bpm.engine.test.Deployment;
 import org.junit.jupiter.api.BeforeEach;
@@ -21,6 +29,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,6 +46,9 @@ public class CustomTaskServiceTaskTest {
     @Mock
     private ProgressionService progressionService;
 
+    @Spy
+    private AsyncQueries asyncQueries;
+
     @Mock
     private DelegateExecution execution;
 
@@ -48,17 +60,31 @@ public class CustomTaskServiceTaskTest {
         final CreateCustomTask createCustomTask = new ObjectMapperProducer().objectMapper().readValue(createTaskVariableInputJson(), CreateCustomTask.class);
         when(execution.getVariable(TASK_VARIABLE_JSON_STRING)).thenReturn(createCustomTask);
         when(execution.getVariable(USER_ID)).thenReturn(randomUUID().toString());
-        doReturn(getProsecutionCaseCaag()).when(progressionService).getProsecutionCaseCaag(anyString(), anyString());
         doReturn(getHearingList()).when(listingService).getHearings(anyString(), anyString());
     }
 
     @Test
-    public void executePass() {
+    public void executePass() throws Exception {
+        doReturn(getProsecutionCaseCaag()).when(progressionService).getProsecutionCaseCaag(anyString(), anyString());
         try {
             customTaskServiceTask.execute(execution);
         } catch (Exception e) {
             assertThat("fail here", false);
         }
+        verify(asyncQueries).await(any());
+    }
+
+    @Test
+    public void shouldGiveUpTheHearingsOfACaseWithLinkedApplications() throws Exception {
+        final Caag caag = mock(Caag.class);
+        doReturn(List.of(new Object())).when(caag).getLinkedApplications();
+        doReturn(caag).when(progressionService).getProsecutionCaseCaag(anyString(), anyString());
+
+        customTaskServiceTask.execute(execution);
+
+        verify(listingService).getHearings(anyString(), anyString());
+        verify(asyncQueries, never()).await(any());
+        verify(asyncQueries).cancel(any());
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,67 @@
+package uk.gov.moj.cpp.businessprocesses.delegate;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import uk.gov.moj.cpp.businessprocesses.service.DueDateRecalculation;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.camunda.bpm.engine.delegate.DelegateExecution;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class RecalculateDueDatesTest {
+
+    private static final String DIVISION = "england-and-wales";
+    private static final String PUBLIC_HOLIDAYS = "2099-01-01,2099-05-04";
+    private static final String CHANGED_DATES = "2099-05-04";
+    private static final UUID AFTER_TASK_ID = new UUID(0, 0);
+    private static final UUID LAST_TASK_ID = UUID.fromString("5c5a1d30-0414-11e7-93ae-92361f002671");
+
+    @Mock
+    private DueDateRecalculation dueDateRecalculation;
+
+    @Mock
+    private DelegateExecution execution;
+
+    @InjectMocks
+    private RecalculateDueDates recalculateDueDates;
+
+    @BeforeEach
+    public void setup() {
+        when(execution.getVariable("division")).thenReturn(DIVISION);
+        when(execution.getVariable("year")).thenReturn(2099);
+        when(execution.getVariable("publicHolidays")).thenReturn(PUBLIC_HOLIDAYS);
+        when(execution.getVariable("changedDates")).thenReturn(CHANGED_DATES);
+        when(execution.getVariable("afterTaskId")).thenReturn(AFTER_TASK_ID.toString());
+    }
+
+    @Test
+    public void shouldCarryOnAfterTheLastTaskOfTheBatch() {
+        when(dueDateRecalculation.recalculateBatch(DIVISION, 2099, PUBLIC_HOLIDAYS, CHANGED_DATES, AFTER_TASK_ID)).thenReturn(Optional.of(LAST_TASK_ID));
+
+        recalculateDueDates.execute(execution);
+
+        verify(execution).setVariable("afterTaskId", LAST_TASK_ID.toString());
+        verify(execution).setVariable("recalculationComplete", false);
+    }
+
+    @Test
+    public void shouldCompleteAfterTheLastBatch() {
+        when(dueDateRecalculation.recalculateBatch(DIVISION, 2099, PUBLIC_HOLIDAYS, CHANGED_DATES, AFTER_TASK_ID)).thenReturn(Optional.empty());
+
+        recalculateDueDates.execute(execution);
+
+        verify(execution, never()).setVariable(eq("afterTaskId"), eq(LAST_TASK_ID.toString()));
+        verify(execution).setVariable("recalculationComplete", true);
+    }
+}
@@ -14,12 +14,12 @@ import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.
 
 import uk.gov.justice.services.common.converter.ListToJsonArrayConverter;
 import uk.gov.justice.services.common.converter.StringToJsonObjectConverter;
-import uk.gov.justice.services.core.featurecontrol.FeatureControlGuard;
 import uk.gov.justice.services.core.requester.Requester;
 import uk.gov.justice.services.core.sender.Sender;
 import uk.gov.justice.services.messaging.Envelope;
 import uk.gov.justice.services.messaging.JsonEnvelope;
 import uk.gov.justice.services.messaging.MetadataBuilder;
+import uk.gov.moj.cpp.businessprocesses.service.FeatureFlags;
 
 import java.io.IOException;
 import java.util.HashMap;
@@ -82,7 +82,7 @@ public class RemoveDDJAccessServiceTaskTest {
     protected ArgumentCaptor<JsonEnvelope> permissionQueryApi;
 
     @Mock
-    private FeatureControlGuard featureControlGuard;
+    private FeatureFlags featureFlags;
 
     @BeforeEach
     public void setup() throws IOException {
@@ -96,7 +96,7 @@ public class RemoveDDJAccessServiceTaskTest {
         final Envelope<JsonObject> jsonObjectEnvelope = envelopeFrom(metadataBuilder, getPermissionsList(permissionId, DDJ_ACCESS_DESCRIPTION, CASE_ID));
 
         when(execution.getVariables()).thenReturn(getVariables());
-        when(featureControlGuard.isFeatureEnabled(any())).thenReturn(true);
+        when(featureFlags.isFeatureEnabled(any())).thenReturn(true);
         when(requester.requestAsAdmin(any(), eq(JsonObject.class))).thenReturn(jsonObjectEnvelope);
 
         removeDDJAccessServiceTask.execute(execution);
@@ -130,7 +130,7 @@ public class RemoveDDJAccessServiceTaskTest {
         final Envelope<JsonObject> jsonObjectEnvelope = envelopeFrom(metadataBuilder, getPermissionsList(permissionId, NON_DDJ_ACCESS_DESCRIPTION, CASE_ID));
 
         when(execution.getVariables()).thenReturn(getVariables());
-        when(featureControlGuard.isFeatureEnabled(any())).thenReturn(true);
+        when(featureFlags.isFeatureEnabled(any())).thenReturn(true);
         when(requester.requestAsAdmin(any(), eq(JsonObject.class))).thenReturn(jsonObjectEnvelope);
 
         removeDDJAccessServiceTask.execute(execution);
@@ -150,7 +150,7 @@ public class RemoveDDJAccessServiceTaskTest {
 
     @Test
     public void executeRemoveDDJAccessServiceTask_ShouldNotSendPermissionIdsToUserGroupsDeleteBulkPermissionsApi_WhenFeatureIsDisabled() throws Exception {
-        when(featureControlGuard.isFeatureEnabled(any())).thenReturn(false);
+        when(featureFlags.isFeatureEnabled(any())).thenReturn(false);
 
         removeDDJAccessServiceTask.execute(execution);
 
@@ -0,0 +1,100 @@
+package uk.gov.moj.cpp.businessprocesses.downstream;
+
+import static java.time.Duration.ofSeconds;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+    private final MutableClock clock = new MutableClock();
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker(3, ofSeconds(30), clock);
+
+    @Test
+    void shouldOpenAfterConsecutiveFailuresOnly() {
+        fail(2);
+        circuitBreaker.tryAcquirePermission();
+        circuitBreaker.onSuccess();
+        fail(2);
+
+        assertThat(circuitBreaker.tryAcquirePermission(), is(true));
+
+        circuitBreaker.onFailure();
+
+        assertThat(circuitBreaker.tryAcquirePermission(), is(false));
+    }
+
+    @Test
+    void shouldLetOneTrialCallThroughOnceTheOpenDurationHasElapsed() {
+        fail(3);
+        clock.advance(ofSeconds(30));
+
+        assertThat(circuitBreaker.tryAcquirePermission(), is(true));
+        assertThat(circuitBreaker.tryAcquirePermission(), is(false));
+
+        circuitBreaker.onSuccess();
+
+        assertThat(circuitBreaker.isOpen(), is(false));
+    }
+
+    @Test
+    void shouldReopenWhenTheTrialCallFails() {
+        fail(3);
+        clock.advance(ofSeconds(30));
+
+        circuitBreaker.tryAcquirePermission();
+        circuitBreaker.onFailure();
+
+        assertThat(circuitBreaker.tryAcquirePermission(), is(false));
+        clock.advance(ofSeconds(30));
+        assertThat(circuitBreaker.tryAcquirePermission(), is(true));
+    }
+
+    @Test
+    void shouldAllowAnotherTrialWhenTheTrialCallWasNotMade() {
+        fail(3);
+        clock.advance(ofSeconds(30));
+
+        circuitBreaker.tryAcquirePermission();
+        circuitBreaker.onNotCalled();
+
+        assertThat(circuitBreaker.tryAcquirePermission(), is(true));
+    }
+
+    private void fail(final int times) {
+        for (int failure = 0; failure < times; failure++) {
+            circuitBreaker.tryAcquirePermission();
+            circuitBreaker.onFailure();
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant = Instant.parse("2024-01-01T09:00:00Z");
+
+        void advance(final Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package uk.gov.moj.cpp.businessprocesses.downstream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Test;
+
+class HedgeBudgetTest {
+
+    @Test
+    void shouldAllowOneHedgeForEveryTwentyRequestsAtFivePercent() {
+        final HedgeBudget hedgeBudget = new HedgeBudget(5, 10);
+
+        for (int request = 0; request < 19; request++) {
+            hedgeBudget.recordRequest();
+        }
+        assertThat(hedgeBudget.tryAcquire(), is(false));
+
+        hedgeBudget.recordRequest();
+        assertThat(hedgeBudget.tryAcquire(), is(true));
+        assertThat(hedgeBudget.tryAcquire(), is(false));
+    }
+
+    @Test
+    void shouldNotSaveUpMoreThanTheMaximumBurst() {
+        final HedgeBudget hedgeBudget = new HedgeBudget(100, 2);
+
+        for (int request = 0; request < 10; request++) {
+            hedgeBudget.recordRequest();
+        }
+
+        assertThat(hedgeBudget.tryAcquire(), is(true));
+        assertThat(hedgeBudget.tryAcquire(), is(true));
+        assertThat(hedgeBudget.tryAcquire(), is(false));
+    }
+}
@@ -0,0 +1,33 @@
+package uk.gov.moj.cpp.businessprocesses.downstream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.OptionalLong;
+
+import org.junit.jupiter.api.Test;
+
+class LatencyWindowTest {
+
+    @Test
+    void shouldEstimatePercentilesOfTheMostRecentLatencies() {
+        final LatencyWindow latencyWindow = new LatencyWindow(100);
+
+        for (long latency = 1; latency <= 200; latency++) {
+            latencyWindow.record(latency);
+        }
+
+        assertThat(latencyWindow.size(), is(100));
+        assertThat(latencyWindow.percentile(95, 20), is(OptionalLong.of(195)));
+        assertThat(latencyWindow.percentile(50, 20), is(OptionalLong.of(150)));
+    }
+
+    @Test
+    void shouldNotEstimateBeforeEnoughLatenciesAreRecorded() {
+        final LatencyWindow latencyWindow = new LatencyWindow(100);
+
+        latencyWindow.record(10);
+
+        assertThat(latencyWindow.percentile(95, 20), is(OptionalLong.empty()));
+    }
+}
@@ -0,0 +1,106 @@
+package uk.gov.moj.cpp.businessprocesses.downstream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+    private static final String KEY = "referencedata.query.workflow-task-types|{}";
+
+    private final SingleFlight singleFlight = new SingleFlight();
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicInteger coalesced = new AtomicInteger();
+
+    @Test
+    void shouldShareOneCallBetweenConcurrentCallersWithTheSameKey() throws Exception {
+        final CountDownLatch callStarted = new CountDownLatch(1);
+        final CountDownLatch releaseCall = new CountDownLatch(1);
+        final ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            final Future<String> leader = executorService.submit(() -> singleFlight.execute(KEY, () -> {
+                calls.incrementAndGet();
+                callStarted.countDown();
+                await(releaseCall);
+                return "task types";
+            }, coalesced::incrementAndGet));
+            callStarted.await(5, TimeUnit.SECONDS);
+
+            final Future<String> follower = executorService.submit(() -> singleFlight.execute(KEY, () -> {
+                calls.incrementAndGet();
+                return "another call";
+            }, coalesced::incrementAndGet));
+            awaitCoalesced();
+            releaseCall.countDown();
+
+            assertThat(leader.get(5, TimeUnit.SECONDS), is("task types"));
+            assertThat(follower.get(5, TimeUnit.SECONDS), is("task types"));
+            assertThat(calls.get(), is(1));
+            assertThat(singleFlight.callsInFlight(), is(0));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldGiveTheFailureOfTheSharedCallToEveryCaller() throws Exception {
+        final IllegalStateException failure = new IllegalStateException("reference data unavailable");
+        final CountDownLatch callStarted = new CountDownLatch(1);
+        final CountDownLatch releaseCall = new CountDownLatch(1);
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            executorService.submit(() -> singleFlight.execute(KEY, () -> {
+                callStarted.countDown();
+                await(releaseCall);
+                throw failure;
+            }, coalesced::incrementAndGet));
+            callStarted.await(5, TimeUnit.SECONDS);
+
+            final Thread release = new Thread(() -> {
+                awaitCoalesced();
+                releaseCall.countDown();
+            });
+            release.start();
+
+            final IllegalStateException thrown = assertThrows(IllegalStateException.class,
+                    () -> singleFlight.execute(KEY, () -> "task types", coalesced::incrementAndGet));
+            assertThat(thrown, is(sameInstance(failure)));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldCallAgainOnceTheCallInFlightHasCompleted() {
+        singleFlight.execute(KEY, calls::incrementAndGet, coalesced::incrementAndGet);
+        singleFlight.execute(KEY, calls::incrementAndGet, coalesced::incrementAndGet);
+
+        assertThat(calls.get(), is(2));
+        assertThat(coalesced.get(), is(0));
+    }
+
+    private void awaitCoalesced() {
+        final long giveUp = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coalesced.get() == 0 && System.nanoTime() < giveUp) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
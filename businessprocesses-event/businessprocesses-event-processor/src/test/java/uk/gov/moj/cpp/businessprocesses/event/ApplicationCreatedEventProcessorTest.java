@@ -18,8 +18,8 @@ import static uk.gov.justice.services.test.utils.core.messaging.MetadataBuilderF
 import static uk.gov.moj.cpp.businessprocesses.util.FileUtil.getFileContentAsJson;
 
 import uk.gov.justice.services.core.dispatcher.SystemUserProvider;
-import uk.gov.justice.services.core.featurecontrol.FeatureControlGuard;
 import uk.gov.justice.services.messaging.JsonEnvelope;
+import uk.gov.moj.cpp.businessprocesses.service.FeatureFlags;
 import uk.gov.moj.cpp.businessprocesses.service.TaskTypeService;
 
 import java.util.HashMap;
@@ -102,7 +102,7 @@ public class ApplicationCreatedEventProcessorTest {
     private SystemUserProvider systemUserProvider;
 
     @Mock
-    private FeatureControlGuard featureControlGuard;
+    private FeatureFlags featureFlags;
 
     @RegisterExtension
     ProcessEngineExtension extension = ProcessEngineExtension.builder()
@@ -113,17 +113,17 @@ public class ApplicationCreatedEventProcessorTest {
     @BeforeEach
     public void setup() {
         when(systemUserProvider.getContextSystemUserId()).thenReturn(of(SYSTEM_USER_ID));
-        when(featureControlGuard.isFeatureEnabled(any())).thenReturn(true);
+        when(featureFlags.isFeatureEnabled(any())).thenReturn(true);
     }
 
     @Test
     void shouldNotCallCourtApplicationCreatedWhenFeatureIsDisabled() {
-        when(featureControlGuard.isFeatureEnabled("camunda-progression-court-application-created")).thenReturn(false);
+        when(featureFlags.isFeatureEnabled("camunda-progression-court-application-created")).thenReturn(false);
         JsonEnvelope jsonEnvelope = mock(JsonEnvelope.class);
 
         applicationCreatedEventProcessor.handleCourtApplicationCreatedProcessor(jsonEnvelope);
 
-        verify(featureControlGuard, times(1)).isFeatureEnabled("camunda-progression-court-application-created");
+        verify(featureFlags, times(1)).isFeatureEnabled("camunda-progression-court-application-created");
         verifyNoInteractions(jsonEnvelope);
     }
 
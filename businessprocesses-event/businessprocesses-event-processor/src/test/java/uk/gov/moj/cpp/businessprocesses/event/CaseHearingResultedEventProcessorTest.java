@@ -12,6 +12,7 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static uk.gov.justice.services.messaging.JsonEnvelope.envelopeFrom;
 import static uk.gov.justice.services.test.utils.core.messaging.MetadataBuilderFactory.metadataWithRandomUUID;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.CASE_ID;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.CASE_URN;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.CUSTODY_TIME_LIMIT;
@@ -24,8 +25,9 @@ import static uk.gov.moj.cpp.businessprocesses.util.FileUtil.getFileContentAsJso
 import uk.gov.justice.services.common.converter.JsonObjectToObjectConverter;
 import uk.gov.justice.services.common.converter.jackson.ObjectMapperProducer;
 import uk.gov.justice.services.core.dispatcher.SystemUserProvider;
-import uk.gov.justice.services.core.featurecontrol.FeatureControlGuard;
 import uk.gov.justice.services.messaging.JsonEnvelope;
+import uk.gov.moj.cpp.businessprocesses.service.CourtCentreDirectory;
+import uk.gov.moj.cpp.businessprocesses.service.FeatureFlags;
 import uk.gov.moj.cpp.businessprocesses.service.ReferenceDataService;
 import uk.gov.moj.cpp.businessprocesses.service.TaskTypeService;
 
@@ -150,7 +152,7 @@ public class CaseHearingResultedEventProcessorTest {
     private SystemUserProvider systemUserProvider;
 
     @Mock
-    private FeatureControlGuard featureControlGuard;
+    private FeatureFlags featureFlags;
 
     @Spy
     private final ObjectMapper objectMapper = new ObjectMapperProducer().objectMapper();
@@ -158,23 +160,32 @@ public class CaseHearingResultedEventProcessorTest {
     @Spy
     private final JsonObjectToObjectConverter jsonToObjectConverter = new JsonObjectToObjectConverter(objectMapper);
 
+    @InjectMocks
+    private CourtCentreDirectory courtCentreDirectory;
+
     @BeforeEach
     public void setup() throws IOException {
+        setField(courtCentreDirectory, "timeToLive", "PT12H");
+        setField(courtCentreDirectory, "refreshAfter", "PT1H");
+        setField(courtCentreDirectory, "negativeTimeToLive", "PT5M");
+        setField(courtCentreDirectory, "maximumSize", "2000");
+        courtCentreDirectory.init();
+        setField(caseHearingResultedEventProcessor, "courtCentreDirectory", courtCentreDirectory);
         when(taskTypeService.getTaskVariablesFromRefData(REMOVE_DDJ_FROM_HEARING_TASK_NAME, PROSECUTION_CASE_ID1, "2022-10-04T12:00:15.351Z", null)).thenReturn(getTaskReferenceData(PROSECUTION_CASE_ID1));
         when(taskTypeService.getTaskVariablesFromRefData(SEND_DOCUMENTS_TO_PRISON_TASK_NAME, PROSECUTION_CASE_ID1, "2022-10-04T12:00:15.351Z", null)).thenReturn(getTaskReferenceData(PROSECUTION_CASE_ID1));
         when(systemUserProvider.getContextSystemUserId()).thenReturn(of(SYSTEM_USER_ID));
-        when(featureControlGuard.isFeatureEnabled(any())).thenReturn(true);
+        when(featureFlags.isFeatureEnabled(any())).thenReturn(true);
         when(referenceDataService.retrieveCourtCentreDetailsByCourtRoomName(any())).thenReturn(TestDataProvider.getReferenceDataCourtRoomsPayload());
     }
 
     @Test
     void shouldNotCallHandleHearingResultedWhenFeatureIsDisabled() {
-        when(featureControlGuard.isFeatureEnabled("camunda-progression-hearing-resulted")).thenReturn(false);
+        when(featureFlags.isFeatureEnabled("camunda-progression-hearing-resulted")).thenReturn(false);
         JsonEnvelope jsonEnvelope = mock(JsonEnvelope.class);
 
         caseHearingResultedEventProcessor.handleHearingResultedProcessor(jsonEnvelope);
 
-        verify(featureControlGuard, times(1)).isFeatureEnabled("camunda-progression-hearing-resulted");
+        verify(featureFlags, times(1)).isFeatureEnabled("camunda-progression-hearing-resulted");
         verifyNoInteractions(jsonEnvelope);
     }
 
@@ -13,14 +13,16 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static uk.gov.justice.services.messaging.JsonEnvelope.envelopeFrom;
 import static uk.gov.justice.services.test.utils.core.messaging.MetadataBuilderFactory.metadataWithRandomUUID;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.DEEP_LINK;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.DUE_DATE;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.WORK_QUEUE;
 import static uk.gov.moj.cpp.businessprocesses.util.FileUtil.getFileContentAsJson;
 
 import uk.gov.justice.services.core.dispatcher.SystemUserProvider;
-import uk.gov.justice.services.core.featurecontrol.FeatureControlGuard;
 import uk.gov.justice.services.messaging.JsonEnvelope;
+import uk.gov.moj.cpp.businessprocesses.service.DocumentTypeCatalogue;
+import uk.gov.moj.cpp.businessprocesses.service.FeatureFlags;
 import uk.gov.moj.cpp.businessprocesses.service.ProgressionService;
 import uk.gov.moj.cpp.businessprocesses.service.ReferenceDataService;
 import uk.gov.moj.cpp.businessprocesses.service.TaskTypeService;
@@ -86,28 +88,37 @@ public class DocumentEventProcessorTest {
     private SystemUserProvider systemUserProvider;
 
     @Mock
-    private FeatureControlGuard featureControlGuard;
+    private FeatureFlags featureFlags;
+
+    @InjectMocks
+    private DocumentTypeCatalogue documentTypeCatalogue;
 
     @BeforeEach
     public void setup() {
-        when(featureControlGuard.isFeatureEnabled(any())).thenReturn(true);
+        when(featureFlags.isFeatureEnabled(any())).thenReturn(true);
+        setField(documentTypeCatalogue, "timeToLive", "PT12H");
+        setField(documentTypeCatalogue, "refreshAfter", "PT1H");
+        setField(documentTypeCatalogue, "negativeTimeToLive", "PT5M");
+        setField(documentTypeCatalogue, "maximumSize", "1000");
+        documentTypeCatalogue.init();
+        setField(documentEventProcessor, "documentTypeCatalogue", documentTypeCatalogue);
     }
 
     @Test
     void shouldNotCallHandleDocumentAddedWhenFeatureIsDisabled() {
-        when(featureControlGuard.isFeatureEnabled("camunda-progression-document-added")).thenReturn(false);
+        when(featureFlags.isFeatureEnabled("camunda-progression-document-added")).thenReturn(false);
         JsonEnvelope jsonEnvelope = mock(JsonEnvelope.class);
 
         documentEventProcessor.handleDocumentAddedProcessor(jsonEnvelope);
 
-        verify(featureControlGuard, times(1)).isFeatureEnabled("camunda-progression-document-added");
+        verify(featureFlags, times(1)).isFeatureEnabled("camunda-progression-document-added");
         verifyNoInteractions(jsonEnvelope);
     }
 
     @Test
     public void shouldStartTriageIncomingProcessWithPlea() throws IOException {
         when(taskTypeService.getTaskVariablesFromRefData(TRIAGE_INCOMING_DOCUMENT_TASK_NAME, CASE_ID)).thenReturn(getTaskReferenceData(CASE_ID));
-        when(referenceDataService.getDocumentType(any(), any())).thenReturn(getDocumentTypeResponse(SECTION_PLEA));
+        when(referenceDataService.getDocumentType(DOCUMENT_TYPE_ID)).thenReturn(getDocumentTypeResponse(SECTION_PLEA));
         when(progressionService.getProsecutionCase(any())).thenReturn(TestDataProvider.getJurisdictionType());
         when(systemUserProvider.getContextSystemUserId()).thenReturn(of(SYSTEM_USER_ID));
         final JsonObject eventPayload = getEventPayload(COURT_DOCUMENT_ADDED_JSON, DOCUMENT_TYPE_ID, CASE_ID);
@@ -123,13 +134,13 @@ public class DocumentEventProcessorTest {
         assertThat(processVariables.get(LAST_UPDATED_BY_NAME), is("SYSTEM"));
         assertThat(processVariables.get(WORK_QUEUE), is("5cd9bd67-1f08-315b-9608-8eb7ebb7ea2f"));
 
-        verify(referenceDataService).getDocumentType(any(), any());
+        verify(referenceDataService).getDocumentType(DOCUMENT_TYPE_ID);
         verify(progressionService).getProsecutionCase(any());
     }
 
     @Test
     public void shouldStartTriageIncomingProcessWithOtherSection() {
-        when(referenceDataService.getDocumentType(any(), any())).thenReturn(getDocumentTypeResponse(SECTION_OTHER));
+        when(referenceDataService.getDocumentType(DOCUMENT_TYPE_ID)).thenReturn(getDocumentTypeResponse(SECTION_OTHER));
 
         final JsonObject eventPayload = getEventPayload(COURT_DOCUMENT_ADDED_JSON, DOCUMENT_TYPE_ID, CASE_ID);
 
@@ -139,6 +150,18 @@ public class DocumentEventProcessorTest {
 
     }
 
+    @Test
+    public void shouldNotMakeRemoteCallsForRepeatedDocumentsOfANonTriageSection() {
+        when(referenceDataService.getDocumentType(DOCUMENT_TYPE_ID)).thenReturn(getDocumentTypeResponse(SECTION_OTHER));
+        final JsonObject eventPayload = getEventPayload(COURT_DOCUMENT_ADDED_JSON, DOCUMENT_TYPE_ID, CASE_ID);
+
+        documentEventProcessor.handleDocumentAddedProcessor((envelopeFrom(metadataWithRandomUUID("public.progression.court-document-added"), eventPayload)));
+        documentEventProcessor.handleDocumentAddedProcessor((envelopeFrom(metadataWithRandomUUID("public.progression.court-document-added"), eventPayload)));
+
+        verify(referenceDataService, times(1)).getDocumentType(DOCUMENT_TYPE_ID);
+        verifyNoInteractions(progressionService, taskTypeService, runtimeService);
+    }
+
     private JsonObject getEventPayload(final String fileName, final String documentTypeId, final String caseId) {
         return getFileContentAsJson(fileName,
                 ImmutableMap.<String, Object>builder()
@@ -27,8 +27,8 @@ import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.L
 
 import uk.gov.justice.services.common.converter.StringToJsonObjectConverter;
 import uk.gov.justice.services.core.dispatcher.SystemUserProvider;
-import uk.gov.justice.services.core.featurecontrol.FeatureControlGuard;
 import uk.gov.justice.services.messaging.JsonEnvelope;
+import uk.gov.moj.cpp.businessprocesses.service.FeatureFlags;
 import uk.gov.moj.cpp.businessprocesses.service.TaskTypeService;
 
 import java.io.IOException;
@@ -93,23 +93,23 @@ public class FormFinalisedPublicEventProcessorTest {
     private ArgumentCaptor<Map> processVariablesCaptor;
 
     @Mock
-    private FeatureControlGuard featureControlGuard;
+    private FeatureFlags featureFlags;
 
     @RequiredHistoryLevel(ProcessEngineConfiguration.HISTORY_ACTIVITY)
     @BeforeEach
     public void setup() {
         when(systemUserProvider.getContextSystemUserId()).thenReturn(of(SYSTEM_USER_ID));
-        when(featureControlGuard.isFeatureEnabled(any())).thenReturn(true);
+        when(featureFlags.isFeatureEnabled(any())).thenReturn(true);
     }
 
     @Test
     void shouldNotCallHandleFormFinalisedWhenFeatureIsDisabled() {
-        when(featureControlGuard.isFeatureEnabled("camunda-progression-form-finalised")).thenReturn(false);
+        when(featureFlags.isFeatureEnabled("camunda-progression-form-finalised")).thenReturn(false);
         JsonEnvelope jsonEnvelope = mock(JsonEnvelope.class);
 
         formFinalisedPublicEventProcessor.handleFormFinalisedProcessor(jsonEnvelope);
 
-        verify(featureControlGuard, times(1)).isFeatureEnabled("camunda-progression-form-finalised");
+        verify(featureFlags, times(1)).isFeatureEnabled("camunda-progression-form-finalised");
         verifyNoInteractions(jsonEnvelope);
     }
 
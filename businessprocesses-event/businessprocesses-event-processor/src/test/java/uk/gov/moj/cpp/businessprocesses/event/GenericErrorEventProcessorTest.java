@@ -36,13 +36,18 @@ import static uk.gov.moj.cpp.businessprocesses.util.FileUtil.getPayload;
 import static uk.gov.moj.cpp.businessprocesses.util.JsonHelper.getJsonObject;
 import static uk.gov.moj.cpp.businessprocesses.util.TestDataProvider.getWorkflowTaskType;
 
+import uk.gov.justice.services.common.converter.JsonObjectToObjectConverter;
+import uk.gov.justice.services.common.converter.ObjectToJsonObjectConverter;
+import uk.gov.justice.services.common.converter.jackson.ObjectMapperProducer;
 import uk.gov.justice.services.core.dispatcher.SystemUserProvider;
-import uk.gov.justice.services.core.featurecontrol.FeatureControlGuard;
 import uk.gov.justice.services.messaging.JsonEnvelope;
+import uk.gov.moj.cpp.businessprocesses.service.CourtCentreDirectory;
 import uk.gov.moj.cpp.businessprocesses.service.DueDateCalculationService;
+import uk.gov.moj.cpp.businessprocesses.service.FeatureFlags;
 import uk.gov.moj.cpp.businessprocesses.service.ProgressionService;
 import uk.gov.moj.cpp.businessprocesses.service.ReferenceDataService;
 import uk.gov.moj.cpp.businessprocesses.service.TaskTypeService;
+import uk.gov.moj.cpp.businessprocesses.service.WorkflowTaskTypeCatalogue;
 import uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants;
 import uk.gov.moj.cpp.businessprocesses.util.TestDataProvider;
 
@@ -52,6 +57,7 @@ import java.util.UUID;
 
 import javax.json.JsonObject;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import org.camunda.bpm.engine.RuntimeService;
 import org.junit.jupiter.api.BeforeEach;
@@ -62,6 +68,7 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
@@ -92,6 +99,8 @@ public class GenericErrorEventProcessorTest {
     private static final String DEFENDANT_NATIONALITY_INVALID = "DEFENDANT_NATIONALITY_INVALID,";
     private static final String SYSTEM_USER = "SYSTEM";
     private static final String TASK_TYPE_SERVICE = "taskTypeService";
+    private static final String WORKFLOW_TASK_TYPE_CATALOGUE = "workflowTaskTypeCatalogue";
+    private static final String COURT_CENTRE_DIRECTORY = "courtCentreDirectory";
     private static final String DEEP_LINK_SPI_ERROR = "prosecution-casefile/spi-errors/%s?pageNumber=1&urn=%s&pageSize=10";
     private static final String DEEP_LINK_DOCUMENTS = "prosecution-casefile/documents/";
     private static final String COURT_CODE = "B62IZ01";
@@ -123,56 +132,83 @@ public class GenericErrorEventProcessorTest {
     private DueDateCalculationService dueDateCalculationService;
 
     @Mock
-    private FeatureControlGuard featureControlGuard;
+    private FeatureFlags featureFlags;
+
+    @Spy
+    private final ObjectMapper objectMapper = new ObjectMapperProducer().objectMapper();
+
+    @Spy
+    private final JsonObjectToObjectConverter jsonObjectToObjectConverter = new JsonObjectToObjectConverter(objectMapper);
+
+    @Spy
+    private final ObjectToJsonObjectConverter objectToJsonObjectConverter = new ObjectToJsonObjectConverter(objectMapper);
+
+    @InjectMocks
+    private WorkflowTaskTypeCatalogue workflowTaskTypeCatalogue;
+
+    @InjectMocks
+    private CourtCentreDirectory courtCentreDirectory;
 
     @BeforeEach
     public void setup() {
         setField(errorHandlerEventProcessor, TASK_TYPE_SERVICE, taskTypeService);
+        setField(workflowTaskTypeCatalogue, "timeToLive", "PT30M");
+        setField(workflowTaskTypeCatalogue, "refreshAfter", "PT20M");
+        setField(workflowTaskTypeCatalogue, "negativeTimeToLive", "PT1M");
+        setField(workflowTaskTypeCatalogue, "maximumSize", "500");
+        workflowTaskTypeCatalogue.init();
+        setField(taskTypeService, WORKFLOW_TASK_TYPE_CATALOGUE, workflowTaskTypeCatalogue);
+        setField(courtCentreDirectory, "timeToLive", "PT12H");
+        setField(courtCentreDirectory, "refreshAfter", "PT1H");
+        setField(courtCentreDirectory, "negativeTimeToLive", "PT5M");
+        setField(courtCentreDirectory, "maximumSize", "2000");
+        courtCentreDirectory.init();
+        setField(errorHandlerEventProcessor, COURT_CENTRE_DIRECTORY, courtCentreDirectory);
         when(systemUserProvider.getContextSystemUserId()).thenReturn(of(SYSTEM_USER_ID));
-        when(featureControlGuard.isFeatureEnabled(any())).thenReturn(true);
+        when(featureFlags.isFeatureEnabled(any())).thenReturn(true);
     }
 
     @Test
     void shouldNotCallHandleCaseValidationFailedWhenFeatureIsDisabled() {
-        when(featureControlGuard.isFeatureEnabled("camunda-prosecutioncasefile-events-case-validation-failed")).thenReturn(false);
+        when(featureFlags.isFeatureEnabled("camunda-prosecutioncasefile-events-case-validation-failed")).thenReturn(false);
         JsonEnvelope jsonEnvelope = mock(JsonEnvelope.class);
 
         errorHandlerEventProcessor.handleCaseValidationFailedProcessor(jsonEnvelope);
 
-        verify(featureControlGuard, times(1)).isFeatureEnabled("camunda-prosecutioncasefile-events-case-validation-failed");
+        verify(featureFlags, times(1)).isFeatureEnabled("camunda-prosecutioncasefile-events-case-validation-failed");
         verifyNoInteractions(jsonEnvelope);
     }
 
     @Test
     void shouldNotCallHandleDefendantValidationFailedWhenFeatureIsDisabled() {
-        when(featureControlGuard.isFeatureEnabled("camunda-prosecutioncasefile-events-defendant-validation-failed")).thenReturn(false);
+        when(featureFlags.isFeatureEnabled("camunda-prosecutioncasefile-events-defendant-validation-failed")).thenReturn(false);
         JsonEnvelope jsonEnvelope = mock(JsonEnvelope.class);
 
         errorHandlerEventProcessor.handleDefendantValidationFailedProcessor(jsonEnvelope);
 
-        verify(featureControlGuard, times(1)).isFeatureEnabled("camunda-prosecutioncasefile-events-defendant-validation-failed");
+        verify(featureFlags, times(1)).isFeatureEnabled("camunda-prosecutioncasefile-events-defendant-validation-failed");
         verifyNoInteractions(jsonEnvelope);
     }
 
     @Test
     void shouldNotCallHandleSjpValidationFailedWhenFeatureIsDisabled() {
-        when(featureControlGuard.isFeatureEnabled("camunda-prosecutioncasefile-events-sjp-validation-failed")).thenReturn(false);
+        when(featureFlags.isFeatureEnabled("camunda-prosecutioncasefile-events-sjp-validation-failed")).thenReturn(false);
         JsonEnvelope jsonEnvelope = mock(JsonEnvelope.class);
 
         errorHandlerEventProcessor.handleSjpValidationFailedProcessor(jsonEnvelope);
 
-        verify(featureControlGuard, times(1)).isFeatureEnabled("camunda-prosecutioncasefile-events-sjp-validation-failed");
+        verify(featureFlags, times(1)).isFeatureEnabled("camunda-prosecutioncasefile-events-sjp-validation-failed");
         verifyNoInteractions(jsonEnvelope);
     }
 
     @Test
     void shouldNotCallHandleOutboundCorrespondenceNotificationFailedWhenFeatureIsDisabled() {
-        when(featureControlGuard.isFeatureEnabled("camunda-correspondence-event-outbound-correspondence-notification-failed")).thenReturn(false);
+        when(featureFlags.isFeatureEnabled("camunda-correspondence-event-outbound-correspondence-notification-failed")).thenReturn(false);
         JsonEnvelope jsonEnvelope = mock(JsonEnvelope.class);
 
         errorHandlerEventProcessor.handleOutboundCorrespondenceNotificationFailedProcessor(jsonEnvelope);
 
-        verify(featureControlGuard, times(1)).isFeatureEnabled("camunda-correspondence-event-outbound-correspondence-notification-failed");
+        verify(featureFlags, times(1)).isFeatureEnabled("camunda-correspondence-event-outbound-correspondence-notification-failed");
         verifyNoInteractions(jsonEnvelope);
     }
 
@@ -20,9 +20,9 @@ import static uk.gov.justice.services.test.utils.core.messaging.MetadataBuilderF
 import static uk.gov.moj.cpp.businessprocesses.util.FileUtil.getFileContentAsJson;
 
 import uk.gov.justice.services.core.dispatcher.SystemUserProvider;
-import uk.gov.justice.services.core.featurecontrol.FeatureControlGuard;
 import uk.gov.justice.services.messaging.JsonEnvelope;
 import uk.gov.moj.cpp.businessprocesses.event.summonsapplication.SummonsApplicationHandler;
+import uk.gov.moj.cpp.businessprocesses.service.FeatureFlags;
 import uk.gov.moj.cpp.businessprocesses.service.TaskTypeService;
 import uk.gov.moj.cpp.businessprocesses.shared.InterpreterForWelshActivityHandler;
 import uk.gov.moj.cpp.businessprocesses.shared.NotesGenerator;
@@ -112,7 +112,7 @@ public class HearingInitiatedEventProcessorTest {
     private SystemUserProvider systemUserProvider;
 
     @Mock
-    private FeatureControlGuard featureControlGuard;
+    private FeatureFlags featureFlags;
 
     @Mock
     private InterpreterForWelshActivityHandler interpreterForWelshActivityHandler;
@@ -129,17 +129,17 @@ public class HearingInitiatedEventProcessorTest {
 
     @BeforeEach
     public void setup() {
-        when(featureControlGuard.isFeatureEnabled(any())).thenReturn(true);
+        when(featureFlags.isFeatureEnabled(any())).thenReturn(true);
     }
 
     @Test
     void shouldNotCallHandleHearingInitiatedWhenFeatureIsDisabled() {
-        when(featureControlGuard.isFeatureEnabled("camunda-hearing-initiated")).thenReturn(false);
+        when(featureFlags.isFeatureEnabled("camunda-hearing-initiated")).thenReturn(false);
         JsonEnvelope jsonEnvelope = mock(JsonEnvelope.class);
 
         hearingInitiatedEventProcessor.handleHearingInitiatedProcessor(jsonEnvelope);
 
-        verify(featureControlGuard, times(1)).isFeatureEnabled("camunda-hearing-initiated");
+        verify(featureFlags, times(1)).isFeatureEnabled("camunda-hearing-initiated");
         verify(interpreterForWelshActivityHandler, never()).handleWelshInterpreterForCaseInitiated(any());
         verifyNoInteractions(jsonEnvelope);
     }
@@ -296,7 +296,7 @@ public class HearingInitiatedEventProcessorTest {
     @Test
     public void shouldNotStartHearingInitiatedProcessForCaseWhenInterpreterFeatureFlagIsFalse() {
         // Given
-        when(featureControlGuard.isFeatureEnabled("camunda-interpreter")).thenReturn(false);
+        when(featureFlags.isFeatureEnabled("camunda-interpreter")).thenReturn(false);
         final JsonObject eventPayload = getEventPayload(HEARING_INIT_CASE_JSON, CASE_ID1, "CASE_ID", JURISDICTION_TYPE_MAGISTRATES, "Welsh", "French", "", "");
 
         // when
@@ -422,7 +422,7 @@ public class HearingInitiatedEventProcessorTest {
     @Test
     public void shouldNotStartHearingInitiatedProcessForApplicationWhenInterpreterFeatureFlagIsFalse() {
         // Given
-        when(featureControlGuard.isFeatureEnabled("camunda-interpreter")).thenReturn(false);
+        when(featureFlags.isFeatureEnabled("camunda-interpreter")).thenReturn(false);
         final JsonObject eventPayload = getEventPayload(HEARING_INIT_APPLICATION_JSON, APPLICATION_ID, "APPLICATION_ID", JURISDICTION_TYPE_MAGISTRATES, "Welsh", "French", APPLICATION_REF1, APPLICATION_REF2);
 
         // when
@@ -17,6 +17,7 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static uk.gov.justice.services.messaging.JsonEnvelope.envelopeFrom;
 import static uk.gov.justice.services.test.utils.core.messaging.MetadataBuilderFactory.metadataWithRandomUUID;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.CASE_ID;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.CASE_URN;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.COURT_CODES;
@@ -29,11 +30,15 @@ import uk.gov.justice.services.common.converter.JsonObjectToObjectConverter;
 import uk.gov.justice.services.common.converter.StringToJsonObjectConverter;
 import uk.gov.justice.services.common.converter.jackson.ObjectMapperProducer;
 import uk.gov.justice.services.core.dispatcher.SystemUserProvider;
-import uk.gov.justice.services.core.featurecontrol.FeatureControlGuard;
 import uk.gov.justice.services.messaging.JsonEnvelope;
 import uk.gov.moj.cpp.businessprocesses.event.summonsapplication.SummonsApplicationHandler;
 import uk.gov.moj.cpp.businessprocesses.refdata.query.api.Resultdefinition;
+import uk.gov.moj.cpp.businessprocesses.service.AsyncQueries;
+import uk.gov.moj.cpp.businessprocesses.service.CourtCentreDirectory;
+import uk.gov.moj.cpp.businessprocesses.service.FeatureFlags;
 import uk.gov.moj.cpp.businessprocesses.service.ReferenceDataService;
+import uk.gov.moj.cpp.businessprocesses.service.ResultDefinitionCatalogue;
+import uk.gov.moj.cpp.businessprocesses.service.ResultDefinitionResolver;
 import uk.gov.moj.cpp.businessprocesses.service.TaskTypeService;
 import uk.gov.moj.cpp.businessprocesses.service.UserGroupsService;
 
@@ -103,6 +108,9 @@ public class HearingResultedEventProcessorTest {
     @Mock
     private UserGroupsService userGroupsService;
 
+    @Spy
+    private AsyncQueries asyncQueries;
+
     @Mock
     private TaskTypeService taskTypeService;
 
@@ -113,7 +121,7 @@ public class HearingResultedEventProcessorTest {
     private SystemUserProvider systemUserProvider;
 
     @Mock
-    private FeatureControlGuard featureControlGuard;
+    private FeatureFlags featureFlags;
 
     @Mock
     private SummonsApplicationHandler summonsApplicationHandler;
@@ -121,9 +129,32 @@ public class HearingResultedEventProcessorTest {
     @Captor
     private ArgumentCaptor<Map> processVariablesCaptor;
 
+    @InjectMocks
+    private CourtCentreDirectory courtCentreDirectory;
+
+    @InjectMocks
+    private ResultDefinitionCatalogue resultDefinitionCatalogue;
+
+    @InjectMocks
+    private ResultDefinitionResolver resultDefinitionResolver;
+
     @RequiredHistoryLevel(ProcessEngineConfiguration.HISTORY_ACTIVITY)
     @BeforeEach
     public void setup() {
+        setField(courtCentreDirectory, "timeToLive", "PT12H");
+        setField(courtCentreDirectory, "refreshAfter", "PT1H");
+        setField(courtCentreDirectory, "negativeTimeToLive", "PT5M");
+        setField(courtCentreDirectory, "maximumSize", "2000");
+        courtCentreDirectory.init();
+        setField(hearingResultedProcessor, "courtCentreDirectory", courtCentreDirectory);
+        setField(resultDefinitionCatalogue, "timeToLive", "PT1H");
+        setField(resultDefinitionCatalogue, "refreshAfter", "PT45M");
+        setField(resultDefinitionCatalogue, "negativeTimeToLive", "PT5M");
+        setField(resultDefinitionCatalogue, "maximumSize", "2000");
+        setField(resultDefinitionCatalogue, "lookupParallelism", "4");
+        resultDefinitionCatalogue.init();
+        setField(resultDefinitionResolver, "resultDefinitionCatalogue", resultDefinitionCatalogue);
+        setField(hearingResultedProcessor, "resultDefinitionResolver", resultDefinitionResolver);
         extension.getProcessEngine().getRepositoryService().createDeployment().addClasspathResource(LIST_BAIL_APPEAL_BPMN);
         extension.getProcessEngine().getRepositoryService().createDeployment().addClasspathResource(LIST_SERIOUS_CASE_BAIL_BPMN);
         extension.getProcessEngine().getRepositoryService().createDeployment().addClasspathResource(SENSITIVE_CASE_TRANSFER);
@@ -131,12 +162,12 @@ public class HearingResultedEventProcessorTest {
 
     @Test
     void shouldNotCallHandleHearingResultedWhenFeatureIsDisabled() {
-        when(featureControlGuard.isFeatureEnabled("camunda-hearing-hearing-resulted")).thenReturn(false);
+        when(featureFlags.isFeatureEnabled("camunda-hearing-hearing-resulted")).thenReturn(false);
         JsonEnvelope jsonEnvelope = mock(JsonEnvelope.class);
 
         hearingResultedProcessor.handleHearingResultedProcessor(jsonEnvelope);
 
-        verify(featureControlGuard, times(1)).isFeatureEnabled("camunda-hearing-hearing-resulted");
+        verify(featureFlags, times(1)).isFeatureEnabled("camunda-hearing-hearing-resulted");
         verifyNoInteractions(jsonEnvelope);
     }
 
@@ -144,7 +175,7 @@ public class HearingResultedEventProcessorTest {
     @Deployment(resources = {LIST_BAIL_APPEAL_BPMN})
     public void shouldCreateListBailAppealEventWorkFlow() throws IOException {
         final UUID userId = randomUUID();
-        when(featureControlGuard.isFeatureEnabled(any())).thenReturn(true);
+        when(featureFlags.isFeatureEnabled(any())).thenReturn(true);
         when(systemUserProvider.getContextSystemUserId()).thenReturn(of(SYSTEM_USER_ID));
         when(referenceDataService.getResultDefinition(anyString())).thenReturn(Resultdefinition.resultdefinition().withShortCode("EXRIBA48").build());
         final String inputEvent = getInputEvent(HEARING_RESULTED_JSON).replace("HEARING_ID", randomUUID().toString());
@@ -161,7 +192,7 @@ public class HearingResultedEventProcessorTest {
     @Deployment(resources = {LIST_BAIL_APPEAL_BPMN})
     public void shouldNotCreateListBailAppealEventWorkFlowWhenFeatureIsDisabled() throws IOException {
         final UUID userId = randomUUID();
-        when(featureControlGuard.isFeatureEnabled(any())).thenReturn(false);
+        when(featureFlags.isFeatureEnabled(any())).thenReturn(false);
         final String inputEvent = getInputEvent(HEARING_RESULTED_JSON).replace("HEARING_ID", randomUUID().toString());
         final JsonObject payload = stringToJsonObjectConverter.convert(inputEvent);
         final JsonEnvelope requestEnvelope = envelopeFrom(metadataWithRandomUUID(HEARING_RESULTED_EVENT).withUserId(userId.toString()), payload);
@@ -175,7 +206,7 @@ public class HearingResultedEventProcessorTest {
     @Deployment(resources = {LIST_SERIOUS_CASE_BAIL_BPMN})
     public void shouldCreateListSeriousBailAppealEventWorkFlow() throws IOException {
         final UUID userId = randomUUID();
-        when(featureControlGuard.isFeatureEnabled(any())).thenReturn(true);
+        when(featureFlags.isFeatureEnabled(any())).thenReturn(true);
         when(systemUserProvider.getContextSystemUserId()).thenReturn(of(SYSTEM_USER_ID));
         when(referenceDataService.getResultDefinition(anyString())).thenReturn(Resultdefinition.resultdefinition().withShortCode("CCQB").build());
         final String inputEvent = getInputEvent(HEARING_RESULTED_JSON).replace("HEARING_ID", randomUUID().toString());
@@ -191,7 +222,7 @@ public class HearingResultedEventProcessorTest {
     @Deployment(resources = {LIST_SERIOUS_CASE_BAIL_BPMN})
     public void shouldNotCreateListSeriousBailAppealEventWorkFlow() throws IOException {
         final UUID userId = randomUUID();
-        when(featureControlGuard.isFeatureEnabled(any())).thenReturn(false);
+        when(featureFlags.isFeatureEnabled(any())).thenReturn(false);
         final String inputEvent = getInputEvent(HEARING_RESULTED_JSON).replace("HEARING_ID", randomUUID().toString());
         final JsonObject payload = stringToJsonObjectConverter.convert(inputEvent);
         final JsonEnvelope requestEnvelope = envelopeFrom(metadataWithRandomUUID(HEARING_RESULTED_EVENT).withUserId(userId.toString()), payload);
@@ -205,7 +236,7 @@ public class HearingResultedEventProcessorTest {
     public void shouldCreateSensitiveCaseTransferEventWorkFlow() throws IOException {
         final UUID userId = randomUUID();
         final String hearingId = randomUUID().toString();
-        when(featureControlGuard.isFeatureEnabled(any())).thenReturn(true);
+        when(featureFlags.isFeatureEnabled(any())).thenReturn(true);
         when(userGroupsService.getCaseSensitive(anyString())).thenReturn(true);
         when(systemUserProvider.getContextSystemUserId()).thenReturn(of(SYSTEM_USER_ID));
         when(referenceDataService.getResultDefinition(anyString())).thenReturn(Resultdefinition.resultdefinition().withShortCode("NHCCS").build());
@@ -234,7 +265,7 @@ public class HearingResultedEventProcessorTest {
     @Deployment(resources = {SENSITIVE_CASE_TRANSFER})
     public void shouldNotCreateSensitiveCaseTransferEventWorkFlowWhenFeatureIsDisabled() throws IOException {
         final UUID userId = randomUUID();
-        when(featureControlGuard.isFeatureEnabled(any())).thenReturn(false);
+        when(featureFlags.isFeatureEnabled(any())).thenReturn(false);
 
         final String inputEvent = getInputEvent(HEARING_RESULTED_JSON_NEXT_CC).replace("HEARING_ID", randomUUID().toString());
         final JsonObject payload = stringToJsonObjectConverter.convert(inputEvent);
@@ -249,7 +280,7 @@ public class HearingResultedEventProcessorTest {
     @Deployment(resources = {SENSITIVE_CASE_TRANSFER})
     public void shouldNotCreateSensitiveCaseTransferEventWorkFlowWhenCaseSensitiveIsFalse() throws IOException {
         final UUID userId = randomUUID();
-        when(featureControlGuard.isFeatureEnabled(any())).thenReturn(true);
+        when(featureFlags.isFeatureEnabled(any())).thenReturn(true);
         when(userGroupsService.getCaseSensitive(anyString())).thenReturn(false);
         when(referenceDataService.getResultDefinition(anyString())).thenReturn(Resultdefinition.resultdefinition().withShortCode("NHCCS").build());
 
@@ -262,6 +293,19 @@ public class HearingResultedEventProcessorTest {
         verify(runtimeService, times(0)).startProcessInstanceByKey(anyString(), anyString(), anyMap());
     }
 
+    @Test
+    public void shouldIgnoreResultsUnknownToReferenceData() throws IOException {
+        final UUID userId = randomUUID();
+        when(featureFlags.isFeatureEnabled(any())).thenReturn(true);
+
+        final String inputEvent = getInputEvent(HEARING_RESULTED_JSON_NEXT_CC).replace("HEARING_ID", randomUUID().toString());
+        final JsonObject payload = stringToJsonObjectConverter.convert(inputEvent);
+        final JsonEnvelope requestEnvelope = envelopeFrom(metadataWithRandomUUID(HEARING_RESULTED_EVENT).withUserId(userId.toString()), payload);
+
+        hearingResultedProcessor.handleHearingResultedProcessor(requestEnvelope);
+        verify(runtimeService, times(0)).startProcessInstanceByKey(anyString(), anyString(), anyMap());
+        verifyNoInteractions(userGroupsService);
+    }
 
     private String getInputEvent(final String resourceName) throws IOException {
         return Resources.toString(getResource(resourceName), defaultCharset());
@@ -12,8 +12,8 @@ import javax.json.JsonObject;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
-import uk.gov.justice.services.core.featurecontrol.FeatureControlGuard;
 import uk.gov.justice.services.messaging.JsonEnvelope;
+import uk.gov.moj.cpp.businessprocesses.service.FeatureFlags;
 import uk.gov.moj.cpp.businessprocesses.shared.Constants;
 import uk.gov.moj.cpp.businessprocesses.shared.InterpreterForWelshActivityHandler;
 
@@ -21,7 +21,7 @@ import uk.gov.moj.cpp.businessprocesses.shared.InterpreterForWelshActivityHandle
 public class HearingUpdatedEventProcessorTest {
 
     @Mock
-    private FeatureControlGuard featureControlGuard;
+    private FeatureFlags featureFlags;
 
     @Mock
     private InterpreterForWelshActivityHandler interpreterForWelshActivityHandler;
@@ -41,21 +41,21 @@ public class HearingUpdatedEventProcessorTest {
     public void testHandleHearingDetailsChangedFeatureEnabled() {
         when(jsonEnvelope.payloadAsJsonObject()).thenReturn(jsonObject);
         when(jsonObject.getString(Constants.ID)).thenReturn("hearingId");
-        when(featureControlGuard.isFeatureEnabled("camunda-hearing-initiated")).thenReturn(true);
+        when(featureFlags.isFeatureEnabled("camunda-hearing-initiated")).thenReturn(true);
 
         hearingUpdatedEventProcessor.handleHearingDetailsChanged(jsonEnvelope);
 
-        verify(featureControlGuard).isFeatureEnabled("camunda-hearing-initiated");
+        verify(featureFlags).isFeatureEnabled("camunda-hearing-initiated");
         verify(interpreterForWelshActivityHandler).handleWelshInterpreterForHearingUpdated("hearingId");
     }
 
     @Test
     public void testHandleHearingDetailsChangedFeatureDisabled() {
-        when(featureControlGuard.isFeatureEnabled("camunda-hearing-initiated")).thenReturn(false);
+        when(featureFlags.isFeatureEnabled("camunda-hearing-initiated")).thenReturn(false);
 
         hearingUpdatedEventProcessor.handleHearingDetailsChanged(jsonEnvelope);
 
-        verify(featureControlGuard).isFeatureEnabled("camunda-hearing-initiated");
+        verify(featureFlags).isFeatureEnabled("camunda-hearing-initiated");
         verify(interpreterForWelshActivityHandler, never()).handleWelshInterpreterForHearingUpdated(anyString());
     }
 
@@ -63,21 +63,21 @@ public class HearingUpdatedEventProcessorTest {
     public void testHandleHearingDefendantDetailsChangedEventFeatureEnabled() {
         when(jsonEnvelope.payloadAsJsonObject()).thenReturn(jsonObject);
         when(jsonObject.getString(Constants.HEARING_ID)).thenReturn("hearingId");
-        when(featureControlGuard.isFeatureEnabled("camunda-hearing-initiated")).thenReturn(true);
+        when(featureFlags.isFeatureEnabled("camunda-hearing-initiated")).thenReturn(true);
 
         hearingUpdatedEventProcessor.handleHearingDefendantDetailsChangedEvent(jsonEnvelope);
 
-        verify(featureControlGuard).isFeatureEnabled("camunda-hearing-initiated");
+        verify(featureFlags).isFeatureEnabled("camunda-hearing-initiated");
         verify(interpreterForWelshActivityHandler).handleWelshInterpreterForHearingUpdated("hearingId");
     }
 
     @Test
     public void testHandleHearingDefendantDetailsChangedEventFeatureDisabled() {
-        when(featureControlGuard.isFeatureEnabled("camunda-hearing-initiated")).thenReturn(false);
+        when(featureFlags.isFeatureEnabled("camunda-hearing-initiated")).thenReturn(false);
 
         hearingUpdatedEventProcessor.handleHearingDefendantDetailsChangedEvent(jsonEnvelope);
 
-        verify(featureControlGuard).isFeatureEnabled("camunda-hearing-initiated");
+        verify(featureFlags).isFeatureEnabled("camunda-hearing-initiated");
         verify(interpreterForWelshActivityHandler, never()).handleWelshInterpreterForHearingUpdated(anyString());
     }
 }
@@ -12,8 +12,8 @@ import static org.mockito.Mockito.when;
 import uk.gov.justice.core.courts.Hearing;
 import uk.gov.justice.listing.courts.HearingListed;
 import uk.gov.justice.services.common.converter.JsonObjectToObjectConverter;
-import uk.gov.justice.services.core.featurecontrol.FeatureControlGuard;
 import uk.gov.justice.services.messaging.JsonEnvelope;
+import uk.gov.moj.cpp.businessprocesses.service.FeatureFlags;
 
 import java.util.Collections;
 
@@ -34,7 +34,7 @@ import org.mockito.quality.Strictness;
 @SuppressWarnings({"squid:S2187"})
 public class ListingHearingListedEventProcessorFeatureTest {
     @Mock
-    private FeatureControlGuard featureControlGuard;
+    private FeatureFlags featureFlags;
 
     @Mock
     private JsonObjectToObjectConverter jsonObjectToObjectConverter;
@@ -55,25 +55,25 @@ public class ListingHearingListedEventProcessorFeatureTest {
 
     @Test
     void shouldCallHandleHearingListedWhenFeatureIsEnabled() {
-        when(featureControlGuard.isFeatureEnabled("camunda-listing-hearing-listed")).thenReturn(true);
+        when(featureFlags.isFeatureEnabled("camunda-listing-hearing-listed")).thenReturn(true);
         HearingListed hearingListed = mock(HearingListed.class);
         when(jsonObjectToObjectConverter.convert(any(), any())).thenReturn(hearingListed);
         when(hearingListed.getCaseUrns()).thenReturn(Collections.emptyList());
 
         listingHearingListedEventProcessor.handleHearingListedProcessor(jsonEnvelope);
 
-        verify(featureControlGuard, times(1)).isFeatureEnabled("camunda-listing-hearing-listed");
+        verify(featureFlags, times(1)).isFeatureEnabled("camunda-listing-hearing-listed");
         verify(jsonObjectToObjectConverter, times(1)).convert(eq(jsonObject), eq(HearingListed.class));
     }
 
 
     @Test
     void shouldNotCallHandleHearingListedWhenFeatureIsDisabled() {
-        when(featureControlGuard.isFeatureEnabled("camunda-listing-hearing-listed")).thenReturn(false);
+        when(featureFlags.isFeatureEnabled("camunda-listing-hearing-listed")).thenReturn(false);
 
         listingHearingListedEventProcessor.handleHearingListedProcessor(jsonEnvelope);
 
-        verify(featureControlGuard, times(1)).isFeatureEnabled("camunda-listing-hearing-listed");
+        verify(featureFlags, times(1)).isFeatureEnabled("camunda-listing-hearing-listed");
         verifyNoInteractions(jsonObjectToObjectConverter);
     }
 }
\ No newline at end of file
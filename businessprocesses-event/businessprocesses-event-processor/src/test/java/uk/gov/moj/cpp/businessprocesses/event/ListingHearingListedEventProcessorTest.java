@@ -23,7 +23,6 @@ import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.T
 
 import uk.gov.justice.services.common.util.UtcClock;
 import uk.gov.justice.services.core.dispatcher.SystemUserProvider;
-import uk.gov.justice.services.core.featurecontrol.FeatureControlGuard;
 import uk.gov.justice.services.common.converter.JsonObjectToObjectConverter;
 import uk.gov.justice.services.messaging.JsonEnvelope;
 import uk.gov.justice.listing.courts.HearingListed;
@@ -53,6 +52,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import uk.gov.moj.cpp.businessprocesses.listener.TasksUpdatedListener;
+import uk.gov.moj.cpp.businessprocesses.service.FeatureFlags;
 
 @ExtendWith({MockitoExtension.class, ProcessEngineExtension.class})
 @SuppressWarnings({"squid:S2187"})
@@ -79,7 +79,7 @@ public class ListingHearingListedEventProcessorTest {
     private SystemUserProvider systemUserProvider;
 
     @Mock
-    private FeatureControlGuard featureControlGuard;
+    private FeatureFlags featureFlags;
 
     @Mock
     private JsonObjectToObjectConverter jsonObjectToObjectConverter;
@@ -134,7 +134,7 @@ public class ListingHearingListedEventProcessorTest {
         String urn1 = "TFL4359536";
         String hearingId1 = randomUUID().toString();
         when(systemUserProvider.getContextSystemUserId()).thenReturn(of(SYSTEM_USER_ID));
-        when(featureControlGuard.isFeatureEnabled(any())).thenReturn(true);
+        when(featureFlags.isFeatureEnabled(any())).thenReturn(true);
 
         ProcessInstance processInstance = runtimeService.startProcessInstanceByKey(BAIL_APPEAL_PROCESS_NAME, caseId1, createProcessVariables(hearingId1, BLA_HEARING_TYPE, BAIL_APPEAL_TASK_NAME, urn1));
 
@@ -157,7 +157,7 @@ public class ListingHearingListedEventProcessorTest {
     @Test
     @Deployment(resources = {"list_bail_appeal_hearing_process.bpmn"})
     public void shouldNotAutoCompleteBailHearingTasksWhenFeatureIsDisabled() {
-        when(featureControlGuard.isFeatureEnabled(any())).thenReturn(false);
+        when(featureFlags.isFeatureEnabled(any())).thenReturn(false);
         String caseId1 = randomUUID().toString();
         String urn1 = "TFL4359536";
         String hearingId1 = randomUUID().toString();
@@ -183,7 +183,7 @@ public class ListingHearingListedEventProcessorTest {
     @Test
     @Deployment(resources = {"list_murder_case_for_bail_hearing_process.bpmn"})
     public void shouldAutoCompleteSeriousCaseBailHearingTasks() {
-        when(featureControlGuard.isFeatureEnabled(any())).thenReturn(true);
+        when(featureFlags.isFeatureEnabled(any())).thenReturn(true);
         String caseId1 = randomUUID().toString();
         String hearingId1 = randomUUID().toString();
         String urn1 = "TFL4359536";
@@ -207,7 +207,7 @@ public class ListingHearingListedEventProcessorTest {
     @Test
     @Deployment(resources = {"list_bail_appeal_hearing_process.bpmn"})
     public void shouldNotAutoCompleteBailHearingTasksWhenInvalidHearingType() {
-        when(featureControlGuard.isFeatureEnabled(any())).thenReturn(true);
+        when(featureFlags.isFeatureEnabled(any())).thenReturn(true);
         String caseId1 = randomUUID().toString();
         String hearingId1 = randomUUID().toString();
         String urn1 = "TFL4359536";
@@ -231,7 +231,7 @@ public class ListingHearingListedEventProcessorTest {
     @Test
     @Deployment(resources = {"list_murder_case_for_bail_hearing_process.bpmn"})
     public void shouldNotAutoCompleteSeriousCaseBailHearingTasksWhenInvalidHearingType() {
-        when(featureControlGuard.isFeatureEnabled(any())).thenReturn(true);
+        when(featureFlags.isFeatureEnabled(any())).thenReturn(true);
         String caseId1 = randomUUID().toString();
         String hearingId1 = randomUUID().toString();
         String urn1 = "TFL4359536";
@@ -0,0 +1,100 @@
+package uk.gov.moj.cpp.businessprocesses.event;
+
+import static org.camunda.bpm.engine.test.assertions.bpmn.BpmnAwareAssertions.assertThat;
+import static org.camunda.bpm.engine.test.mock.Mocks.register;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import uk.gov.moj.cpp.businessprocesses.delegate.RecalculateDueDates;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.camunda.bpm.engine.ManagementService;
+import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.engine.delegate.DelegateExecution;
+import org.camunda.bpm.engine.runtime.Job;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.camunda.bpm.engine.test.Deployment;
+import org.camunda.bpm.engine.test.mock.Mocks;
+import org.camunda.bpm.extension.junit5.test.ProcessEngineExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith({MockitoExtension.class, ProcessEngineExtension.class})
+public class PublicHolidayDueDateRecalculationProcessTest {
+
+    private static final String PROCESS_PUBLIC_HOLIDAY_DUE_DATE_RECALCULATION = "public-holiday-due-date-recalculation";
+    private static final String JOB_RECALCULATE_DUE_DATES = "RecalculateDueDates";
+
+    @Mock
+    private RecalculateDueDates recalculateDueDates;
+
+    private RuntimeService runtimeService;
+    private ManagementService managementService;
+
+    @RegisterExtension
+    ProcessEngineExtension extension = ProcessEngineExtension.builder()
+            .configurationResource("camunda.cfg.xml")
+            .build();
+
+    @BeforeEach
+    public void setup() {
+        runtimeService = extension.getProcessEngine().getRuntimeService();
+        managementService = extension.getProcessEngine().getManagementService();
+
+        register("recalculateDueDates", recalculateDueDates);
+    }
+
+    @Test
+    @Deployment(resources = {"public-holiday-due-date-recalculation.bpmn"})
+    public void shouldRecalculateOneBatchPerJobUntilComplete() {
+        final AtomicInteger batches = new AtomicInteger();
+        doAnswer(invocation -> {
+            final DelegateExecution execution = invocation.getArgument(0);
+            execution.setVariable("recalculationComplete", batches.incrementAndGet() == 2);
+            return null;
+        }).when(recalculateDueDates).execute(any());
+
+        final ProcessInstance processInstance = runtimeService
+                .startProcessInstanceByKey(PROCESS_PUBLIC_HOLIDAY_DUE_DATE_RECALCULATION, "england-and-wales/2099", processVariables());
+
+        //ensure that the first batch waits for the job executor (transaction barrier)
+        assertThat(processInstance).isActive().isWaitingAt(JOB_RECALCULATE_DUE_DATES);
+        managementService.executeJob(getJobIn(processInstance).getId());
+
+        //ensure that the next batch is a job of its own
+        assertThat(processInstance).isActive().isWaitingAt(JOB_RECALCULATE_DUE_DATES);
+        managementService.executeJob(getJobIn(processInstance).getId());
+
+        verify(recalculateDueDates, times(2)).execute(any());
+        assertThat(processInstance).isEnded();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        Mocks.reset();
+    }
+
+    private static Map<String, Object> processVariables() {
+        final Map<String, Object> processVariables = new HashMap<>();
+        processVariables.put("division", "england-and-wales");
+        processVariables.put("year", 2099);
+        processVariables.put("publicHolidays", "2099-01-01,2099-05-04");
+        processVariables.put("changedDates", "2099-05-04");
+        processVariables.put("afterTaskId", "00000000-0000-0000-0000-000000000000");
+        return processVariables;
+    }
+
+    private Job getJobIn(final ProcessInstance processInstance) {
+        return managementService.createJobQuery().processInstanceId(processInstance.getProcessInstanceId()).activityId(JOB_RECALCULATE_DUE_DATES).singleResult();
+    }
+}
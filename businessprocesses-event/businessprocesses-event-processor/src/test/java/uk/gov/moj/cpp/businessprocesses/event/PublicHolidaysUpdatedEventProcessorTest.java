@@ -0,0 +1,56 @@
+package uk.gov.moj.cpp.businessprocesses.event;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static uk.gov.justice.services.messaging.JsonEnvelope.envelopeFrom;
+import static uk.gov.justice.services.messaging.JsonObjects.createArrayBuilder;
+import static uk.gov.justice.services.messaging.JsonObjects.createObjectBuilder;
+import static uk.gov.justice.services.test.utils.core.messaging.MetadataBuilderFactory.metadataWithRandomUUID;
+
+import uk.gov.justice.services.messaging.JsonEnvelope;
+import uk.gov.moj.cpp.businessprocesses.service.DueDateRecalculation;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class PublicHolidaysUpdatedEventProcessorTest {
+
+    private static final LocalDate NEW_YEARS_DAY = LocalDate.parse("2099-01-01");
+    private static final LocalDate NEW_PUBLIC_HOLIDAY = LocalDate.parse("2099-05-04");
+
+    @Mock
+    private DueDateRecalculation dueDateRecalculation;
+
+    @InjectMocks
+    private PublicHolidaysUpdatedEventProcessor publicHolidaysUpdatedEventProcessor;
+
+    @Test
+    public void shouldStartTheDueDateRecalculationForEnglandAndWales() {
+        publicHolidaysUpdatedEventProcessor.handlePublicHolidaysUpdated(publicHolidaysUpdated("england-and-wales"));
+
+        verify(dueDateRecalculation).start("england-and-wales", 2099, List.of(NEW_YEARS_DAY, NEW_PUBLIC_HOLIDAY), List.of(NEW_PUBLIC_HOLIDAY));
+    }
+
+    @Test
+    public void shouldOnlyRecalculateForPublicHolidaysInEnglandAndWales() {
+        publicHolidaysUpdatedEventProcessor.handlePublicHolidaysUpdated(publicHolidaysUpdated("scotland"));
+
+        verifyNoInteractions(dueDateRecalculation);
+    }
+
+    private static JsonEnvelope publicHolidaysUpdated(final String division) {
+        return envelopeFrom(metadataWithRandomUUID("businessprocesses.event.public-holidays-updated"), createObjectBuilder()
+                .add("division", division)
+                .add("year", 2099)
+                .add("publicHolidays", createArrayBuilder().add("2099-01-01").add("2099-05-04"))
+                .add("changedDates", createArrayBuilder().add("2099-05-04"))
+                .build());
+    }
+}
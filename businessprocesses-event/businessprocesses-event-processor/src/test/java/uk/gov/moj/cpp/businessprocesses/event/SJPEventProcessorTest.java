@@ -15,8 +15,8 @@ import static uk.gov.justice.services.test.utils.core.messaging.MetadataBuilderF
 import static uk.gov.moj.cpp.businessprocesses.util.FileUtil.getFileContentAsJson;
 
 import uk.gov.justice.services.core.dispatcher.SystemUserProvider;
-import uk.gov.justice.services.core.featurecontrol.FeatureControlGuard;
 import uk.gov.justice.services.messaging.JsonEnvelope;
+import uk.gov.moj.cpp.businessprocesses.service.FeatureFlags;
 import uk.gov.moj.cpp.businessprocesses.service.TaskTypeService;
 
 import java.util.HashMap;
@@ -71,23 +71,23 @@ public class SJPEventProcessorTest {
     private SystemUserProvider systemUserProvider;
 
     @Mock
-    private FeatureControlGuard featureControlGuard;
+    private FeatureFlags featureFlags;
 
     @BeforeEach
     public void setup() {
         when(taskTypeService.getTaskVariablesFromRefData(SJP_TASK_NAME, CASE_ID)).thenReturn(getTaskReferenceData(CASE_ID));
         when(systemUserProvider.getContextSystemUserId()).thenReturn(of(SYSTEM_USER_ID));
-        when(featureControlGuard.isFeatureEnabled(any())).thenReturn(true);
+        when(featureFlags.isFeatureEnabled(any())).thenReturn(true);
     }
 
     @Test
     void shouldNotCallSjpCaseReferredToCourtWhenFeatureIsDisabled() {
-        when(featureControlGuard.isFeatureEnabled("camunda-sjp-case-referred-to-court")).thenReturn(false);
+        when(featureFlags.isFeatureEnabled("camunda-sjp-case-referred-to-court")).thenReturn(false);
         JsonEnvelope jsonEnvelope = mock(JsonEnvelope.class);
 
         sjpEventProcessor.handleSjpCaseReferredToCourtProcessor(jsonEnvelope);
 
-        verify(featureControlGuard, times(1)).isFeatureEnabled("camunda-sjp-case-referred-to-court");
+        verify(featureFlags, times(1)).isFeatureEnabled("camunda-sjp-case-referred-to-court");
         verifyNoInteractions(jsonEnvelope);
     }
 
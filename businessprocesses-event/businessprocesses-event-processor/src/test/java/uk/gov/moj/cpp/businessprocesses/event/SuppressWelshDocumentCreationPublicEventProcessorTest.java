@@ -17,6 +17,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.justice.services.messaging.JsonEnvelope.envelopeFrom;
 import static uk.gov.justice.services.test.utils.core.messaging.MetadataBuilderFactory.metadataWithRandomUUID;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
 import static uk.gov.moj.cpp.businessprocesses.shared.Constants.BPMN_PROCESS_WELSH_TRANSLATION_PROCESS;
 import static uk.gov.moj.cpp.businessprocesses.shared.Constants.MATERIAL_ID;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.CASE_URN;
@@ -35,8 +36,9 @@ import org.camunda.bpm.extension.junit5.test.ProcessEngineExtension;
 import org.junit.jupiter.api.extension.RegisterExtension;
 import uk.gov.justice.services.common.converter.StringToJsonObjectConverter;
 import uk.gov.justice.services.core.dispatcher.SystemUserProvider;
-import uk.gov.justice.services.core.featurecontrol.FeatureControlGuard;
 import uk.gov.justice.services.messaging.JsonEnvelope;
+import uk.gov.moj.cpp.businessprocesses.service.CourtCentreDirectory;
+import uk.gov.moj.cpp.businessprocesses.service.FeatureFlags;
 import uk.gov.moj.cpp.businessprocesses.service.ListingService;
 import uk.gov.moj.cpp.businessprocesses.service.ProgressionService;
 import uk.gov.moj.cpp.businessprocesses.service.ReferenceDataService;
@@ -103,14 +105,23 @@ public class SuppressWelshDocumentCreationPublicEventProcessorTest {
     @Mock
     private SystemUserProvider systemUserProvider;
     @Mock
-    private FeatureControlGuard featureControlGuard;
+    private FeatureFlags featureFlags;
 
     @Captor
     private ArgumentCaptor<Map> processVariablesCaptor;
 
     @RequiredHistoryLevel(ProcessEngineConfiguration.HISTORY_ACTIVITY)
+    @InjectMocks
+    private CourtCentreDirectory courtCentreDirectory;
+
     @BeforeEach
     public void setup() {
+        setField(courtCentreDirectory, "timeToLive", "PT12H");
+        setField(courtCentreDirectory, "refreshAfter", "PT1H");
+        setField(courtCentreDirectory, "negativeTimeToLive", "PT5M");
+        setField(courtCentreDirectory, "maximumSize", "2000");
+        courtCentreDirectory.init();
+        setField(suppressWelshDocumentCreationPublicEventProcessor, "courtCentreDirectory", courtCentreDirectory);
         extension.getProcessEngine().getRepositoryService().createDeployment().addClasspathResource("welsh-translation-process.bpmn");
         when(systemUserProvider.getContextSystemUserId()).thenReturn(of(SYSTEM_USER_ID));
     }
@@ -14,6 +14,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.justice.services.messaging.JsonEnvelope.envelopeFrom;
 import static uk.gov.justice.services.test.utils.core.messaging.MetadataBuilderFactory.metadataWithRandomUUID;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
 import static uk.gov.moj.cpp.businessprocesses.shared.Constants.BPMN_PROCESS_WELSH_TRANSLATION_PROCESS;
 import static uk.gov.moj.cpp.businessprocesses.shared.Constants.MATERIAL_ID;
 import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.CASE_URN;
@@ -31,6 +32,7 @@ import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.W
 import uk.gov.justice.services.common.converter.StringToJsonObjectConverter;
 import uk.gov.justice.services.core.dispatcher.SystemUserProvider;
 import uk.gov.justice.services.messaging.JsonEnvelope;
+import uk.gov.moj.cpp.businessprocesses.service.CourtCentreDirectory;
 import uk.gov.moj.cpp.businessprocesses.service.ListingService;
 import uk.gov.moj.cpp.businessprocesses.service.ProgressionService;
 import uk.gov.moj.cpp.businessprocesses.service.ReferenceDataService;
@@ -103,8 +105,17 @@ public class WelshTranslationRequiredPublicEventProcessorTest {
     private ArgumentCaptor<Map> processVariablesCaptor;
 
     @RequiredHistoryLevel(ProcessEngineConfiguration.HISTORY_ACTIVITY)
+    @InjectMocks
+    private CourtCentreDirectory courtCentreDirectory;
+
     @BeforeEach
     public void setup() {
+        setField(courtCentreDirectory, "timeToLive", "PT12H");
+        setField(courtCentreDirectory, "refreshAfter", "PT1H");
+        setField(courtCentreDirectory, "negativeTimeToLive", "PT5M");
+        setField(courtCentreDirectory, "maximumSize", "2000");
+        courtCentreDirectory.init();
+        setField(welshTranslationRequiredEventProcessor, "courtCentreDirectory", courtCentreDirectory);
         extension.getProcessEngine().getRepositoryService().createDeployment().addClasspathResource("welsh-translation-process.bpmn");
         when(systemUserProvider.getContextSystemUserId()).thenReturn(of(SYSTEM_USER_ID));
     }
@@ -7,6 +7,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.justice.services.messaging.JsonEnvelope.envelopeFrom;
 import static uk.gov.justice.services.test.utils.core.messaging.MetadataBuilderFactory.metadataWithRandomUUID;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
 import static uk.gov.moj.cpp.businessprocesses.shared.Constants.PROCESS_NEW_SUMMONS_APPLICATION;
 import static uk.gov.moj.cpp.businessprocesses.shared.Constants.TASK_NEW_PROCESS_NEW_SUMMONS_APPLICATION;
 import static uk.gov.moj.cpp.businessprocesses.util.FileUtil.getFileContentAsJson;
@@ -14,6 +15,7 @@ import static uk.gov.moj.cpp.businessprocesses.util.FileUtil.getFileContentAsJso
 import uk.gov.justice.core.courts.Hearing;
 import uk.gov.justice.services.common.converter.jackson.ObjectMapperProducer;
 import uk.gov.justice.services.messaging.JsonEnvelope;
+import uk.gov.moj.cpp.businessprocesses.service.CourtCentreDirectory;
 import uk.gov.moj.cpp.businessprocesses.service.HearingService;
 import uk.gov.moj.cpp.businessprocesses.service.ReferenceDataService;
 import uk.gov.moj.cpp.businessprocesses.util.TestDataProvider;
@@ -23,6 +25,7 @@ import java.io.IOException;
 import javax.json.JsonObject;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -53,6 +56,19 @@ class SummonsApplicationHandlerTest {
     @Captor
     protected ArgumentCaptor<SummonsApplicationTaskRequest> summonsApplicationTaskRequestArgumentCaptor;
 
+    @InjectMocks
+    private CourtCentreDirectory courtCentreDirectory;
+
+    @BeforeEach
+    void setUp() {
+        setField(courtCentreDirectory, "timeToLive", "PT12H");
+        setField(courtCentreDirectory, "refreshAfter", "PT1H");
+        setField(courtCentreDirectory, "negativeTimeToLive", "PT5M");
+        setField(courtCentreDirectory, "maximumSize", "2000");
+        courtCentreDirectory.init();
+        setField(summonsApplicationHandler, "courtCentreDirectory", courtCentreDirectory);
+    }
+
     @Test
     void handleSummonsApplicationHearingInitiated() throws IOException {
         // given
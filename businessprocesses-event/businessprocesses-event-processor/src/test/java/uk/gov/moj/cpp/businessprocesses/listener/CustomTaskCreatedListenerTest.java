@@ -33,6 +33,7 @@ import uk.gov.moj.cpp.businessprocesses.service.CalendarWeekDayOperationsService
 import uk.gov.moj.cpp.businessprocesses.service.CourtCentreService;
 import uk.gov.moj.cpp.businessprocesses.service.DueDateCalculationService;
 import uk.gov.moj.cpp.businessprocesses.service.ReferenceDataService;
+import uk.gov.moj.cpp.businessprocesses.service.WorkingDayCalendar;
 import uk.gov.moj.cpp.businessprocesses.shared.TaskAuditService;
 import uk.gov.moj.cpp.businessprocesses.shared.WorkflowTaskTypeMapper;
 
@@ -158,6 +159,9 @@ public class CustomTaskCreatedListenerTest {
 
     private CalendarWeekDayOperationsService calendarWeekDayOperationsService = new CalendarWeekDayOperationsService();
 
+    @InjectMocks
+    private WorkingDayCalendar workingDayCalendar;
+
     @BeforeEach
     public void setUp() throws Exception {
         runtimeService = extension.getProcessEngine().getRuntimeService();
@@ -167,7 +171,9 @@ public class CustomTaskCreatedListenerTest {
         register("customTaskCreatedListener", customTaskCreatedListener);
         setField(customTaskCreatedListener, "dueDateCalculationService", dueDateCalculationService);
         setField(dueDateCalculationService, "calendarWeekDayOperationsService", calendarWeekDayOperationsService);
-        setField(calendarWeekDayOperationsService, "referenceDataService", referenceDataService);
+        setField(workingDayCalendar, "timeToLive", "PT24H");
+        setField(workingDayCalendar, "refreshAfter", "PT6H");
+        setField(calendarWeekDayOperationsService, "workingDayCalendar", workingDayCalendar);
         when(referenceDataService.getWorkflowTaskType(anyString())).thenReturn(of(getWorkflowTaskType()));
         when(courtCentreService.getCourtCentreRegionByCourtCode(anyString())).thenReturn(REGION_VALUE);
     }
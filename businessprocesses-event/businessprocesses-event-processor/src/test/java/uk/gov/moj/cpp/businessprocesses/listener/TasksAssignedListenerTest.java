@@ -13,11 +13,13 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
 
 import uk.gov.justice.services.core.dispatcher.SystemUserProvider;
 import uk.gov.justice.services.core.sender.Sender;
 import uk.gov.justice.services.messaging.JsonEnvelope;
 import uk.gov.justice.services.messaging.Metadata;
+import uk.gov.moj.cpp.businessprocesses.service.UserDirectory;
 import uk.gov.moj.cpp.businessprocesses.service.UserGroupsService;
 import uk.gov.moj.cpp.businessprocesses.shared.TaskAuditService;
 
@@ -135,12 +137,21 @@ public class TasksAssignedListenerTest {
     public static final String TASK_NAME = "Refer SJS case for hearing";
     private static final String SJP_CASE_HEARING_DECISION_SAVED_BPMN = "sjp-case-hearing-decision-saved.bpmn";
 
+    @InjectMocks
+    private UserDirectory userDirectory;
+
     @BeforeEach
     public void setUp() throws Exception {
         runtimeService = extension.getProcessEngine().getRuntimeService();
         taskService = extension.getProcessEngine().getTaskService();
         register("tasksCreatedListener", tasksCreatedListener);
         register("tasksAssignedListener", tasksAssignedListener);
+        setField(userDirectory, "timeToLive", "PT5M");
+        setField(userDirectory, "refreshAfter", "PT4M");
+        setField(userDirectory, "negativeTimeToLive", "PT1M");
+        setField(userDirectory, "maximumSize", "1000");
+        userDirectory.init();
+        setField(tasksAssignedListener, "userDirectory", userDirectory);
         register("tasksCompletedListener", tasksCompletedListener);
         register("tasksUpdatedListener", tasksUpdatedListener);
     }
@@ -150,7 +161,7 @@ public class TasksAssignedListenerTest {
     public void shouldTriggerTasksAssignedListener() {
 
         when(systemUserProvider.getContextSystemUserId()).thenReturn(Optional.of(randomUUID()));
-        when(userGroupsService.getUserDetails(any())).thenReturn(ASSIGN_TO);
+        when(userGroupsService.getUserDisplayName(any())).thenReturn(Optional.of(ASSIGN_TO));
 
         startProcess(SJP_CASE_HEARING_DECISION_BPMN_PROCESS_NAME, CASE_ID);
 
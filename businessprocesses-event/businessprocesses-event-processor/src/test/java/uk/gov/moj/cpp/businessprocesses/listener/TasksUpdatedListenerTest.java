@@ -29,7 +29,10 @@ import static java.util.UUID.randomUUID;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -79,7 +82,7 @@ public class TasksUpdatedListenerTest {
         variableMap.put(WORK_QUEUE, workQueue);
 
         final TaskEntity delegateTask = Mockito.spy(new TaskEntity());
-        doReturn(variableMap).when(delegateTask).getVariablesLocal();
+        doAnswer(invocation -> variableMap.getValueTyped(invocation.getArgument(0))).when(delegateTask).getVariableLocalTyped(anyString(), anyBoolean());
         doReturn(userID).when(delegateTask).getVariableLocal(LAST_UPDATED_BY_ID);
         doReturn("User updated").when(delegateTask).getVariableLocal(LAST_UPDATED_BY_NAME);
 
@@ -116,7 +119,7 @@ public class TasksUpdatedListenerTest {
 
         doReturn(userID).when(delegateTask).getVariableLocal(LAST_UPDATED_BY_ID);
         doReturn("User updated").when(delegateTask).getVariableLocal(LAST_UPDATED_BY_NAME);
-        doReturn(variableMap).when(delegateTask).getVariablesLocal();
+        doAnswer(invocation -> variableMap.getValueTyped(invocation.getArgument(0))).when(delegateTask).getVariableLocalTyped(anyString(), anyBoolean());
 
         delegateTask.setDueDate(dueDate);
         delegateTask.setId(UUID.randomUUID().toString());
@@ -151,7 +154,7 @@ public class TasksUpdatedListenerTest {
 
         doReturn(userID).when(delegateTask).getVariableLocal(LAST_UPDATED_BY_ID);
         doReturn("User updated").when(delegateTask).getVariableLocal(LAST_UPDATED_BY_NAME);
-        doReturn(variableMap).when(delegateTask).getVariablesLocal();
+        doAnswer(invocation -> variableMap.getValueTyped(invocation.getArgument(0))).when(delegateTask).getVariableLocalTyped(anyString(), anyBoolean());
 
 
         delegateTask.setDueDate(dueDate);
@@ -184,7 +187,7 @@ public class TasksUpdatedListenerTest {
        // final VariableMapImpl variableMapLocal = new VariableMapImpl();
 
         final TaskEntity delegateTask = Mockito.spy(new TaskEntity());
-        doReturn(variableMap).when(delegateTask).getVariablesLocal();
+        doAnswer(invocation -> variableMap.getValueTyped(invocation.getArgument(0))).when(delegateTask).getVariableLocalTyped(anyString(), anyBoolean());
 
 
         delegateTask.setDueDate(dueDate);
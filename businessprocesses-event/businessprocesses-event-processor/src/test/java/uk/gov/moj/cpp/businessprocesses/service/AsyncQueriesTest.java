@@ -0,0 +1,124 @@
+package uk.gov.moj.cpp.businessprocesses.service;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+
+import uk.gov.moj.cpp.businessprocesses.shared.DownstreamUnavailableException;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import javax.enterprise.concurrent.ManagedExecutorService;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncQueriesTest {
+
+    private final ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+    @Mock
+    private ManagedExecutorService managedExecutorService;
+
+    @AfterEach
+    void shutDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void shouldRunQueriesOnTheCallingThreadWithoutAManagedExecutor() {
+        final AsyncQueries asyncQueries = new AsyncQueries();
+        final Thread caller = Thread.currentThread();
+
+        final CompletableFuture<Boolean> pendingQuery = asyncQueries.submit(() -> Thread.currentThread() == caller);
+
+        assertThat(pendingQuery.isDone(), is(true));
+        assertThat(asyncQueries.await(pendingQuery), is(true));
+    }
+
+    @Test
+    void shouldRunIndependentQueriesConcurrently() {
+        final AsyncQueries asyncQueries = asyncQueries("PT5S");
+        final CountDownLatch bothStarted = new CountDownLatch(2);
+
+        final CompletableFuture<Boolean> first = asyncQueries.submit(() -> awaitOther(bothStarted));
+        final CompletableFuture<Boolean> second = asyncQueries.submit(() -> awaitOther(bothStarted));
+
+        assertThat(asyncQueries.await(first), is(true));
+        assertThat(asyncQueries.await(second), is(true));
+    }
+
+    @Test
+    void shouldGiveUpOnQueriesThatMissTheirDeadline() {
+        final AsyncQueries asyncQueries = asyncQueries("PT0.1S");
+        final CountDownLatch never = new CountDownLatch(1);
+
+        final CompletableFuture<Boolean> pendingQuery = asyncQueries.submit(() -> awaitOther(never));
+
+        final DownstreamUnavailableException e = assertThrows(DownstreamUnavailableException.class, () -> asyncQueries.await(pendingQuery));
+        assertThat(e.getMessage(), containsString("PT0.1S"));
+    }
+
+    @Test
+    void shouldInterruptAQueryThatIsCancelled() throws InterruptedException {
+        final AsyncQueries asyncQueries = asyncQueries("PT5S");
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch interrupted = new CountDownLatch(1);
+
+        final CompletableFuture<Boolean> pendingQuery = asyncQueries.submit(() -> {
+            started.countDown();
+            if (!awaitOther(new CountDownLatch(2))) {
+                interrupted.countDown();
+            }
+            return true;
+        });
+        started.await(2, TimeUnit.SECONDS);
+        asyncQueries.cancel(List.of(pendingQuery));
+
+        assertThat(interrupted.await(1, TimeUnit.SECONDS), is(true));
+        assertThat(pendingQuery.isCancelled(), is(true));
+    }
+
+    @Test
+    void shouldRethrowTheFailureOfAQuery() {
+        final AsyncQueries asyncQueries = asyncQueries("PT5S");
+
+        final CompletableFuture<Object> pendingQuery = asyncQueries.submit(() -> {
+            throw new IllegalArgumentException("unknown case");
+        });
+
+        assertThrows(IllegalArgumentException.class, () -> asyncQueries.await(pendingQuery));
+    }
+
+    private AsyncQueries asyncQueries(final String queryDeadline) {
+        when(managedExecutorService.submit(any(Runnable.class))).thenAnswer(invocation -> executorService.submit(invocation.<Runnable>getArgument(0)));
+        final AsyncQueries asyncQueries = new AsyncQueries();
+        setField(asyncQueries, "managedExecutorService", managedExecutorService);
+        setField(asyncQueries, "queryDeadline", queryDeadline);
+        asyncQueries.init();
+        return asyncQueries;
+    }
+
+    private static boolean awaitOther(final CountDownLatch latch) {
+        latch.countDown();
+        try {
+            return latch.await(2, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
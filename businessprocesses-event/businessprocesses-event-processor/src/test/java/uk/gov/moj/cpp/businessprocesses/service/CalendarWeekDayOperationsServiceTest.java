@@ -5,7 +5,11 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.ENGLAND_AND_WALES_DIVISION;
 
 import uk.gov.moj.cpp.businessprocesses.pojo.PublicHoliday;
 
@@ -27,11 +31,17 @@ public class CalendarWeekDayOperationsServiceTest {
     @Mock
     private ReferenceDataService referenceDataService;
 
+    @InjectMocks
+    private WorkingDayCalendar workingDayCalendar;
+
     @InjectMocks
     private CalendarWeekDayOperationsService calendarWeekDayOperationsService;
 
     @BeforeEach
     public void setUp() {
+        setField(workingDayCalendar, "timeToLive", "PT24H");
+        setField(workingDayCalendar, "refreshAfter", "PT6H");
+        setField(calendarWeekDayOperationsService, "workingDayCalendar", workingDayCalendar);
         // Given
         when(referenceDataService.getPublicHolidays(anyString(), any(), any())).thenReturn(getPublicHolidaysForJune2022());
     }
@@ -84,6 +94,35 @@ public class CalendarWeekDayOperationsServiceTest {
         assertThat(result, is(LocalDate.parse("2022-06-06")));
     }
 
+    @Test
+    public void shouldPlusWorkingDaysBeyondThirtyCalendarDays() {
+        // When
+        final LocalDate result = calendarWeekDayOperationsService.plusWorkingDays(LocalDate.parse("2022-06-01"), 30L);
+
+        // Then
+        assertThat(result, is(LocalDate.parse("2022-07-15")));
+    }
+
+    @Test
+    public void shouldMinusWorkingDaysBeyondThirtyCalendarDays() {
+        // When
+        final LocalDate result = calendarWeekDayOperationsService.minusWorkingDays(LocalDate.parse("2022-07-15"), 30L);
+
+        // Then
+        assertThat(result, is(LocalDate.parse("2022-06-01")));
+    }
+
+    @Test
+    public void shouldLoadPublicHolidaysOncePerYear() {
+        // When
+        calendarWeekDayOperationsService.plusWorkingDays(LocalDate.parse("2022-06-01"), 2L);
+        calendarWeekDayOperationsService.plusWorkingDays(LocalDate.parse("2022-06-06"), 2L);
+        calendarWeekDayOperationsService.minusWorkingDays(LocalDate.parse("2022-06-08"), 2L);
+
+        // Then
+        verify(referenceDataService, times(1)).getPublicHolidays(ENGLAND_AND_WALES_DIVISION, LocalDate.parse("2022-01-01"), LocalDate.parse("2022-12-31"));
+    }
+
     private List<PublicHoliday> getPublicHolidaysForJune2022() {
         final List<PublicHoliday> publicHolidays = new ArrayList();
         publicHolidays.add(publicHoliday(LocalDate.parse("2022-06-02")));
@@ -0,0 +1,169 @@
+package uk.gov.moj.cpp.businessprocesses.service;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static uk.gov.justice.services.messaging.JsonObjects.createObjectBuilder;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+
+import uk.gov.moj.cpp.businessprocesses.shared.DownstreamUnavailableException;
+
+import javax.json.JsonObject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CourtCentreDirectoryTest {
+
+    private static final String COURT_CENTRE_ID = "9cb28565-d38d-35c1-9044-1f6ac802a669";
+    private static final String OU_CODE = "B62IZ00";
+    private static final String COURT_ROOM_CODE = "B62IZ01";
+    private static final String COURT_ROOM_NAME = "Merthyr Tydfil Magistrates' Court";
+    private static final String REGION = "Wales";
+
+    @Mock
+    private ReferenceDataService referenceDataService;
+
+    @InjectMocks
+    private CourtCentreDirectory directory;
+
+    @InjectMocks
+    private CourtCentreDirectory restored;
+
+    @BeforeEach
+    void setUp() {
+        configure(directory);
+        configure(restored);
+    }
+
+    @Test
+    void shouldQueryReferenceDataOnceForRepeatedCourtIdLookups() {
+        when(referenceDataService.retrieveCourtCentreDetailsByCourtId(COURT_CENTRE_ID)).thenReturn(courtCentreDetails());
+
+        assertThat(directory.getOuCodeByCourtId(COURT_CENTRE_ID), is(OU_CODE));
+        assertTrue(directory.isWelshCourt(COURT_CENTRE_ID));
+        assertThat(directory.findById(COURT_CENTRE_ID).get().getRegion(), is(REGION));
+
+        verify(referenceDataService, times(1)).retrieveCourtCentreDetailsByCourtId(COURT_CENTRE_ID);
+    }
+
+    @Test
+    void shouldIndexCourtCentresLoadedByIdByOuCode() {
+        when(referenceDataService.retrieveCourtCentreDetailsByCourtId(COURT_CENTRE_ID)).thenReturn(courtCentreDetails());
+
+        assertFalse(directory.findByOuCode(OU_CODE).isPresent());
+        directory.findById(COURT_CENTRE_ID);
+
+        assertThat(directory.findByOuCode(OU_CODE).get().getId(), is(COURT_CENTRE_ID));
+    }
+
+    @Test
+    void shouldResolveRegionByCourtRoomCodeThroughTheCourtCentreId() {
+        when(referenceDataService.retrieveCourtCentreDetailsByCourtRoomCode(COURT_ROOM_CODE)).thenReturn(createObjectBuilder()
+                .add("id", COURT_CENTRE_ID)
+                .add("oucode", OU_CODE)
+                .build());
+        when(referenceDataService.retrieveCourtCentreDetailsByCourtId(COURT_CENTRE_ID)).thenReturn(courtCentreDetails());
+
+        assertThat(directory.getRegionByCourtRoomCode(COURT_ROOM_CODE), is(REGION));
+        assertThat(directory.getRegionByCourtRoomCode(COURT_ROOM_CODE), is(REGION));
+        assertThat(directory.getOuCodeByCourtRoomCode(COURT_ROOM_CODE), is(OU_CODE));
+
+        verify(referenceDataService, times(1)).retrieveCourtCentreDetailsByCourtRoomCode(COURT_ROOM_CODE);
+        verify(referenceDataService, times(1)).retrieveCourtCentreDetailsByCourtId(COURT_CENTRE_ID);
+    }
+
+    @Test
+    void shouldQueryReferenceDataOnceForRepeatedCourtRoomNameLookups() {
+        when(referenceDataService.retrieveCourtCentreDetailsByCourtRoomName(COURT_ROOM_NAME)).thenReturn(courtCentreDetails());
+
+        assertThat(directory.getOuCodeByCourtRoomName(COURT_ROOM_NAME), is(OU_CODE));
+        assertThat(directory.getOuCodeByCourtRoomName(COURT_ROOM_NAME), is(OU_CODE));
+
+        verify(referenceDataService, times(1)).retrieveCourtCentreDetailsByCourtRoomName(COURT_ROOM_NAME);
+    }
+
+    @Test
+    void shouldNotCacheFailedReferenceDataCalls() {
+        when(referenceDataService.retrieveCourtCentreDetailsByCourtId(COURT_CENTRE_ID)).thenReturn(null, courtCentreDetails());
+
+        assertThat(directory.getOuCodeByCourtId(COURT_CENTRE_ID), is(nullValue()));
+        assertThat(directory.getOuCodeByCourtId(COURT_CENTRE_ID), is(OU_CODE));
+
+        verify(referenceDataService, times(2)).retrieveCourtCentreDetailsByCourtId(COURT_CENTRE_ID);
+    }
+
+    @Test
+    void shouldFailLookupsWhileReferenceDataIsUnavailable() {
+        when(referenceDataService.retrieveCourtCentreDetailsByCourtId(COURT_CENTRE_ID))
+                .thenThrow(new DownstreamUnavailableException("referencedata.query.courtroom not sent"))
+                .thenReturn(courtCentreDetails());
+
+        assertThrows(DownstreamUnavailableException.class, () -> directory.isWelshCourt(COURT_CENTRE_ID));
+        assertTrue(directory.isWelshCourt(COURT_CENTRE_ID));
+
+        verify(referenceDataService, times(2)).retrieveCourtCentreDetailsByCourtId(COURT_CENTRE_ID);
+    }
+
+    @Test
+    void shouldCacheUnknownCourtCentres() {
+        when(referenceDataService.retrieveCourtCentreDetailsByCourtId(COURT_CENTRE_ID)).thenReturn(createObjectBuilder().build());
+
+        assertFalse(directory.isWelshCourt(COURT_CENTRE_ID));
+        assertFalse(directory.isWelshCourt(COURT_CENTRE_ID));
+
+        verify(referenceDataService, times(1)).retrieveCourtCentreDetailsByCourtId(COURT_CENTRE_ID);
+    }
+
+    @Test
+    void shouldNotQueryReferenceDataForMissingKeys() {
+
+        assertThat(directory.getOuCodeByCourtId(null), is(nullValue()));
+        assertThat(directory.getRegionByCourtRoomCode(null), is(nullValue()));
+        assertThat(directory.getOuCodeByCourtRoomName(null), is(nullValue()));
+
+        verifyNoInteractions(referenceDataService);
+    }
+
+    @Test
+    void shouldAnswerFromARestoredSnapshotWithoutQueryingReferenceData() {
+        when(referenceDataService.retrieveCourtCentreDetailsByCourtId(COURT_CENTRE_ID)).thenReturn(courtCentreDetails());
+        directory.findById(COURT_CENTRE_ID);
+
+        restored.restore(directory.snapshot());
+
+        assertThat(restored.getOuCodeByCourtId(COURT_CENTRE_ID), is(OU_CODE));
+        assertThat(restored.findByOuCode(OU_CODE).get().getRegion(), is(REGION));
+        assertTrue(restored.isWelshCourt(COURT_CENTRE_ID));
+        verify(referenceDataService, times(1)).retrieveCourtCentreDetailsByCourtId(COURT_CENTRE_ID);
+    }
+
+    private static void configure(final CourtCentreDirectory courtCentreDirectory) {
+        setField(courtCentreDirectory, "timeToLive", "PT12H");
+        setField(courtCentreDirectory, "refreshAfter", "PT1H");
+        setField(courtCentreDirectory, "negativeTimeToLive", "PT5M");
+        setField(courtCentreDirectory, "maximumSize", "2000");
+        courtCentreDirectory.init();
+    }
+
+    private static JsonObject courtCentreDetails() {
+        return createObjectBuilder()
+                .add("id", COURT_CENTRE_ID)
+                .add("oucode", OU_CODE)
+                .add("region", REGION)
+                .add("isWelsh", true)
+                .build();
+    }
+}
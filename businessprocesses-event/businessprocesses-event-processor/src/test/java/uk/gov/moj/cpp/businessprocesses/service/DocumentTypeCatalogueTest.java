@@ -0,0 +1,82 @@
+package uk.gov.moj.cpp.businessprocesses.service;
+
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static java.util.UUID.randomUUID;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.justice.services.messaging.JsonObjects.createObjectBuilder;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentTypeCatalogueTest {
+
+    private static final String PLEA_DOCUMENT_TYPE_ID = randomUUID().toString();
+    private static final String CASE_SUMMARY_DOCUMENT_TYPE_ID = randomUUID().toString();
+
+    @Mock
+    private ReferenceDataService referenceDataService;
+
+    @InjectMocks
+    private DocumentTypeCatalogue catalogue;
+
+    @BeforeEach
+    void setUp() {
+        setField(catalogue, "timeToLive", "PT12H");
+        setField(catalogue, "refreshAfter", "PT1H");
+        setField(catalogue, "negativeTimeToLive", "PT5M");
+        setField(catalogue, "maximumSize", "1000");
+        catalogue.init();
+    }
+
+    @Test
+    void shouldLoadEachDocumentTypeOnce() {
+        when(referenceDataService.getDocumentType(PLEA_DOCUMENT_TYPE_ID)).thenReturn(of(createObjectBuilder()
+                .add("section", "Plea")
+                .add("section_code", "PLE")
+                .add("document_category", "Defendant level")
+                .add("jurisdiction", "BOTH")
+                .build()));
+
+        catalogue.getDocumentType(PLEA_DOCUMENT_TYPE_ID);
+        final DocumentTypeAccess documentType = catalogue.getDocumentType(PLEA_DOCUMENT_TYPE_ID).orElseThrow();
+
+        assertThat(documentType.getSection(), is("Plea"));
+        assertThat(documentType.getSectionCode(), is("PLE"));
+        assertThat(documentType.getDocumentCategory(), is("Defendant level"));
+        assertThat(documentType.getJurisdiction(), is("BOTH"));
+        assertThat(documentType.isTriageSection(), is(true));
+        verify(referenceDataService, times(1)).getDocumentType(PLEA_DOCUMENT_TYPE_ID);
+    }
+
+    @Test
+    void shouldNotTriageDocumentTypesOfOtherSections() {
+        when(referenceDataService.getDocumentType(CASE_SUMMARY_DOCUMENT_TYPE_ID)).thenReturn(of(createObjectBuilder()
+                .add("section", "Case Summary")
+                .build()));
+
+        final DocumentTypeAccess documentType = catalogue.getDocumentType(CASE_SUMMARY_DOCUMENT_TYPE_ID).orElseThrow();
+
+        assertThat(documentType.isTriageSection(), is(false));
+    }
+
+    @Test
+    void shouldRememberDocumentTypesUnknownToReferenceData() {
+        when(referenceDataService.getDocumentType(PLEA_DOCUMENT_TYPE_ID)).thenReturn(empty());
+
+        assertThat(catalogue.getDocumentType(PLEA_DOCUMENT_TYPE_ID).isPresent(), is(false));
+        assertThat(catalogue.getDocumentType(PLEA_DOCUMENT_TYPE_ID).isPresent(), is(false));
+
+        verify(referenceDataService, times(1)).getDocumentType(PLEA_DOCUMENT_TYPE_ID);
+    }
+}
@@ -0,0 +1,269 @@
+package uk.gov.moj.cpp.businessprocesses.service;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static uk.gov.justice.services.messaging.JsonEnvelope.envelopeFrom;
+import static uk.gov.justice.services.messaging.JsonObjects.createObjectBuilder;
+import static uk.gov.justice.services.test.utils.core.messaging.MetadataBuilderFactory.metadataWithRandomUUID;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+
+import uk.gov.justice.services.messaging.JsonEnvelope;
+import uk.gov.moj.cpp.businessprocesses.downstream.DownstreamContext;
+import uk.gov.moj.cpp.businessprocesses.downstream.QueryMetrics;
+import uk.gov.moj.cpp.businessprocesses.shared.DownstreamUnavailableException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.concurrent.ManagedThreadFactory;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DownstreamQueriesTest {
+
+    private static final String WORKFLOW_TASK_TYPES = "referencedata.query.workflow-task-types";
+    private static final String PUBLIC_HOLIDAYS = "referencedata.query.public-holidays";
+    private static final String CASE_CAAG = "progression.query.prosecutioncase.caag";
+
+    private final DownstreamQueries downstreamQueries = new DownstreamQueries();
+
+    @BeforeEach
+    void setUp() {
+        setField(downstreamQueries, "maxConcurrentQueries", "10");
+        setField(downstreamQueries, "bulkheadWait", "PT0.5S");
+        setField(downstreamQueries, "queryDeadline", "PT10S");
+        setField(downstreamQueries, "failureThreshold", "5");
+        setField(downstreamQueries, "openDuration", "PT30S");
+        setField(downstreamQueries, "hedgedQueries", "");
+        setField(downstreamQueries, "hedgeDelayPercentile", "95");
+        setField(downstreamQueries, "hedgeBudgetPercent", "5");
+        setField(downstreamQueries, "callPoolSize", "50");
+        downstreamQueries.init();
+    }
+
+    @Test
+    void shouldKeepMetricsPerQueryName() {
+        downstreamQueries.query(WORKFLOW_TASK_TYPES, () -> "task types");
+        downstreamQueries.query(WORKFLOW_TASK_TYPES, () -> "task types");
+        assertThrows(IllegalStateException.class, () -> downstreamQueries.query(PUBLIC_HOLIDAYS, () -> {
+            throw new IllegalStateException("reference data unavailable");
+        }));
+
+        final QueryMetrics taskTypes = downstreamQueries.getMetrics(WORKFLOW_TASK_TYPES).orElseThrow();
+        final QueryMetrics publicHolidays = downstreamQueries.getMetrics(PUBLIC_HOLIDAYS).orElseThrow();
+        assertThat(taskTypes.getSuccessCount(), is(2L));
+        assertThat(taskTypes.getFailureCount(), is(0L));
+        assertThat(publicHolidays.getFailureCount(), is(1L));
+    }
+
+    @Test
+    void shouldFailFastOnceTheCircuitBreakerOfAContextIsOpen() {
+        for (int failure = 0; failure < 5; failure++) {
+            assertThrows(IllegalStateException.class, () -> downstreamQueries.query(WORKFLOW_TASK_TYPES, () -> {
+                throw new IllegalStateException("reference data unavailable");
+            }));
+        }
+
+        assertThrows(DownstreamUnavailableException.class, () -> downstreamQueries.query(PUBLIC_HOLIDAYS, () -> "holidays"));
+        assertThat(downstreamQueries.getMetrics(PUBLIC_HOLIDAYS).orElseThrow().getShortCircuitCount(), is(1L));
+        assertThat(downstreamQueries.getContext("referencedata").orElseThrow().isCircuitOpen(), is(true));
+        assertThat(downstreamQueries.query(CASE_CAAG, () -> "caag"), is("caag"));
+    }
+
+    @Test
+    void shouldRejectQueriesBeyondTheBulkheadOfAContextOnly() throws Exception {
+        setField(downstreamQueries, "maxConcurrentQueries", "1");
+        setField(downstreamQueries, "bulkheadWait", "PT0.05S");
+        downstreamQueries.init();
+        final CountDownLatch queryStarted = new CountDownLatch(1);
+        final CountDownLatch releaseQuery = new CountDownLatch(1);
+
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            final Future<String> slowQuery = executorService.submit(() -> downstreamQueries.query(WORKFLOW_TASK_TYPES, () -> {
+                queryStarted.countDown();
+                await(releaseQuery);
+                return "task types";
+            }));
+            queryStarted.await(5, TimeUnit.SECONDS);
+
+            assertThrows(DownstreamUnavailableException.class, () -> downstreamQueries.query(PUBLIC_HOLIDAYS, () -> "holidays"));
+            assertThat(downstreamQueries.query(CASE_CAAG, () -> "caag"), is("caag"));
+
+            releaseQuery.countDown();
+            assertThat(slowQuery.get(5, TimeUnit.SECONDS), is("task types"));
+            assertThat(downstreamQueries.getMetrics(PUBLIC_HOLIDAYS).orElseThrow().getRejectionCount(), is(1L));
+            assertThat(downstreamQueries.getContext("referencedata").orElseThrow().getCallsInFlight(), is(0));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldCountQueriesAnsweredAfterTheirDeadlineAsSlow() {
+        setField(downstreamQueries, "queryDeadline", "PT0S");
+        downstreamQueries.init();
+
+        assertThat(downstreamQueries.query(WORKFLOW_TASK_TYPES, () -> "task types"), is("task types"));
+
+        assertThat(downstreamQueries.getMetrics(WORKFLOW_TASK_TYPES).orElseThrow().getSlowCallCount(), is(1L));
+    }
+
+    @Test
+    void shouldGiveUpAQueryWithoutAnAnswerByItsDeadline() throws Exception {
+        hedgeQueries();
+        setField(downstreamQueries, "queryDeadline", "PT0.05S");
+        downstreamQueries.init();
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        try {
+            assertThrows(DownstreamUnavailableException.class, () -> downstreamQueries.query(PUBLIC_HOLIDAYS, () -> {
+                try {
+                    new CountDownLatch(1).await(5, TimeUnit.SECONDS);
+                } catch (final InterruptedException e) {
+                    interrupted.countDown();
+                }
+                return "holidays";
+            }));
+
+            assertThat(downstreamQueries.getMetrics(PUBLIC_HOLIDAYS).orElseThrow().getTimeoutCount(), is(1L));
+            assertThat(interrupted.await(5, TimeUnit.SECONDS), is(true));
+        } finally {
+            downstreamQueries.stop();
+        }
+    }
+
+    @Test
+    void shouldNotSendAQueryWhileEveryCallThreadIsBusy() throws Exception {
+        setField(downstreamQueries, "callPoolSize", "1");
+        setField(downstreamQueries, "managedThreadFactory", threadFactory());
+        downstreamQueries.init();
+        final CountDownLatch releaseQuery = new CountDownLatch(1);
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            final Future<String> slowQuery = executorService.submit(() -> downstreamQueries.query(WORKFLOW_TASK_TYPES, () -> {
+                await(releaseQuery);
+                return "task types";
+            }));
+            while (downstreamQueries.getContext("referencedata").map(DownstreamContext::getCallsInFlight).orElse(0) == 0) {
+                Thread.onSpinWait();
+            }
+
+            assertThrows(DownstreamUnavailableException.class, () -> downstreamQueries.query(CASE_CAAG, () -> "caag"));
+            assertThat(downstreamQueries.getMetrics(CASE_CAAG).orElseThrow().getRejectionCount(), is(1L));
+
+            releaseQuery.countDown();
+            assertThat(slowQuery.get(5, TimeUnit.SECONDS), is("task types"));
+        } finally {
+            releaseQuery.countDown();
+            executorService.shutdownNow();
+            downstreamQueries.stop();
+        }
+    }
+
+    @Test
+    void shouldSendADuplicateOfASlowHedgedQueryAndUseTheFirstAnswer() {
+        hedgeQueries();
+        final CountDownLatch releaseFirstAttempt = new CountDownLatch(1);
+        final AtomicInteger attempts = new AtomicInteger();
+        try {
+            for (int call = 0; call < 20; call++) {
+                downstreamQueries.hedgedQuery(WORKFLOW_TASK_TYPES, () -> "task types");
+            }
+
+            final String answer = downstreamQueries.hedgedQuery(WORKFLOW_TASK_TYPES, () -> {
+                if (attempts.incrementAndGet() == 1) {
+                    await(releaseFirstAttempt);
+                    return "first attempt";
+                }
+                return "duplicate";
+            });
+
+            assertThat(answer, is("duplicate"));
+            assertThat(attempts.get(), is(2));
+            assertThat(downstreamQueries.getMetrics(WORKFLOW_TASK_TYPES).orElseThrow().getHedgeCount(), is(1L));
+        } finally {
+            releaseFirstAttempt.countDown();
+            downstreamQueries.stop();
+        }
+    }
+
+    @Test
+    void shouldNotHedgeQueriesThatAreNotOptedIn() {
+        hedgeQueries();
+        final AtomicInteger attempts = new AtomicInteger();
+        try {
+            assertThat(downstreamQueries.hedgedQuery(PUBLIC_HOLIDAYS, attempts::incrementAndGet), is(1));
+            assertThat(attempts.get(), is(1));
+            assertThat(downstreamQueries.getMetrics(PUBLIC_HOLIDAYS).orElseThrow().getHedgeCount(), is(0L));
+        } finally {
+            downstreamQueries.stop();
+        }
+    }
+
+    @Test
+    void shouldShareOneCallBetweenConcurrentQueriesWithTheSamePayload() throws Exception {
+        final JsonEnvelope query = envelopeFrom(metadataWithRandomUUID(CASE_CAAG),
+                createObjectBuilder().add("caseId", "c1").add("hearingId", "h1").build());
+        final JsonEnvelope identicalQuery = envelopeFrom(metadataWithRandomUUID(CASE_CAAG),
+                createObjectBuilder().add("hearingId", "h1").add("caseId", "c1").build());
+        final CountDownLatch queryStarted = new CountDownLatch(1);
+        final CountDownLatch releaseQuery = new CountDownLatch(1);
+        final AtomicInteger calls = new AtomicInteger();
+
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            final Future<String> firstQuery = executorService.submit(() -> downstreamQueries.query(query, () -> {
+                calls.incrementAndGet();
+                queryStarted.countDown();
+                await(releaseQuery);
+                return "caag";
+            }));
+            queryStarted.await(5, TimeUnit.SECONDS);
+            final Thread release = new Thread(() -> {
+                while (downstreamQueries.getMetrics(CASE_CAAG).orElseThrow().getCoalescedCount() == 0) {
+                    Thread.onSpinWait();
+                }
+                releaseQuery.countDown();
+            });
+            release.start();
+
+            assertThat(downstreamQueries.query(identicalQuery, () -> "caag " + calls.incrementAndGet()), is("caag"));
+            assertThat(firstQuery.get(5, TimeUnit.SECONDS), is("caag"));
+            assertThat(calls.get(), is(1));
+            assertThat(downstreamQueries.getMetrics(CASE_CAAG).orElseThrow().getCoalescingRate(), is(0.5));
+        } finally {
+            releaseQuery.countDown();
+            executorService.shutdownNow();
+        }
+    }
+
+    private void hedgeQueries() {
+        setField(downstreamQueries, "hedgedQueries", WORKFLOW_TASK_TYPES + ", referencedata.query.courtroom");
+        setField(downstreamQueries, "hedgeBudgetPercent", "100");
+        setField(downstreamQueries, "managedThreadFactory", threadFactory());
+        downstreamQueries.init();
+    }
+
+    private static ManagedThreadFactory threadFactory() {
+        final ManagedThreadFactory managedThreadFactory = mock(ManagedThreadFactory.class);
+        lenient().when(managedThreadFactory.newThread(any(Runnable.class))).thenAnswer(invocation -> new Thread(invocation.<Runnable>getArgument(0)));
+        return managedThreadFactory;
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -216,6 +216,21 @@ public class DueDateCalculationServiceTest {
         assertThat(result, is(expected));
     }
 
+    @Test
+    public void shouldGetDueDateForRuleHearingDatePlusCalendarDaysAtTimeOfDay() {
+
+        // Given
+        final String hearingDate = "2024-04-15T10:00:00.000Z";
+        final String rule = "${hearingDate+2cd; at=17:00}";
+
+        // When
+        final String result = dueDateCalculationService.calculateDueDate(rule, hearingDate);
+
+        // Then
+        assertThat(result, is("2024-04-17T17:00:00.000Z"));
+        verify(calendarWeekDayOperationsService, never()).plusWorkingDays(any(), any());
+    }
+
     @Test
     public void shouldGetDueDateForRuleHearingDateWithNullHearingDateExpectingException() {
 
@@ -0,0 +1,202 @@
+package uk.gov.moj.cpp.businessprocesses.service;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+import static uk.gov.moj.cpp.businessprocesses.service.DueDateRecalculation.RECALCULATION_AUTHOR;
+import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.ENGLAND_AND_WALES_DIVISION;
+import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.LAST_UPDATED_BY_ID;
+import static uk.gov.moj.cpp.businessprocesses.shared.ProcessVariableConstants.LAST_UPDATED_BY_NAME;
+import static uk.gov.moj.cpp.businessprocesses.util.TestDataProvider.getWorkflowTaskType;
+
+import uk.gov.justice.services.core.dispatcher.SystemUserProvider;
+import uk.gov.justice.services.core.sender.Sender;
+import uk.gov.justice.services.messaging.JsonEnvelope;
+
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import javax.json.JsonObject;
+
+import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.engine.TaskService;
+import org.camunda.bpm.engine.task.Task;
+import org.camunda.bpm.engine.task.TaskQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class DueDateRecalculationTest {
+
+    private static final String TASK_SEND_EMAIL = "taskSendEmail";
+    private static final int YEAR = 2099;
+    private static final UUID FIRST_TASK_ID = new UUID(0, 0);
+    private static final UUID TASK_ID = UUID.fromString("5c5a1d30-0414-11e7-93ae-92361f002671");
+    private static final UUID OTHER_TASK_ID = UUID.fromString("5c5a1d30-0414-11e7-93ae-92361f002672");
+    private static final UUID SYSTEM_USER_ID = UUID.fromString("6c6a1d30-0414-11e7-93ae-92361f002671");
+    private static final LocalDate NEW_YEARS_DAY = LocalDate.parse("2099-01-01");
+    private static final LocalDate NEW_PUBLIC_HOLIDAY = LocalDate.parse("2099-05-04");
+    private static final String PUBLIC_HOLIDAYS = "2099-01-01,2099-05-04";
+    private static final ZonedDateTime DUE_FROM = ZonedDateTime.parse("2099-03-05T00:00Z");
+    private static final ZonedDateTime DUE_TO = ZonedDateTime.parse("2099-07-04T00:00Z");
+    private static final ZonedDateTime CREATED_DATE = ZonedDateTime.parse("2099-04-20T10:15:00Z");
+    private static final ZonedDateTime HEARING_DATE = ZonedDateTime.parse("2099-05-06T10:00:00Z");
+
+    @Mock
+    private TaskDueDatesService taskDueDatesService;
+
+    @Mock
+    private WorkflowTaskTypeCatalogue workflowTaskTypeCatalogue;
+
+    @Mock
+    private CalendarWeekDayOperationsService calendarWeekDayOperationsService;
+
+    private final CalendarWeekDayOperationsService recordedWorkingDays = mock(CalendarWeekDayOperationsService.class);
+
+    @Mock
+    private TaskService taskService;
+
+    @Mock
+    private RuntimeService runtimeService;
+
+    @Mock
+    private TaskQuery taskQuery;
+
+    @Mock
+    private Task camundaTask;
+
+    @Mock
+    private SystemUserProvider systemUserProvider;
+
+    @Mock
+    private Sender sender;
+
+    @InjectMocks
+    private DueDateRecalculation dueDateRecalculation;
+
+    @Captor
+    private ArgumentCaptor<JsonEnvelope> envelopeCaptor;
+
+    @Captor
+    private ArgumentCaptor<Map<String, Object>> variablesCaptor;
+
+    @BeforeEach
+    void setUp() {
+        setField(dueDateRecalculation, "batchSize", "2");
+        setField(dueDateRecalculation, "window", "P60D");
+        dueDateRecalculation.init();
+    }
+
+    @Test
+    void shouldReportPublicHolidaysChangedToBeRecordedOnce() {
+        when(systemUserProvider.getContextSystemUserId()).thenReturn(Optional.of(SYSTEM_USER_ID));
+
+        dueDateRecalculation.onPublicHolidaysChanged(new PublicHolidaysChanged(ENGLAND_AND_WALES_DIVISION, YEAR,
+                List.of(NEW_YEARS_DAY, NEW_PUBLIC_HOLIDAY), Set.of(NEW_PUBLIC_HOLIDAY)));
+
+        verify(sender).sendAsAdmin(envelopeCaptor.capture());
+        final JsonEnvelope command = envelopeCaptor.getValue();
+        assertThat(command.metadata().name(), is("businessprocesses.command.record-public-holidays"));
+        final JsonObject payload = command.payloadAsJsonObject();
+        assertThat(payload.getString("division"), is(ENGLAND_AND_WALES_DIVISION));
+        assertThat(payload.getInt("year"), is(YEAR));
+        assertThat(payload.getJsonArray("publicHolidays").getString(1), is("2099-05-04"));
+        assertThat(payload.getJsonArray("changedDates").getString(0), is("2099-05-04"));
+        verifyNoInteractions(runtimeService, taskDueDatesService);
+    }
+
+    @Test
+    void shouldStartARecalculationProcessFromTheFirstTask() {
+        dueDateRecalculation.start(ENGLAND_AND_WALES_DIVISION, YEAR, List.of(NEW_YEARS_DAY, NEW_PUBLIC_HOLIDAY), List.of(NEW_PUBLIC_HOLIDAY));
+
+        verify(runtimeService).startProcessInstanceByKey(eq("public-holiday-due-date-recalculation"), eq("england-and-wales/2099"), variablesCaptor.capture());
+        assertThat(variablesCaptor.getValue().get("year"), is(YEAR));
+        assertThat(variablesCaptor.getValue().get("publicHolidays"), is(PUBLIC_HOLIDAYS));
+        assertThat(variablesCaptor.getValue().get("changedDates"), is("2099-05-04"));
+        assertThat(variablesCaptor.getValue().get("afterTaskId"), is(FIRST_TASK_ID.toString()));
+    }
+
+    @Test
+    void shouldMoveTheDueDatesOfTasksCountedOverAChangedPublicHoliday() {
+        when(calendarWeekDayOperationsService.withPublicHolidays(ENGLAND_AND_WALES_DIVISION, YEAR, List.of(NEW_YEARS_DAY, NEW_PUBLIC_HOLIDAY))).thenReturn(recordedWorkingDays);
+        when(taskDueDatesService.getOpenTaskDueDates(DUE_FROM, DUE_TO, FIRST_TASK_ID, RECALCULATION_AUTHOR, 2)).thenReturn(List.of(
+                task(TASK_ID, "2099-05-04T23:59:59Z")));
+        when(workflowTaskTypeCatalogue.getTemplate(TASK_SEND_EMAIL)).thenReturn(Optional.of(TaskTypeTemplate.compile(getWorkflowTaskType(TASK_SEND_EMAIL))));
+        when(recordedWorkingDays.minusWorkingDays(LocalDate.parse("2099-05-06"), 2L)).thenReturn(LocalDate.parse("2099-05-01"));
+        when(systemUserProvider.getContextSystemUserId()).thenReturn(Optional.of(SYSTEM_USER_ID));
+        when(taskService.createTaskQuery()).thenReturn(taskQuery);
+        when(taskQuery.taskIdIn(TASK_ID.toString())).thenReturn(taskQuery);
+        when(taskQuery.list()).thenReturn(List.of(camundaTask));
+        when(camundaTask.getId()).thenReturn(TASK_ID.toString());
+
+        final Optional<UUID> next = dueDateRecalculation.recalculateBatch(ENGLAND_AND_WALES_DIVISION, YEAR, PUBLIC_HOLIDAYS, "2099-05-04", FIRST_TASK_ID);
+
+        assertThat(next, is(Optional.empty()));
+        final Date newDueDate = Date.from(ZonedDateTime.parse("2099-05-01T23:59:59Z").toInstant());
+        verify(camundaTask).setDueDate(newDueDate);
+        verify(taskService).saveTask(camundaTask);
+        verify(taskService).setVariablesLocal(eq(TASK_ID.toString()), variablesCaptor.capture());
+        assertThat(variablesCaptor.getValue().get(LAST_UPDATED_BY_ID), is(SYSTEM_USER_ID.toString()));
+        assertThat(variablesCaptor.getValue().get(LAST_UPDATED_BY_NAME), is(RECALCULATION_AUTHOR));
+
+        verify(sender).sendAsAdmin(envelopeCaptor.capture());
+        final JsonEnvelope command = envelopeCaptor.getValue();
+        assertThat(command.metadata().name(), is("businessprocesses.command.record-task-due-dates-updated"));
+        final JsonObject payload = command.payloadAsJsonObject();
+        assertThat(payload.getString("changeAuthor"), is(RECALCULATION_AUTHOR));
+        assertThat(payload.getString("changeAuthorId"), is(SYSTEM_USER_ID.toString()));
+        assertThat(payload.getJsonArray("tasks").size(), is(1));
+        assertThat(payload.getJsonArray("tasks").getJsonObject(0).getString("id"), is(TASK_ID.toString()));
+        assertThat(payload.getJsonArray("tasks").getJsonObject(0).getString("dueDate"), is("2099-05-01T23:59:59.000Z"));
+    }
+
+    @Test
+    void shouldCarryOnAfterTheLastTaskOfAFullBatch() {
+        when(calendarWeekDayOperationsService.withPublicHolidays(ENGLAND_AND_WALES_DIVISION, YEAR, List.of(NEW_YEARS_DAY, NEW_PUBLIC_HOLIDAY))).thenReturn(recordedWorkingDays);
+        when(taskDueDatesService.getOpenTaskDueDates(DUE_FROM, DUE_TO, FIRST_TASK_ID, RECALCULATION_AUTHOR, 2)).thenReturn(List.of(
+                task(TASK_ID, "2099-05-01T23:59:59Z"),
+                task(OTHER_TASK_ID, "2099-05-01T23:59:59Z")));
+        when(workflowTaskTypeCatalogue.getTemplate(TASK_SEND_EMAIL)).thenReturn(Optional.of(TaskTypeTemplate.compile(getWorkflowTaskType(TASK_SEND_EMAIL))));
+        when(recordedWorkingDays.minusWorkingDays(LocalDate.parse("2099-05-06"), 2L)).thenReturn(LocalDate.parse("2099-05-01"));
+
+        final Optional<UUID> next = dueDateRecalculation.recalculateBatch(ENGLAND_AND_WALES_DIVISION, YEAR, PUBLIC_HOLIDAYS, "2099-05-04", FIRST_TASK_ID);
+
+        assertThat(next, is(Optional.of(OTHER_TASK_ID)));
+        verifyNoInteractions(taskService, sender);
+    }
+
+    @Test
+    void shouldLeaveTasksWhoseDueDateIsNotCountedOverTheChangedPublicHoliday() {
+        when(calendarWeekDayOperationsService.withPublicHolidays(ENGLAND_AND_WALES_DIVISION, YEAR, List.of(NEW_YEARS_DAY, LocalDate.parse("2099-06-30")))).thenReturn(recordedWorkingDays);
+        when(taskDueDatesService.getOpenTaskDueDates(any(), any(), eq(FIRST_TASK_ID), eq(RECALCULATION_AUTHOR), eq(2))).thenReturn(List.of(
+                task(TASK_ID, "2099-05-04T23:59:59Z")));
+        when(workflowTaskTypeCatalogue.getTemplate(TASK_SEND_EMAIL)).thenReturn(Optional.of(TaskTypeTemplate.compile(getWorkflowTaskType(TASK_SEND_EMAIL))));
+        when(recordedWorkingDays.minusWorkingDays(LocalDate.parse("2099-05-06"), 2L)).thenReturn(LocalDate.parse("2099-05-01"));
+
+        dueDateRecalculation.recalculateBatch(ENGLAND_AND_WALES_DIVISION, YEAR, "2099-01-01,2099-06-30", "2099-06-30", FIRST_TASK_ID);
+
+        verifyNoInteractions(taskService, sender);
+    }
+
+    private static TaskDueDate task(final UUID taskId, final String dueDate) {
+        return new TaskDueDate(taskId, TASK_SEND_EMAIL, CREATED_DATE, ZonedDateTime.parse(dueDate), HEARING_DATE);
+    }
+}
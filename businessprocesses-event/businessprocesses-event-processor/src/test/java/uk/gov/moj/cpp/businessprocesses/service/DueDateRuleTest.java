@@ -0,0 +1,92 @@
+package uk.gov.moj.cpp.businessprocesses.service;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import uk.gov.moj.cpp.businessprocesses.shared.InvalidDueDateCalculationRuleException;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class DueDateRuleTest {
+
+    private static final LocalDate TODAY = LocalDate.parse("2024-03-25");
+    private static final LocalDate HEARING_DATE = LocalDate.parse("2024-04-15");
+
+    @Mock
+    private CalendarWeekDayOperationsService calendarWeekDayOperationsService;
+
+    @Test
+    public void shouldCompileEachRuleTextOnce() {
+        assertThat(DueDateRule.compile("${now()+2d}"), is(sameInstance(DueDateRule.compile("${now()+2d}"))));
+    }
+
+    @Test
+    public void shouldReadTheExistingRuleFormats() {
+        when(calendarWeekDayOperationsService.plusWorkingDays(TODAY, 2L)).thenReturn(LocalDate.parse("2024-03-27"));
+        when(calendarWeekDayOperationsService.minusWorkingDays(HEARING_DATE, 5L)).thenReturn(LocalDate.parse("2024-04-08"));
+
+        assertThat(DueDateRule.compile("now+2").dueDate(TODAY, null, calendarWeekDayOperationsService), is(LocalDate.parse("2024-03-27")));
+        assertThat(DueDateRule.compile("${now()+2d}").dueDate(TODAY, null, calendarWeekDayOperationsService), is(LocalDate.parse("2024-03-27")));
+        assertThat(DueDateRule.compile("hearingDate-5").dueDate(TODAY, HEARING_DATE, calendarWeekDayOperationsService), is(LocalDate.parse("2024-04-08")));
+        assertThat(DueDateRule.compile("${ hearingDate - 5 }").dueDate(TODAY, HEARING_DATE, calendarWeekDayOperationsService), is(LocalDate.parse("2024-04-08")));
+        assertThat(DueDateRule.compile("${now()}").getTimeOfDay(), is(LocalTime.of(23, 59, 59)));
+    }
+
+    @Test
+    public void shouldReadRulesOutsideTheGrammarAsBefore() {
+        when(calendarWeekDayOperationsService.plusWorkingDays(HEARING_DATE, 3L)).thenReturn(LocalDate.parse("2024-04-18"));
+
+        assertThat(DueDateRule.compile("${hearingDate + 3 days}").dueDate(TODAY, HEARING_DATE, calendarWeekDayOperationsService), is(LocalDate.parse("2024-04-18")));
+    }
+
+    @Test
+    public void shouldCountCalendarDaysWithoutTheWorkingDayCalendar() {
+        assertThat(DueDateRule.compile("${hearingDate-5cd}").dueDate(TODAY, HEARING_DATE, calendarWeekDayOperationsService), is(LocalDate.parse("2024-04-10")));
+        assertThat(DueDateRule.compile("now+7cd").dueDate(TODAY, null, calendarWeekDayOperationsService), is(LocalDate.parse("2024-04-01")));
+
+        verify(calendarWeekDayOperationsService, never()).plusWorkingDays(any(), any());
+        verify(calendarWeekDayOperationsService, never()).minusWorkingDays(any(), any());
+    }
+
+    @Test
+    public void shouldUseTheTimeOfDayOfTheRule() {
+        assertThat(DueDateRule.compile("${hearingDate-5; at=17:00}").getTimeOfDay(), is(LocalTime.of(17, 0)));
+    }
+
+    @Test
+    public void shouldKeepTheDueDateWithinItsBounds() {
+        when(calendarWeekDayOperationsService.minusWorkingDays(HEARING_DATE, 20L)).thenReturn(LocalDate.parse("2024-03-18"));
+        when(calendarWeekDayOperationsService.plusWorkingDays(TODAY, 1L)).thenReturn(LocalDate.parse("2024-03-26"));
+
+        assertThat(DueDateRule.compile("${hearingDate-20wd; min=now+1}").dueDate(TODAY, HEARING_DATE, calendarWeekDayOperationsService), is(LocalDate.parse("2024-03-26")));
+        assertThat(DueDateRule.compile("${hearingDate+10cd; max=now+14cd}").dueDate(TODAY, HEARING_DATE, calendarWeekDayOperationsService), is(LocalDate.parse("2024-04-08")));
+    }
+
+    @Test
+    public void shouldRequireTheHearingDateWhenABoundUsesIt() {
+        final DueDateRule rule = DueDateRule.compile("${now+10cd; max=hearingDate-1cd}");
+
+        assertThat(rule.requiresHearingDate(), is(true));
+        assertThrows(InvalidDueDateCalculationRuleException.class, () -> rule.dueDate(TODAY, null, calendarWeekDayOperationsService));
+    }
+
+    @Test
+    public void shouldRejectInvalidModifiers() {
+        assertThrows(InvalidDueDateCalculationRuleException.class, () -> DueDateRule.compile("${now+1; at=25:00}"));
+        assertThrows(InvalidDueDateCalculationRuleException.class, () -> DueDateRule.compile("${now+1; min=tomorrow}"));
+        assertThrows(InvalidDueDateCalculationRuleException.class, () -> DueDateRule.compile("${now+1; every=2}"));
+    }
+}
@@ -0,0 +1,102 @@
+package uk.gov.moj.cpp.businessprocesses.service;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+
+import uk.gov.justice.services.core.featurecontrol.FeatureControlGuard;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.enterprise.concurrent.ManagedScheduledExecutorService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class FeatureFlagsTest {
+
+    private static final String HEARING_RESULTED = "camunda-hearing-hearing-resulted";
+    private static final String BAIL_APPEAL = "List_Bail_Appeal_Hearing";
+
+    @Mock
+    private FeatureControlGuard featureControlGuard;
+
+    @Mock
+    private ManagedScheduledExecutorService managedScheduledExecutorService;
+
+    @InjectMocks
+    private FeatureFlags featureFlags;
+
+    @BeforeEach
+    void setUp() {
+        setField(featureFlags, "refreshInterval", "PT30S");
+        featureFlags.init();
+    }
+
+    @Test
+    void shouldAskTheGuardOnceForRepeatedChecksWithinTheRefreshInterval() {
+        when(featureControlGuard.isFeatureEnabled(HEARING_RESULTED)).thenReturn(true);
+        when(featureControlGuard.isFeatureEnabled(BAIL_APPEAL)).thenReturn(false);
+
+        for (int judicialResult = 0; judicialResult < 10; judicialResult++) {
+            assertThat(featureFlags.isFeatureEnabled(HEARING_RESULTED), is(true));
+            assertThat(featureFlags.isFeatureEnabled(BAIL_APPEAL), is(false));
+        }
+
+        verify(featureControlGuard, times(1)).isFeatureEnabled(HEARING_RESULTED);
+        verify(featureControlGuard, times(1)).isFeatureEnabled(BAIL_APPEAL);
+    }
+
+    @Test
+    void shouldReadEveryFlagAgainOnceTheRefreshIntervalHasPassed() {
+        when(featureControlGuard.isFeatureEnabled(HEARING_RESULTED)).thenReturn(true, false);
+        setField(featureFlags, "refreshInterval", "PT0S");
+        featureFlags.init();
+
+        assertThat(featureFlags.isFeatureEnabled(HEARING_RESULTED), is(true));
+        assertThat(featureFlags.isFeatureEnabled(HEARING_RESULTED), is(false));
+    }
+
+    @Test
+    void shouldPickUpFlippedFlagsInTheBackground() {
+        when(featureControlGuard.isFeatureEnabled(HEARING_RESULTED)).thenReturn(false, true);
+
+        final Runnable refresh = scheduledBackgroundRefresh();
+
+        assertThat(featureFlags.isFeatureEnabled(HEARING_RESULTED), is(false));
+        refresh.run();
+
+        assertThat(featureFlags.isFeatureEnabled(HEARING_RESULTED), is(true));
+        verify(featureControlGuard, times(2)).isFeatureEnabled(HEARING_RESULTED);
+    }
+
+    @Test
+    void shouldKeepTheCurrentFlagsWhenABackgroundRefreshFails() {
+        when(featureControlGuard.isFeatureEnabled(any())).thenReturn(true).thenThrow(new IllegalStateException("feature store unavailable"));
+
+        final Runnable refresh = scheduledBackgroundRefresh();
+
+        featureFlags.isFeatureEnabled(HEARING_RESULTED);
+        refresh.run();
+
+        assertThat(featureFlags.isFeatureEnabled(HEARING_RESULTED), is(true));
+    }
+
+    private Runnable scheduledBackgroundRefresh() {
+        final ArgumentCaptor<Runnable> refresh = ArgumentCaptor.forClass(Runnable.class);
+        verify(managedScheduledExecutorService).scheduleWithFixedDelay(refresh.capture(), anyLong(), anyLong(), eq(TimeUnit.NANOSECONDS));
+        return refresh.getValue();
+    }
+}
@@ -5,6 +5,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.when;
 import static uk.gov.justice.services.messaging.Envelope.envelopeFrom;
 import static uk.gov.justice.services.test.utils.core.messaging.MetadataBuilderFactory.metadataWithRandomUUID;
@@ -13,15 +14,19 @@ import static uk.gov.moj.cpp.businessprocesses.util.FileUtil.getFileContentAsJso
 import uk.gov.justice.core.courts.Hearing;
 import uk.gov.justice.services.core.requester.Requester;
 import uk.gov.justice.services.messaging.Envelope;
+import uk.gov.justice.services.messaging.JsonEnvelope;
 
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import javax.json.JsonObject;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,9 +36,20 @@ class HearingServiceTest {
     @Mock
     private Requester requester;
 
+    @Spy
+    private QueryMemo queryMemo;
+
+    @Mock
+    private DownstreamQueries downstreamQueries;
+
     @InjectMocks
     private HearingService hearingService;
 
+    @BeforeEach
+    public void setUp() {
+        lenient().when(downstreamQueries.query(any(JsonEnvelope.class), any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+    }
+
     @Test
     void shouldReturnHearing() {
         // given
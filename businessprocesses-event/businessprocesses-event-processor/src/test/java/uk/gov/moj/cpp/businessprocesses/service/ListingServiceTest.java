@@ -7,14 +7,17 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.when;
 import static uk.gov.moj.cpp.businessprocesses.util.TestDataProvider.getResponseEnvelopeFromListing;
 
 import uk.gov.justice.listing.events.Hearing;
 import uk.gov.justice.services.core.requester.Requester;
 import uk.gov.justice.services.messaging.Envelope;
+import uk.gov.justice.services.messaging.JsonEnvelope;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 import javax.json.JsonObject;
 
@@ -23,6 +26,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,11 +38,18 @@ public class ListingServiceTest {
     @Mock
     private Requester requester;
 
+    @Spy
+    private QueryMemo queryMemo;
+
+    @Mock
+    private DownstreamQueries downstreamQueries;
+
     @InjectMocks
     private ListingService target;
 
     @BeforeEach
     public void setUp() {
+        lenient().when(downstreamQueries.query(any(JsonEnvelope.class), any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
         when(requester.request(any(Envelope.class), eq(JsonObject.class))).thenReturn(getResponseEnvelopeFromListing());
     }
 
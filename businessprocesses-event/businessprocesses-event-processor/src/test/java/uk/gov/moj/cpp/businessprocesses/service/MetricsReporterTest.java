@@ -0,0 +1,91 @@
+package uk.gov.moj.cpp.businessprocesses.service;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+
+import uk.gov.moj.cpp.businessprocesses.audit.AuditMetrics;
+import uk.gov.moj.cpp.businessprocesses.audit.AuditPipeline;
+import uk.gov.moj.cpp.businessprocesses.cache.CacheMetrics;
+import uk.gov.moj.cpp.businessprocesses.downstream.QueryMetrics;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.enterprise.concurrent.ManagedScheduledExecutorService;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MetricsReporterTest {
+
+    @Mock
+    private WorkflowTaskTypeCatalogue workflowTaskTypeCatalogue;
+
+    @Mock
+    private WorkingDayCalendar workingDayCalendar;
+
+    @Mock
+    private CourtCentreDirectory courtCentreDirectory;
+
+    @Mock
+    private ResultDefinitionCatalogue resultDefinitionCatalogue;
+
+    @Mock
+    private DocumentTypeCatalogue documentTypeCatalogue;
+
+    @Mock
+    private UserDirectory userDirectory;
+
+    @Mock
+    private DownstreamQueries downstreamQueries;
+
+    @Mock
+    private AuditPipeline auditPipeline;
+
+    @Mock
+    private ManagedScheduledExecutorService managedScheduledExecutorService;
+
+    @InjectMocks
+    private MetricsReporter metricsReporter;
+
+    @Test
+    void shouldReportTheMetricsOfEveryCacheTheDownstreamQueriesAndTheAuditPipeline() {
+        final CacheMetrics workflowTaskTypes = new CacheMetrics("workflowTaskTypes");
+        final CacheMetrics workingDayCalendarMetrics = new CacheMetrics("workingDayCalendar-EW");
+        final CacheMetrics courtCentresById = new CacheMetrics("courtCentresById");
+        final CacheMetrics resultDefinitions = new CacheMetrics("resultDefinitions");
+        final CacheMetrics documentTypes = new CacheMetrics("documentTypes");
+        final CacheMetrics userDisplayNames = new CacheMetrics("userDisplayNames");
+        when(workflowTaskTypeCatalogue.getMetrics()).thenReturn(workflowTaskTypes);
+        when(workingDayCalendar.getMetrics()).thenReturn(List.of(workingDayCalendarMetrics));
+        when(courtCentreDirectory.getMetrics()).thenReturn(List.of(courtCentresById));
+        when(resultDefinitionCatalogue.getMetrics()).thenReturn(resultDefinitions);
+        when(documentTypeCatalogue.getMetrics()).thenReturn(documentTypes);
+        when(userDirectory.getMetrics()).thenReturn(userDisplayNames);
+        final QueryMetrics courtCentreQueries = new QueryMetrics("referencedata.query.courtroom");
+        when(downstreamQueries.getAllMetrics()).thenReturn(List.of(courtCentreQueries));
+        final AuditMetrics audits = new AuditMetrics();
+        when(auditPipeline.getMetrics()).thenReturn(audits);
+
+        assertThat(metricsReporter.getMetrics(), contains(workflowTaskTypes, workingDayCalendarMetrics, courtCentresById,
+                resultDefinitions, documentTypes, userDisplayNames, courtCentreQueries, audits));
+    }
+
+    @Test
+    void shouldScheduleTheReportEveryInterval() {
+        setField(metricsReporter, "interval", "PT5M");
+
+        metricsReporter.onStartup(new Object());
+
+        verify(managedScheduledExecutorService).scheduleWithFixedDelay(any(Runnable.class), eq(300000L), eq(300000L), eq(TimeUnit.MILLISECONDS));
+    }
+}
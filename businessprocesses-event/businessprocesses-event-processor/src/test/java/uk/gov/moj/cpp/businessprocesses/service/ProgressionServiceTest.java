@@ -8,6 +8,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Answers.RETURNS_DEEP_STUBS;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.when;
 import static uk.gov.moj.cpp.businessprocesses.util.TestDataProvider.getResponseEnvelopeFromProgressionCaag;
 import static uk.gov.moj.cpp.businessprocesses.util.TestDataProvider.getResponseEnvelopeFromProgressionProsecutionCaseExist;
@@ -19,6 +20,7 @@ import uk.gov.justice.services.messaging.JsonEnvelope;
 import uk.gov.moj.cpp.businessprocesses.util.TestDataProvider;
 
 import java.io.IOException;
+import java.util.function.Supplier;
 
 import javax.json.JsonObject;
 
@@ -27,6 +29,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,9 +42,19 @@ public class ProgressionServiceTest {
     @Mock(answer = RETURNS_DEEP_STUBS)
     private Requester requester;
 
+    @Spy
+    private QueryMemo queryMemo;
+
+    @Mock
+    private DownstreamQueries downstreamQueries;
+
     @InjectMocks
     private ProgressionService target;
 
+    @BeforeEach
+    public void setUp() {
+        lenient().when(downstreamQueries.query(any(JsonEnvelope.class), any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+    }
 
     @Test
     public void shouldGetProsecutionCaseCaag() {
@@ -1,14 +1,20 @@
 package uk.gov.moj.cpp.businessprocesses.service;
 
-import static org.mockito.Mockito.verify;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.inOrder;
 
-import uk.gov.justice.services.core.annotation.Component;
-import uk.gov.justice.services.core.audit.AuditService;
 import uk.gov.justice.services.core.sender.Sender;
 import uk.gov.justice.services.messaging.JsonEnvelope;
+import uk.gov.moj.cpp.businessprocesses.audit.AuditPipeline;
+
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -17,7 +23,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 public class PublishEventServiceTest {
 
     @Mock
-    private AuditService auditService;
+    private AuditPipeline auditPipeline;
 
     @Mock
     private Sender sender;
@@ -25,6 +31,9 @@ public class PublishEventServiceTest {
     @Mock
     private JsonEnvelope jsonEnvelope;
 
+    @Captor
+    private ArgumentCaptor<Supplier<JsonEnvelope>> auditCaptor;
+
     @InjectMocks
     private PublishEventService publishEventService;
 
@@ -32,9 +41,10 @@ public class PublishEventServiceTest {
     public void testSendAndAuditEvent() {
         publishEventService.sendAndAuditEvent(jsonEnvelope);
 
-        verify(auditService).audit(jsonEnvelope, Component.EVENT_PROCESSOR);
-        verify(sender).send(jsonEnvelope);
-
+        final InOrder inOrder = inOrder(sender, auditPipeline);
+        inOrder.verify(sender).send(jsonEnvelope);
+        inOrder.verify(auditPipeline).audit(auditCaptor.capture());
+        assertThat(auditCaptor.getValue().get(), is(jsonEnvelope));
     }
 
-}
\ No newline at end of file
+}
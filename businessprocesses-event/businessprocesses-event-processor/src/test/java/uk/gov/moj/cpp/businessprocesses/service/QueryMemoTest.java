@@ -0,0 +1,119 @@
+package uk.gov.moj.cpp.businessprocesses.service;
+
+import static java.util.UUID.randomUUID;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+import static uk.gov.justice.services.messaging.Envelope.metadataBuilder;
+import static uk.gov.justice.services.messaging.JsonEnvelope.envelopeFrom;
+import static uk.gov.justice.services.messaging.JsonObjects.createObjectBuilder;
+
+import uk.gov.justice.services.messaging.JsonEnvelope;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ContextNotActiveException;
+import javax.enterprise.context.RequestScoped;
+import javax.enterprise.context.spi.Context;
+import javax.enterprise.inject.spi.BeanManager;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class QueryMemoTest {
+
+    private static final String HEARING_GET_HEARING_QUERY = "hearing.get.hearing";
+
+    @Mock
+    private BeanManager beanManager;
+
+    @Mock
+    private Context requestContext;
+
+    @Spy
+    private RequestQueryResults requestQueryResults;
+
+    @InjectMocks
+    private QueryMemo queryMemo;
+
+    private final AtomicInteger remoteCalls = new AtomicInteger();
+
+    @Test
+    void shouldMakeIdenticalQueriesOnceWhileHandlingAnEnvelope() {
+        givenRequestContextActive();
+        final String hearingId = randomUUID().toString();
+
+        queryMemo.memoize(query(hearingId), this::remoteCall);
+        final Integer result = queryMemo.memoize(query(hearingId), this::remoteCall);
+
+        assertThat(result, is(1));
+        assertThat(remoteCalls.get(), is(1));
+    }
+
+    @Test
+    void shouldTellQueriesApartByPayloadAndUser() {
+        givenRequestContextActive();
+        final String hearingId = randomUUID().toString();
+
+        queryMemo.memoize(query(hearingId), this::remoteCall);
+        queryMemo.memoize(query(randomUUID().toString()), this::remoteCall);
+        queryMemo.memoize(query(hearingId, randomUUID().toString()), this::remoteCall);
+
+        assertThat(remoteCalls.get(), is(3));
+        assertThat(requestQueryResults.size(), is(3));
+    }
+
+    @Test
+    void shouldNotRememberFailedQueries() {
+        givenRequestContextActive();
+        final JsonEnvelope query = query(randomUUID().toString());
+
+        assertThrows(IllegalStateException.class, () -> queryMemo.memoize(query, () -> {
+            throw new IllegalStateException("hearing unavailable");
+        }));
+        queryMemo.memoize(query, this::remoteCall);
+
+        assertThat(remoteCalls.get(), is(1));
+    }
+
+    @Test
+    void shouldQueryEveryTimeOutsideARequestContext() {
+        when(beanManager.getContext(RequestScoped.class)).thenThrow(new ContextNotActiveException());
+        final String hearingId = randomUUID().toString();
+
+        queryMemo.memoize(query(hearingId), this::remoteCall);
+        queryMemo.memoize(query(hearingId), this::remoteCall);
+
+        assertThat(remoteCalls.get(), is(2));
+    }
+
+    private void givenRequestContextActive() {
+        when(beanManager.getContext(RequestScoped.class)).thenReturn(requestContext);
+        when(requestContext.isActive()).thenReturn(true);
+    }
+
+    private Integer remoteCall() {
+        return remoteCalls.incrementAndGet();
+    }
+
+    private static JsonEnvelope query(final String hearingId) {
+        return envelopeFrom(metadataBuilder()
+                        .withId(randomUUID())
+                        .withName(HEARING_GET_HEARING_QUERY),
+                createObjectBuilder().add("hearingId", hearingId));
+    }
+
+    private static JsonEnvelope query(final String hearingId, final String userId) {
+        return envelopeFrom(metadataBuilder()
+                        .withId(randomUUID())
+                        .withName(HEARING_GET_HEARING_QUERY)
+                        .withUserId(userId),
+                createObjectBuilder().add("hearingId", hearingId));
+    }
+}
@@ -9,9 +9,11 @@ import static org.hamcrest.CoreMatchers.allOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.IsEqual.equalTo;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -32,11 +34,13 @@ import uk.gov.justice.services.messaging.JsonEnvelope;
 import uk.gov.moj.cpp.businessprocesses.pojo.PublicHoliday;
 import uk.gov.moj.cpp.businessprocesses.pojo.WorkflowTaskType;
 import uk.gov.moj.cpp.businessprocesses.refdata.query.api.Resultdefinition;
+import uk.gov.moj.cpp.businessprocesses.shared.DownstreamUnavailableException;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import javax.json.JsonArrayBuilder;
 import javax.json.JsonObject;
@@ -74,6 +78,9 @@ public class ReferenceDataServiceTest {
     @Mock
     private Requester requester;
 
+    @Mock
+    private DownstreamQueries downstreamQueries;
+
     @InjectMocks
     private ReferenceDataService target;
 
@@ -88,6 +95,7 @@ public class ReferenceDataServiceTest {
 
     @BeforeEach
     public void setUp() {
+        lenient().when(downstreamQueries.hedgedQuery(any(JsonEnvelope.class), any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
         setField(objectToJsonObjectConverter, "mapper", new ObjectMapperProducer().objectMapper());
     }
 
@@ -201,20 +209,23 @@ public class ReferenceDataServiceTest {
     }
 
     @Test
-    public void testIsWelshCourt() {
-        when(requester.requestAsAdmin(any(JsonEnvelope.class))).thenReturn(courtRoomResponseEnvelope());
-        Boolean isWelshCourt =  target.isWelshCourt("testId");
-        assertTrue(isWelshCourt);
-        verify(requester).requestAsAdmin(envelopeArgumentCaptor.capture());
+    public void getDocumentTypeAsAdmin() {
+        final String documentTypeId = randomUUID().toString();
+        final JsonEnvelope envelope = JsonEnvelope.envelopeFrom(metadataWithRandomUUID("referencedata.query.document-type-access"),
+                createObjectBuilder().add("section", "Plea").build());
+        when(requester.requestAsAdmin(any(JsonEnvelope.class), any())).thenAnswer(mock -> envelope);
+
+        final Optional<JsonObject> documentType = target.getDocumentType(documentTypeId);
 
+        assertThat(documentType.get().getString("section"), is("Plea"));
+        verify(requester).requestAsAdmin(envelopeArgumentCaptor.capture(), any());
         assertThat(envelopeArgumentCaptor.getValue(), Is.is(jsonEnvelope(
                 metadata()
-                        .withName("referencedata.query.courtroom"),
+                        .withName("referencedata.query.document-type-access"),
                 payloadIsJson(allOf(
-                        withJsonPath("$.id", equalTo("testId"))
+                        withJsonPath("$.id", equalTo(documentTypeId))
                 )))
         ));
-        verifyNoMoreInteractions(requester);
     }
 
     @Test
@@ -250,14 +261,14 @@ public class ReferenceDataServiceTest {
         verifyNoMoreInteractions(requester);
     }
 
-    private JsonEnvelope courtRoomResponseEnvelope() {
-        return JsonEnvelope.envelopeFrom(
-                metadataBuilder().
-                        withName("referencedata.query.courtroom").
-                        withId(randomUUID()),
-                       createObjectBuilder()
-                                        .add("id", randomUUID().toString())
-                                        .add("isWelsh", true));
+    @Test
+    public void shouldFailCourtCentreLookupsWhileReferenceDataIsUnavailable() {
+        doThrow(new DownstreamUnavailableException("referencedata circuit open"))
+                .when(downstreamQueries).hedgedQuery(any(JsonEnvelope.class), any());
+
+        assertThrows(DownstreamUnavailableException.class, () -> target.retrieveCourtCentreDetailsByCourtId("testId"));
+        assertThrows(DownstreamUnavailableException.class, () -> target.retrieveCourtCentreDetailsByCourtRoomCode("testOuCourtRoomCode"));
+        assertThrows(DownstreamUnavailableException.class, () -> target.retrieveCourtCentreDetailsByCourtRoomName("testOuCourtRoomName"));
     }
 
     private JsonEnvelope courtRoomsResponseEnvelope() {
@@ -0,0 +1,99 @@
+package uk.gov.moj.cpp.businessprocesses.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static uk.gov.justice.services.messaging.JsonObjects.createArrayBuilder;
+import static uk.gov.justice.services.messaging.JsonObjects.createObjectBuilder;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+
+import uk.gov.moj.cpp.businessprocesses.snapshot.ReferenceDataSnapshotSection;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import javax.enterprise.inject.Instance;
+import javax.json.JsonObject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ReferenceDataSnapshotTest {
+
+    private static final JsonObject WORKFLOW_TASK_TYPES = createObjectBuilder()
+            .add("taskSendEmail", createObjectBuilder().add("taskName", "taskSendEmail"))
+            .build();
+    private static final JsonObject WORKING_DAY_CALENDAR = createObjectBuilder()
+            .add("england-and-wales", createObjectBuilder().add("2024", createArrayBuilder().add("2024-01-01")))
+            .build();
+    private static final JsonObject COURT_CENTRES = createObjectBuilder()
+            .add("byId", createObjectBuilder())
+            .build();
+    private static final Map<String, String> WORK_QUEUES = Map.of("a35b8ec4-1b5a-4f2c-9d61-2c1e6f7b9e10", "Welsh Unit");
+
+    @Mock
+    private WorkflowTaskTypeCatalogue workflowTaskTypeCatalogue;
+
+    @Mock
+    private WorkingDayCalendar workingDayCalendar;
+
+    @Mock
+    private CourtCentreDirectory courtCentreDirectory;
+
+    @Mock
+    private Instance<ReferenceDataSnapshotSection> snapshotSections;
+
+    @Mock
+    private ReferenceDataSnapshotSection workQueueDirectory;
+
+    @InjectMocks
+    private ReferenceDataSnapshot referenceDataSnapshot;
+
+    @TempDir
+    Path directory;
+
+    @BeforeEach
+    void setUp() {
+        setField(referenceDataSnapshot, "file", directory.resolve("reference-data-snapshot.json.gz").toString());
+        setField(referenceDataSnapshot, "interval", "PT15M");
+        setField(referenceDataSnapshot, "maximumAge", "P2D");
+        referenceDataSnapshot.init();
+        lenient().doAnswer(invocation -> {
+            invocation.<Consumer<ReferenceDataSnapshotSection>>getArgument(0).accept(workQueueDirectory);
+            return null;
+        }).when(snapshotSections).forEach(any());
+    }
+
+    @Test
+    void shouldRestoreEachCatalogueFromTheLastSnapshotWritten() {
+        when(workflowTaskTypeCatalogue.snapshot()).thenReturn(WORKFLOW_TASK_TYPES);
+        when(workingDayCalendar.snapshot()).thenReturn(WORKING_DAY_CALENDAR);
+        when(courtCentreDirectory.snapshot()).thenReturn(COURT_CENTRES);
+        when(workQueueDirectory.getSectionName()).thenReturn("workQueues");
+        when(workQueueDirectory.snapshot()).thenReturn(WORK_QUEUES);
+
+        referenceDataSnapshot.write();
+        referenceDataSnapshot.restore();
+
+        verify(workflowTaskTypeCatalogue).restore(WORKFLOW_TASK_TYPES);
+        verify(workingDayCalendar).restore(WORKING_DAY_CALENDAR);
+        verify(courtCentreDirectory).restore(COURT_CENTRES);
+        verify(workQueueDirectory).restore(WORK_QUEUES);
+    }
+
+    @Test
+    void shouldStartWithEmptyCataloguesWhenThereIsNoSnapshot() {
+        referenceDataSnapshot.restore();
+
+        verifyNoInteractions(workflowTaskTypeCatalogue, workingDayCalendar, courtCentreDirectory, workQueueDirectory);
+    }
+}
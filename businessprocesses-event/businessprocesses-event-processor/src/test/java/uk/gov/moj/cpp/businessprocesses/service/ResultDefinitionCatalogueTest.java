@@ -0,0 +1,144 @@
+package uk.gov.moj.cpp.businessprocesses.service;
+
+import static java.util.UUID.randomUUID;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+
+import uk.gov.moj.cpp.businessprocesses.refdata.query.api.Resultdefinition;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.enterprise.concurrent.ManagedExecutorService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ResultDefinitionCatalogueTest {
+
+    private static final UUID BAIL_APPEAL_ID = randomUUID();
+    private static final UUID SERIOUS_BAIL_ID = randomUUID();
+
+    @Mock
+    private ReferenceDataService referenceDataService;
+
+    @InjectMocks
+    private ResultDefinitionCatalogue catalogue;
+
+    @BeforeEach
+    void setUp() {
+        setField(catalogue, "timeToLive", "PT1H");
+        setField(catalogue, "refreshAfter", "PT45M");
+        setField(catalogue, "negativeTimeToLive", "PT5M");
+        setField(catalogue, "maximumSize", "2000");
+        setField(catalogue, "lookupParallelism", "4");
+        catalogue.init();
+    }
+
+    @Test
+    void shouldLookUpRepeatedIdsOfOneEventOnce() {
+        mockResultDefinition(BAIL_APPEAL_ID, "EXRIBA48");
+        mockResultDefinition(SERIOUS_BAIL_ID, "CCQB");
+
+        final Map<String, Resultdefinition> resultDefinitions = catalogue.getResultDefinitions(List.of(
+                BAIL_APPEAL_ID.toString(), SERIOUS_BAIL_ID.toString(), BAIL_APPEAL_ID.toString(), BAIL_APPEAL_ID.toString()));
+
+        assertThat(resultDefinitions.get(BAIL_APPEAL_ID.toString()).getShortCode(), is("EXRIBA48"));
+        assertThat(resultDefinitions.get(SERIOUS_BAIL_ID.toString()).getShortCode(), is("CCQB"));
+        verify(referenceDataService, times(1)).getResultDefinition(BAIL_APPEAL_ID.toString());
+        verify(referenceDataService, times(1)).getResultDefinition(SERIOUS_BAIL_ID.toString());
+        assertThat(catalogue.getRemoteCallsSaved(), is(2L));
+    }
+
+    @Test
+    void shouldServeLaterEventsFromTheCache() {
+        mockResultDefinition(BAIL_APPEAL_ID, "EXRIBA48");
+
+        catalogue.getResultDefinitions(List.of(BAIL_APPEAL_ID.toString()));
+        catalogue.getResultDefinitions(List.of(BAIL_APPEAL_ID.toString(), BAIL_APPEAL_ID.toString()));
+
+        verify(referenceDataService, times(1)).getResultDefinition(BAIL_APPEAL_ID.toString());
+        assertThat(catalogue.getRemoteCallsSaved(), is(2L));
+    }
+
+    @Test
+    void shouldFetchIdsMissingFromTheCacheInParallel() {
+        final ManagedExecutorService managedExecutorService = mock(ManagedExecutorService.class);
+        final ExecutorService executorService = Executors.newFixedThreadPool(4);
+        doAnswer(invocation -> {
+            executorService.execute(invocation.getArgument(0));
+            return null;
+        }).when(managedExecutorService).execute(any(Runnable.class));
+        final List<String> resultDefinitionIds = new ArrayList<>();
+        for (int index = 0; index < 6; index++) {
+            final UUID id = randomUUID();
+            mockResultDefinition(id, "CODE" + index);
+            resultDefinitionIds.add(id.toString());
+        }
+        setField(catalogue, "managedExecutorService", managedExecutorService);
+
+        try {
+            final Map<String, Resultdefinition> resultDefinitions = catalogue.getResultDefinitions(resultDefinitionIds);
+
+            assertThat(resultDefinitions.size(), is(6));
+            verify(managedExecutorService, times(3)).execute(any(Runnable.class));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldLeaveOutIdsUnknownToReferenceData() {
+        final Map<String, Resultdefinition> resultDefinitions = catalogue.getResultDefinitions(List.of(BAIL_APPEAL_ID.toString()));
+
+        assertFalse(resultDefinitions.containsKey(BAIL_APPEAL_ID.toString()));
+    }
+
+    @Test
+    void shouldCountIdsCachedAsUnknownAsCallsSaved() {
+        catalogue.getResultDefinitions(List.of(BAIL_APPEAL_ID.toString()));
+        final Map<String, Resultdefinition> resultDefinitions = catalogue.getResultDefinitions(List.of(BAIL_APPEAL_ID.toString()));
+
+        assertFalse(resultDefinitions.containsKey(BAIL_APPEAL_ID.toString()));
+        verify(referenceDataService, times(1)).getResultDefinition(BAIL_APPEAL_ID.toString());
+        assertThat(catalogue.getRemoteCallsSaved(), is(1L));
+    }
+
+    @Test
+    void shouldCacheDefinitionsPastTheirEndDateForTheTimeToLive() {
+        when(referenceDataService.getResultDefinition(BAIL_APPEAL_ID.toString())).thenReturn(Resultdefinition.resultdefinition()
+                .withId(BAIL_APPEAL_ID)
+                .withShortCode("EXRIBA48")
+                .withEndDate("2020-01-31")
+                .build());
+
+        catalogue.getResultDefinition(BAIL_APPEAL_ID.toString());
+        catalogue.getResultDefinition(BAIL_APPEAL_ID.toString());
+
+        verify(referenceDataService, times(1)).getResultDefinition(BAIL_APPEAL_ID.toString());
+    }
+
+    private void mockResultDefinition(final UUID id, final String shortCode) {
+        when(referenceDataService.getResultDefinition(id.toString())).thenReturn(Resultdefinition.resultdefinition()
+                .withId(id)
+                .withShortCode(shortCode)
+                .build());
+    }
+}
@@ -0,0 +1,82 @@
+package uk.gov.moj.cpp.businessprocesses.service;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+import static uk.gov.moj.cpp.businessprocesses.util.FileUtil.getFileContentAsJson;
+
+import uk.gov.justice.core.courts.Hearing;
+import uk.gov.justice.services.common.converter.jackson.ObjectMapperProducer;
+import uk.gov.moj.cpp.businessprocesses.refdata.query.api.Resultdefinition;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ResultDefinitionResolverTest {
+
+    private static final String HEARING_WITH_REPEATED_RESULT_TYPES = "json/hearing-resulted-repeated-result-types.json";
+    private static final String BAIL_APPEAL_RESULT_TYPE_ID = "dafafd26-e5d7-4f7d-9389-d614c506d160";
+    private static final String SERIOUS_BAIL_RESULT_TYPE_ID = "7a0932f5-8264-412e-a83c-2b6d1dce1506";
+
+    private final ObjectMapper objectMapper = new ObjectMapperProducer().objectMapper();
+
+    @Mock
+    private ReferenceDataService referenceDataService;
+
+    @InjectMocks
+    private ResultDefinitionCatalogue resultDefinitionCatalogue;
+
+    @InjectMocks
+    private ResultDefinitionResolver resultDefinitionResolver;
+
+    @BeforeEach
+    void setUp() {
+        setField(resultDefinitionCatalogue, "timeToLive", "PT1H");
+        setField(resultDefinitionCatalogue, "refreshAfter", "PT45M");
+        setField(resultDefinitionCatalogue, "negativeTimeToLive", "PT5M");
+        setField(resultDefinitionCatalogue, "maximumSize", "2000");
+        setField(resultDefinitionCatalogue, "lookupParallelism", "4");
+        resultDefinitionCatalogue.init();
+        setField(resultDefinitionResolver, "resultDefinitionCatalogue", resultDefinitionCatalogue);
+    }
+
+    @Test
+    void shouldResolveEachDistinctResultTypeOfTheHearingOnce() throws JsonProcessingException {
+        when(referenceDataService.getResultDefinition(BAIL_APPEAL_RESULT_TYPE_ID)).thenReturn(Resultdefinition.resultdefinition().withShortCode("EXRIBA48").build());
+        when(referenceDataService.getResultDefinition(SERIOUS_BAIL_RESULT_TYPE_ID)).thenReturn(Resultdefinition.resultdefinition().withShortCode("CCQB").build());
+
+        final Map<String, Resultdefinition> resultDefinitions = resultDefinitionResolver.resolve(hearing(HEARING_WITH_REPEATED_RESULT_TYPES));
+
+        assertThat(resultDefinitions.size(), is(2));
+        assertThat(resultDefinitions.get(BAIL_APPEAL_RESULT_TYPE_ID).getShortCode(), is("EXRIBA48"));
+        assertThat(resultDefinitions.get(SERIOUS_BAIL_RESULT_TYPE_ID).getShortCode(), is("CCQB"));
+        verify(referenceDataService, times(1)).getResultDefinition(BAIL_APPEAL_RESULT_TYPE_ID);
+        verify(referenceDataService, times(1)).getResultDefinition(SERIOUS_BAIL_RESULT_TYPE_ID);
+    }
+
+    @Test
+    void shouldNotQueryReferenceDataForHearingsWithoutProsecutionCases() {
+        final Map<String, Resultdefinition> resultDefinitions = resultDefinitionResolver.resolve(Hearing.hearing().build());
+
+        assertThat(resultDefinitions.isEmpty(), is(true));
+        verify(referenceDataService, never()).getResultDefinition(anyString());
+    }
+
+    private Hearing hearing(final String path) throws JsonProcessingException {
+        return objectMapper.readValue(getFileContentAsJson(path).getJsonObject("hearing").toString(), Hearing.class);
+    }
+}
@@ -2,6 +2,7 @@ package uk.gov.moj.cpp.businessprocesses.service;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -28,7 +29,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @ExtendWith(MockitoExtension.class)
 class TaskTypeServiceTest {
     @Mock
-    private ReferenceDataService referenceDataService;
+    private WorkflowTaskTypeCatalogue workflowTaskTypeCatalogue;
 
     @Mock
     private DueDateCalculationService dueDateCalculationService;
@@ -44,7 +45,7 @@ class TaskTypeServiceTest {
 
     @Test
     void shouldSendTaskVariables() throws IOException {
-        when(referenceDataService.getWorkflowTaskType(anyString())).thenReturn(Optional.of(getWorkflowTaskType(TASK_SEND_EMAIL)));
+        when(workflowTaskTypeCatalogue.getTemplate(anyString())).thenReturn(Optional.of(TaskTypeTemplate.compile(getWorkflowTaskType(TASK_SEND_EMAIL))));
         final Map<String, Object> result = target.getTaskVariablesFromRefData("triage_incoming_document_identified", RESOURCE_ID.toString());
         Object[] keys = result.keySet().toArray();
         Arrays.sort(keys);
@@ -68,7 +69,7 @@ class TaskTypeServiceTest {
 
     @Test
     void shouldSendTaskVariablesWithPrefix() throws IOException {
-        when(referenceDataService.getWorkflowTaskType(anyString())).thenReturn(Optional.of(getWorkflowTaskType(TASK_SEND_EMAIL)));
+        when(workflowTaskTypeCatalogue.getTemplate(anyString())).thenReturn(Optional.of(TaskTypeTemplate.compile(getWorkflowTaskType(TASK_SEND_EMAIL))));
         final Map<String, Object> result = target.getTaskVariablesFromRefDataWithPrefix("triage_incoming_document_identified", RESOURCE_ID.toString(), TEST_PREFIX);
 
         Object[] keys = result.keySet().toArray();
@@ -80,4 +81,15 @@ class TaskTypeServiceTest {
         verify(dueDateCalculationService, times(1)).calculateDueDate(any());
     }
 
+    @Test
+    void shouldNotShareVariableMapsBetweenCalls() throws IOException {
+        when(workflowTaskTypeCatalogue.getTemplate(anyString())).thenReturn(Optional.of(TaskTypeTemplate.compile(getWorkflowTaskType(TASK_SEND_EMAIL))));
+
+        final Map<String, Object> first = target.getTaskVariablesFromRefData("triage_incoming_document_identified", RESOURCE_ID.toString());
+        first.put(TEST_PREFIX, TEST_PREFIX);
+        final Map<String, Object> second = target.getTaskVariablesFromRefData("triage_incoming_document_identified", RESOURCE_ID.toString());
+
+        assertFalse(second.containsKey(TEST_PREFIX));
+        assertThat(second.get("deepLink"), is(first.get("deepLink")));
+    }
 }
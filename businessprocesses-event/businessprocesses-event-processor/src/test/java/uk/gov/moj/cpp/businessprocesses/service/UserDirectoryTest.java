@@ -0,0 +1,107 @@
+package uk.gov.moj.cpp.businessprocesses.service;
+
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static java.util.UUID.randomUUID;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class UserDirectoryTest {
+
+    private static final String USER_ID = randomUUID().toString();
+
+    @Mock
+    private UserGroupsService userGroupsService;
+
+    @InjectMocks
+    private UserDirectory userDirectory;
+
+    @BeforeEach
+    void setUp() {
+        setField(userDirectory, "timeToLive", "PT5M");
+        setField(userDirectory, "refreshAfter", "PT4M");
+        setField(userDirectory, "negativeTimeToLive", "PT1M");
+        setField(userDirectory, "maximumSize", "1000");
+        userDirectory.init();
+    }
+
+    @Test
+    void shouldLookUpEachUserOnceForRepeatedAssignments() {
+        when(userGroupsService.getUserDisplayName(USER_ID)).thenReturn(of("Emma Cleaner"));
+
+        for (int assignment = 0; assignment < 10; assignment++) {
+            assertThat(userDirectory.getUserDetails(USER_ID), is("Emma Cleaner"));
+        }
+
+        verify(userGroupsService, times(1)).getUserDisplayName(USER_ID);
+    }
+
+    @Test
+    void shouldShareOneLookupBetweenConcurrentAssignmentsToTheSameUser() throws Exception {
+        final CountDownLatch lookupStarted = new CountDownLatch(1);
+        final CountDownLatch releaseLookup = new CountDownLatch(1);
+        when(userGroupsService.getUserDisplayName(USER_ID)).thenAnswer(invocation -> {
+            lookupStarted.countDown();
+            releaseLookup.await(5, TimeUnit.SECONDS);
+            return of("Emma Cleaner");
+        });
+        final ExecutorService executorService = Executors.newFixedThreadPool(4);
+
+        try {
+            final List<Future<String>> assignments = new ArrayList<>();
+            assignments.add(executorService.submit(() -> userDirectory.getUserDetails(USER_ID)));
+            lookupStarted.await(5, TimeUnit.SECONDS);
+            for (int assignment = 0; assignment < 3; assignment++) {
+                assignments.add(executorService.submit(() -> userDirectory.getUserDetails(USER_ID)));
+            }
+            while (userDirectory.getMetrics().getCoalescedLoadCount() < 3) {
+                Thread.onSpinWait();
+            }
+            releaseLookup.countDown();
+
+            for (final Future<String> assignment : assignments) {
+                assertThat(assignment.get(5, TimeUnit.SECONDS), is("Emma Cleaner"));
+            }
+            verify(userGroupsService, times(1)).getUserDisplayName(USER_ID);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldFallBackToTheUserIdWithoutCachingTheFailure() {
+        when(userGroupsService.getUserDisplayName(USER_ID))
+                .thenThrow(new IllegalStateException("users and groups unavailable"))
+                .thenReturn(of("Emma Cleaner"));
+
+        assertThat(userDirectory.getUserDetails(USER_ID), is(USER_ID));
+        assertThat(userDirectory.getUserDetails(USER_ID), is("Emma Cleaner"));
+    }
+
+    @Test
+    void shouldFallBackToTheUserIdForUnknownUsers() {
+        when(userGroupsService.getUserDisplayName(USER_ID)).thenReturn(empty());
+
+        assertThat(userDirectory.getUserDetails(USER_ID), is(USER_ID));
+    }
+}
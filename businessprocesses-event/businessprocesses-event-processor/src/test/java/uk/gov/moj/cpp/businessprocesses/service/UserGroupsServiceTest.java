@@ -5,12 +5,15 @@ import static uk.gov.justice.services.messaging.JsonObjects.createObjectBuilder;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.when;
 import static uk.gov.justice.services.test.utils.core.enveloper.EnvelopeFactory.createEnvelope;
 
 import uk.gov.justice.services.core.requester.Requester;
 import uk.gov.justice.services.messaging.JsonEnvelope;
 
+import java.util.function.Supplier;
+
 import javax.json.JsonArrayBuilder;
 import javax.json.JsonObject;
 
@@ -20,6 +23,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,8 +36,15 @@ public class UserGroupsServiceTest{
     @Mock
     private Requester requester;
 
+    @Spy
+    private QueryMemo queryMemo;
+
+    @Mock
+    private DownstreamQueries downstreamQueries;
+
     @BeforeEach
     public void setUp() {
+        lenient().when(downstreamQueries.query(any(JsonEnvelope.class), any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
         when(requester.requestAsAdmin(any(JsonEnvelope.class))).thenReturn(getCaseSensitiveResponse());
     }
 
@@ -0,0 +1,118 @@
+package uk.gov.moj.cpp.businessprocesses.service;
+
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+import static uk.gov.moj.cpp.businessprocesses.util.TestDataProvider.getWorkflowTaskType;
+
+import uk.gov.justice.services.common.converter.JsonObjectToObjectConverter;
+import uk.gov.justice.services.common.converter.ObjectToJsonObjectConverter;
+import uk.gov.justice.services.common.converter.jackson.ObjectMapperProducer;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class WorkflowTaskTypeCatalogueTest {
+
+    private static final String TASK_SEND_EMAIL = "taskSendEmail";
+    private static final String UNKNOWN_TASK = "unknownTask";
+
+    @Mock
+    private ReferenceDataService referenceDataService;
+
+    @Spy
+    private final ObjectMapper objectMapper = new ObjectMapperProducer().objectMapper();
+
+    @Spy
+    private final JsonObjectToObjectConverter jsonObjectToObjectConverter = new JsonObjectToObjectConverter(objectMapper);
+
+    @Spy
+    private final ObjectToJsonObjectConverter objectToJsonObjectConverter = new ObjectToJsonObjectConverter(objectMapper);
+
+    @InjectMocks
+    private WorkflowTaskTypeCatalogue catalogue;
+
+    @InjectMocks
+    private WorkflowTaskTypeCatalogue restored;
+
+    @BeforeEach
+    void setUp() {
+        configure(catalogue);
+        configure(restored);
+    }
+
+    @Test
+    void shouldQueryReferenceDataOnceForRepeatedLookups() throws IOException {
+        when(referenceDataService.getWorkflowTaskType(TASK_SEND_EMAIL)).thenReturn(of(getWorkflowTaskType(TASK_SEND_EMAIL)));
+
+        final Optional<TaskTypeTemplate> first = catalogue.getTemplate(TASK_SEND_EMAIL);
+        final Optional<TaskTypeTemplate> second = catalogue.getTemplate(TASK_SEND_EMAIL);
+
+        assertTrue(first.isPresent());
+        assertThat(second.get(), is(first.get()));
+        verify(referenceDataService, times(1)).getWorkflowTaskType(TASK_SEND_EMAIL);
+        assertThat(catalogue.getMetrics().getHitCount(), is(1L));
+        assertThat(catalogue.getMetrics().getMissCount(), is(1L));
+    }
+
+    @Test
+    void shouldCacheUnknownTaskNames() {
+        when(referenceDataService.getWorkflowTaskType(UNKNOWN_TASK)).thenReturn(empty());
+
+        assertFalse(catalogue.getTemplate(UNKNOWN_TASK).isPresent());
+        assertFalse(catalogue.getTemplate(UNKNOWN_TASK).isPresent());
+
+        verify(referenceDataService, times(1)).getWorkflowTaskType(UNKNOWN_TASK);
+        assertThat(catalogue.getMetrics().getNegativeHitCount(), is(1L));
+    }
+
+    @Test
+    void shouldAnswerFromARestoredSnapshotWithoutQueryingReferenceData() throws IOException {
+        when(referenceDataService.getWorkflowTaskType(TASK_SEND_EMAIL)).thenReturn(of(getWorkflowTaskType(TASK_SEND_EMAIL)));
+
+        final TaskTypeTemplate loaded = catalogue.getTemplate(TASK_SEND_EMAIL).get();
+
+        restored.restore(catalogue.snapshot());
+
+        final TaskTypeTemplate template = restored.getTemplate(TASK_SEND_EMAIL).get();
+        assertThat(template.newVariables(), is(loaded.newVariables()));
+        assertThat(template.getDueDateCalc(), is(loaded.getDueDateCalc()));
+        verify(referenceDataService, times(1)).getWorkflowTaskType(TASK_SEND_EMAIL);
+    }
+
+    @Test
+    void shouldQueryReferenceDataAgainAfterInvalidation() throws IOException {
+        when(referenceDataService.getWorkflowTaskType(TASK_SEND_EMAIL)).thenReturn(of(getWorkflowTaskType(TASK_SEND_EMAIL)));
+
+        catalogue.getTemplate(TASK_SEND_EMAIL);
+        catalogue.invalidateAll();
+        catalogue.getTemplate(TASK_SEND_EMAIL);
+
+        verify(referenceDataService, times(2)).getWorkflowTaskType(TASK_SEND_EMAIL);
+    }
+
+    private static void configure(final WorkflowTaskTypeCatalogue workflowTaskTypeCatalogue) {
+        setField(workflowTaskTypeCatalogue, "timeToLive", "PT30M");
+        setField(workflowTaskTypeCatalogue, "refreshAfter", "PT20M");
+        setField(workflowTaskTypeCatalogue, "negativeTimeToLive", "PT1M");
+        setField(workflowTaskTypeCatalogue, "maximumSize", "500");
+        workflowTaskTypeCatalogue.init();
+    }
+}
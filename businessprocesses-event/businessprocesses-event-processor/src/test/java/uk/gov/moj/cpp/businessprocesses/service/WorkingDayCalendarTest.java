@@ -0,0 +1,186 @@
+package uk.gov.moj.cpp.businessprocesses.service;
+
+import static java.time.DayOfWeek.SATURDAY;
+import static java.time.DayOfWeek.SUNDAY;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static uk.gov.justice.services.messaging.JsonObjects.createArrayBuilder;
+import static uk.gov.justice.services.messaging.JsonObjects.createObjectBuilder;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+
+import uk.gov.moj.cpp.businessprocesses.pojo.PublicHoliday;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import javax.enterprise.event.Event;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class WorkingDayCalendarTest {
+
+    private static final String DIVISION = "england-and-wales";
+    private static final Set<LocalDate> PUBLIC_HOLIDAYS = Set.of(
+            LocalDate.parse("2023-12-25"),
+            LocalDate.parse("2023-12-26"),
+            LocalDate.parse("2024-01-01"),
+            LocalDate.parse("2024-03-29"),
+            LocalDate.parse("2024-04-01"),
+            LocalDate.parse("2024-12-25"),
+            LocalDate.parse("2024-12-26"),
+            LocalDate.parse("2025-01-01"));
+
+    @Mock
+    private ReferenceDataService referenceDataService;
+
+    @Mock
+    private Event<PublicHolidaysChanged> publicHolidaysChanged;
+
+    @Captor
+    private ArgumentCaptor<PublicHolidaysChanged> publicHolidaysChangedCaptor;
+
+    @InjectMocks
+    private WorkingDayCalendar workingDayCalendar;
+
+    @InjectMocks
+    private WorkingDayCalendar restored;
+
+    @BeforeEach
+    void setUp() {
+        when(referenceDataService.getPublicHolidays(eq(DIVISION), any(), any())).thenAnswer(invocation -> {
+            final LocalDate from = invocation.getArgument(1);
+            final LocalDate to = invocation.getArgument(2);
+            return PUBLIC_HOLIDAYS.stream()
+                    .filter(date -> !date.isBefore(from) && !date.isAfter(to))
+                    .map(date -> new PublicHoliday(UUID.randomUUID(), DIVISION, "title", date))
+                    .toList();
+        });
+        configure(workingDayCalendar);
+        configure(restored);
+    }
+
+    @Test
+    void shouldMatchDayByDayCalculationForAnyOffset() {
+        final List<LocalDate> startDates = List.of(
+                LocalDate.parse("2024-01-01"),
+                LocalDate.parse("2024-03-28"),
+                LocalDate.parse("2024-06-15"),
+                LocalDate.parse("2024-12-24"),
+                LocalDate.parse("2024-12-31"));
+
+        for (final LocalDate startDate : startDates) {
+            for (long offset = 0; offset <= 300; offset++) {
+                assertThat(workingDayCalendar.plusWorkingDays(DIVISION, startDate, offset), is(walk(startDate, offset, 1)));
+                assertThat(workingDayCalendar.minusWorkingDays(DIVISION, startDate, offset), is(walk(startDate, offset, -1)));
+            }
+        }
+    }
+
+    @Test
+    void shouldCrossYearBoundaries() {
+        assertThat(workingDayCalendar.plusWorkingDays(DIVISION, LocalDate.parse("2024-12-23"), 3L), is(LocalDate.parse("2024-12-30")));
+        assertThat(workingDayCalendar.plusWorkingDays(DIVISION, LocalDate.parse("2024-12-30"), 2L), is(LocalDate.parse("2025-01-02")));
+        assertThat(workingDayCalendar.minusWorkingDays(DIVISION, LocalDate.parse("2024-01-02"), 2L), is(LocalDate.parse("2023-12-28")));
+    }
+
+    @Test
+    void shouldLoadEachYearOnlyOnce() {
+        workingDayCalendar.plusWorkingDays(DIVISION, LocalDate.parse("2024-06-03"), 5L);
+        workingDayCalendar.plusWorkingDays(DIVISION, LocalDate.parse("2024-09-03"), 5L);
+        workingDayCalendar.minusWorkingDays(DIVISION, LocalDate.parse("2024-11-03"), 5L);
+
+        verify(referenceDataService, times(1)).getPublicHolidays(DIVISION, LocalDate.parse("2024-01-01"), LocalDate.parse("2024-12-31"));
+    }
+
+    @Test
+    void shouldReportWorkingDays() {
+        assertThat(workingDayCalendar.isWorkingDay(DIVISION, LocalDate.parse("2024-03-28")), is(true));
+        assertThat(workingDayCalendar.isWorkingDay(DIVISION, LocalDate.parse("2024-03-29")), is(false));
+        assertThat(workingDayCalendar.isWorkingDay(DIVISION, LocalDate.parse("2024-03-30")), is(false));
+        assertThat(workingDayCalendar.isWorkingDay(DIVISION, LocalDate.parse("2024-01-01")), is(false));
+    }
+
+    @Test
+    void shouldAnswerFromARestoredSnapshotWithoutQueryingReferenceData() {
+        workingDayCalendar.isWorkingDay(DIVISION, LocalDate.parse("2024-03-29"));
+
+        restored.restore(workingDayCalendar.snapshot());
+
+        assertThat(restored.isWorkingDay(DIVISION, LocalDate.parse("2024-03-29")), is(false));
+        assertThat(restored.plusWorkingDays(DIVISION, LocalDate.parse("2024-03-28"), 1L), is(LocalDate.parse("2024-04-02")));
+        verify(referenceDataService, times(1)).getPublicHolidays(DIVISION, LocalDate.parse("2024-01-01"), LocalDate.parse("2024-12-31"));
+    }
+
+    @Test
+    void shouldFirePublicHolidaysChangedWhenAReloadFindsDifferentPublicHolidays() {
+        workingDayCalendar.restore(createObjectBuilder()
+                .add(DIVISION, createObjectBuilder().add("2024", createArrayBuilder()
+                        .add("2024-01-01").add("2024-03-29").add("2024-04-01").add("2024-05-06").add("2024-12-25").add("2024-12-26")))
+                .build());
+
+        workingDayCalendar.invalidateAll();
+
+        assertThat(workingDayCalendar.isWorkingDay(DIVISION, LocalDate.parse("2024-05-06")), is(true));
+        verify(publicHolidaysChanged).fire(publicHolidaysChangedCaptor.capture());
+        assertThat(publicHolidaysChangedCaptor.getValue().getDivision(), is(DIVISION));
+        assertThat(publicHolidaysChangedCaptor.getValue().getYear(), is(2024));
+        assertThat(publicHolidaysChangedCaptor.getValue().getPublicHolidays().contains(LocalDate.parse("2024-05-06")), is(false));
+        assertThat(publicHolidaysChangedCaptor.getValue().getChangedDates(), is(Set.of(LocalDate.parse("2024-05-06"))));
+    }
+
+    @Test
+    void shouldUsePublicHolidaysSeenByAnotherNodeInACalendarOfItsOwn() {
+        workingDayCalendar.isWorkingDay(DIVISION, LocalDate.parse("2024-05-07"));
+
+        final WorkingDayCalendar recorded = workingDayCalendar.withPublicHolidays(DIVISION, 2024, List.of(LocalDate.parse("2024-01-01"), LocalDate.parse("2024-05-07")));
+
+        assertThat(recorded.isWorkingDay(DIVISION, LocalDate.parse("2024-05-07")), is(false));
+        assertThat(recorded.isWorkingDay(DIVISION, LocalDate.parse("2024-03-29")), is(true));
+        assertThat(recorded.isWorkingDay(DIVISION, LocalDate.parse("2025-01-01")), is(false));
+        assertThat(recorded.plusWorkingDays(DIVISION, LocalDate.parse("2024-05-06"), 1), is(LocalDate.parse("2024-05-08")));
+        assertThat(workingDayCalendar.isWorkingDay(DIVISION, LocalDate.parse("2024-05-07")), is(true));
+        verifyNoInteractions(publicHolidaysChanged);
+    }
+
+    @Test
+    void shouldNotFirePublicHolidaysChangedWhenAReloadFindsTheSamePublicHolidays() {
+        workingDayCalendar.isWorkingDay(DIVISION, LocalDate.parse("2024-03-29"));
+
+        workingDayCalendar.invalidateAll();
+        workingDayCalendar.isWorkingDay(DIVISION, LocalDate.parse("2024-03-29"));
+
+        verifyNoInteractions(publicHolidaysChanged);
+    }
+
+    private static void configure(final WorkingDayCalendar calendar) {
+        setField(calendar, "timeToLive", "PT24H");
+        setField(calendar, "refreshAfter", "PT6H");
+    }
+
+    private static LocalDate walk(final LocalDate date, final long numberOfDays, final int direction) {
+        LocalDate adjusted = date;
+        for (long count = 0; count < numberOfDays; count++) {
+            adjusted = adjusted.plusDays(direction);
+            while (adjusted.getDayOfWeek() == SATURDAY || adjusted.getDayOfWeek() == SUNDAY || PUBLIC_HOLIDAYS.contains(adjusted)) {
+                adjusted = adjusted.plusDays(direction);
+            }
+        }
+        return adjusted;
+    }
+}
@@ -0,0 +1,72 @@
+package uk.gov.moj.cpp.businessprocesses.shared;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static uk.gov.justice.services.messaging.JsonEnvelope.envelopeFrom;
+import static uk.gov.justice.services.messaging.JsonObjects.createObjectBuilder;
+import static uk.gov.justice.services.test.utils.core.messaging.MetadataBuilderFactory.metadataWithRandomUUID;
+import static uk.gov.moj.cpp.businessprocesses.shared.EventPayloads.getPayload;
+import static uk.gov.moj.cpp.businessprocesses.shared.EventPayloads.withEvent;
+import static uk.gov.moj.cpp.businessprocesses.util.FileUtil.getFileContentAsJson;
+
+import uk.gov.justice.core.courts.Hearing;
+import uk.gov.justice.services.messaging.JsonEnvelope;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class EventPayloadsTest {
+
+    private static final String HEARING_RESULTED_EVENT = "public.events.hearing.hearing-resulted";
+
+    private final JsonEnvelope jsonEnvelope = envelopeFrom(metadataWithRandomUUID(HEARING_RESULTED_EVENT), getFileContentAsJson("json/hearing.get.hearing.json"));
+
+    @Test
+    void shouldBindThePayloadOncePerEvent() {
+        final List<Hearing> hearings = new ArrayList<>();
+
+        withEvent(jsonEnvelope, () -> {
+            hearings.add(getPayload(jsonEnvelope, "hearing", Hearing.class));
+            hearings.add(getPayload(jsonEnvelope, "hearing", Hearing.class));
+        });
+
+        assertThat(hearings.get(0).getId().toString(), is(jsonEnvelope.payloadAsJsonObject().getJsonObject("hearing").getString("id")));
+        assertThat(hearings.get(1), is(sameInstance(hearings.get(0))));
+        assertThat(getPayload(jsonEnvelope, "hearing", Hearing.class), is(not(sameInstance(hearings.get(0)))));
+    }
+
+    @Test
+    void shouldBindThePayloadOfAnotherEventHandledWithin() {
+        final JsonEnvelope otherEnvelope = envelopeFrom(metadataWithRandomUUID(HEARING_RESULTED_EVENT), getFileContentAsJson("json/hearing.get.hearing.json"));
+        final List<Hearing> hearings = new ArrayList<>();
+
+        withEvent(jsonEnvelope, () -> {
+            hearings.add(getPayload(jsonEnvelope, "hearing", Hearing.class));
+            withEvent(otherEnvelope, () -> hearings.add(getPayload(otherEnvelope, "hearing", Hearing.class)));
+            hearings.add(getPayload(jsonEnvelope, "hearing", Hearing.class));
+        });
+
+        assertThat(hearings.get(1), is(not(sameInstance(hearings.get(0)))));
+        assertThat(hearings.get(2), is(sameInstance(hearings.get(0))));
+    }
+
+    @Test
+    void shouldReturnNullForAMemberThatIsNotSet() {
+        assertThat(getPayload(jsonEnvelope, "application", Hearing.class), is(nullValue()));
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentExceptionForAMemberThatCannotBeBound() {
+        final JsonEnvelope invalidEnvelope = envelopeFrom(metadataWithRandomUUID(HEARING_RESULTED_EVENT), createObjectBuilder()
+                .add("hearing", createObjectBuilder().add("id", "not-a-uuid"))
+                .build());
+
+        assertThrows(IllegalArgumentException.class, () -> getPayload(invalidEnvelope, "hearing", Hearing.class));
+    }
+}
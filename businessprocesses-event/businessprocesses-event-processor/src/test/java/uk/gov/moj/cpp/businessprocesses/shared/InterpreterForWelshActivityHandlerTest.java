@@ -13,6 +13,7 @@ import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static uk.gov.justice.services.messaging.JsonObjects.createObjectBuilder;
 import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
 import static uk.gov.moj.cpp.businessprocesses.shared.Constants.TASK_NAME_BOOK_WELSH_INTERPRETER_FOR_APPLICATION;
 import static uk.gov.moj.cpp.businessprocesses.shared.Constants.TASK_NAME_BOOK_WELSH_INTERPRETER_FOR_CASE;
@@ -26,13 +27,16 @@ import static uk.gov.moj.cpp.businessprocesses.util.TestDataProvider.getWorkflow
 
 import uk.gov.justice.core.courts.Hearing;
 import uk.gov.justice.services.common.converter.JsonObjectToObjectConverter;
+import uk.gov.justice.services.common.converter.ObjectToJsonObjectConverter;
 import uk.gov.justice.services.common.converter.jackson.ObjectMapperProducer;
 import uk.gov.justice.services.core.dispatcher.SystemUserProvider;
+import uk.gov.moj.cpp.businessprocesses.service.CourtCentreDirectory;
 import uk.gov.moj.cpp.businessprocesses.service.DueDateCalculationService;
 import uk.gov.moj.cpp.businessprocesses.service.HearingService;
 import uk.gov.moj.cpp.businessprocesses.service.ProgressionService;
 import uk.gov.moj.cpp.businessprocesses.service.ReferenceDataService;
 import uk.gov.moj.cpp.businessprocesses.service.TaskTypeService;
+import uk.gov.moj.cpp.businessprocesses.service.WorkflowTaskTypeCatalogue;
 
 import java.io.IOException;
 import java.util.List;
@@ -70,6 +74,7 @@ class InterpreterForWelshActivityHandlerTest {
 
     private static final String DUE_DATE_VALUE = "2020-03-05";
     private static final String TASK_TYPE_SERVICE = "taskTypeService";
+    private static final String WORKFLOW_TASK_TYPE_CATALOGUE = "workflowTaskTypeCatalogue";
 
     @InjectMocks
     private InterpreterForWelshActivityHandler interpreterForWelshActivityHandler;
@@ -107,12 +112,33 @@ class InterpreterForWelshActivityHandlerTest {
     @Spy
     private final JsonObjectToObjectConverter jsonObjectToObjectConverter = new JsonObjectToObjectConverter(objectMapper);
 
+    @Spy
+    private final ObjectToJsonObjectConverter objectToJsonObjectConverter = new ObjectToJsonObjectConverter(objectMapper);
+
     @Captor
     private ArgumentCaptor<Map<String, Object>> processVariablesCaptor;
 
+    @InjectMocks
+    private WorkflowTaskTypeCatalogue workflowTaskTypeCatalogue;
+
+    @InjectMocks
+    private CourtCentreDirectory courtCentreDirectory;
+
     @BeforeEach
     void setUp() {
         setField(interpreterForWelshActivityHandler, TASK_TYPE_SERVICE, taskTypeService);
+        setField(workflowTaskTypeCatalogue, "timeToLive", "PT30M");
+        setField(workflowTaskTypeCatalogue, "refreshAfter", "PT20M");
+        setField(workflowTaskTypeCatalogue, "negativeTimeToLive", "PT1M");
+        setField(workflowTaskTypeCatalogue, "maximumSize", "500");
+        workflowTaskTypeCatalogue.init();
+        setField(taskTypeService, WORKFLOW_TASK_TYPE_CATALOGUE, workflowTaskTypeCatalogue);
+        setField(courtCentreDirectory, "timeToLive", "PT12H");
+        setField(courtCentreDirectory, "refreshAfter", "PT1H");
+        setField(courtCentreDirectory, "negativeTimeToLive", "PT5M");
+        setField(courtCentreDirectory, "maximumSize", "2000");
+        courtCentreDirectory.init();
+        setField(interpreterForWelshActivityHandler, "courtCentreDirectory", courtCentreDirectory);
         mockTaskService(List.of());
     }
 
@@ -360,7 +386,7 @@ class InterpreterForWelshActivityHandlerTest {
     }
 
     private void setWelshCourt(boolean isWelshCourt) {
-        when(referenceDataService.isWelshCourt(any())).thenReturn(isWelshCourt);
+        when(referenceDataService.retrieveCourtCentreDetailsByCourtId(any())).thenReturn(createObjectBuilder().add("isWelsh", isWelshCourt).build());
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,63 @@
+package uk.gov.moj.cpp.businessprocesses.shared;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static uk.gov.justice.services.messaging.JsonObjects.createObjectBuilder;
+import static uk.gov.moj.cpp.businessprocesses.shared.JsonBinder.bind;
+import static uk.gov.moj.cpp.businessprocesses.shared.JsonBinder.convert;
+import static uk.gov.moj.cpp.businessprocesses.shared.JsonBinder.toJsonObject;
+import static uk.gov.moj.cpp.businessprocesses.util.FileUtil.getFileContentAsJson;
+
+import uk.gov.justice.core.courts.Hearing;
+import uk.gov.justice.services.common.converter.jackson.ObjectMapperProducer;
+import uk.gov.moj.cpp.businessprocesses.pojo.WorkflowCustomTaskType;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.json.JsonObject;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+class JsonBinderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapperProducer().objectMapper();
+
+    @Test
+    void shouldBindAJsonObjectAsAnObjectMapperReadingItsStringWould() throws IOException {
+        final JsonObject hearingJson = getFileContentAsJson("json/hearing.get.hearing.json").getJsonObject("hearing");
+
+        final Hearing hearing = bind(hearingJson, Hearing.class);
+
+        assertThat(toJsonObject(hearing), is(toJsonObject(objectMapper.readValue(hearingJson.toString(), Hearing.class))));
+        assertThat(hearing.getId().toString(), is(hearingJson.getString("id")));
+    }
+
+    @Test
+    void shouldWriteAnObjectAsAJsonObject() {
+        final Map<String, Object> workflowCustomTaskType = new HashMap<>();
+        workflowCustomTaskType.put("displayName", "Check phone call");
+
+        final JsonObject jsonObject = toJsonObject(convert(workflowCustomTaskType, WorkflowCustomTaskType.class));
+
+        assertThat(jsonObject.getString("displayName"), is("Check phone call"));
+    }
+
+    @Test
+    void shouldReturnAnInstanceOfTheTypeAsItIs() {
+        final JsonObject jsonObject = createObjectBuilder().add("displayName", "Check phone call").build();
+
+        assertThat(convert(jsonObject, JsonObject.class), is(sameInstance(jsonObject)));
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentExceptionForAValueThatCannotBeBound() {
+        final JsonObject jsonObject = createObjectBuilder().add("id", "not-a-uuid").build();
+
+        assertThrows(IllegalArgumentException.class, () -> convert(jsonObject, Hearing.class));
+    }
+}
@@ -0,0 +1,203 @@
+package uk.gov.moj.cpp.businessprocesses.shared;
+
+import static org.camunda.bpm.engine.impl.cfg.TransactionState.COMMITTING;
+import static org.camunda.bpm.engine.impl.cfg.TransactionState.ROLLED_BACK;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static uk.gov.justice.services.messaging.JsonEnvelope.envelopeFrom;
+import static uk.gov.justice.services.messaging.JsonObjects.createObjectBuilder;
+import static uk.gov.moj.cpp.businessprocesses.shared.RecordTaskCommands.RECORD_TASK_COMMANDS;
+import static uk.gov.moj.cpp.businessprocesses.shared.RecordTaskCommands.runOnCommit;
+import static uk.gov.moj.cpp.businessprocesses.shared.RecordTaskCommands.sendOnCommit;
+import static uk.gov.moj.cpp.businessprocesses.shared.TaskAuditService.getMetadata;
+
+import uk.gov.justice.services.core.sender.Sender;
+import uk.gov.justice.services.messaging.JsonEnvelope;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import javax.json.JsonObject;
+
+import org.camunda.bpm.engine.impl.cfg.TransactionContext;
+import org.camunda.bpm.engine.impl.cfg.TransactionListener;
+import org.camunda.bpm.engine.impl.context.Context;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class RecordTaskCommandsTest {
+
+    private static final String USER_ID = UUID.randomUUID().toString();
+
+    @Mock
+    private Sender sender;
+
+    @Mock
+    private CommandContext commandContext;
+
+    @Mock
+    private TransactionContext transactionContext;
+
+    @Captor
+    private ArgumentCaptor<TransactionListener> committing;
+
+    @Captor
+    private ArgumentCaptor<TransactionListener> rolledBack;
+
+    @Captor
+    private ArgumentCaptor<JsonEnvelope> envelopeCaptor;
+
+    @AfterEach
+    void tearDown() {
+        if (Context.getCommandContext() != null) {
+            Context.removeCommandContext();
+        }
+    }
+
+    @Test
+    void shouldSendStraightAwayOutsideAnEngineCommand() {
+        final JsonEnvelope command = command("businessprocesses.command.record-task-created");
+
+        sendOnCommit(sender, command);
+
+        verify(sender).sendAsAdmin(command);
+    }
+
+    @Test
+    void shouldSendTheCommandsOfATransactionAsOneBatchAsItCommits() {
+        final JsonEnvelope created = command("businessprocesses.command.record-task-created");
+        final JsonEnvelope assigned = command("businessprocesses.command.record-task-assigned");
+        inTransaction();
+
+        sendOnCommit(sender, created);
+        sendOnCommit(sender, assigned);
+
+        verifyNoInteractions(sender);
+        verify(transactionContext).addTransactionListener(COMMITTING, committing.capture());
+        committing.getValue().execute(commandContext);
+
+        verify(sender).sendAsAdmin(envelopeCaptor.capture());
+        final JsonEnvelope batch = envelopeCaptor.getValue();
+        assertThat(batch.metadata().name(), is(RECORD_TASK_COMMANDS));
+        assertThat(batch.metadata().userId().orElse(null), is(USER_ID));
+        final JsonObject first = batch.payloadAsJsonObject().getJsonArray("commands").getJsonObject(0);
+        assertThat(first.getString("id"), is(created.metadata().id().toString()));
+        assertThat(first.getString("name"), is("businessprocesses.command.record-task-created"));
+        assertThat(first.getString("userId"), is(USER_ID));
+        assertThat(first.getJsonObject("payload"), is(created.payloadAsJsonObject()));
+        final JsonObject second = batch.payloadAsJsonObject().getJsonArray("commands").getJsonObject(1);
+        assertThat(second.getString("name"), is("businessprocesses.command.record-task-assigned"));
+    }
+
+    @Test
+    void shouldSendASingleCommandOfATransactionAsItIs() {
+        final JsonEnvelope created = command("businessprocesses.command.record-task-created");
+        inTransaction();
+
+        sendOnCommit(sender, created);
+
+        verify(transactionContext).addTransactionListener(COMMITTING, committing.capture());
+        committing.getValue().execute(commandContext);
+        verify(sender).sendAsAdmin(created);
+    }
+
+    @Test
+    void shouldFailTheCommitWhenTheCommandsCannotBeSent() {
+        final JsonEnvelope created = command("businessprocesses.command.record-task-created");
+        doThrow(new IllegalStateException("JMS unavailable")).when(sender).sendAsAdmin(created);
+        inTransaction();
+
+        sendOnCommit(sender, created);
+
+        verify(transactionContext).addTransactionListener(COMMITTING, committing.capture());
+        assertThrows(IllegalStateException.class, () -> committing.getValue().execute(commandContext));
+    }
+
+    @Test
+    void shouldNotSendTheCommandsOfATransactionThatIsRolledBack() {
+        inTransaction();
+
+        sendOnCommit(sender, command("businessprocesses.command.record-task-created"));
+
+        verify(transactionContext).addTransactionListener(COMMITTING, committing.capture());
+        verify(transactionContext).addTransactionListener(ROLLED_BACK, rolledBack.capture());
+        rolledBack.getValue().execute(commandContext);
+        committing.getValue().execute(commandContext);
+        verifyNoInteractions(sender);
+    }
+
+    @Test
+    void shouldRunWhatWaitsOnTheCommitOnceTheCommandsAreSent() {
+        final JsonEnvelope created = command("businessprocesses.command.record-task-created");
+        final List<String> steps = new ArrayList<>();
+        inTransaction();
+
+        sendOnCommit(sender, created);
+        runOnCommit(() -> steps.add("audited"));
+
+        assertThat(steps.isEmpty(), is(true));
+        verify(transactionContext).addTransactionListener(COMMITTING, committing.capture());
+        committing.getValue().execute(commandContext);
+        verify(sender).sendAsAdmin(created);
+        assertThat(steps, is(List.of("audited")));
+    }
+
+    @Test
+    void shouldNotRunWhatWaitsOnTheCommitOfATransactionThatIsRolledBack() {
+        final List<String> steps = new ArrayList<>();
+        inTransaction();
+
+        sendOnCommit(sender, command("businessprocesses.command.record-task-created"));
+        runOnCommit(() -> steps.add("audited"));
+
+        verify(transactionContext).addTransactionListener(ROLLED_BACK, rolledBack.capture());
+        rolledBack.getValue().execute(commandContext);
+        assertThat(steps.isEmpty(), is(true));
+    }
+
+    @Test
+    void shouldNotRunWhatWaitsOnTheCommitWhenTheCommandsCannotBeSent() {
+        final JsonEnvelope created = command("businessprocesses.command.record-task-created");
+        doThrow(new IllegalStateException("JMS unavailable")).when(sender).sendAsAdmin(created);
+        final List<String> steps = new ArrayList<>();
+        inTransaction();
+
+        sendOnCommit(sender, created);
+        runOnCommit(() -> steps.add("audited"));
+
+        verify(transactionContext).addTransactionListener(COMMITTING, committing.capture());
+        assertThrows(IllegalStateException.class, () -> committing.getValue().execute(commandContext));
+        assertThat(steps.isEmpty(), is(true));
+    }
+
+    @Test
+    void shouldRunStraightAwayOutsideAnEngineCommand() {
+        final List<String> steps = new ArrayList<>();
+
+        runOnCommit(() -> steps.add("audited"));
+
+        assertThat(steps, is(List.of("audited")));
+    }
+
+    private void inTransaction() {
+        when(commandContext.getTransactionContext()).thenReturn(transactionContext);
+        Context.setCommandContext(commandContext);
+    }
+
+    private static JsonEnvelope command(final String name) {
+        return envelopeFrom(getMetadata(name, USER_ID), createObjectBuilder().add("id", UUID.randomUUID().toString()).build());
+    }
+}
@@ -0,0 +1,108 @@
+package uk.gov.moj.cpp.businessprocesses.shared;
+
+import static org.camunda.bpm.engine.impl.cfg.TransactionState.COMMITTED;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.justice.services.messaging.JsonObjects.createObjectBuilder;
+import static uk.gov.moj.cpp.businessprocesses.shared.Constants.TASK_VARIABLES_JSON_STRING;
+import static uk.gov.moj.cpp.businessprocesses.shared.TaskPayloadVariables.getPayload;
+import static uk.gov.moj.cpp.businessprocesses.shared.TaskPayloadVariables.setPayload;
+
+import uk.gov.moj.cpp.businessprocesses.pojo.WorkflowCustomTaskType;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.json.JsonObject;
+
+import org.camunda.bpm.engine.delegate.VariableScope;
+import org.camunda.bpm.engine.impl.cfg.TransactionContext;
+import org.camunda.bpm.engine.impl.cfg.TransactionListener;
+import org.camunda.bpm.engine.impl.context.Context;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TaskPayloadVariablesTest {
+
+    private static final String TASK_VARIABLES_JSON = "{\"displayName\":\"Check phone call\",\"taskName\":\"Book_interpreter\",\"caseURN\":\"29GD7875621\"}";
+
+    @Mock
+    private VariableScope scope;
+
+    @Mock
+    private CommandContext commandContext;
+
+    @Mock
+    private TransactionContext transactionContext;
+
+    @Captor
+    private ArgumentCaptor<TransactionListener> committed;
+
+    @AfterEach
+    void tearDown() {
+        if (Context.getCommandContext() != null) {
+            Context.removeCommandContext();
+        }
+    }
+
+    @Test
+    void shouldParseThePayloadOncePerTransaction() {
+        inTransaction();
+        when(scope.getVariable(TASK_VARIABLES_JSON_STRING)).thenReturn(TASK_VARIABLES_JSON);
+
+        final WorkflowCustomTaskType workflowCustomTaskType = getPayload(scope, TASK_VARIABLES_JSON_STRING, WorkflowCustomTaskType.class);
+
+        assertThat(workflowCustomTaskType.getDisplayName(), is("Check phone call"));
+        assertThat(getPayload(scope, TASK_VARIABLES_JSON_STRING, WorkflowCustomTaskType.class), is(sameInstance(workflowCustomTaskType)));
+
+        verify(transactionContext).addTransactionListener(COMMITTED, committed.capture());
+        committed.getValue().execute(commandContext);
+        assertThat(getPayload(scope, TASK_VARIABLES_JSON_STRING, WorkflowCustomTaskType.class), is(not(sameInstance(workflowCustomTaskType))));
+    }
+
+    @Test
+    void shouldReadAPayloadSetInTheTransactionFromItsJsonObject() {
+        inTransaction();
+        final JsonObject payload = createObjectBuilder().add("displayName", "Check phone call").add("taskName", "Book_interpreter").build();
+
+        setPayload(scope, TASK_VARIABLES_JSON_STRING, payload);
+
+        verify(scope).setVariable(TASK_VARIABLES_JSON_STRING, payload.toString());
+        when(scope.getVariable(TASK_VARIABLES_JSON_STRING)).thenReturn(payload.toString());
+        assertThat(getPayload(scope, TASK_VARIABLES_JSON_STRING, JsonObject.class), is(sameInstance(payload)));
+        assertThat(getPayload(scope, TASK_VARIABLES_JSON_STRING, WorkflowCustomTaskType.class).getTaskName(), is("Book_interpreter"));
+    }
+
+    @Test
+    void shouldReadAPayloadSetAsAnObject() {
+        final Map<String, Object> payload = new HashMap<>();
+        payload.put("displayName", "Check phone call");
+        when(scope.getVariable(TASK_VARIABLES_JSON_STRING)).thenReturn(payload);
+
+        assertThat(getPayload(scope, TASK_VARIABLES_JSON_STRING, WorkflowCustomTaskType.class).getDisplayName(), is("Check phone call"));
+    }
+
+    @Test
+    void shouldReturnNullForAPayloadThatCannotBeRead() {
+        when(scope.getVariable(TASK_VARIABLES_JSON_STRING)).thenReturn("{\"displayName\":");
+
+        assertThat(getPayload(scope, TASK_VARIABLES_JSON_STRING, WorkflowCustomTaskType.class), is(nullValue()));
+    }
+
+    private void inTransaction() {
+        when(commandContext.getTransactionContext()).thenReturn(transactionContext);
+        Context.setCommandContext(commandContext);
+    }
+}
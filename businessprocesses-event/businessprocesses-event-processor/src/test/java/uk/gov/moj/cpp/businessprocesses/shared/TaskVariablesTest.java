@@ -0,0 +1,59 @@
+package uk.gov.moj.cpp.businessprocesses.shared;
+
+import static org.camunda.bpm.engine.variable.Variables.stringValue;
+import static org.camunda.bpm.engine.variable.Variables.untypedNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.moj.cpp.businessprocesses.shared.TaskVariables.getValue;
+import static uk.gov.moj.cpp.businessprocesses.shared.TaskVariables.getVariables;
+import static uk.gov.moj.cpp.businessprocesses.shared.TaskVariables.getVariablesLocal;
+
+import org.camunda.bpm.engine.delegate.VariableScope;
+import org.camunda.bpm.engine.variable.impl.VariableMapImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TaskVariablesTest {
+
+    @Mock
+    private VariableScope scope;
+
+    @Test
+    void shouldFetchOnlyTheNamedVariables() {
+        when(scope.getVariableTyped("caseURN", true)).thenReturn(stringValue("29GD7875621"));
+        when(scope.getVariableTyped("note", true)).thenReturn(untypedNullValue());
+        when(scope.getVariableTyped("workQueue", true)).thenReturn(null);
+
+        final VariableMapImpl variables = getVariables(scope, "caseURN", "note", "workQueue");
+
+        assertThat(variables.getValue("caseURN", String.class), is("29GD7875621"));
+        assertThat(variables.containsKey("note"), is(true));
+        assertThat(variables.get("note"), is(nullValue()));
+        assertThat(variables.containsKey("workQueue"), is(false));
+        verify(scope, never()).getVariables();
+    }
+
+    @Test
+    void shouldFetchOnlyTheNamedLocalVariables() {
+        when(scope.getVariableLocalTyped("previousDue", true)).thenReturn(stringValue("2024-04-17T10:00:00.000+01:00"));
+
+        final VariableMapImpl variables = getVariablesLocal(scope, "previousDue");
+
+        assertThat(variables.getValue("previousDue", String.class), is("2024-04-17T10:00:00.000+01:00"));
+        verify(scope, never()).getVariableTyped(anyString(), anyBoolean());
+    }
+
+    @Test
+    void shouldReturnNullForAVariableThatIsNotSet() {
+        assertThat(getValue(scope, "deletionReason", String.class), is(nullValue()));
+    }
+}
@@ -0,0 +1,106 @@
+package uk.gov.moj.cpp.businessprocesses.shared;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.junit.jupiter.api.Test;
+
+class TimestampsTest {
+
+    private static final long FROM = Instant.parse("1950-01-01T00:00:00Z").toEpochMilli();
+    private static final long TO = Instant.parse("2150-01-01T00:00:00Z").toEpochMilli();
+
+    @Test
+    void shouldWriteUtcTimestampsAsJodaDidInUtc() {
+        final Random random = new Random(17);
+        for (int count = 0; count < 10_000; count++) {
+            final Date date = new Date(FROM + (long) (random.nextDouble() * (TO - FROM)));
+
+            assertThat(Timestamps.toUtcString(date), is(new DateTime(date, DateTimeZone.UTC).toString()));
+        }
+    }
+
+    @Test
+    void shouldWriteServerZoneTimestampsAsSimpleDateFormatDid() {
+        final SimpleDateFormat simpleDateFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSXXX");
+        final Random random = new Random(18);
+        for (int count = 0; count < 10_000; count++) {
+            final Date date = new Date(FROM + (long) (random.nextDouble() * (TO - FROM)));
+
+            assertThat(Timestamps.toServerZoneString(date), is(simpleDateFormat.format(date)));
+        }
+    }
+
+    @Test
+    void shouldWriteTimestampsOutsideTheFastPath() {
+        assertThat(Timestamps.toUtcString(new Date(-1L)), is("1969-12-31T23:59:59.999Z"));
+        assertThat(Timestamps.toUtcString(Instant.parse("+12024-04-17T23:59:59Z")), is("+12024-04-17T23:59:59.000Z"));
+        assertThat(Timestamps.toUtcString(LocalDateTime.parse("2024-04-17T23:59:59")), is("2024-04-17T23:59:59.000Z"));
+    }
+
+    @Test
+    void shouldWriteTheSameTimestampsFromManyThreads() throws Exception {
+        final int threads = 8;
+        final List<Date> dates = new ArrayList<>();
+        final Random random = new Random(19);
+        for (int count = 0; count < 2_000; count++) {
+            dates.add(new Date(FROM + (long) (random.nextDouble() * (TO - FROM))));
+        }
+        final List<String> expectedUtc = new ArrayList<>();
+        final List<String> expectedServerZone = new ArrayList<>();
+        final SimpleDateFormat simpleDateFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSXXX");
+        dates.forEach(date -> {
+            expectedUtc.add(new DateTime(date, DateTimeZone.UTC).toString());
+            expectedServerZone.add(simpleDateFormat.format(date));
+        });
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try {
+            final CountDownLatch start = new CountDownLatch(1);
+            final List<Future<List<String>>> results = new ArrayList<>();
+            for (int thread = 0; thread < threads; thread++) {
+                final int offset = thread;
+                final Callable<List<String>> formatAll = () -> {
+                    start.await();
+                    final List<String> mismatches = new ArrayList<>();
+                    for (int round = 0; round < 25; round++) {
+                        for (int index = 0; index < dates.size(); index++) {
+                            final int at = (index + offset * 251) % dates.size();
+                            final Date date = dates.get(at);
+                            if (!Timestamps.toUtcString(date).equals(expectedUtc.get(at))
+                                    || !Timestamps.toServerZoneString(date).equals(expectedServerZone.get(at))) {
+                                mismatches.add(date.toInstant().toString());
+                            }
+                        }
+                    }
+                    return mismatches;
+                };
+                results.add(executorService.submit(formatAll));
+            }
+            start.countDown();
+
+            for (final Future<List<String>> result : results) {
+                assertThat(result.get(60, SECONDS), is(empty()));
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+}
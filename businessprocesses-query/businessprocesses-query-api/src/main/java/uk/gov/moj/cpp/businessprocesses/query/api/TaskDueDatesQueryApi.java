@@ -0,0 +1,21 @@
+package uk.gov.moj.cpp.businessprocesses.query.api;
+
+import uk.gov.justice.services.core.annotation.Component;
+import uk.gov.justice.services.core.annotation.Handles;
+import uk.gov.justice.services.core.annotation.ServiceComponent;
+import uk.gov.justice.services.messaging.JsonEnvelope;
+import uk.gov.moj.cpp.businessprocesses.query.view.TaskDueDatesQueryView;
+
+import javax.inject.Inject;
+
+@ServiceComponent(Component.QUERY_API)
+public class TaskDueDatesQueryApi {
+
+    @Inject
+    private TaskDueDatesQueryView taskDueDatesQueryView;
+
+    @Handles("businessprocesses.query.open-task-due-dates")
+    public JsonEnvelope getOpenTaskDueDates(final JsonEnvelope query) {
+        return taskDueDatesQueryView.getOpenTaskDueDates(query);
+    }
+}
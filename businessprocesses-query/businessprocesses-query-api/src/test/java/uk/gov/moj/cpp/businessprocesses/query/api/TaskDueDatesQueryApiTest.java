@@ -0,0 +1,44 @@
+package uk.gov.moj.cpp.businessprocesses.query.api;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static uk.gov.justice.services.core.annotation.Component.QUERY_API;
+import static uk.gov.justice.services.test.utils.core.matchers.HandlerMatcher.isHandler;
+import static uk.gov.justice.services.test.utils.core.matchers.HandlerMethodMatcher.method;
+
+import uk.gov.justice.services.messaging.JsonEnvelope;
+import uk.gov.moj.cpp.businessprocesses.query.view.TaskDueDatesQueryView;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskDueDatesQueryApiTest {
+
+    @Mock
+    private TaskDueDatesQueryView taskDueDatesQueryView;
+
+    @InjectMocks
+    private TaskDueDatesQueryApi taskDueDatesQueryApi;
+
+    @Test
+    public void shouldHaveCorrectHandlerAnnotations() {
+        assertThat(taskDueDatesQueryApi, isHandler(QUERY_API)
+                .with(method("getOpenTaskDueDates")
+                        .thatHandles("businessprocesses.query.open-task-due-dates")));
+    }
+
+    @Test
+    public void shouldReturnTheOpenTaskDueDatesOfTheView() {
+        final JsonEnvelope query = mock(JsonEnvelope.class);
+        final JsonEnvelope response = mock(JsonEnvelope.class);
+        when(taskDueDatesQueryView.getOpenTaskDueDates(query)).thenReturn(response);
+
+        assertThat(taskDueDatesQueryApi.getOpenTaskDueDates(query), is(response));
+    }
+}
@@ -21,6 +21,7 @@ public class ApiRequestPermissionTest extends BaseDroolsAccessControlTest {
     static {
         try {
             requestPermissionMap.put("businessprocesses.query.task-history", getViewPermissionFoAllUsers());
+            requestPermissionMap.put("businessprocesses.query.open-task-due-dates", getViewPermissionFoAllUsers());
         } catch (JsonProcessingException e) {
             e.printStackTrace();
         }
@@ -0,0 +1,84 @@
+package uk.gov.moj.cpp.businessprocesses.query.view;
+
+import static java.lang.String.format;
+import static java.util.Objects.nonNull;
+import static uk.gov.justice.services.messaging.JsonEnvelope.envelopeFrom;
+import static uk.gov.justice.services.messaging.JsonObjects.createArrayBuilder;
+import static uk.gov.justice.services.messaging.JsonObjects.createObjectBuilder;
+
+import uk.gov.justice.services.adapter.rest.exception.BadRequestException;
+import uk.gov.justice.services.common.converter.ZonedDateTimes;
+import uk.gov.justice.services.messaging.JsonEnvelope;
+import uk.gov.justice.services.messaging.JsonObjects;
+import uk.gov.moj.cpp.businessprocesses.persistence.entity.TaskDueDate;
+import uk.gov.moj.cpp.businessprocesses.persistence.repository.TaskRepository;
+
+import java.util.UUID;
+
+import javax.inject.Inject;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class TaskDueDatesQueryView {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TaskDueDatesQueryView.class);
+
+    private static final String DUE_FROM = "dueFrom";
+    private static final String DUE_TO = "dueTo";
+    private static final String AFTER_TASK_ID = "afterTaskId";
+    private static final String CHANGE_AUTHOR = "changeAuthor";
+    private static final String LIMIT = "limit";
+    private static final String TASKS = "tasks";
+    private static final String TASK_ID = "taskId";
+    private static final String TYPE = "type";
+    private static final String CREATED_DATE = "createdDate";
+    private static final String DUE_DATE = "dueDate";
+    private static final String HEARING_DATE = "hearingDate";
+    private static final UUID FIRST_TASK_ID = new UUID(0, 0);
+
+    @Inject
+    private TaskRepository taskRepository;
+
+    /**
+     * Open tasks due in {@code [dueFrom, dueTo)}, at most {@code limit} of them in task id order
+     * after {@code afterTaskId}, leaving out those whose due date has been changed by anyone
+     * other than {@code changeAuthor}.
+     */
+    public JsonEnvelope getOpenTaskDueDates(final JsonEnvelope envelope) {
+        final JsonObject query = envelope.payloadAsJsonObject();
+        LOGGER.info("Processing query 'businessprocesses.query.open-task-due-dates' for {}", query);
+
+        final UUID afterTaskId = JsonObjects.getString(query, AFTER_TASK_ID).map(UUID::fromString).orElse(FIRST_TASK_ID);
+        final JsonArrayBuilder tasks = createArrayBuilder();
+        taskRepository.findOpenTaskDueDates(
+                        ZonedDateTimes.fromString(required(query, DUE_FROM)),
+                        ZonedDateTimes.fromString(required(query, DUE_TO)),
+                        afterTaskId,
+                        required(query, CHANGE_AUTHOR),
+                        Integer.parseInt(required(query, LIMIT)))
+                .forEach(task -> tasks.add(buildTaskJson(task)));
+
+        return envelopeFrom(envelope.metadata(), createObjectBuilder().add(TASKS, tasks).build());
+    }
+
+    private static String required(final JsonObject query, final String name) {
+        return JsonObjects.getString(query, name)
+                .orElseThrow(() -> new BadRequestException(format("Parameter is required: %s", name)));
+    }
+
+    private JsonObject buildTaskJson(final TaskDueDate task) {
+        final JsonObjectBuilder jsonObjectBuilder = createObjectBuilder();
+        jsonObjectBuilder.add(TASK_ID, task.getTaskId().toString());
+        jsonObjectBuilder.add(TYPE, task.getType());
+        jsonObjectBuilder.add(CREATED_DATE, ZonedDateTimes.toString(task.getCreatedDate()));
+        jsonObjectBuilder.add(DUE_DATE, ZonedDateTimes.toString(task.getDueDate()));
+        if (nonNull(task.getHearingDate())) {
+            jsonObjectBuilder.add(HEARING_DATE, ZonedDateTimes.toString(task.getHearingDate()));
+        }
+        return jsonObjectBuilder.build();
+    }
+}
@@ -0,0 +1,76 @@
+package uk.gov.moj.cpp.businessprocesses.query.view;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static uk.gov.justice.services.messaging.JsonEnvelope.envelopeFrom;
+import static uk.gov.justice.services.messaging.JsonObjects.createObjectBuilder;
+import static uk.gov.justice.services.test.utils.core.messaging.MetadataBuilderFactory.metadataWithRandomUUID;
+
+import uk.gov.justice.services.adapter.rest.exception.BadRequestException;
+import uk.gov.justice.services.messaging.JsonEnvelope;
+import uk.gov.moj.cpp.businessprocesses.persistence.entity.TaskDueDate;
+import uk.gov.moj.cpp.businessprocesses.persistence.repository.TaskRepository;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import javax.json.JsonObject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskDueDatesQueryViewTest {
+
+    private static final String QUERY_NAME = "businessprocesses.query.open-task-due-dates";
+    private static final UUID TASK_ID = UUID.fromString("5c5a1d30-0414-11e7-93ae-92361f002671");
+    private static final UUID AFTER_TASK_ID = UUID.fromString("5c5a1d30-0414-11e7-93ae-92361f002670");
+    private static final ZonedDateTime DUE_FROM = ZonedDateTime.parse("2099-03-05T00:00Z");
+    private static final ZonedDateTime DUE_TO = ZonedDateTime.parse("2099-07-04T00:00Z");
+    private static final String CHANGE_AUTHOR = "Public holiday due date recalculation";
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @InjectMocks
+    private TaskDueDatesQueryView taskDueDatesQueryView;
+
+    @Test
+    public void shouldReturnTheOpenTaskDueDatesAfterTheGivenTask() {
+        when(taskRepository.findOpenTaskDueDates(DUE_FROM, DUE_TO, AFTER_TASK_ID, CHANGE_AUTHOR, 200)).thenReturn(List.of(
+                new TaskDueDate(TASK_ID, "taskSendEmail", ZonedDateTime.parse("2099-04-20T10:15:00Z"), ZonedDateTime.parse("2099-05-04T23:59:59Z"), null)));
+
+        final JsonEnvelope result = taskDueDatesQueryView.getOpenTaskDueDates(envelopeFrom(metadataWithRandomUUID(QUERY_NAME), createObjectBuilder()
+                .add("dueFrom", "2099-03-05T00:00:00.000Z")
+                .add("dueTo", "2099-07-04T00:00:00.000Z")
+                .add("afterTaskId", AFTER_TASK_ID.toString())
+                .add("changeAuthor", CHANGE_AUTHOR)
+                .add("limit", "200")
+                .build()));
+
+        assertThat(result.payloadAsJsonObject().getJsonArray("tasks").size(), is(1));
+        final JsonObject task = result.payloadAsJsonObject().getJsonArray("tasks").getJsonObject(0);
+        assertThat(task.getString("taskId"), is(TASK_ID.toString()));
+        assertThat(task.getString("type"), is("taskSendEmail"));
+        assertThat(task.getString("dueDate"), is("2099-05-04T23:59:59.000Z"));
+        assertThat(task.containsKey("hearingDate"), is(false));
+    }
+
+    @Test
+    public void shouldRejectAQueryWithoutADueDateRange() {
+        final JsonEnvelope query = envelopeFrom(metadataWithRandomUUID(QUERY_NAME), createObjectBuilder()
+                .add("changeAuthor", CHANGE_AUTHOR)
+                .add("limit", "200")
+                .build());
+
+        assertThrows(BadRequestException.class, () -> taskDueDatesQueryView.getOpenTaskDueDates(query));
+        verifyNoInteractions(taskRepository);
+    }
+}
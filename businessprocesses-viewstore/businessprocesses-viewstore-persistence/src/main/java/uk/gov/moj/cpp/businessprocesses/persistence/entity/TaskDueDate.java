@@ -0,0 +1,45 @@
+package uk.gov.moj.cpp.businessprocesses.persistence.entity;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+/**
+ * The columns of a {@link TaskEntity} needed to work out its due date again, without loading its
+ * history.
+ */
+public class TaskDueDate {
+
+    private final UUID taskId;
+    private final String type;
+    private final ZonedDateTime createdDate;
+    private final ZonedDateTime dueDate;
+    private final ZonedDateTime hearingDate;
+
+    public TaskDueDate(final UUID taskId, final String type, final ZonedDateTime createdDate, final ZonedDateTime dueDate, final ZonedDateTime hearingDate) {
+        this.taskId = taskId;
+        this.type = type;
+        this.createdDate = createdDate;
+        this.dueDate = dueDate;
+        this.hearingDate = hearingDate;
+    }
+
+    public UUID getTaskId() {
+        return taskId;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public ZonedDateTime getCreatedDate() {
+        return createdDate;
+    }
+
+    public ZonedDateTime getDueDate() {
+        return dueDate;
+    }
+
+    public ZonedDateTime getHearingDate() {
+        return hearingDate;
+    }
+}
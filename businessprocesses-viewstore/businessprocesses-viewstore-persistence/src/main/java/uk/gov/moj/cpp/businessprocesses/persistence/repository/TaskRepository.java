@@ -1,12 +1,36 @@
 package uk.gov.moj.cpp.businessprocesses.persistence.repository;
 
+import uk.gov.moj.cpp.businessprocesses.persistence.entity.TaskDueDate;
 import uk.gov.moj.cpp.businessprocesses.persistence.entity.TaskEntity;
 
+import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.UUID;
 
 import org.apache.deltaspike.data.api.EntityRepository;
+import org.apache.deltaspike.data.api.MaxResults;
+import org.apache.deltaspike.data.api.Query;
+import org.apache.deltaspike.data.api.QueryParam;
 import org.apache.deltaspike.data.api.Repository;
 
 @Repository
 public interface TaskRepository extends EntityRepository<TaskEntity, UUID> {
-}
\ No newline at end of file
+
+    /**
+     * Open tasks with a task type whose due date is in {@code [dueFrom, dueTo)}, in task id order
+     * starting after {@code afterTaskId}. Tasks whose due date has been changed by anyone other
+     * than {@code changeAuthor} are left out.
+     */
+    @Query(value = "SELECT NEW uk.gov.moj.cpp.businessprocesses.persistence.entity.TaskDueDate(t.taskId, t.type, t.createdDate, t.dueDate, t.hearingDate)" +
+            " FROM TaskEntity t" +
+            " WHERE t.status IN ('CREATED', 'ASSIGNED') AND t.taskTypeId IS NOT NULL" +
+            " AND t.dueDate >= :dueFrom AND t.dueDate < :dueTo AND t.taskId > :afterTaskId" +
+            " AND NOT EXISTS (SELECT th FROM TaskHistoryEntity th WHERE th.task = t" +
+            " AND th.eventType = 'Task Due Date Updated' AND th.changeAuthor <> :changeAuthor)" +
+            " ORDER BY t.taskId")
+    List<TaskDueDate> findOpenTaskDueDates(@QueryParam("dueFrom") ZonedDateTime dueFrom,
+                                           @QueryParam("dueTo") ZonedDateTime dueTo,
+                                           @QueryParam("afterTaskId") UUID afterTaskId,
+                                           @QueryParam("changeAuthor") String changeAuthor,
+                                           @MaxResults int maxResults);
+}
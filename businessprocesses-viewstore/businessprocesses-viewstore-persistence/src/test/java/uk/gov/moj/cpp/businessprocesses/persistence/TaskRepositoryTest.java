@@ -2,10 +2,12 @@ package uk.gov.moj.cpp.businessprocesses.persistence;
 
 import static java.util.UUID.randomUUID;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.notNullValue;
 
 import uk.gov.justice.services.common.util.UtcClock;
+import uk.gov.moj.cpp.businessprocesses.persistence.entity.TaskDueDate;
 import uk.gov.moj.cpp.businessprocesses.persistence.entity.TaskEntity;
 import uk.gov.moj.cpp.businessprocesses.persistence.entity.TaskHistoryEntity;
 import uk.gov.moj.cpp.businessprocesses.persistence.repository.TaskRepository;
@@ -81,6 +83,50 @@ public class TaskRepositoryTest {
         assertThat(taskHistoryEntity.getChangeAuthor(), equalTo(changeAuthor));
     }
 
+    @Test
+    public void shouldFindOpenTaskDueDatesInTaskIdOrder() {
+
+        // Given
+        final ZonedDateTime dueFrom = ZonedDateTime.parse("2099-12-01T00:00:00Z");
+        final UUID firstTaskId = UUID.fromString("00000000-0000-0000-0000-000000000001");
+        final UUID secondTaskId = UUID.fromString("00000000-0000-0000-0000-000000000002");
+        final UUID thirdTaskId = UUID.fromString("00000000-0000-0000-0000-000000000003");
+        taskRepository.save(openTask(secondTaskId, "CREATED", dueFrom.plusDays(2), "Recalculation"));
+        taskRepository.save(openTask(firstTaskId, "ASSIGNED", dueFrom.plusDays(1), null));
+        taskRepository.save(openTask(thirdTaskId, "ASSIGNED", dueFrom.plusDays(3), "John"));
+        taskRepository.save(openTask(randomUUID(), "COMPLETED", dueFrom.plusDays(1), null));
+        taskRepository.save(openTask(randomUUID(), "CREATED", dueFrom.plusDays(40), null));
+
+        // When
+        final List<TaskDueDate> firstPage = taskRepository.findOpenTaskDueDates(dueFrom, dueFrom.plusDays(30), new UUID(0, 0), "Recalculation", 1);
+        final List<TaskDueDate> secondPage = taskRepository.findOpenTaskDueDates(dueFrom, dueFrom.plusDays(30), firstTaskId, "Recalculation", 10);
+
+        // Then
+        assertThat(firstPage.stream().map(TaskDueDate::getTaskId).toList(), contains(firstTaskId));
+        assertThat(secondPage.stream().map(TaskDueDate::getTaskId).toList(), contains(secondTaskId));
+        assertThat(secondPage.get(0).getDueDate().toInstant(), equalTo(dueFrom.plusDays(2).toInstant()));
+    }
+
+    private TaskEntity openTask(final UUID id, final String taskStatus, final ZonedDateTime taskDueDate, final String dueDateChangedBy) {
+        final TaskEntity taskEntity = new TaskEntity();
+        taskEntity.setTaskId(id);
+        taskEntity.setTaskTypeId(taskTypeId);
+        taskEntity.setType(type);
+        taskEntity.setCreatedDate(createdDate);
+        taskEntity.setDueDate(taskDueDate);
+        taskEntity.setStatus(taskStatus);
+        if (dueDateChangedBy != null) {
+            final TaskHistoryEntity taskHistoryEntity = new TaskHistoryEntity();
+            taskHistoryEntity.setId(randomUUID());
+            taskHistoryEntity.setEventDate(eventDate);
+            taskHistoryEntity.setEventType("Task Due Date Updated");
+            taskHistoryEntity.setChangeAuthor(dueDateChangedBy);
+            taskHistoryEntity.setTask(taskEntity);
+            taskEntity.getTaskHistory().add(taskHistoryEntity);
+        }
+        return taskEntity;
+    }
+
     private TaskEntity createTaskEntity() {
         TaskEntity taskEntity = new TaskEntity();
         taskEntity.setTaskId(taskId);